@@ -0,0 +1,49 @@
+package com.nexus.foreigner_community.ai;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LanguageIdentifierBenchmark {
+
+    @Param({
+            "Hello!",
+            "기숙사 세탁실은 밤 열한 시까지만 사용할 수 있습니다.",
+            "Дотуур байрны угаалгын өрөөг орой арван нэгэн цаг хүртэл ашиглаж болно.",
+            "Phòng giặt của ký túc xá chỉ được sử dụng đến mười một giờ đêm.",
+            "寮のランドリーは夜十一時まで使えます。"
+    })
+    String text;
+
+    private LanguageIdentifier identifier;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = LanguageIdentifier.class.getResourceAsStream("/langid/profiles.bin")) {
+            identifier = LanguageIdentifier.load(in, 0.25);
+        }
+    }
+
+    @Benchmark
+    public String detect() {
+        return identifier.detect(text);
+    }
+}
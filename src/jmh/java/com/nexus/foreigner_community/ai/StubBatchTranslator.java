@@ -0,0 +1,26 @@
+package com.nexus.foreigner_community.ai;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 호출마다 고정된 왕복 지연을 흉내 내는 번역기. 실제 API 대신 벤치마크에서 사용한다.
+ */
+class StubBatchTranslator implements BatchTranslator {
+
+    private final long latencyNanos;
+    final AtomicLong calls = new AtomicLong();
+
+    StubBatchTranslator(long latencyMillis) {
+        this.latencyNanos = TimeUnit.MILLISECONDS.toNanos(latencyMillis);
+    }
+
+    @Override
+    public List<String> translate(List<String> texts, String source, String target) {
+        calls.incrementAndGet();
+        LockSupport.parkNanos(latencyNanos);
+        return texts.stream().map(text -> "[" + target + "] " + text).toList();
+    }
+}
@@ -0,0 +1,90 @@
+package com.nexus.foreigner_community.ai;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 동시에 들어오는 짧은 문자열 번역을 그대로 보낼 때와 배치로 묶을 때를 비교한다.
+ * ops/s 는 처리한 문자열 수, 반복마다 출력되는 provider calls/s 는 번역기 호출 수이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@Threads(32)
+public class TranslationBatcherBenchmark {
+
+    private static final List<String> TEXTS = List.of(
+            "전체", "Best", "잡담", "아르바이트", "수강신청", "주거/기숙사", "비자/체류", "캠퍼스생활",
+            "생활/의료", "금융/통신", "비자/이민", "맛집/카페", "여행", "진로/취업", "행사/모임", "질문",
+            "건강/피트니스", "기숙사 세탁실 이용 시간", "외국인 등록증 재발급", "학생식당 메뉴");
+
+    @Param({"2"})
+    long latencyMillis;
+
+    @Param({"64"})
+    int maxBatchSize;
+
+    @Param({"5"})
+    long maxDelayMillis;
+
+    private StubBatchTranslator translator;
+    private TranslationBatcher batcher;
+    private long iterationStart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        translator = new StubBatchTranslator(latencyMillis);
+        batcher = new TranslationBatcher(translator, maxBatchSize, Duration.ofMillis(maxDelayMillis));
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration() {
+        translator.calls.set(0);
+        iterationStart = System.nanoTime();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportCalls() {
+        double seconds = (System.nanoTime() - iterationStart) / 1e9;
+        System.out.printf(" provider calls/s: %.1f%n", translator.calls.get() / seconds);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        batcher.close();
+    }
+
+    private static String randomText() {
+        return TEXTS.get(ThreadLocalRandom.current().nextInt(TEXTS.size()));
+    }
+
+    @Benchmark
+    public String direct() {
+        return translator.translate(List.of(randomText()), "ko", "en").get(0);
+    }
+
+    @Benchmark
+    public String batched() {
+        return batcher.submit(randomText(), "ko", "en").join();
+    }
+}
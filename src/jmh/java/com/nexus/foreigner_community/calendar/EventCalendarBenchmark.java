@@ -0,0 +1,115 @@
+package com.nexus.foreigner_community.calendar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 합성 행사 100만 개(5년, 건물 300개, 대부분 1~4시간, 5% 는 최대 한 달)에 대한 달력 조회.
+ * startIndexScan 은 start 열 인덱스만 있는 "start < :to and end > :from" 범위 스캔을 흉내 낸 비교 기준이다.
+ * p99 는 SampleTime 결과로 본다. (./gradlew jmh -PjmhIncludes=EventCalendarBenchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventCalendarBenchmark {
+
+    private static final int EVENTS = 1_000_000;
+    private static final int BUILDINGS = 300;
+    private static final long HOUR = 3_600_000;
+    private static final long SPAN = 5 * 365 * 24 * HOUR;
+
+    private EventCalendar calendar;
+    private long[] starts;
+    private long[] ends;
+    private long[] queryTimes;
+    private String[] queryBuildings;
+    private int next;
+    private long nextId = EVENTS;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(5);
+        List<EventInterval> intervals = new ArrayList<>(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            long start = random.nextLong(SPAN);
+            long length = random.nextInt(20) == 0 ? random.nextLong(30 * 24 * HOUR) + HOUR
+                    : random.nextLong(4 * HOUR) + HOUR;
+            intervals.add(new EventInterval(i, "event " + i, "B" + random.nextInt(BUILDINGS), Double.NaN,
+                    Double.NaN, start, start + length));
+        }
+        calendar = new EventCalendar();
+        calendar.load(intervals);
+
+        intervals.sort((a, b) -> Long.compare(a.start(), b.start()));
+        starts = intervals.stream().mapToLong(EventInterval::start).toArray();
+        ends = intervals.stream().mapToLong(EventInterval::end).toArray();
+
+        queryTimes = new long[1024];
+        queryBuildings = new String[1024];
+        for (int i = 0; i < queryTimes.length; i++) {
+            // 최근 한 달 안의 시각을 묻는다 (달력은 대개 지금 근처를 본다).
+            queryTimes[i] = SPAN - random.nextLong(30 * 24 * HOUR);
+            queryBuildings[i] = "B" + random.nextInt(BUILDINGS);
+        }
+    }
+
+    @Benchmark
+    public List<EventInterval> happeningNow() {
+        return calendar.happeningAt(queryTimes[next++ & 1023], null, 100);
+    }
+
+    @Benchmark
+    public List<EventInterval> afternoon() {
+        long from = queryTimes[next++ & 1023];
+        return calendar.overlapping(from, from + 5 * HOUR, null, 100);
+    }
+
+    @Benchmark
+    public List<EventInterval> weekInBuilding() {
+        int q = next++ & 1023;
+        return calendar.overlapping(queryTimes[q], queryTimes[q] + 7 * 24 * HOUR, queryBuildings[q], 100);
+    }
+
+    /** 쓰기 한 번: 새 행사를 넣고 바로 뺀다 (경로 복사 두 번). */
+    @Benchmark
+    public int insertAndRemove() {
+        int q = next++ & 1023;
+        long id = nextId++;
+        calendar.put(new EventInterval(id, "new", queryBuildings[q], Double.NaN, Double.NaN, queryTimes[q],
+                queryTimes[q] + HOUR));
+        calendar.remove(id);
+        return calendar.size();
+    }
+
+    @Benchmark
+    public int startIndexScan() {
+        long from = queryTimes[next++ & 1023];
+        long to = from + 5 * HOUR;
+        int upper = Arrays.binarySearch(starts, to);
+        upper = upper < 0 ? -upper - 1 : upper;
+        int found = 0;
+        for (int i = 0; i < upper; i++) {
+            if (ends[i] > from) {
+                found++;
+            }
+        }
+        return found;
+    }
+}
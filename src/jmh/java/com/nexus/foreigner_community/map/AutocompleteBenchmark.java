@@ -0,0 +1,59 @@
+package com.nexus.foreigner_community.map;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 한글/로마자/영어 이름을 가진 합성 POI 5만 개에 대한 자동완성 질의.
+ * (./gradlew jmh -PjmhIncludes=AutocompleteBenchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AutocompleteBenchmark {
+
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하도서관학생회의실";
+
+    @Param({"도서", "ㅎㅏㄱ", "gana", "room 12"})
+    String query;
+
+    private AutocompleteIndex index;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(5);
+        List<Poi> pois = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            StringBuilder name = new StringBuilder();
+            int length = 3 + random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                name.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+            }
+            pois.add(new Poi(i, PoiType.ROOM, "X" + (i % 300), name.toString(), "Room " + i, 36.6, 127.4, 1,
+                    List.of(), random.nextInt(1000)));
+        }
+        index = AutocompleteIndex.build(pois);
+    }
+
+    @Benchmark
+    public List<Poi> suggest() {
+        return index.suggest(query, 10);
+    }
+}
@@ -0,0 +1,132 @@
+package com.nexus.foreigner_community.map;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 시작 시 캠퍼스 데이터 읽기: CSV 파싱 경로와 스냅샷 매핑 경로. 합성 POI 5만 개, 200x200 격자 보행 그래프.
+ * (./gradlew jmh -PjmhIncludes=CampusDatasetBenchmark)
+ * 시작 한 번의 비용을 보는 것이므로 SingleShotTime 으로 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(3)
+public class CampusDatasetBenchmark {
+
+    private static final int POIS = 50_000;
+    private static final int GRID = 200;
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하도서관학생회의실";
+
+    private Path dir;
+    private Path poiCsv;
+    private Path footpathCsv;
+    private Path dataset;
+
+    @Setup
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("campus-dataset-bench");
+        SplittableRandom random = new SplittableRandom(11);
+        StringBuilder pois = new StringBuilder("id,type,building,name_ko,name_en,lat,lon,floor,aliases,popularity\n");
+        for (int i = 0; i < POIS; i++) {
+            StringBuilder name = new StringBuilder();
+            int length = 3 + random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                name.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+            }
+            pois.append(i).append(",ROOM,X").append(i % 300).append(',').append(name).append(",Room ").append(i)
+                    .append(',').append(36.62 + random.nextDouble() * 0.012).append(',')
+                    .append(127.45 + random.nextDouble() * 0.015).append(",1,r").append(i).append('|')
+                    .append(name).append("호,").append(random.nextInt(1000)).append('\n');
+        }
+        StringBuilder footpaths = new StringBuilder();
+        for (int x = 0; x < GRID; x++) {
+            for (int y = 0; y < GRID; y++) {
+                footpaths.append("node,").append(x * GRID + y).append(',').append(36.62 + y * 0.00006).append(',')
+                        .append(127.45 + x * 0.000075).append(x % 20 == 0 && y % 20 == 0 ? ",B" + x + "_" + y : "")
+                        .append('\n');
+            }
+        }
+        for (int x = 0; x < GRID; x++) {
+            for (int y = 0; y < GRID; y++) {
+                if (x + 1 < GRID) {
+                    footpaths.append("edge,").append(x * GRID + y).append(',').append((x + 1) * GRID + y)
+                            .append(",PATH\n");
+                }
+                if (y + 1 < GRID) {
+                    footpaths.append("edge,").append(x * GRID + y).append(',').append(x * GRID + y + 1)
+                            .append(random.nextInt(10) == 0 ? ",STAIRS\n" : ",PATH\n");
+                }
+            }
+        }
+        poiCsv = Files.writeString(dir.resolve("pois.csv"), pois);
+        footpathCsv = Files.writeString(dir.resolve("footpaths.csv"), footpaths);
+        dataset = dir.resolve("campus.dataset");
+        CampusDatasetWriter.write(readPois(), readGraph(), dataset);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (var files = Files.list(dir)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(dir);
+    }
+
+    private List<Poi> readPois() {
+        try (InputStream in = Files.newInputStream(poiCsv)) {
+            return PoiCsv.read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private FootpathGraph readGraph() {
+        try (InputStream in = Files.newInputStream(footpathCsv)) {
+            return FootpathCsv.read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Benchmark
+    public Object csv() {
+        return new Object[] {readPois(), readGraph()};
+    }
+
+    /** 스냅샷을 열고(체크섬 확인 포함) 색인을 만들 수 있도록 POI 목록과 그래프를 꺼낸다. */
+    @Benchmark
+    public Object snapshot() throws IOException {
+        CampusDataset opened = CampusDataset.open(dataset);
+        return new Object[] {opened.pois(), opened.graph()};
+    }
+
+    /** 객체로 풀지 않고 열어서 바로 조회하는 경우. */
+    @Benchmark
+    public int snapshotQueryOnly() throws IOException {
+        CampusDataset opened = CampusDataset.open(dataset);
+        return opened.findByName("room 4242").length + opened.findPoi(31_337);
+    }
+}
@@ -0,0 +1,67 @@
+package com.nexus.foreigner_community.map;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 2km x 2km 캠퍼스에 흩어진 POI 에 대한 k=10 최근접 / 100m 박스 조회.
+ * p99 는 -bm sample 로 실행해 본다. (./gradlew jmh -PjmhIncludes=HilbertRTreeBenchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HilbertRTreeBenchmark {
+
+    @Param({"10000", "50000"})
+    int pois;
+
+    private HilbertRTree tree;
+    private double[] queryX;
+    private double[] queryY;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7);
+        double[] xs = new double[pois];
+        double[] ys = new double[pois];
+        for (int i = 0; i < pois; i++) {
+            xs[i] = random.nextDouble() * 2000;
+            ys[i] = random.nextDouble() * 2000;
+        }
+        tree = HilbertRTree.build(xs, ys);
+        queryX = new double[1024];
+        queryY = new double[1024];
+        for (int i = 0; i < queryX.length; i++) {
+            queryX[i] = random.nextDouble() * 2000;
+            queryY[i] = random.nextDouble() * 2000;
+        }
+    }
+
+    @Benchmark
+    public int[] nearest10() {
+        int q = next++ & 1023;
+        return tree.nearest(queryX[q], queryY[q], 10, Double.POSITIVE_INFINITY, null);
+    }
+
+    @Benchmark
+    public int[] box100m() {
+        int q = next++ & 1023;
+        return tree.search(queryX[q], queryY[q], queryX[q] + 100, queryY[q] + 100);
+    }
+}
@@ -0,0 +1,101 @@
+package com.nexus.foreigner_community.map;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 합성 캠퍼스 그래프(162 x 162 격자, 방향 간선 약 10만 개)에서 초당 경로 질의 수.
+ * (./gradlew jmh -PjmhIncludes=RouteEngineBenchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class RouteEngineBenchmark {
+
+    private static final int SIZE = 162;
+
+    @Param({"WALKING", "WHEELCHAIR"})
+    RoutingProfile profile;
+
+    private RouteEngine engine;
+    private int[] from;
+    private int[] to;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(11);
+        FootpathGraph.Builder builder = FootpathGraph.builder();
+        int[][] node = new int[SIZE][SIZE];
+        for (int x = 0; x < SIZE; x++) {
+            for (int y = 0; y < SIZE; y++) {
+                String building = x % 20 == 0 && y % 20 == 0 ? "B" + x + "-" + y : null;
+                node[x][y] = builder.addNode(36.62 + y * 0.00006 + random.nextDouble() * 0.00002,
+                        127.45 + x * 0.000075 + random.nextDouble() * 0.00002, building);
+            }
+        }
+        for (int x = 0; x < SIZE; x++) {
+            for (int y = 0; y < SIZE; y++) {
+                if (x + 1 < SIZE && random.nextDouble() < 0.97) {
+                    builder.addEdge(node[x][y], node[x + 1][y], kind(random));
+                }
+                if (y + 1 < SIZE && random.nextDouble() < 0.97) {
+                    builder.addEdge(node[x][y], node[x][y + 1], kind(random));
+                }
+            }
+        }
+        engine = new RouteEngine(builder.build(), 8);
+        int nodes = SIZE * SIZE;
+        from = new int[4096];
+        to = new int[4096];
+        for (int i = 0; i < from.length; i++) {
+            from[i] = random.nextInt(nodes);
+            to[i] = random.nextInt(nodes);
+        }
+    }
+
+    private static EdgeKind kind(SplittableRandom random) {
+        double d = random.nextDouble();
+        return d < 0.8 ? EdgeKind.PATH : d < 0.9 ? EdgeKind.CORRIDOR : d < 0.95 ? EdgeKind.STAIRS
+                : d < 0.99 ? EdgeKind.RAMP : EdgeKind.ELEVATOR;
+    }
+
+    @Benchmark
+    public RouteEngine.RoutePath alt(Cursor cursor) {
+        int q = cursor.next++ & 4095;
+        return engine.route(from[q], to[q], profile);
+    }
+
+    @Benchmark
+    public RouteEngine.RoutePath dijkstra(Cursor cursor) {
+        int q = cursor.next++ & 4095;
+        return engine.routeWithoutLandmarks(from[q], to[q], profile);
+    }
+
+    @Benchmark
+    public RouteEngine.RoutePath buildingTable(Cursor cursor) {
+        int q = cursor.next++ & 7;
+        return engine.routeBetweenBuildings("B0-0", "B" + (q * 20) + "-" + (160 - q * 20), profile);
+    }
+}
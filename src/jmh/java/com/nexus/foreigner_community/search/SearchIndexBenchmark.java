@@ -0,0 +1,91 @@
+package com.nexus.foreigner_community.search;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 합성 글 100만 개(제목 5 단어, 본문 40 단어, 댓글 하나. 단어 2만 개를 지프 분포로 뽑는다)에 대한 검색.
+ * 검색어는 가장 흔한 단어 300 개에서 한두 개를 뽑으므로 긴 목록끼리의 교집합이 대부분이다.
+ * p99 는 SampleTime 결과로 본다. (./gradlew jmh -PjmhIncludes=SearchIndexBenchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchIndexBenchmark {
+
+    private static final int DOCS = 1_000_000;
+    private static final int VOCABULARY = 20_000;
+
+    private SearchIndex index;
+    private String[] words;
+    private String[] queries;
+    private SplittableRandom random;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        random = new SplittableRandom(1);
+        words = new String[VOCABULARY];
+        for (int i = 0; i < VOCABULARY; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 2 + random.nextInt(3);
+            for (int j = 0; j < length; j++) {
+                word.append((char) ('가' + random.nextInt(2350)));
+            }
+            words[i] = word.toString();
+        }
+        index = new SearchIndex();
+        for (int doc = 0; doc < DOCS; doc++) {
+            index.put(doc, sentence(5), sentence(40), "user" + random.nextInt(5000), List.of(sentence(2)));
+            if (index.pendingCount() >= 50_000) {
+                index.flush();
+            }
+        }
+        index.flush();
+
+        queries = new String[1024];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = random.nextBoolean() ? words[random.nextInt(300)]
+                    : words[random.nextInt(300)] + " " + words[random.nextInt(300)];
+        }
+    }
+
+    @Benchmark
+    public List<SearchHit> search() {
+        return index.search(queries[next++ & 1023], 20);
+    }
+
+    /** 글 하나를 다시 색인한다 (메모리에 넣고 원래 구간에 지움 표시). */
+    @Benchmark
+    public long reindex() {
+        index.put(random.nextInt(DOCS), sentence(5), sentence(40), "user", List.of());
+        return index.pendingCount();
+    }
+
+    private String sentence(int length) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            sentence.append(words[zipf()]).append(' ');
+        }
+        return sentence.toString();
+    }
+
+    private int zipf() {
+        return (int) Math.min(VOCABULARY - 1, Math.pow(VOCABULARY, random.nextDouble()));
+    }
+}
@@ -0,0 +1,142 @@
+package com.nexus.foreigner_community.service;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 게시판 목록: OFFSET 페이지(Spring Data Page 처럼 count 포함)와 (작성 시각, id) 커서 페이지.
+ * H2 메모리 DB 에 글 500만 개(분류 16개)를 넣고, 엔티티와 같은 (category, created_at, id) 인덱스를 만든다.
+ * PostRepository 를 거치지 않고, 그 JPQL 이 만드는 SQL 과 같은 모양으로 손으로 쓴 SQL 을 JDBC 로 바로 실행한다.
+ * 따라서 재는 것은 DB 의 쿼리 비용뿐이고 Hibernate 의 쿼리 변환과 DTO 매핑 비용은 들어 있지 않다.
+ * 저장소 쿼리가 실제로 빈틈없이 페이지를 넘기는지는 PostPaginationTest 가 확인한다.
+ * (./gradlew jmh -PjmhIncludes=BoardPaginationBenchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoardPaginationBenchmark {
+
+    private static final int POSTS = 5_000_000;
+    private static final int CATEGORIES = 16;
+    private static final int SIZE = 20;
+    private static final String CATEGORY = "c7";
+    private static final String SELECT = "select p.id, p.category, p.title, u.name, p.created_at, p.comment_count"
+            + " from post p left join users u on u.id = p.author_id";
+
+    @Param({"1", "100", "10000"})
+    int page;
+
+    private Connection connection;
+    private PreparedStatement offsetQuery;
+    private PreparedStatement countQuery;
+    private PreparedStatement keysetQuery;
+    private Timestamp cursorCreatedAt;
+    private long cursorId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:board;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists users (id bigint primary key, name varchar(255))");
+            statement.execute("create table if not exists post (id bigint primary key, category varchar(30) not null,"
+                    + " title varchar(200) not null, author_id bigint, created_at timestamp,"
+                    + " comment_count integer default 0 not null)");
+            try (ResultSet rows = statement.executeQuery("select count(*) from post")) {
+                rows.next();
+                if (rows.getLong(1) == 0) {
+                    statement.execute("insert into users select x, 'user' || x from system_range(1, 1000)");
+                    // 글 id 는 시간 순서지만 같은 초에 여러 글이 있도록 작성 시각을 초 단위로 묶는다.
+                    statement.execute("insert into post select x, 'c' || mod(x * 7919, " + CATEGORIES + "),"
+                            + " 'title ' || x, mod(x, 1000) + 1,"
+                            + " dateadd('SECOND', x / 3, timestamp '2020-01-01 00:00:00'), mod(x, 13)"
+                            + " from system_range(1, " + POSTS + ")");
+                    statement.execute("create index idx_post_category_created on post (category, created_at, id)");
+                    statement.execute("create index idx_post_created on post (created_at, id)");
+                    statement.execute("analyze");
+                }
+            }
+        }
+        offsetQuery = connection.prepareStatement(SELECT
+                + " where p.category = ? order by p.created_at desc, p.id desc limit ? offset ?");
+        countQuery = connection.prepareStatement("select count(*) from post p where p.category = ?");
+        keysetQuery = connection.prepareStatement(SELECT + " where p.category = ? and (p.created_at < ?"
+                + " or (p.created_at = ? and p.id < ?)) order by p.created_at desc, p.id desc limit ?");
+
+        // 이 페이지 바로 앞 글이 커서가 된다. 1 페이지는 커서 없이 읽는 것과 같도록 아주 먼 미래를 쓴다.
+        if (page == 1) {
+            cursorCreatedAt = Timestamp.valueOf("9999-01-01 00:00:00");
+            cursorId = Long.MAX_VALUE;
+        } else {
+            offsetQuery.setString(1, CATEGORY);
+            offsetQuery.setInt(2, 1);
+            offsetQuery.setInt(3, (page - 1) * SIZE - 1);
+            try (ResultSet rows = offsetQuery.executeQuery()) {
+                rows.next();
+                cursorId = rows.getLong(1);
+                cursorCreatedAt = rows.getTimestamp(5);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    /** PageRequest.of(page, 20) 로 Page 를 받을 때와 같은 두 쿼리. */
+    @Benchmark
+    public long offset() throws SQLException {
+        offsetQuery.setString(1, CATEGORY);
+        offsetQuery.setInt(2, SIZE);
+        offsetQuery.setInt(3, (page - 1) * SIZE);
+        long sum = read(offsetQuery);
+        countQuery.setString(1, CATEGORY);
+        try (ResultSet rows = countQuery.executeQuery()) {
+            rows.next();
+            return sum + rows.getLong(1);
+        }
+    }
+
+    @Benchmark
+    public long keyset() throws SQLException {
+        keysetQuery.setString(1, CATEGORY);
+        keysetQuery.setTimestamp(2, cursorCreatedAt);
+        keysetQuery.setTimestamp(3, cursorCreatedAt);
+        keysetQuery.setLong(4, cursorId);
+        keysetQuery.setInt(5, SIZE + 1);
+        return read(keysetQuery);
+    }
+
+    private static long read(PreparedStatement query) throws SQLException {
+        long sum = 0;
+        try (ResultSet rows = query.executeQuery()) {
+            while (rows.next()) {
+                sum += rows.getLong(1) + rows.getInt(6) + rows.getString(3).length();
+            }
+        }
+        return sum;
+    }
+}
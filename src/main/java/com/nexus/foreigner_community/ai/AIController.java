@@ -1,38 +1,99 @@
 package com.nexus.foreigner_community.ai;
 
+import java.security.Principal;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.nexus.foreigner_community.entity.Post;
+import com.nexus.foreigner_community.service.PostService;
+import com.nexus.foreigner_community.view.ContentChangedEvent;
+import com.nexus.foreigner_community.view.FragmentCache;
 
-import java.io.IOException;
-import com.google.cloud.translate.*;
-import com.google.cloud.translate.Translate.TranslateOption;
+import lombok.RequiredArgsConstructor;
 
 @Controller
+@RequiredArgsConstructor
 public class AIController {
+
+    private final TranslationService translationService;
+    private final StreamingTranslationService streamingTranslationService;
+    private final PostService postService;
+    private final TranslationScheduler translationScheduler;
+    private final FragmentCache fragmentCache;
+
     @GetMapping("/ai")
-    public String aiHello(Model model) throws IOException {
-    	String projectId = "foreigner-community-nexus";
-    	
-    	Translate translate = TranslateOptions.newBuilder().setProjectId(projectId).build().getService();
-    	
+    public String aiHello(Model model, Principal principal, Locale locale) {
+        model.addAttribute("header", fragmentCache.render("header", "header", ContentChangedEvent.LAYOUT, locale, Map.of()));
+
     	// TODO: 페이지 내용 인식
     	
     	String text = "Hello!";
 
     	model.addAttribute("original", text);
 		
-    	Detection detectedLang = translate.detect(text); 
+    	String detectedLang = translationService.detect(text);
 		
 		model.addAttribute("lang", "Detected Language: " + detectedLang);
 		
-		TranslateOption sourceLang = TranslateOption.sourceLanguage(detectedLang.getLanguage());
-		TranslateOption targetLang = TranslateOption.targetLanguage("mn");
+		String translated = translationService.translate(text, detectedLang, "mn", requester(principal));
 		
-		Translation translation = translate.translate(text, sourceLang, targetLang);
-		
-		model.addAttribute("translated", translation.getTranslatedText());
+		model.addAttribute("translated", translated);
         
 		return "ai";
     }
-}
\ No newline at end of file
+
+    // 긴 글은 문장 단위로 번역이 끝나는 대로 순서대로 보낸다.
+    @GetMapping(path = "/ai/stream/posts/{id}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter streamPost(@PathVariable Long id,
+                                 @RequestParam(value = "target", defaultValue = "en") String target,
+                                 Principal principal) {
+        Post post = postService.getPost(id);
+        String source = translationService.detect(post.getContent());
+        return streamingTranslationService.stream(post.getContent(), source, target, requester(principal));
+    }
+
+    @PostMapping(path = "/ai/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter streamText(@RequestParam("text") String text,
+                                 @RequestParam(value = "target", defaultValue = "en") String target,
+                                 Principal principal) {
+        return streamingTranslationService.stream(text, translationService.detect(text), target, requester(principal));
+    }
+
+    @GetMapping("/ai/cache-stats")
+    @ResponseBody
+    public Map<String, Object> cacheStats() {
+        CacheStats stats = translationService.getCache().stats();
+        TranslationMemory memory = translationService.getMemory();
+        return Map.of(
+                "size", translationService.getCache().size(),
+                "hits", stats.hitCount(),
+                "misses", stats.missCount(),
+                "evictions", stats.evictionCount(),
+                "reusedChars", memory.reusedChars(),
+                "freshChars", memory.freshChars(),
+                "reuseRatio", memory.reuseRatio());
+    }
+
+    @GetMapping("/ai/quota-stats")
+    @ResponseBody
+    public TranslationScheduler.Stats quotaStats() {
+        return translationScheduler.stats();
+    }
+
+    private static TranslationRequester requester(Principal principal) {
+        return TranslationRequester.interactive(principal == null ? null : principal.getName());
+    }
+}
@@ -0,0 +1,12 @@
+package com.nexus.foreigner_community.ai;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface BatchTranslator {
+
+    /**
+     * texts 와 같은 순서, 같은 길이의 번역 결과를 돌려준다. source 가 {@link TranslationKey#AUTO} 이면 자동 감지.
+     */
+    List<String> translate(List<String> texts, String source, String target);
+}
@@ -0,0 +1,34 @@
+package com.nexus.foreigner_community.ai;
+
+import java.util.List;
+
+import com.google.cloud.translate.Translate;
+import com.google.cloud.translate.Translate.TranslateOption;
+import com.google.cloud.translate.Translation;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class GoogleTranslationProvider implements TranslationProvider {
+
+    private final Translate translate;
+
+    @Override
+    public String name() {
+        return "google";
+    }
+
+    @Override
+    public List<String> translate(List<String> texts, String source, String target) {
+        List<Translation> translations = TranslationKey.AUTO.equals(source)
+                ? translate.translate(texts, TranslateOption.targetLanguage(target))
+                : translate.translate(texts, TranslateOption.sourceLanguage(source),
+                        TranslateOption.targetLanguage(target));
+        return translations.stream().map(Translation::getTranslatedText).toList();
+    }
+
+    @Override
+    public String detect(String text) {
+        return translate.detect(text).getLanguage();
+    }
+}
@@ -0,0 +1,177 @@
+package com.nexus.foreigner_community.ai;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 제공자 호출마다 걸린 시간(히스토그램 포함)과 보낸/받은 글자 수·바이트 수를 Micrometer 로 기록한다.
+ * 태그는 provider, operation(translate/detect), source, target, outcome 이다.
+ * 느린 호출은 sampleRate 비율로만 로그에 남기고, 본문 대신 크기만 적는다.
+ */
+@Slf4j
+public class InstrumentedTranslationProvider implements TranslationProvider, AutoCloseable {
+
+    static final String OTHER_LANGUAGE = "other";
+
+    private final TranslationProvider delegate;
+    private final MeterRegistry registry;
+    private final Set<String> knownLanguages;
+    private final long slowCallNanos;
+    private final double sampleRate;
+
+    public InstrumentedTranslationProvider(TranslationProvider delegate, MeterRegistry registry,
+                                           Set<String> knownLanguages, Duration slowCall, double sampleRate) {
+        this.delegate = delegate;
+        this.registry = registry;
+        this.knownLanguages = knownLanguages;
+        this.slowCallNanos = slowCall.toNanos();
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public String name() {
+        return delegate.name();
+    }
+
+    @Override
+    public List<String> translate(List<String> texts, String source, String target) {
+        String from = language(source);
+        String to = language(target);
+        long requestChars = 0;
+        long requestBytes = 0;
+        for (String text : texts) {
+            requestChars += text.length();
+            requestBytes += utf8Length(text);
+        }
+        count("request", "translate", from, to, requestChars, requestBytes);
+        DistributionSummary.builder("translation.provider.batch.size")
+                .description("Texts per provider translate call")
+                .tag("provider", name())
+                .register(registry)
+                .record(texts.size());
+
+        long payloadChars = requestChars;
+        long payloadBytes = requestBytes;
+        List<String> result = timed("translate", from, to,
+                () -> delegate.translate(texts, source, target),
+                () -> texts.size() + " texts, " + payloadChars + " chars, " + payloadBytes + " bytes");
+
+        long responseChars = 0;
+        long responseBytes = 0;
+        for (String text : result) {
+            responseChars += text.length();
+            responseBytes += utf8Length(text);
+        }
+        count("response", "translate", from, to, responseChars, responseBytes);
+        return result;
+    }
+
+    @Override
+    public String detect(String text) {
+        String none = TranslationKey.AUTO;
+        long bytes = utf8Length(text);
+        count("request", "detect", none, none, text.length(), bytes);
+        return timed("detect", none, none, () -> delegate.detect(text),
+                () -> text.length() + " chars, " + bytes + " bytes");
+    }
+
+    private <T> T timed(String operation, String source, String target, Supplier<T> call, Supplier<String> payload) {
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            outcome = outcome(e);
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            Timer.builder("translation.provider.calls")
+                    .description("Provider call latency")
+                    .tags("provider", name(), "operation", operation, "source", source, "target", target,
+                            "outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry)
+                    .record(Duration.ofNanos(elapsed));
+            if (elapsed >= slowCallNanos && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                log.warn("slow translation call: provider={} operation={} {}->{} outcome={} took={}ms payload=[{}]",
+                        name(), operation, source, target, outcome, elapsed / 1_000_000, payload.get());
+            }
+        }
+    }
+
+    private void count(String direction, String operation, String source, String target, long chars, long bytes) {
+        Counter.builder("translation.provider.chars")
+                .description("Characters sent to / received from the provider")
+                .tags("provider", name(), "operation", operation, "direction", direction,
+                        "source", source, "target", target)
+                .register(registry)
+                .increment(chars);
+        Counter.builder("translation.provider.bytes")
+                .description("UTF-8 bytes sent to / received from the provider")
+                .baseUnit("bytes")
+                .tags("provider", name(), "operation", operation, "direction", direction,
+                        "source", source, "target", target)
+                .register(registry)
+                .increment(bytes);
+    }
+
+    // ResilientTranslationProvider 가 바로 거절(bulkhead/서킷)하면 원인 예외가 없다.
+    static String outcome(RuntimeException e) {
+        if (!(e instanceof TranslationUnavailableException)) {
+            return "error";
+        }
+        if (e.getCause() == null) {
+            return "rejected";
+        }
+        if (e.getCause() instanceof TimeoutException) {
+            return "timeout";
+        }
+        return "error";
+    }
+
+    // 사용자가 보낸 임의의 언어 코드로 태그 종류가 늘어나지 않게 한다.
+    private String language(String language) {
+        return language != null && (knownLanguages.contains(language) || language.equals(TranslationKey.AUTO))
+                ? language : OTHER_LANGUAGE;
+    }
+
+    private static long utf8Length(String text) {
+        long bytes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes += 1;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    @Override
+    public void close() {
+        if (delegate instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("closing translation provider {} failed", delegate.name(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.nexus.foreigner_community.ai;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 문자 n-gram(1~3) 프로파일 기반 오프라인 언어 감지기.
+ * 프로파일은 {@link LanguageProfileBuilder} 가 만든 바이너리 파일에서 읽는다.
+ * 감지 과정은 스레드별로 재사용하는 점수 배열만 사용하므로 호출마다 객체를 만들지 않는다.
+ */
+public final class LanguageIdentifier {
+
+    static final int MAGIC = 0x4C494431; // "LID1"
+    static final short VERSION = 1;
+
+    interface NgramSink {
+        void accept(int hash);
+    }
+
+    private final String[] languages;
+    private final int bucketMask;
+    private final float scale;
+    // 버킷 단위로 언어별 비용(-log p * scale)을 이어 붙인 배열: costs[bucket * languages.length + lang]
+    private final byte[] costs;
+    private final double minConfidence;
+    private final ThreadLocal<Scorer> scorers;
+
+    LanguageIdentifier(String[] languages, int bucketBits, float scale, byte[] costs, double minConfidence) {
+        if (costs.length != languages.length << bucketBits) {
+            throw new IllegalArgumentException("profile size does not match header");
+        }
+        this.languages = languages;
+        this.bucketMask = (1 << bucketBits) - 1;
+        this.scale = scale;
+        this.costs = costs;
+        this.minConfidence = minConfidence;
+        this.scorers = ThreadLocal.withInitial(Scorer::new);
+    }
+
+    public static LanguageIdentifier load(InputStream in, double minConfidence) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("not a language profile file");
+        }
+        short version = data.readShort();
+        if (version != VERSION) {
+            throw new IOException("unsupported language profile version " + version);
+        }
+        String[] languages = new String[data.readUnsignedByte()];
+        for (int i = 0; i < languages.length; i++) {
+            byte[] code = new byte[data.readUnsignedByte()];
+            data.readFully(code);
+            languages[i] = new String(code, StandardCharsets.US_ASCII).intern();
+        }
+        int bucketBits = data.readUnsignedByte();
+        float scale = data.readFloat();
+        byte[] costs = new byte[languages.length << bucketBits];
+        data.readFully(costs);
+        return new LanguageIdentifier(languages, bucketBits, scale, costs, minConfidence);
+    }
+
+    public String[] languages() {
+        return languages.clone();
+    }
+
+    /**
+     * 가장 가능성이 높은 언어 코드. 확신도가 낮거나 문자가 부족하면 null.
+     */
+    public String detect(CharSequence text) {
+        Scorer scorer = score(text);
+        return scorer.confidence() >= minConfidence ? languages[scorer.best] : null;
+    }
+
+    /**
+     * 확신도와 관계없이 가장 점수가 좋은 언어 코드. 글자가 하나도 없으면 null.
+     */
+    public String bestLanguage(CharSequence text) {
+        Scorer scorer = score(text);
+        return scorer.count == 0 ? null : languages[scorer.best];
+    }
+
+    /**
+     * 1위와 2위 언어의 n-gram 당 평균 로그 확률 차이(nats).
+     */
+    public double confidence(CharSequence text) {
+        return score(text).confidence();
+    }
+
+    private Scorer score(CharSequence text) {
+        Scorer scorer = scorers.get();
+        scorer.reset();
+        scan(text, scorer);
+        scorer.rank();
+        return scorer;
+    }
+
+    private final class Scorer implements NgramSink {
+        final int[] totals = new int[languages.length];
+        int count;
+        int best;
+        int second;
+
+        void reset() {
+            Arrays.fill(totals, 0);
+            count = 0;
+        }
+
+        @Override
+        public void accept(int hash) {
+            int base = (hash & bucketMask) * totals.length;
+            for (int lang = 0; lang < totals.length; lang++) {
+                totals[lang] += costs[base + lang] & 0xFF;
+            }
+            count++;
+        }
+
+        void rank() {
+            best = 0;
+            second = -1;
+            for (int lang = 1; lang < totals.length; lang++) {
+                if (totals[lang] < totals[best]) {
+                    second = best;
+                    best = lang;
+                } else if (second < 0 || totals[lang] < totals[second]) {
+                    second = lang;
+                }
+            }
+        }
+
+        double confidence() {
+            if (count == 0) {
+                return 0;
+            }
+            if (second < 0) {
+                return Double.MAX_VALUE;
+            }
+            return (totals[second] - totals[best]) / (scale * (double) count);
+        }
+    }
+
+    /**
+     * 문자 이외는 공백 하나로 접고, 소문자로 바꾼 뒤 1~3-gram 해시를 순서대로 넘긴다.
+     */
+    static void scan(CharSequence text, NgramSink sink) {
+        char p2 = ' ';
+        char p1 = ' ';
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char c = normalize(text.charAt(i));
+            if (c == ' ' && p1 == ' ') {
+                continue;
+            }
+            emit(p2, p1, c, sink);
+            p2 = p1;
+            p1 = c;
+        }
+        if (p1 != ' ') {
+            emit(p2, p1, ' ', sink);
+        }
+    }
+
+    private static void emit(char p2, char p1, char c, NgramSink sink) {
+        if (c != ' ') {
+            sink.accept(mix(0x10000 | c));
+        }
+        sink.accept(mix((0x20000 | p1) * 0x9E3779B1 + c));
+        if (p1 != ' ') {
+            sink.accept(mix(((0x30000 | p2) * 0x9E3779B1 + p1) * 0x9E3779B1 + c));
+        }
+    }
+
+    private static char normalize(char c) {
+        if (Character.isLetter(c)) {
+            return Character.toLowerCase(c);
+        }
+        return Character.getType(c) == Character.NON_SPACING_MARK ? c : ' ';
+    }
+
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -0,0 +1,87 @@
+package com.nexus.foreigner_community.ai;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 말뭉치 폴더(언어코드.txt)로부터 {@link LanguageIdentifier} 가 읽는 바이너리 프로파일을 만든다.
+ * 사용법: ./gradlew buildLanguageProfiles
+ */
+public class LanguageProfileBuilder {
+
+    static final int BUCKET_BITS = 14;
+    private static final double SMOOTHING = 0.5;
+
+    public static void main(String[] args) throws IOException {
+        Path corpusDir = Path.of(args[0]);
+        Path output = Path.of(args[1]);
+
+        List<Path> files;
+        try (Stream<Path> list = Files.list(corpusDir)) {
+            files = list.filter(p -> p.toString().endsWith(".txt")).sorted().toList();
+        }
+
+        List<String> languages = new ArrayList<>();
+        List<String> corpora = new ArrayList<>();
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            languages.add(name.substring(0, name.length() - ".txt".length()));
+            corpora.add(Files.readString(file, StandardCharsets.UTF_8));
+        }
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(output))) {
+            write(languages, corpora, out);
+        }
+        System.out.printf("wrote %s (%d languages, %d bytes)%n", output, languages.size(), Files.size(output));
+    }
+
+    static void write(List<String> languages, List<String> corpora, OutputStream out) throws IOException {
+        int buckets = 1 << BUCKET_BITS;
+        int mask = buckets - 1;
+        int n = languages.size();
+
+        double[][] logCosts = new double[n][buckets];
+        double maxCost = 0;
+        for (int lang = 0; lang < n; lang++) {
+            long[] counts = new long[buckets];
+            long[] total = new long[1];
+            LanguageIdentifier.scan(corpora.get(lang), hash -> {
+                counts[hash & mask]++;
+                total[0]++;
+            });
+            double denominator = total[0] + SMOOTHING * buckets;
+            for (int b = 0; b < buckets; b++) {
+                logCosts[lang][b] = -Math.log((counts[b] + SMOOTHING) / denominator);
+                maxCost = Math.max(maxCost, logCosts[lang][b]);
+            }
+        }
+        float scale = (float) (255 / maxCost);
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(LanguageIdentifier.MAGIC);
+        data.writeShort(LanguageIdentifier.VERSION);
+        data.writeByte(n);
+        for (String language : languages) {
+            byte[] code = language.getBytes(StandardCharsets.US_ASCII);
+            data.writeByte(code.length);
+            data.write(code);
+        }
+        data.writeByte(BUCKET_BITS);
+        data.writeFloat(scale);
+        for (int b = 0; b < buckets; b++) {
+            for (int lang = 0; lang < n; lang++) {
+                data.writeByte((int) Math.min(255, Math.round(logCosts[lang][b] * scale)));
+            }
+        }
+        data.flush();
+    }
+}
@@ -0,0 +1,118 @@
+package com.nexus.foreigner_community.ai;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 제공자 호출을 동시 실행 수 제한(bulkhead), 호출별 제한 시간, 서킷 브레이커로 감싼다.
+ * 어느 단계에서든 막히면 기다리지 않고 {@link TranslationUnavailableException} 을 던진다.
+ */
+public class ResilientTranslationProvider implements TranslationProvider, AutoCloseable {
+
+    private final TranslationProvider delegate;
+    private final Semaphore bulkhead;
+    private final long timeoutNanos;
+    private final CircuitBreaker circuitBreaker;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ResilientTranslationProvider(TranslationProvider delegate, int maxConcurrentCalls, Duration timeout,
+                                        CircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.timeoutNanos = timeout.toNanos();
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public String name() {
+        return delegate.name();
+    }
+
+    @Override
+    public List<String> translate(List<String> texts, String source, String target) {
+        return call(() -> delegate.translate(texts, source, target));
+    }
+
+    @Override
+    public String detect(String text) {
+        return call(() -> delegate.detect(text));
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    public int availableCalls() {
+        return bulkhead.availablePermits();
+    }
+
+    private <T> T call(Callable<T> action) {
+        if (!bulkhead.tryAcquire()) {
+            throw new TranslationUnavailableException(name() + " has too many calls in flight");
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.release();
+            throw new TranslationUnavailableException(name() + " circuit is open");
+        }
+        // 허가는 실제로 호출을 실행한 작업이 끝날 때 돌려준다. 제한 시간이 지나 취소해도 제공자 호출이
+        // 끝나기 전에는 다음 호출이 들어오지 않는다. 작업이 시작되기 전에 취소되면 호출한 쪽이 돌려준다.
+        AtomicBoolean claimed = new AtomicBoolean();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return null;
+                }
+                try {
+                    return action.call();
+                } finally {
+                    bulkhead.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            bulkhead.release();
+            circuitBreaker.onFailure();
+            throw new TranslationUnavailableException(name() + " is closed", e);
+        }
+        try {
+            T result = future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (TimeoutException e) {
+            cancel(future, claimed);
+            circuitBreaker.onFailure();
+            throw new TranslationUnavailableException(name() + " call timed out", e);
+        } catch (ExecutionException e) {
+            circuitBreaker.onFailure();
+            throw new TranslationUnavailableException(name() + " call failed", e.getCause());
+        } catch (InterruptedException e) {
+            // 시험 호출이었다면 결과를 알리지 않으면 HALF_OPEN 에서 영영 빠져나오지 못한다.
+            cancel(future, claimed);
+            circuitBreaker.onFailure();
+            Thread.currentThread().interrupt();
+            throw new TranslationUnavailableException(name() + " call interrupted", e);
+        }
+    }
+
+    private void cancel(Future<?> future, AtomicBoolean claimed) {
+        future.cancel(true);
+        if (claimed.compareAndSet(false, true)) {
+            bulkhead.release();
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,101 @@
+package com.nexus.foreigner_community.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 글을 문장 단위로 나눈다. 문장 사이의 공백/줄바꿈은 번역하지 않는 조각으로 남겨
+ * 모든 조각을 순서대로 이어 붙이면 원문과 정확히 같아진다.
+ */
+public final class SentenceSegmenter {
+
+    public record Segment(String text, boolean translatable) {
+    }
+
+    private SentenceSegmenter() {
+    }
+
+    public static List<Segment> split(String text) {
+        List<Segment> segments = new ArrayList<>();
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            int start = i;
+            while (i < length && Character.isWhitespace(text.charAt(i))) {
+                i++;
+            }
+            if (i > start) {
+                segments.add(new Segment(text.substring(start, i), false));
+                continue;
+            }
+            int end = sentenceEnd(text, i);
+            segments.add(new Segment(text.substring(i, end), true));
+            i = end;
+        }
+        return segments;
+    }
+
+    private static int sentenceEnd(String text, int from) {
+        int length = text.length();
+        int i = from;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (c == '\n' || c == '\r') {
+                return trimEnd(text, from, i);
+            }
+            i++;
+            if (isFullwidthTerminal(c)) {
+                return skipClosers(text, i);
+            }
+            if (isTerminal(c)) {
+                int after = skipClosers(text, skipTerminals(text, i));
+                if (after >= length || Character.isWhitespace(text.charAt(after))) {
+                    return after;
+                }
+                i = after;
+            }
+        }
+        return trimEnd(text, from, length);
+    }
+
+    private static int trimEnd(String text, int from, int end) {
+        while (end > from && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private static int skipTerminals(String text, int i) {
+        while (i < text.length() && isTerminal(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipClosers(String text, int i) {
+        while (i < text.length() && isCloser(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isTerminal(char c) {
+        return c == '.' || c == '!' || c == '?' || c == '…';
+    }
+
+    private static boolean isFullwidthTerminal(char c) {
+        return c == '。' || c == '！' || c == '？';
+    }
+
+    private static boolean isCloser(char c) {
+        return c == '"' || c == '\'' || c == ')' || c == ']' || c == '”' || c == '’' || c == '」' || c == '』'
+                || c == '）';
+    }
+
+    /**
+     * 번역 메모리의 키로 쓰기 위해 공백을 하나로 접는다.
+     */
+    public static String normalize(String sentence) {
+        return sentence.strip().replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,143 @@
+package com.nexus.foreigner_community.ai;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 긴 글을 문장 단위로 번역하면서 끝난 문장부터 순서대로 SSE 로 내보낸다.
+ * 동시에 번역 중인 문장 수는 maxInFlight 로 제한하고, 클라이언트가 연결을 끊으면
+ * 남은 문장의 번역 요청을 취소한다.
+ */
+@Service
+public class StreamingTranslationService {
+
+    public record SegmentEvent(int index, String text) {
+    }
+
+    private final TranslationMemory memory;
+    private final int maxInFlight;
+    private final long timeoutMs;
+    private final long segmentTimeoutMs;
+
+    public StreamingTranslationService(TranslationMemory memory,
+                                       @Value("${translate.stream.max-in-flight}") int maxInFlight,
+                                       @Value("${translate.stream.timeout-ms}") long timeoutMs,
+                                       @Value("${translate.resilience.timeout-ms}") long providerTimeoutMs,
+                                       @Value("${translate.batch.max-delay-ms}") long maxDelayMs) {
+        this.memory = memory;
+        this.maxInFlight = maxInFlight;
+        this.timeoutMs = timeoutMs;
+        this.segmentTimeoutMs = providerTimeoutMs + maxDelayMs;
+    }
+
+    public SseEmitter stream(String text, String source, String target, TranslationRequester requester) {
+        return stream(new SseEmitter(timeoutMs), text, source, target, requester);
+    }
+
+    // 테스트에서 보낸 이벤트와 종료 콜백을 들여다볼 수 있도록 emitter 를 받는다.
+    SseEmitter stream(SseEmitter emitter, String text, String source, String target, TranslationRequester requester) {
+        Session session = new Session(emitter, SentenceSegmenter.split(text),
+                TranslationKey.normalize(source), TranslationKey.normalize(target), requester);
+        emitter.onCompletion(session::cancel);
+        emitter.onTimeout(session::cancel);
+        emitter.onError(e -> session.cancel());
+        session.pump();
+        return emitter;
+    }
+
+    private final class Session {
+        private final SseEmitter emitter;
+        private final List<SentenceSegmenter.Segment> segments;
+        private final String source;
+        private final String target;
+        private final TranslationRequester requester;
+        private final String[] results;
+        private final Map<Integer, CompletableFuture<String>> pending = new HashMap<>();
+        private int nextToStart;
+        private int nextToEmit;
+        private int inFlight;
+        private boolean pumping;
+        private boolean finished;
+
+        Session(SseEmitter emitter, List<SentenceSegmenter.Segment> segments, String source, String target,
+                TranslationRequester requester) {
+            this.emitter = emitter;
+            this.segments = segments;
+            this.source = source;
+            this.target = target;
+            this.requester = requester;
+            this.results = new String[segments.size()];
+        }
+
+        synchronized void pump() {
+            if (pumping || finished) {
+                return;
+            }
+            pumping = true;
+            try {
+                boolean progress = true;
+                while (progress && !finished) {
+                    progress = false;
+                    while (nextToEmit < results.length && results[nextToEmit] != null) {
+                        emitter.send(SseEmitter.event().name("segment")
+                                .data(new SegmentEvent(nextToEmit, results[nextToEmit])));
+                        nextToEmit++;
+                        progress = true;
+                    }
+                    while (inFlight < maxInFlight && nextToStart < segments.size()) {
+                        start(nextToStart++);
+                        progress = true;
+                    }
+                }
+                if (!finished && nextToEmit == results.length) {
+                    finished = true;
+                    emitter.send(SseEmitter.event().name("done").data(results.length));
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊었다.
+                cancel();
+            } finally {
+                pumping = false;
+            }
+        }
+
+        private void start(int index) {
+            SentenceSegmenter.Segment segment = segments.get(index);
+            if (!segment.translatable()) {
+                results[index] = segment.text();
+                return;
+            }
+            inFlight++;
+            CompletableFuture<String> future = memory.translateSentence(segment.text(), source, target, requester);
+            pending.put(index, future);
+            future.orTimeout(segmentTimeoutMs, TimeUnit.MILLISECONDS)
+                    .whenComplete((translated, error) -> done(index, error == null ? translated : segment.text()));
+        }
+
+        private synchronized void done(int index, String text) {
+            if (pending.remove(index) == null) {
+                return;
+            }
+            inFlight--;
+            results[index] = text;
+            pump();
+        }
+
+        synchronized void cancel() {
+            finished = true;
+            // 취소하면 같은 스레드에서 done 이 불려 pending 을 고치므로 먼저 비운다.
+            List<CompletableFuture<String>> cancelled = List.copyOf(pending.values());
+            pending.clear();
+            cancelled.forEach(future -> future.cancel(false));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.nexus.foreigner_community.ai;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@link StubTranslationServer} 에 HTTP 로 요청하는 제공자.
+ */
+public class StubTranslationProvider implements TranslationProvider {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client;
+    private final URI baseUri;
+    private final Duration timeout;
+
+    public StubTranslationProvider(URI baseUri, Duration timeout) {
+        this.baseUri = baseUri;
+        this.timeout = timeout;
+        this.client = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    @Override
+    public String name() {
+        return "stub";
+    }
+
+    @Override
+    public List<String> translate(List<String> texts, String source, String target) {
+        JsonNode response = post("/translate", Map.of("q", texts, "source", source, "target", target));
+        List<String> translations = new ArrayList<>(texts.size());
+        response.path("translations").forEach(node -> translations.add(node.asText()));
+        return translations;
+    }
+
+    @Override
+    public String detect(String text) {
+        return post("/detect", Map.of("q", text)).path("language").asText(TranslationKey.AUTO);
+    }
+
+    private JsonNode post(String path, Object body) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path))
+                    .timeout(timeout)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                throw new TranslationUnavailableException("stub translator returned " + response.statusCode());
+            }
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            throw new TranslationUnavailableException("stub translator request failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TranslationUnavailableException("stub translator request interrupted", e);
+        }
+    }
+}
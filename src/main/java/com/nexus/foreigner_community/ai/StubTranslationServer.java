@@ -0,0 +1,125 @@
+package com.nexus.foreigner_community.ai;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 실제 번역 API 대신 쓰는 로컬 HTTP 서버. 번역 결과는 "[target] 원문" 으로 항상 같다.
+ * 응답 지연과 실패(매 N 번째 요청마다 503)를 주입할 수 있어 부하 테스트와 장애 테스트에 사용한다.
+ *
+ * <pre>POST /translate {"q": ["..."], "source": "ko", "target": "en"} -> {"translations": ["..."]}
+ * POST /detect    {"q": "..."} -> {"language": "ko"}</pre>
+ */
+public class StubTranslationServer {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final AtomicLong requests = new AtomicLong();
+    private volatile long latencyMillis;
+    private volatile int failureEvery;
+
+    public StubTranslationServer(int port, long latencyMillis, int failureEvery) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.failureEvery = failureEvery;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.createContext("/translate", this::translate);
+        this.server.createContext("/detect", this::detect);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8089;
+        long latency = args.length > 1 ? Long.parseLong(args[1]) : 50;
+        int failureEvery = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+        new StubTranslationServer(port, latency, failureEvery).start();
+        System.out.printf("stub translation server on http://127.0.0.1:%d (latency %d ms, failure every %d)%n",
+                port, latency, failureEvery);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    public long requestCount() {
+        return requests.get();
+    }
+
+    public void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    public void setFailureEvery(int failureEvery) {
+        this.failureEvery = failureEvery;
+    }
+
+    private void translate(HttpExchange exchange) throws IOException {
+        JsonNode body = readRequest(exchange);
+        if (body == null) {
+            return;
+        }
+        String target = body.path("target").asText();
+        List<String> translations = new ArrayList<>();
+        body.path("q").forEach(text -> translations.add("[" + target + "] " + text.asText()));
+        respond(exchange, 200, Map.of("translations", translations));
+    }
+
+    private void detect(HttpExchange exchange) throws IOException {
+        JsonNode body = readRequest(exchange);
+        if (body == null) {
+            return;
+        }
+        String text = body.path("q").asText();
+        String language = text.codePoints().anyMatch(c -> Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL)
+                ? "ko" : "en";
+        respond(exchange, 200, Map.of("language", language));
+    }
+
+    // 지연과 실패를 적용한 뒤 요청 본문을 돌려준다. 실패를 응답했으면 null.
+    private JsonNode readRequest(HttpExchange exchange) throws IOException {
+        long n = requests.incrementAndGet();
+        JsonNode body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = objectMapper.readTree(in);
+        }
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int every = failureEvery;
+        if (every > 0 && n % every == 0) {
+            respond(exchange, 503, Map.of("error", "injected failure"));
+            return null;
+        }
+        return body;
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.nexus.foreigner_community.ai;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import com.google.cloud.translate.TranslateOptions;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class TranslateConfig {
+
+    // translate.provider=google 이면 Google Cloud Translate, stub 이면 로컬 스텁 서버를 쓴다.
+    // 클라이언트는 내부에 HTTP 커넥션 풀을 가지고 있으므로 애플리케이션 전체에서 하나만 만든다.
+    // 바깥쪽 계측은 bulkhead/서킷에서 거절된 호출까지 outcome 으로 구분해 기록한다.
+    @Bean(destroyMethod = "close")
+    public InstrumentedTranslationProvider translationProvider(
+            MeterRegistry meterRegistry,
+            @Value("${translate.provider}") String provider,
+            @Value("${translate.project-id}") String projectId,
+            @Value("${translate.stub.port}") int stubPort,
+            @Value("${translate.resilience.max-concurrent}") int maxConcurrent,
+            @Value("${translate.resilience.timeout-ms}") long timeoutMs,
+            @Value("${translate.resilience.failure-threshold}") int failureThreshold,
+            @Value("${translate.resilience.open-ms}") long openMs,
+            @Value("${translate.target-languages}") Set<String> languages,
+            @Value("${translate.metrics.slow-call-ms}") long slowCallMs,
+            @Value("${translate.metrics.slow-call-sample-rate}") double slowCallSampleRate) {
+        Duration timeout = Duration.ofMillis(timeoutMs);
+        TranslationProvider delegate = switch (provider) {
+            case "google" -> new GoogleTranslationProvider(
+                    TranslateOptions.newBuilder().setProjectId(projectId).build().getService());
+            case "stub" -> new StubTranslationProvider(URI.create("http://127.0.0.1:" + stubPort), timeout);
+            default -> throw new IllegalArgumentException("unknown translate.provider: " + provider);
+        };
+        ResilientTranslationProvider resilient = new ResilientTranslationProvider(delegate, maxConcurrent, timeout,
+                new CircuitBreaker(failureThreshold, Duration.ofMillis(openMs)));
+        // 0=CLOSED, 1=OPEN, 2=HALF_OPEN
+        Gauge.builder("translation.provider.circuit.state", resilient, r -> r.circuitState().ordinal())
+                .tag("provider", resilient.name())
+                .register(meterRegistry);
+        Gauge.builder("translation.provider.bulkhead.available", resilient, ResilientTranslationProvider::availableCalls)
+                .tag("provider", resilient.name())
+                .register(meterRegistry);
+        return new InstrumentedTranslationProvider(resilient, meterRegistry, languages,
+                Duration.ofMillis(slowCallMs), slowCallSampleRate);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(name = "translate.stub.embedded", havingValue = "true")
+    public StubTranslationServer stubTranslationServer(@Value("${translate.stub.port}") int port,
+                                                       @Value("${translate.stub.latency-ms}") long latencyMs,
+                                                       @Value("${translate.stub.failure-every}") int failureEvery) throws IOException {
+        return new StubTranslationServer(port, latencyMs, failureEvery);
+    }
+
+    @Bean(destroyMethod = "close")
+    public TranslationBatcher translationBatcher(TranslationProvider translationProvider,
+                                                 @Value("${translate.batch.max-size}") int maxSize,
+                                                 @Value("${translate.batch.max-delay-ms}") long maxDelayMs) {
+        return new TranslationBatcher(translationProvider, maxSize, Duration.ofMillis(maxDelayMs));
+    }
+
+    @Bean(destroyMethod = "close")
+    public TranslationScheduler translationScheduler(@Value("${translate.quota.chars-per-second}") long charsPerSecond,
+                                                     @Value("${translate.quota.burst-chars}") long burstChars,
+                                                     @Value("${translate.quota.daily-chars}") long dailyChars,
+                                                     @Value("${translate.quota.interactive-reserve}") double interactiveReserve) {
+        return new TranslationScheduler(charsPerSecond, burstChars, dailyChars, interactiveReserve);
+    }
+
+    @Bean
+    public LanguageIdentifier languageIdentifier(@Value("${translate.detect.profile}") Resource profile,
+                                                 @Value("${translate.detect.min-confidence}") double minConfidence) throws IOException {
+        try (InputStream in = profile.getInputStream()) {
+            return LanguageIdentifier.load(in, minConfidence);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.nexus.foreigner_community.ai;
+
+import java.util.List;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.nexus.foreigner_community.entity.ContentType;
+import com.nexus.foreigner_community.repository.CommentRepository;
+import com.nexus.foreigner_community.repository.PostRepository;
+import com.nexus.foreigner_community.service.TranslationJobQueue;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 번역 파이프라인 이전에 작성된 글/댓글을 큐에 넣는다.
+ * 사용법: java -jar foreigner-community.jar --translate-backfill
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TranslationBackfillRunner implements ApplicationRunner {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final TranslationJobQueue queue;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption("translate-backfill")) {
+            return;
+        }
+        int posts = backfillPosts();
+        int comments = backfillComments();
+        log.info("translation backfill: queued {} posts, {} comments", posts, comments);
+    }
+
+    private int backfillPosts() {
+        int queued = 0;
+        long after = 0;
+        List<Long> ids;
+        while (!(ids = postRepository.findIdsAfter(after, PageRequest.of(0, PAGE_SIZE))).isEmpty()) {
+            for (Long id : ids) {
+                if (queue.enqueueIfAbsent(ContentType.POST, id)) {
+                    queued++;
+                }
+            }
+            after = ids.get(ids.size() - 1);
+        }
+        return queued;
+    }
+
+    private int backfillComments() {
+        int queued = 0;
+        long after = 0;
+        List<Long> ids;
+        while (!(ids = commentRepository.findIdsAfter(after, PageRequest.of(0, PAGE_SIZE))).isEmpty()) {
+            for (Long id : ids) {
+                if (queue.enqueueIfAbsent(ContentType.COMMENT, id)) {
+                    queued++;
+                }
+            }
+            after = ids.get(ids.size() - 1);
+        }
+        return queued;
+    }
+}
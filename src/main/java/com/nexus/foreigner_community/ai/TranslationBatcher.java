@@ -0,0 +1,141 @@
+package com.nexus.foreigner_community.ai;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 짧은 시간 동안 들어온 번역 요청을 (source, target) 별로 모아 한 번의 목록 번역 호출로 보낸다.
+ * 배치는 maxBatchSize 개의 서로 다른 문장이 모이거나 첫 요청 후 maxDelay 가 지나면 전송된다.
+ */
+public class TranslationBatcher implements AutoCloseable {
+
+    private record LanguagePair(String source, String target) {
+    }
+
+    private static final class Batch {
+        final LanguagePair pair;
+        // 같은 배치 안에서 같은 문장은 한 번만 보낸다.
+        final Map<String, List<CompletableFuture<String>>> waiters = new LinkedHashMap<>();
+        ScheduledFuture<?> timer;
+
+        Batch(LanguagePair pair) {
+            this.pair = pair;
+        }
+    }
+
+    private final BatchTranslator translator;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService sender;
+    private final Map<LanguagePair, Batch> pending = new HashMap<>();
+
+    public TranslationBatcher(BatchTranslator translator, int maxBatchSize, Duration maxDelay) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+        this.translator = translator;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "translation-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sender = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    public CompletableFuture<String> submit(String text, String source, String target) {
+        LanguagePair pair = new LanguagePair(source, target);
+        CompletableFuture<String> future = new CompletableFuture<>();
+        Batch full = null;
+        synchronized (this) {
+            Batch batch = pending.get(pair);
+            if (batch == null) {
+                Batch created = new Batch(pair);
+                created.timer = scheduler.schedule(() -> flush(created), maxDelayNanos, TimeUnit.NANOSECONDS);
+                pending.put(pair, created);
+                batch = created;
+            }
+            batch.waiters.computeIfAbsent(text, t -> new ArrayList<>(1)).add(future);
+            if (batch.waiters.size() >= maxBatchSize) {
+                pending.remove(pair);
+                batch.timer.cancel(false);
+                full = batch;
+            }
+        }
+        if (full != null) {
+            Batch ready = full;
+            sender.execute(() -> send(ready));
+        }
+        return future;
+    }
+
+    public List<CompletableFuture<String>> submitAll(List<String> texts, String source, String target) {
+        List<CompletableFuture<String>> futures = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            futures.add(submit(text, source, target));
+        }
+        return futures;
+    }
+
+    private void flush(Batch batch) {
+        synchronized (this) {
+            if (pending.get(batch.pair) != batch) {
+                return;
+            }
+            pending.remove(batch.pair);
+        }
+        sender.execute(() -> send(batch));
+    }
+
+    private void send(Batch batch) {
+        // 기다리는 호출자가 모두 취소했거나 시간 초과된 문장은 보내지 않는다.
+        List<String> texts = new ArrayList<>(batch.waiters.size());
+        batch.waiters.forEach((text, waiters) -> {
+            if (waiters.stream().anyMatch(f -> !f.isDone())) {
+                texts.add(text);
+            }
+        });
+        if (texts.isEmpty()) {
+            return;
+        }
+        try {
+            List<String> results = translator.translate(texts, batch.pair.source(), batch.pair.target());
+            if (results.size() != texts.size()) {
+                throw new IllegalStateException("expected " + texts.size() + " translations but got " + results.size());
+            }
+            for (int i = 0; i < texts.size(); i++) {
+                String result = results.get(i);
+                batch.waiters.get(texts.get(i)).forEach(f -> f.complete(result));
+            }
+        } catch (RuntimeException e) {
+            batch.waiters.values().forEach(list -> list.forEach(f -> f.completeExceptionally(e)));
+        }
+    }
+
+    @Override
+    public void close() {
+        List<Batch> remaining;
+        synchronized (this) {
+            remaining = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+        remaining.forEach(batch -> {
+            batch.timer.cancel(false);
+            sender.execute(() -> send(batch));
+        });
+        scheduler.shutdownNow();
+        sender.shutdown();
+    }
+}
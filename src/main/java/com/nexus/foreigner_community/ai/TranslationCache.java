@@ -0,0 +1,66 @@
+package com.nexus.foreigner_community.ai;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.nexus.foreigner_community.entity.TranslationCacheEntry;
+import com.nexus.foreigner_community.repository.TranslationCacheRepository;
+
+/**
+ * 번역 결과 캐시. 메모리(Caffeine, W-TinyLFU)를 먼저 보고, 없으면 translation_cache 테이블을 본다.
+ * 새 번역은 두 곳에 동시에 기록되므로 재시작 후에도 다시 API를 호출하지 않는다.
+ */
+@Component
+public class TranslationCache {
+
+    private final TranslationCacheRepository repository;
+    private final Cache<TranslationKey, String> memory;
+
+    public TranslationCache(TranslationCacheRepository repository,
+                            @Value("${translate.cache.max-chars}") long maxChars) {
+        this.repository = repository;
+        // 엔트리 개수가 아니라 저장된 문자 수 기준으로 크기를 제한한다.
+        this.memory = Caffeine.newBuilder()
+                .maximumWeight(maxChars)
+                .weigher((TranslationKey key, String value) -> value.length() + key.textHash().length())
+                .recordStats()
+                .build();
+    }
+
+    public Optional<String> get(TranslationKey key) {
+        String cached = memory.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<String> stored = repository
+                .findByTextHashAndSourceLangAndTargetLang(key.textHash(), key.source(), key.target())
+                .map(TranslationCacheEntry::getTranslatedText);
+        stored.ifPresent(text -> memory.put(key, text));
+        return stored;
+    }
+
+    public void put(TranslationKey key, String translatedText) {
+        memory.put(key, translatedText);
+        try {
+            repository.save(new TranslationCacheEntry(null, key.textHash(), key.source(), key.target(),
+                    translatedText, LocalDateTime.now()));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 같은 번역을 먼저 저장한 경우
+        }
+    }
+
+    public CacheStats stats() {
+        return memory.stats();
+    }
+
+    public long size() {
+        return memory.estimatedSize();
+    }
+}
@@ -0,0 +1,28 @@
+package com.nexus.foreigner_community.ai;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public record TranslationKey(String textHash, String source, String target) {
+
+    public static final String AUTO = "auto";
+
+    public static TranslationKey of(String text, String source, String target) {
+        return new TranslationKey(hash(text), normalize(source), normalize(target));
+    }
+
+    public static String normalize(String lang) {
+        return (lang == null || lang.isBlank()) ? AUTO : lang.toLowerCase();
+    }
+
+    public static String hash(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
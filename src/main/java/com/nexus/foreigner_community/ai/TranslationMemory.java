@@ -0,0 +1,135 @@
+package com.nexus.foreigner_community.ai;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 문장 단위 번역 메모리. 글을 문장으로 나누고 (문장 해시, source, target) 로 캐시를 찾아
+ * 없는 문장만 제공자로 보낸 뒤 원래 순서대로 다시 조립한다.
+ * 재사용한 글자 수와 새로 번역한 글자 수의 비율이 곧 절약한 비용이다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TranslationMemory {
+
+    private final TranslationCache cache;
+    private final TranslationBatcher batcher;
+    private final TranslationScheduler scheduler;
+
+    private final LongAdder reusedChars = new LongAdder();
+    private final LongAdder freshChars = new LongAdder();
+
+    public CompletableFuture<String> translate(String text, String source, String target,
+                                               TranslationRequester requester) {
+        List<SentenceSegmenter.Segment> segments = SentenceSegmenter.split(text);
+        List<CompletableFuture<String>> parts = new ArrayList<>(segments.size());
+        Map<TranslationKey, CompletableFuture<String>> inDocument = new HashMap<>();
+
+        for (SentenceSegmenter.Segment segment : segments) {
+            if (!segment.translatable()) {
+                parts.add(CompletableFuture.completedFuture(segment.text()));
+                continue;
+            }
+            String sentence = SentenceSegmenter.normalize(segment.text());
+            TranslationKey key = TranslationKey.of(sentence, source, target);
+            CompletableFuture<String> seen = inDocument.get(key);
+            if (seen != null) {
+                reusedChars.add(sentence.length());
+                parts.add(seen);
+                continue;
+            }
+            CompletableFuture<String> part = lookupOrTranslate(key, sentence, requester);
+            inDocument.put(key, part);
+            parts.add(part);
+        }
+
+        return CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+                .thenApply(done -> {
+                    StringBuilder result = new StringBuilder(text.length());
+                    parts.forEach(part -> result.append(part.join()));
+                    return result.toString();
+                });
+    }
+
+    private CompletableFuture<String> lookupOrTranslate(TranslationKey key, String sentence,
+                                                        TranslationRequester requester) {
+        Optional<String> cached = cache.get(key);
+        if (cached.isPresent()) {
+            reusedChars.add(sentence.length());
+            return CompletableFuture.completedFuture(cached.get());
+        }
+        freshChars.add(sentence.length());
+
+        // 쿼터 허가를 받은 뒤 배치로 보낸다. 호출자가 결과 future 를 취소하거나 시간 초과시키면
+        // 허가 대기열이나 아직 보내지 않은 배치에서 빠진다.
+        CompletableFuture<String> result = new CompletableFuture<>();
+        CompletableFuture<Void> permit = scheduler.acquire(requester, sentence.length());
+        AtomicReference<CompletableFuture<String>> sent = new AtomicReference<>();
+        permit.whenComplete((granted, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+                return;
+            }
+            if (result.isDone()) {
+                return;
+            }
+            CompletableFuture<String> submitted = batcher.submit(sentence, key.source(), key.target());
+            sent.set(submitted);
+            submitted.whenComplete((translated, failure) -> {
+                if (failure != null) {
+                    result.completeExceptionally(failure);
+                } else {
+                    result.complete(translated);
+                }
+            });
+            if (result.isDone()) {
+                submitted.cancel(false);
+            }
+        });
+        result.whenComplete((translated, error) -> {
+            if (error == null) {
+                cache.put(key, translated);
+                return;
+            }
+            permit.cancel(false);
+            CompletableFuture<String> submitted = sent.get();
+            if (submitted != null) {
+                submitted.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 한 문장을 번역한다. 반환된 future 를 취소하면 아직 제공자로 보내지 않은 요청은 보내지 않는다.
+     */
+    public CompletableFuture<String> translateSentence(String sentence, String source, String target,
+                                                      TranslationRequester requester) {
+        String normalized = SentenceSegmenter.normalize(sentence);
+        return lookupOrTranslate(TranslationKey.of(normalized, source, target), normalized, requester);
+    }
+
+    public long reusedChars() {
+        return reusedChars.sum();
+    }
+
+    public long freshChars() {
+        return freshChars.sum();
+    }
+
+    public double reuseRatio() {
+        long reused = reusedChars.sum();
+        long total = reused + freshChars.sum();
+        return total == 0 ? 0 : (double) reused / total;
+    }
+}
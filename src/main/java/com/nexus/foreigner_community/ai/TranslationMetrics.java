@@ -0,0 +1,77 @@
+package com.nexus.foreigner_community.ai;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.nexus.foreigner_community.ai.TranslationRequester.Priority;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 번역 캐시, 문장 메모리, 쿼터 스케줄러의 상태를 게이지/카운터로 내보낸다.
+ * 값은 스크랩할 때마다 각 컴포넌트에서 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TranslationMetrics implements MeterBinder {
+
+    private final TranslationCache cache;
+    private final TranslationMemory memory;
+    private final TranslationScheduler scheduler;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("translation.cache.requests", cache, c -> c.stats().hitCount())
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("translation.cache.requests", cache, c -> c.stats().missCount())
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("translation.cache.evictions", cache, c -> c.stats().evictionCount())
+                .register(registry);
+        Gauge.builder("translation.cache.size", cache, TranslationCache::size)
+                .register(registry);
+
+        FunctionCounter.builder("translation.memory.chars", memory, TranslationMemory::reusedChars)
+                .tag("source", "reused")
+                .register(registry);
+        FunctionCounter.builder("translation.memory.chars", memory, TranslationMemory::freshChars)
+                .tag("source", "fresh")
+                .register(registry);
+
+        Gauge.builder("translation.quota.spent.today", scheduler, s -> s.stats().spentToday())
+                .baseUnit("chars")
+                .register(registry);
+        Gauge.builder("translation.quota.budget.daily", scheduler, s -> s.stats().dailyBudget())
+                .baseUnit("chars")
+                .register(registry);
+        FunctionCounter.builder("translation.quota.rejected", scheduler, s -> s.stats().rejected())
+                .register(registry);
+        for (Priority priority : Priority.values()) {
+            String tag = priority.name().toLowerCase();
+            Gauge.builder("translation.quota.queue.depth", scheduler, s -> s.stats().classes().get(priority).queueDepth())
+                    .tag("priority", tag)
+                    .register(registry);
+            FunctionCounter.builder("translation.quota.granted", scheduler, s -> s.stats().classes().get(priority).granted())
+                    .tag("priority", tag)
+                    .register(registry);
+            FunctionTimer.builder("translation.quota.wait", scheduler,
+                            s -> s.stats().classes().get(priority).granted(),
+                            s -> s.stats().classes().get(priority).totalWaitNanos(), TimeUnit.NANOSECONDS)
+                    .description("time from request to quota grant")
+                    .tag("priority", tag)
+                    .register(registry);
+            Gauge.builder("translation.quota.wait.max", scheduler,
+                            s -> s.stats().classes().get(priority).maxWaitNanos() / 1e9)
+                    .baseUnit("seconds")
+                    .tag("priority", tag)
+                    .register(registry);
+        }
+    }
+}
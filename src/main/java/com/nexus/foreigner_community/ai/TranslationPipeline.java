@@ -0,0 +1,123 @@
+package com.nexus.foreigner_community.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.nexus.foreigner_community.entity.Comment;
+import com.nexus.foreigner_community.entity.ContentType;
+import com.nexus.foreigner_community.entity.Post;
+import com.nexus.foreigner_community.entity.TranslationJob;
+import com.nexus.foreigner_community.repository.CommentRepository;
+import com.nexus.foreigner_community.repository.PostRepository;
+import com.nexus.foreigner_community.service.PostTranslationService;
+import com.nexus.foreigner_community.service.TranslationJobQueue;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 저장된 글/댓글을 지원하는 모든 언어로 미리 번역해 post_translation 에 넣는다.
+ * translation_job 큐를 주기적으로 읽어 가상 스레드에서 처리한다.
+ */
+@Component
+public class TranslationPipeline {
+
+    private final TranslationJobQueue queue;
+    private final TranslationService translationService;
+    private final PostTranslationService postTranslationService;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final List<String> targetLanguages;
+    private final Semaphore permits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public TranslationPipeline(TranslationJobQueue queue, TranslationService translationService,
+                               PostTranslationService postTranslationService, PostRepository postRepository,
+                               CommentRepository commentRepository,
+                               @Value("${translate.target-languages}") List<String> targetLanguages,
+                               @Value("${translate.pipeline.concurrency}") int concurrency) {
+        this.queue = queue;
+        this.translationService = translationService;
+        this.postTranslationService = postTranslationService;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.targetLanguages = targetLanguages;
+        this.permits = new Semaphore(concurrency);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        queue.requeueUnfinished();
+    }
+
+    @Scheduled(fixedDelayString = "${translate.pipeline.poll-ms}")
+    public void poll() {
+        List<TranslationJob> jobs = queue.claim(permits.availablePermits());
+        for (TranslationJob job : jobs) {
+            permits.acquireUninterruptibly();
+            executor.execute(() -> {
+                try {
+                    process(job.getContentType(), job.getContentId());
+                    queue.complete(job);
+                } catch (RuntimeException e) {
+                    queue.fail(job, e);
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+    }
+
+    void process(ContentType contentType, Long contentId) {
+        String title;
+        String content;
+        if (contentType == ContentType.POST) {
+            Post post = postRepository.findById(contentId).orElse(null);
+            if (post == null) {
+                return;
+            }
+            title = post.getTitle();
+            content = post.getContent();
+        } else {
+            Comment comment = commentRepository.findById(contentId).orElse(null);
+            if (comment == null) {
+                return;
+            }
+            title = null;
+            content = comment.getContent();
+        }
+
+        String sourceHash = PostTranslationService.sourceHash(title, content);
+        String source = translationService.detect(content);
+        List<String> texts = new ArrayList<>(2);
+        if (title != null) {
+            texts.add(title);
+        }
+        texts.add(content);
+
+        for (String target : targetLanguages) {
+            if (target.equals(source)) {
+                postTranslationService.save(contentType, contentId, target, source, title, content, sourceHash);
+                continue;
+            }
+            List<String> translated = translationService.translateAllOrThrow(texts, source, target);
+            String translatedTitle = title == null ? null : translated.get(0);
+            String translatedContent = translated.get(translated.size() - 1);
+            postTranslationService.save(contentType, contentId, target, source, translatedTitle, translatedContent,
+                    sourceHash);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
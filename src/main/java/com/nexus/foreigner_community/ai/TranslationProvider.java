@@ -0,0 +1,14 @@
+package com.nexus.foreigner_community.ai;
+
+/**
+ * 번역 API 제공자. Google Cloud Translate 외에 부하 테스트용 로컬 스텁 서버 구현이 있다.
+ */
+public interface TranslationProvider extends BatchTranslator {
+
+    String name();
+
+    /**
+     * 감지된 언어 코드. 판단할 수 없으면 {@link TranslationKey#AUTO}.
+     */
+    String detect(String text);
+}
@@ -0,0 +1,18 @@
+package com.nexus.foreigner_community.ai;
+
+/**
+ * 번역을 요청한 주체. 쿼터 스케줄러가 우선순위와 사용자별 공정 분배에 사용한다.
+ */
+public record TranslationRequester(String user, Priority priority) {
+
+    public enum Priority {
+        INTERACTIVE, BACKGROUND
+    }
+
+    public static final TranslationRequester ANONYMOUS = new TranslationRequester("anonymous", Priority.INTERACTIVE);
+    public static final TranslationRequester BACKGROUND = new TranslationRequester("system", Priority.BACKGROUND);
+
+    public static TranslationRequester interactive(String user) {
+        return user == null ? ANONYMOUS : new TranslationRequester(user, Priority.INTERACTIVE);
+    }
+}
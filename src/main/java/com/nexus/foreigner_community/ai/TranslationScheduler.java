@@ -0,0 +1,240 @@
+package com.nexus.foreigner_community.ai;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import com.nexus.foreigner_community.ai.TranslationRequester.Priority;
+
+/**
+ * 제공자로 보내는 글자 수를 토큰 버킷(초당 글자 수)과 하루 글자 예산으로 제한한다.
+ * <ul>
+ * <li>INTERACTIVE 요청이 항상 BACKGROUND 보다 먼저 허가된다.</li>
+ * <li>같은 우선순위 안에서는 사용자별 대기열을 돌아가며 하나씩 허가한다.</li>
+ * <li>남은 하루 예산이 interactiveReserve 비율 아래로 내려가면 BACKGROUND 는 다음 날까지 미뤄진다.
+ *     INTERACTIVE 는 예산을 모두 쓴 경우에만 거절된다.</li>
+ * </ul>
+ * 기다리는 요청이 있으면 버킷이 그 요청만큼 찰 시각(또는 BACKGROUND 가 예산 때문에 막혔으면 다음 날 0시)에
+ * 한 번 깨어난다. 새 요청이 오거나 기다리던 요청이 취소되어도 다시 배정한다.
+ */
+public class TranslationScheduler implements AutoCloseable {
+
+    private static final class Ticket {
+        final CompletableFuture<Void> permit = new CompletableFuture<>();
+        final int chars;
+        final long enqueuedAt;
+
+        Ticket(int chars, long enqueuedAt) {
+            this.chars = chars;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+
+    public record ClassStats(int queueDepth, long granted, long totalWaitNanos, long maxWaitNanos) {
+    }
+
+    public record Stats(long spentToday, long dailyBudget, long spentTotal, long rejected,
+                        Map<Priority, ClassStats> classes) {
+    }
+
+    private static final class PriorityQueue {
+        // 사용자 -> 대기 중인 요청. 순서가 곧 라운드 로빈 순서이다.
+        final LinkedHashMap<String, ArrayDeque<Ticket>> users = new LinkedHashMap<>();
+        int depth;
+        long granted;
+        long totalWaitNanos;
+        long maxWaitNanos;
+    }
+
+    private final double charsPerNano;
+    private final double burst;
+    private final long dailyBudget;
+    private final long reserve;
+    private final LongSupplier nanoClock;
+    private final Clock wallClock;
+    private final ScheduledExecutorService timer;
+    private final Map<Priority, PriorityQueue> queues = new EnumMap<>(Priority.class);
+
+    private double tokens;
+    private long lastRefill;
+    private LocalDate day;
+    private long spentToday;
+    private long spentTotal;
+    private long rejected;
+    private ScheduledFuture<?> tick;
+    private long tickAt;
+
+    public TranslationScheduler(long charsPerSecond, long burstChars, long dailyBudget, double interactiveReserve) {
+        this(charsPerSecond, burstChars, dailyBudget, interactiveReserve, System::nanoTime, Clock.systemDefaultZone());
+    }
+
+    TranslationScheduler(long charsPerSecond, long burstChars, long dailyBudget, double interactiveReserve,
+                         LongSupplier nanoClock, Clock wallClock) {
+        this.charsPerNano = charsPerSecond / 1e9;
+        this.burst = burstChars;
+        this.dailyBudget = dailyBudget;
+        this.reserve = (long) (dailyBudget * interactiveReserve);
+        this.nanoClock = nanoClock;
+        this.wallClock = wallClock;
+        this.tokens = burstChars;
+        this.lastRefill = nanoClock.getAsLong();
+        this.day = LocalDate.now(wallClock);
+        this.timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "translation-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (Priority priority : Priority.values()) {
+            queues.put(priority, new PriorityQueue());
+        }
+    }
+
+    /**
+     * chars 글자를 보낼 수 있게 되면 완료되는 future. 취소하면 대기열에서 빠지고 예산을 쓰지 않는다.
+     * 하루 예산을 모두 썼으면 {@link TranslationUnavailableException} 으로 완료된다.
+     */
+    public CompletableFuture<Void> acquire(TranslationRequester requester, int chars) {
+        Ticket ticket = new Ticket(chars, nanoClock.getAsLong());
+        synchronized (this) {
+            PriorityQueue queue = queues.get(requester.priority());
+            queue.users.computeIfAbsent(requester.user(), u -> new ArrayDeque<>()).addLast(ticket);
+            queue.depth++;
+        }
+        // 취소된 요청이 대기열 맨 앞을 막고 있을 수 있으므로 다시 배정한다.
+        ticket.permit.whenComplete((granted, error) -> {
+            if (ticket.permit.isCancelled()) {
+                dispatch();
+            }
+        });
+        dispatch();
+        return ticket.permit;
+    }
+
+    synchronized void dispatch() {
+        long now = nanoClock.getAsLong();
+        refill(now);
+        long wait = dispatch(Priority.INTERACTIVE, now);
+        // INTERACTIVE 가 남아 있으면 BACKGROUND 는 그쪽이 빠질 때까지 기다린다.
+        if (queues.get(Priority.INTERACTIVE).users.isEmpty()) {
+            wait = Math.min(wait, dispatch(Priority.BACKGROUND, now));
+        }
+        scheduleWake(now, wait);
+    }
+
+    // 허가할 수 있는 만큼 허가하고, 맨 앞 요청이 허가될 수 있을 때까지 남은 나노초를 돌려준다 (없으면 MAX_VALUE).
+    private long dispatch(Priority priority, long now) {
+        PriorityQueue queue = queues.get(priority);
+        while (!queue.users.isEmpty()) {
+            Iterator<Map.Entry<String, ArrayDeque<Ticket>>> it = queue.users.entrySet().iterator();
+            Map.Entry<String, ArrayDeque<Ticket>> next = it.next();
+            ArrayDeque<Ticket> tickets = next.getValue();
+            Ticket ticket = tickets.peekFirst();
+            if (ticket.permit.isDone()) {
+                // 호출자가 이미 취소했거나 시간 초과됨
+                removeHead(queue, it, next);
+                continue;
+            }
+
+            long remaining = dailyBudget - spentToday;
+            if (ticket.chars > remaining && priority == Priority.INTERACTIVE) {
+                removeHead(queue, it, next);
+                rejected++;
+                ticket.permit.completeExceptionally(new TranslationUnavailableException("daily translation budget exhausted"));
+                continue;
+            }
+            if (priority == Priority.BACKGROUND && remaining - ticket.chars < reserve) {
+                return untilTomorrow();
+            }
+            // 버킷보다 큰 요청은 버킷이 가득 찼을 때 빚을 지고 보낸다.
+            double needed = Math.min(ticket.chars, burst);
+            if (tokens < needed) {
+                return Math.max(1, (long) Math.ceil((needed - tokens) / charsPerNano));
+            }
+
+            tokens -= ticket.chars;
+            spentToday += ticket.chars;
+            spentTotal += ticket.chars;
+            long waited = now - ticket.enqueuedAt;
+            queue.granted++;
+            queue.totalWaitNanos += waited;
+            queue.maxWaitNanos = Math.max(queue.maxWaitNanos, waited);
+            removeHead(queue, it, next);
+            // 방금 허가받은 사용자는 맨 뒤로 보낸다.
+            if (!tickets.isEmpty()) {
+                queue.users.remove(next.getKey());
+                queue.users.put(next.getKey(), tickets);
+            }
+            ticket.permit.complete(null);
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private void removeHead(PriorityQueue queue, Iterator<Map.Entry<String, ArrayDeque<Ticket>>> it,
+                            Map.Entry<String, ArrayDeque<Ticket>> entry) {
+        entry.getValue().pollFirst();
+        queue.depth--;
+        if (entry.getValue().isEmpty()) {
+            it.remove();
+        }
+    }
+
+    private void refill(long now) {
+        LocalDate today = LocalDate.now(wallClock);
+        if (!today.equals(day)) {
+            day = today;
+            spentToday = 0;
+        }
+        tokens = Math.min(burst, tokens + (now - lastRefill) * charsPerNano);
+        lastRefill = now;
+    }
+
+    private long untilTomorrow() {
+        Duration left = Duration.between(wallClock.instant(),
+                day.plusDays(1).atStartOfDay(wallClock.getZone()).toInstant());
+        return Math.max(1, left.toNanos());
+    }
+
+    // 이미 더 이른 깨어남이 잡혀 있으면 그대로 둔다.
+    private void scheduleWake(long now, long wait) {
+        if (wait == Long.MAX_VALUE) {
+            return;
+        }
+        long at = now + wait;
+        if (tick != null) {
+            if (tickAt - at <= 0) {
+                return;
+            }
+            tick.cancel(false);
+        }
+        tickAt = at;
+        tick = timer.schedule(() -> {
+            synchronized (this) {
+                tick = null;
+            }
+            dispatch();
+        }, wait, TimeUnit.NANOSECONDS);
+    }
+
+    public synchronized Stats stats() {
+        Map<Priority, ClassStats> classes = new EnumMap<>(Priority.class);
+        queues.forEach((priority, queue) -> classes.put(priority,
+                new ClassStats(queue.depth, queue.granted, queue.totalWaitNanos, queue.maxWaitNanos)));
+        return new Stats(spentToday, dailyBudget, spentTotal, rejected, classes);
+    }
+
+    @Override
+    public void close() {
+        timer.shutdownNow();
+    }
+}
@@ -0,0 +1,110 @@
+package com.nexus.foreigner_community.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class TranslationService {
+
+    private final TranslationProvider provider;
+    private final TranslationMemory memory;
+    private final TranslationCache cache;
+    private final LanguageIdentifier languageIdentifier;
+    private final long requestTimeoutMs;
+
+    public TranslationService(TranslationProvider provider, TranslationMemory memory, TranslationCache cache,
+                              LanguageIdentifier languageIdentifier,
+                              @Value("${translate.resilience.timeout-ms}") long timeoutMs,
+                              @Value("${translate.batch.max-delay-ms}") long maxDelayMs) {
+        this.provider = provider;
+        this.memory = memory;
+        this.cache = cache;
+        this.languageIdentifier = languageIdentifier;
+        this.requestTimeoutMs = timeoutMs + maxDelayMs;
+    }
+
+    public String detect(String text) {
+        String local = languageIdentifier.detect(text);
+        if (local != null) {
+            return local;
+        }
+        // 짧거나 애매한 문장만 원격 감지로 넘긴다.
+        try {
+            return provider.detect(text);
+        } catch (TranslationUnavailableException e) {
+            return TranslationKey.AUTO;
+        }
+    }
+
+    public String translate(String text, String source, String target) {
+        return translate(text, source, target, TranslationRequester.ANONYMOUS);
+    }
+
+    public String translate(String text, String source, String target, TranslationRequester requester) {
+        return translateAsync(text, source, target, requester).join();
+    }
+
+    public List<String> translateAll(List<String> texts, String source, String target,
+                                     TranslationRequester requester) {
+        List<CompletableFuture<String>> futures = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            futures.add(translateAsync(text, source, target, requester));
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    /**
+     * 문장 단위로 번역 메모리를 찾고, 없는 문장만 배치로 번역한다.
+     * 제공자가 실패하거나 제한 시간을 넘기면 원문을 그대로 돌려준다(캐시하지 않음).
+     */
+    public CompletableFuture<String> translateAsync(String text, String source, String target,
+                                                    TranslationRequester requester) {
+        return lookupOrTranslate(text, source, target, requester)
+                .exceptionally(e -> text)
+                .completeOnTimeout(text, requestTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 원문 대체 없이 번역한다. 하나라도 실패하면 {@link TranslationUnavailableException}.
+     * 결과를 저장해 두는 작업용. requester 를 주지 않으면 BACKGROUND 우선순위로 쿼터를 받는다.
+     * BACKGROUND 는 쿼터를 기다리는 시간에 제한이 없다 (예산이 빠듯하면 다음 날까지 미뤄진다).
+     * 허가를 받은 뒤의 제공자 호출은 어느 쪽이든 translate.resilience.timeout-ms 로 끊긴다.
+     */
+    public List<String> translateAllOrThrow(List<String> texts, String source, String target) {
+        return translateAllOrThrow(texts, source, target, TranslationRequester.BACKGROUND);
+    }
+
+    public List<String> translateAllOrThrow(List<String> texts, String source, String target,
+                                            TranslationRequester requester) {
+        List<CompletableFuture<String>> futures = new ArrayList<>(texts.size());
+        boolean interactive = requester.priority() == TranslationRequester.Priority.INTERACTIVE;
+        for (String text : texts) {
+            CompletableFuture<String> future = lookupOrTranslate(text, source, target, requester);
+            futures.add(interactive ? future.orTimeout(requestTimeoutMs, TimeUnit.MILLISECONDS) : future);
+        }
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            throw new TranslationUnavailableException("translation failed", e.getCause());
+        }
+    }
+
+    private CompletableFuture<String> lookupOrTranslate(String text, String source, String target,
+                                                        TranslationRequester requester) {
+        return memory.translate(text, TranslationKey.normalize(source), TranslationKey.normalize(target), requester);
+    }
+
+    public TranslationCache getCache() {
+        return cache;
+    }
+
+    public TranslationMemory getMemory() {
+        return memory;
+    }
+}
@@ -0,0 +1,13 @@
+package com.nexus.foreigner_community.ai;
+
+public class TranslationUnavailableException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public TranslationUnavailableException(String message) {
+        super(message);
+    }
+
+    public TranslationUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
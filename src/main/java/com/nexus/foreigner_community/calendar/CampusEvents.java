@@ -0,0 +1,84 @@
+package com.nexus.foreigner_community.calendar;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.nexus.foreigner_community.entity.CampusEvent;
+import com.nexus.foreigner_community.live.GeoItem;
+import com.nexus.foreigner_community.repository.CampusEventRepository;
+import com.nexus.foreigner_community.service.CampusEventChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 행사 달력 조회. 시작할 때 행사를 id 순으로 나눠 읽어 {@link EventCalendar} 를 한 번에 만들고,
+ * 그 뒤로는 행사 변경 이벤트를 커밋 뒤에 받아 한 건씩 고친다. 조회는 DB 를 읽지 않는다.
+ */
+@Slf4j
+@Component
+public class CampusEvents {
+
+    public static final int MAX_LIMIT = 500;
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    private final EventCalendar calendar = new EventCalendar();
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CampusEvents(CampusEventRepository campusEventRepository, ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+        List<EventInterval> intervals = new ArrayList<>();
+        long after = 0;
+        while (true) {
+            List<CampusEvent> page = campusEventRepository.findAfter(after, PageRequest.of(0, LOAD_PAGE_SIZE));
+            if (page.isEmpty()) {
+                break;
+            }
+            page.forEach(event -> intervals.add(interval(event)));
+            after = page.get(page.size() - 1).getId();
+        }
+        calendar.load(intervals);
+        log.info("event calendar loaded ({} events)", calendar.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(CampusEventChangedEvent changed) {
+        CampusEvent event = changed.event();
+        if (changed.change() == CampusEventChangedEvent.Change.DELETED) {
+            calendar.remove(event.getId());
+            return;
+        }
+        EventInterval interval = interval(event);
+        calendar.put(interval);
+        if (changed.change() == CampusEventChangedEvent.Change.CREATED && !Double.isNaN(interval.lat())) {
+            eventPublisher.publishEvent(new GeoItem("event", String.valueOf(interval.id()), interval.lat(),
+                    interval.lon(), interval.title(), "/api/events/" + interval.id(), Instant.now()));
+        }
+    }
+
+    public List<EventInterval> between(LocalDateTime from, LocalDateTime to, String building, int limit) {
+        return calendar.overlapping(millis(from), millis(to), building, Math.min(limit, MAX_LIMIT));
+    }
+
+    public List<EventInterval> now(String building, int limit) {
+        return calendar.happeningAt(System.currentTimeMillis(), building, Math.min(limit, MAX_LIMIT));
+    }
+
+    private static EventInterval interval(CampusEvent event) {
+        return new EventInterval(event.getId(), event.getTitle(), event.getBuilding(),
+                event.getLatitude() == null ? Double.NaN : event.getLatitude(),
+                event.getLongitude() == null ? Double.NaN : event.getLongitude(),
+                millis(event.getStartsAt()), millis(event.getEndsAt()));
+    }
+
+    private static long millis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
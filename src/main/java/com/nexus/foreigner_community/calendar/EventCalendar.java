@@ -0,0 +1,99 @@
+package com.nexus.foreigner_community.calendar;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 행사 달력 색인. 전체 구간 트리 하나와 건물별 구간 트리를 두고, 건물을 지정한 조회는 그 건물 트리만 본다.
+ * 쓰기는 한 번에 하나씩 새 트리를 만들어 스냅샷을 바꿔 끼우고, 읽기는 잠금 없이 현재 스냅샷을 쓴다.
+ */
+public final class EventCalendar {
+
+    private record Snapshot(IntervalTree all, Map<String, IntervalTree> byBuilding) {
+    }
+
+    private final Map<Long, EventInterval> byId = new HashMap<>();
+    private volatile Snapshot snapshot = new Snapshot(IntervalTree.EMPTY, Map.of());
+
+    /** 전체를 한꺼번에 다시 만든다 (시작할 때). */
+    public synchronized void load(Collection<EventInterval> intervals) {
+        byId.clear();
+        Map<String, List<EventInterval>> grouped = new HashMap<>();
+        for (EventInterval interval : intervals) {
+            byId.put(interval.id(), interval);
+            if (interval.building() != null) {
+                grouped.computeIfAbsent(interval.building(), b -> new ArrayList<>()).add(interval);
+            }
+        }
+        Map<String, IntervalTree> byBuilding = new HashMap<>();
+        grouped.forEach((building, list) -> byBuilding.put(building, IntervalTree.of(list)));
+        snapshot = new Snapshot(IntervalTree.of(byId.values()), byBuilding);
+    }
+
+    /** 넣거나, 같은 id 가 있으면 바꾼다. */
+    public synchronized void put(EventInterval interval) {
+        Snapshot current = snapshot;
+        IntervalTree all = current.all();
+        Map<String, IntervalTree> byBuilding = new HashMap<>(current.byBuilding());
+        EventInterval previous = byId.put(interval.id(), interval);
+        if (previous != null) {
+            all = all.remove(previous);
+            unlink(byBuilding, previous);
+        }
+        all = all.insert(interval);
+        if (interval.building() != null) {
+            byBuilding.merge(interval.building(), IntervalTree.EMPTY.insert(interval),
+                    (tree, single) -> tree.insert(interval));
+        }
+        snapshot = new Snapshot(all, byBuilding);
+    }
+
+    public synchronized void remove(long id) {
+        EventInterval previous = byId.remove(id);
+        if (previous == null) {
+            return;
+        }
+        Snapshot current = snapshot;
+        Map<String, IntervalTree> byBuilding = new HashMap<>(current.byBuilding());
+        unlink(byBuilding, previous);
+        snapshot = new Snapshot(current.all().remove(previous), byBuilding);
+    }
+
+    public int size() {
+        return snapshot.all().size();
+    }
+
+    /** [from, to) 와 겹치는 행사를 시작 순서로 최대 limit 개. building 이 null 이면 모든 건물. */
+    public List<EventInterval> overlapping(long from, long to, String building, int limit) {
+        Snapshot current = snapshot;
+        IntervalTree tree = building == null ? current.all() : current.byBuilding().get(building);
+        List<EventInterval> result = new ArrayList<>();
+        if (tree != null && limit > 0) {
+            tree.overlapping(from, to, interval -> {
+                result.add(interval);
+                return result.size() < limit;
+            });
+        }
+        return result;
+    }
+
+    /** at 시각에 진행 중인 행사. */
+    public List<EventInterval> happeningAt(long at, String building, int limit) {
+        return overlapping(at, at + 1, building, limit);
+    }
+
+    private static void unlink(Map<String, IntervalTree> byBuilding, EventInterval interval) {
+        if (interval.building() == null) {
+            return;
+        }
+        IntervalTree tree = byBuilding.get(interval.building()).remove(interval);
+        if (tree.size() == 0) {
+            byBuilding.remove(interval.building());
+        } else {
+            byBuilding.put(interval.building(), tree);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.nexus.foreigner_community.calendar;
+
+/**
+ * 달력 색인에 넣는 행사 요약. 시간은 epoch 밀리초의 [start, end) 이다.
+ * 좌표가 없으면 lat/lon 은 NaN, 건물이 없으면 building 은 null.
+ */
+public record EventInterval(long id, String title, String building, double lat, double lon, long start, long end) {
+
+    public boolean overlaps(long from, long to) {
+        return start < to && end > from;
+    }
+}
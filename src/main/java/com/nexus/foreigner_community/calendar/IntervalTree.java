@@ -0,0 +1,191 @@
+package com.nexus.foreigner_community.calendar;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.function.Predicate;
+
+/**
+ * (시작, id) 순서의 treap 에 서브트리의 최대 끝 시각을 더한 구간 트리. 노드는 바뀌지 않고 넣기/빼기는
+ * 경로만 복사한 새 트리를 돌려주므로, 읽는 쪽은 잠금 없이 이전 트리를 계속 쓸 수 있다.
+ * <p>
+ * [from, to) 와 겹치는 구간은 중위 순회하면서 maxEnd 가 from 이하인 서브트리와 시작이 to 이후인 오른쪽을
+ * 건너뛰어 찾는다. 결과는 시작 시각 순서이다. 우선순위는 id 에서 만들므로 같은 내용이면 모양도 같다.
+ */
+public final class IntervalTree {
+
+    public static final IntervalTree EMPTY = new IntervalTree(null);
+
+    private static final Comparator<EventInterval> ORDER = Comparator.comparingLong(EventInterval::start)
+            .thenComparingLong(EventInterval::id);
+
+    private record Node(EventInterval value, int priority, Node left, Node right, long maxEnd, int size) {
+
+        static Node of(EventInterval value, int priority, Node left, Node right) {
+            long maxEnd = value.end();
+            int size = 1;
+            if (left != null) {
+                maxEnd = Math.max(maxEnd, left.maxEnd);
+                size += left.size;
+            }
+            if (right != null) {
+                maxEnd = Math.max(maxEnd, right.maxEnd);
+                size += right.size;
+            }
+            return new Node(value, priority, left, right, maxEnd, size);
+        }
+
+        Node with(Node left, Node right) {
+            return of(value, priority, left, right);
+        }
+    }
+
+    private final Node root;
+
+    private IntervalTree(Node root) {
+        this.root = root;
+    }
+
+    /** 한꺼번에 만든다. 정렬한 뒤 스택으로 데카르트 트리를 쌓으므로 정렬 비용 말고는 선형이다. */
+    public static IntervalTree of(Collection<EventInterval> intervals) {
+        EventInterval[] sorted = intervals.toArray(new EventInterval[0]);
+        Arrays.sort(sorted, ORDER);
+        int n = sorted.length;
+        int[] left = new int[n];
+        int[] right = new int[n];
+        Arrays.fill(left, -1);
+        Arrays.fill(right, -1);
+        int[] stack = new int[n];
+        int top = 0;
+        for (int i = 0; i < n; i++) {
+            if (i > 0 && ORDER.compare(sorted[i - 1], sorted[i]) == 0) {
+                throw new IllegalArgumentException("duplicate interval " + sorted[i].id());
+            }
+            int last = -1;
+            while (top > 0 && priority(sorted[stack[top - 1]]) < priority(sorted[i])) {
+                last = stack[--top];
+            }
+            left[i] = last;
+            if (top > 0) {
+                right[stack[top - 1]] = i;
+            }
+            stack[top++] = i;
+        }
+        return new IntervalTree(top == 0 ? null : freeze(sorted, left, right, stack[0]));
+    }
+
+    public int size() {
+        return root == null ? 0 : root.size;
+    }
+
+    public IntervalTree insert(EventInterval interval) {
+        return new IntervalTree(insert(root, interval, priority(interval)));
+    }
+
+    /** interval 과 시작 시각, id 가 같은 항목을 뺀다. 없으면 같은 트리를 돌려준다. */
+    public IntervalTree remove(EventInterval interval) {
+        Node removed = remove(root, interval);
+        return removed == root ? this : new IntervalTree(removed);
+    }
+
+    /**
+     * [from, to) 와 겹치는 구간을 시작 시각 순서로 visitor 에 넘긴다. visitor 가 false 를 돌려주면 멈춘다.
+     */
+    public void overlapping(long from, long to, Predicate<EventInterval> visitor) {
+        if (root == null || from >= to) {
+            return;
+        }
+        // 재귀 대신 명시적 스택으로 중위 순회한다.
+        ArrayDeque<Node> stack = new ArrayDeque<>();
+        Node node = root;
+        while (node != null || !stack.isEmpty()) {
+            while (node != null && node.maxEnd > from) {
+                stack.push(node);
+                node = node.left;
+            }
+            if (stack.isEmpty()) {
+                return;
+            }
+            node = stack.pop();
+            if (node.value.start() >= to) {
+                return;
+            }
+            if (node.value.end() > from && !visitor.test(node.value)) {
+                return;
+            }
+            node = node.right;
+        }
+    }
+
+    private static Node insert(Node node, EventInterval interval, int priority) {
+        if (node == null) {
+            return Node.of(interval, priority, null, null);
+        }
+        int c = ORDER.compare(interval, node.value);
+        if (c == 0) {
+            throw new IllegalArgumentException("duplicate interval " + interval.id());
+        }
+        if (priority > node.priority) {
+            Node[] parts = split(node, interval);
+            return Node.of(interval, priority, parts[0], parts[1]);
+        }
+        return c < 0 ? node.with(insert(node.left, interval, priority), node.right)
+                : node.with(node.left, insert(node.right, interval, priority));
+    }
+
+    private static Node remove(Node node, EventInterval interval) {
+        if (node == null) {
+            return null;
+        }
+        int c = ORDER.compare(interval, node.value);
+        if (c == 0) {
+            return merge(node.left, node.right);
+        }
+        if (c < 0) {
+            Node left = remove(node.left, interval);
+            return left == node.left ? node : node.with(left, node.right);
+        }
+        Node right = remove(node.right, interval);
+        return right == node.right ? node : node.with(node.left, right);
+    }
+
+    // key 보다 작은 쪽과 큰 쪽으로 나눈다. key 자체는 트리에 없다.
+    private static Node[] split(Node node, EventInterval key) {
+        if (node == null) {
+            return new Node[2];
+        }
+        if (ORDER.compare(node.value, key) < 0) {
+            Node[] parts = split(node.right, key);
+            return new Node[] {node.with(node.left, parts[0]), parts[1]};
+        }
+        Node[] parts = split(node.left, key);
+        return new Node[] {parts[0], node.with(parts[1], node.right)};
+    }
+
+    // a 의 모든 키가 b 의 모든 키보다 작다.
+    private static Node merge(Node a, Node b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        if (a.priority > b.priority) {
+            return a.with(a.left, merge(a.right, b));
+        }
+        return b.with(merge(a, b.left), b.right);
+    }
+
+    private static Node freeze(EventInterval[] sorted, int[] left, int[] right, int i) {
+        Node l = left[i] < 0 ? null : freeze(sorted, left, right, left[i]);
+        Node r = right[i] < 0 ? null : freeze(sorted, left, right, right[i]);
+        return Node.of(sorted[i], priority(sorted[i]), l, r);
+    }
+
+    private static int priority(EventInterval interval) {
+        long z = interval.id() * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        return (int) (z ^ (z >>> 31));
+    }
+}
@@ -0,0 +1,70 @@
+package com.nexus.foreigner_community.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.nexus.foreigner_community.dto.PostPage;
+import com.nexus.foreigner_community.dto.PostSummary;
+import com.nexus.foreigner_community.ranking.BestPosts;
+import com.nexus.foreigner_community.search.PostSearch;
+import com.nexus.foreigner_community.service.PostService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/posts")
+@RequiredArgsConstructor
+public class BoardController {
+
+    private static final int MAX_SIZE = 50;
+
+    private final PostService postService;
+    private final BestPosts bestPosts;
+    private final PostSearch postSearch;
+
+    // 분류가 없으면(전체) 모든 글. 다음 페이지는 응답의 nextCursor 를 cursor 로 넘긴다.
+    // 예: /api/posts?category=맛집/카페&size=20, /api/posts?category=맛집/카페&cursor=MjAyNS0wNS0wMVQx...
+    @GetMapping
+    public PostPage list(@RequestParam(required = false) String category,
+                         @RequestParam(required = false) String cursor,
+                         @RequestParam(defaultValue = "20") int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size must be between 1 and " + MAX_SIZE);
+        }
+        String normalized = normalize(category);
+        try {
+            return postService.list(normalized, cursor, size);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    // 인기 글 (Best 탭). 예: /api/posts/best?category=맛집/카페&size=20
+    @GetMapping("/best")
+    public List<PostSummary> best(@RequestParam(required = false) String category,
+                                  @RequestParam(defaultValue = "20") int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size must be between 1 and " + MAX_SIZE);
+        }
+        return bestPosts.best(normalize(category), size);
+    }
+
+    // 제목, 본문, 댓글, 작성자에서 찾는다. 검색어의 단어가 모두 들어 있는 글만, 관련도 순. 예: /api/posts/search?q=기숙사 신청
+    @GetMapping("/search")
+    public List<PostSummary> search(@RequestParam String q, @RequestParam(defaultValue = "20") int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size must be between 1 and " + MAX_SIZE);
+        }
+        return postSearch.search(q, size);
+    }
+
+    private static String normalize(String category) {
+        return category == null || category.isBlank() || category.equals("전체") ? null : category;
+    }
+}
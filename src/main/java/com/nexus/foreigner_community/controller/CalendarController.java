@@ -0,0 +1,60 @@
+package com.nexus.foreigner_community.controller;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.nexus.foreigner_community.calendar.CampusEvents;
+import com.nexus.foreigner_community.calendar.EventInterval;
+import com.nexus.foreigner_community.entity.CampusEvent;
+import com.nexus.foreigner_community.service.CampusEventService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+public class CalendarController {
+
+    private static final Duration MAX_WINDOW = Duration.ofDays(366);
+
+    private final CampusEvents campusEvents;
+    private final CampusEventService campusEventService;
+
+    // [from, to) 와 겹치는 행사, 시작 순. 기본은 오늘부터 일주일. 예: /api/events?from=2025-05-01T13:00&to=2025-05-01T18:00&building=N14
+    @GetMapping
+    public List<EventInterval> between(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String building,
+            @RequestParam(defaultValue = "100") int limit) {
+        LocalDateTime start = from != null ? from : LocalDate.now().atStartOfDay();
+        LocalDateTime end = to != null ? to : start.plusWeeks(1);
+        if (!end.isAfter(start) || Duration.between(start, end).compareTo(MAX_WINDOW) > 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "window must be positive and at most a year");
+        }
+        return campusEvents.between(start, end, building, limit);
+    }
+
+    // 지금 진행 중인 행사. 예: /api/events/now?building=N14
+    @GetMapping("/now")
+    public List<EventInterval> now(@RequestParam(required = false) String building,
+                                   @RequestParam(defaultValue = "100") int limit) {
+        return campusEvents.now(building, limit);
+    }
+
+    @GetMapping("/{id}")
+    public CampusEvent event(@PathVariable Long id) {
+        return campusEventService.getEvent(id);
+    }
+}
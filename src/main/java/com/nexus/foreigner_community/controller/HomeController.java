@@ -1,22 +1,39 @@
 package com.nexus.foreigner_community.controller;
 
+import java.util.Locale;
+import java.util.Map;
+
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 
+import com.nexus.foreigner_community.view.ContentChangedEvent;
+import com.nexus.foreigner_community.view.FragmentCache;
+
+import lombok.RequiredArgsConstructor;
+
 @Controller
+@RequiredArgsConstructor
 public class HomeController {
 
+    private final FragmentCache fragmentCache;
+
     @GetMapping("/")
-    public String home(Model model) {
+    public String home(Model model, Locale locale) {
+        model.addAttribute("header", header(locale));
         model.addAttribute("name", "Yonghee");
         return "index";
     }
 
     @GetMapping("/about")
-    public String about(Model model) {
+    public String about(Model model, Locale locale) {
+        model.addAttribute("header", header(locale));
         return "about";
     }
 
+    private String header(Locale locale) {
+        return fragmentCache.render("header", "header", ContentChangedEvent.LAYOUT, locale, Map.of());
+    }
+
 
 }
\ No newline at end of file
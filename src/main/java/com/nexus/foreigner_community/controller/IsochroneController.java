@@ -0,0 +1,54 @@
+package com.nexus.foreigner_community.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.nexus.foreigner_community.DataNotFoundException;
+import com.nexus.foreigner_community.map.CampusIsochrones;
+import com.nexus.foreigner_community.map.Isochrone;
+import com.nexus.foreigner_community.map.PoiType;
+import com.nexus.foreigner_community.map.RoutingProfile;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/isochrone")
+@RequiredArgsConstructor
+public class IsochroneController {
+
+    private static final int MAX_ORIGINS = 50;
+
+    private final CampusIsochrones campusIsochrones;
+
+    // 출발점을 여러 개 주면 병렬로 계산한다. 예: /api/isochrone?origin=N14&origin=36.6283,127.4562&minutes=5&type=CAFE
+    @GetMapping
+    public List<Isochrone> isochrones(@RequestParam("origin") List<String> origins,
+                                      @RequestParam(defaultValue = "5") int minutes,
+                                      @RequestParam(defaultValue = "WALKING") RoutingProfile profile,
+                                      @RequestParam(value = "type", required = false) Set<PoiType> types) {
+        if (origins.size() > MAX_ORIGINS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "at most " + MAX_ORIGINS + " origins");
+        }
+        List<Optional<Isochrone>> results;
+        try {
+            results = campusIsochrones.computeAll(origins, minutes, profile, types == null ? Set.of() : types);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+        List<Isochrone> isochrones = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            String origin = origins.get(i);
+            isochrones.add(results.get(i).orElseThrow(() -> new DataNotFoundException("unknown origin " + origin)));
+        }
+        return isochrones;
+    }
+}
@@ -0,0 +1,33 @@
+package com.nexus.foreigner_community.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.nexus.foreigner_community.live.LiveFeed;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/live")
+@RequiredArgsConstructor
+public class LiveController {
+
+    private final LiveFeed liveFeed;
+
+    // 지도 화면의 영역을 구독한다. 예: /api/live/subscribe?south=36.625&west=127.452&north=36.632&east=127.462
+    @GetMapping(path = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestParam double south, @RequestParam double west,
+                                @RequestParam double north, @RequestParam double east) {
+        try {
+            return liveFeed.subscribe(south, west, north, east);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+}
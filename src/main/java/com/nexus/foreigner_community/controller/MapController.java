@@ -0,0 +1,70 @@
+package com.nexus.foreigner_community.controller;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.nexus.foreigner_community.DataNotFoundException;
+import com.nexus.foreigner_community.map.CampusMap;
+import com.nexus.foreigner_community.map.NearbyPoi;
+import com.nexus.foreigner_community.map.Poi;
+import com.nexus.foreigner_community.map.PoiAutocomplete;
+import com.nexus.foreigner_community.map.PoiType;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/map")
+@RequiredArgsConstructor
+public class MapController {
+
+    private final CampusMap campusMap;
+    private final PoiAutocomplete poiAutocomplete;
+
+    // 예: /api/map/pois/nearest?lat=36.6285&lon=127.4563&k=10&type=ATM&type=PRINTER
+    @GetMapping("/pois/nearest")
+    public List<NearbyPoi> nearest(@RequestParam double lat, @RequestParam double lon,
+                                   @RequestParam(defaultValue = "10") int k,
+                                   @RequestParam(value = "type", required = false) Set<PoiType> types,
+                                   @RequestParam(value = "radius", required = false) Double radiusMeters) {
+        return campusMap.nearest(lat, lon, k, types == null ? Set.of() : types,
+                radiusMeters == null ? Double.POSITIVE_INFINITY : radiusMeters);
+    }
+
+    @GetMapping("/pois")
+    public List<Poi> within(@RequestParam double south, @RequestParam double west,
+                            @RequestParam double north, @RequestParam double east,
+                            @RequestParam(value = "type", required = false) Set<PoiType> types,
+                            @RequestParam(defaultValue = "" + CampusMap.MAX_RESULTS) int limit) {
+        return campusMap.within(south, west, north, east, types == null ? Set.of() : types, limit);
+    }
+
+    @GetMapping("/pois/{id}")
+    public Poi poi(@PathVariable long id) {
+        return campusMap.find(id).orElseThrow(() -> new DataNotFoundException("poi not found"));
+    }
+
+    // 이름/별칭/건물 번호가 정확히 같은 POI. 예: /api/map/pois/named?name=중앙도서관
+    @GetMapping("/pois/named")
+    public List<Poi> named(@RequestParam String name) {
+        return campusMap.findByName(name);
+    }
+
+    // 한글(자모 단위 부분 입력 포함), 로마자, 영어 이름/별칭 모두 받는다. 예: /api/map/autocomplete?q=도서고
+    // limit 가 MAX_LIMIT 보다 크면 MAX_LIMIT 개까지만 준다.
+    @GetMapping("/autocomplete")
+    public List<Poi> autocomplete(@RequestParam String q,
+                                  @RequestParam(defaultValue = "" + PoiAutocomplete.MAX_LIMIT) int limit) {
+        if (limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be positive");
+        }
+        return poiAutocomplete.suggest(q, limit);
+    }
+}
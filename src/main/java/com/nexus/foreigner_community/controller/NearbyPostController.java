@@ -0,0 +1,62 @@
+package com.nexus.foreigner_community.controller;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.nexus.foreigner_community.DataNotFoundException;
+import com.nexus.foreigner_community.map.Poi;
+import com.nexus.foreigner_community.nearby.NearbyPost;
+import com.nexus.foreigner_community.nearby.NearbyPosts;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/posts")
+@RequiredArgsConstructor
+public class NearbyPostController {
+
+    private final NearbyPosts nearbyPosts;
+
+    // 좌표나 건물 번호를 중심으로 한다. 예: /api/posts/nearby?lat=36.6285&lon=127.4563&radius=300&category=맛집/카페
+    @GetMapping("/nearby")
+    public List<NearbyPost> nearby(@RequestParam(required = false) Double lat,
+                                   @RequestParam(required = false) Double lon,
+                                   @RequestParam(required = false) String building,
+                                   @RequestParam(defaultValue = "300") double radius,
+                                   @RequestParam(value = "category", required = false) Set<String> categories,
+                                   @RequestParam(defaultValue = "20") int limit) {
+        if (lat == null || lon == null) {
+            if (building == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "lat and lon, or building, are required");
+            }
+            Poi center = nearbyPosts.building(building)
+                    .orElseThrow(() -> new DataNotFoundException("unknown building " + building));
+            lat = center.lat();
+            lon = center.lon();
+        }
+        if (!(-90 <= lat && lat <= 90 && -180 <= lon && lon <= 180)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "lat must be in [-90, 90], lon in [-180, 180]");
+        }
+        // 너무 큰 반경은 NearbyPosts 가 최대 반경으로 줄인다.
+        if (!(radius >= 0)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "radius must not be negative");
+        }
+        return nearbyPosts.near(lat, lon, radius, categories == null ? Set.of() : categories, limit);
+    }
+
+    // 건물 번호가 달린 글, 최신순. 예: /api/posts/buildings/N14
+    @GetMapping("/buildings/{building}")
+    public List<NearbyPost> inBuilding(@PathVariable String building,
+                                       @RequestParam(value = "category", required = false) Set<String> categories,
+                                       @RequestParam(defaultValue = "20") int limit) {
+        return nearbyPosts.inBuilding(building, categories == null ? Set.of() : categories, limit);
+    }
+}
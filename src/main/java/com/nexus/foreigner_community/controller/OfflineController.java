@@ -0,0 +1,95 @@
+package com.nexus.foreigner_community.controller;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.nexus.foreigner_community.DataNotFoundException;
+import com.nexus.foreigner_community.offline.OfflineBundle;
+import com.nexus.foreigner_community.offline.OfflineBundles;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/offline")
+@RequiredArgsConstructor
+public class OfflineController {
+
+    // URL 에 버전이 들어 있으므로 같은 URL 의 내용은 바뀌지 않는다.
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365))
+            .cachePublic().immutable();
+
+    private final OfflineBundles offlineBundles;
+
+    /**
+     * 앱이 가진 버전(from)을 보내면 현재 버전과 내려받을 파일을 알려 준다.
+     * from 번들이 서버에 남아 있으면 차이 파일 URL 도 주고, 앱은 더 작은 쪽을 받으면 된다.
+     * 서버가 처음 시작해 첫 번들을 만드는 중이면 503.
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> latest(@RequestParam(value = "from", required = false) String from)
+            throws IOException {
+        OfflineBundle bundle = offlineBundles.current().orElseThrow(() -> new ResponseStatusException(
+                HttpStatus.SERVICE_UNAVAILABLE, "offline bundle is being built"));
+        String version = bundle.version();
+        Path full = offlineBundles.bundle(version)
+                .orElseThrow(() -> new DataNotFoundException("offline bundle " + version + " is not available"));
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("version", version);
+        body.put("upToDate", version.equals(from));
+        body.put("bundle", Map.of("url", "/api/offline/bundles/" + version, "size", Files.size(full)));
+        if (from != null && !version.equals(from)) {
+            offlineBundles.delta(from, version).ifPresent(delta -> body.put("delta", Map.of(
+                    "url", "/api/offline/deltas/" + from + "/" + version, "size", size(delta))));
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(body);
+    }
+
+    // 이어받기는 Range 요청으로 한다. Resource 본문이면 Spring 이 206/416 을 처리한다.
+    @GetMapping("/bundles/{version}")
+    public ResponseEntity<Resource> bundle(@PathVariable String version) {
+        Path file = offlineBundles.bundle(version)
+                .orElseThrow(() -> new DataNotFoundException("unknown offline bundle " + version));
+        return file(file, "\"" + version + "\"");
+    }
+
+    @GetMapping("/deltas/{from}/{to}")
+    public ResponseEntity<Resource> delta(@PathVariable String from, @PathVariable String to) {
+        Path file = offlineBundles.delta(from, to)
+                .orElseThrow(() -> new DataNotFoundException("no offline delta " + from + " -> " + to));
+        return file(file, "\"" + from + "-" + to + "\"");
+    }
+
+    private static ResponseEntity<Resource> file(Path file, String etag) {
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(IMMUTABLE)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(new FileSystemResource(file));
+    }
+
+    private static long size(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
@@ -1,15 +1,31 @@
 package com.nexus.foreigner_community.controller;
 
+import java.util.List;
+
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import com.nexus.foreigner_community.counter.PostViews;
+import com.nexus.foreigner_community.entity.Comment;
+import com.nexus.foreigner_community.entity.Post;
+import com.nexus.foreigner_community.service.PostService;
+import com.nexus.foreigner_community.service.PostTranslationService;
+
+import lombok.RequiredArgsConstructor;
 
 @Controller
 @RequestMapping("/posts")
+@RequiredArgsConstructor
 public class PostController {
 
+    private final PostService postService;
+    private final PostTranslationService postTranslationService;
+    private final PostViews postViews;
+
     @GetMapping
     public String posts(Model model) {
         model.addAttribute("title", "게시판");
@@ -17,9 +33,22 @@ public class PostController {
     }
 
     @GetMapping("/{id}")
-    public String postDetail(@PathVariable Long id, Model model) {
+    public String postDetail(@PathVariable Long id, @RequestParam(value = "lang", required = false) String lang,
+                             Model model) {
+        Post post = postService.getPost(id);
+        postViews.increment(id);
         model.addAttribute("title", "게시글 상세");
         model.addAttribute("postId", id);
+        model.addAttribute("post", post);
+        model.addAttribute("views", post.getViews() + postViews.pending(id));
+        List<Comment> comments = postService.getComments(id);
+        model.addAttribute("comments", comments);
+        // 현재 원문으로 미리 번역된 결과만 보여준다. 없거나 수정 전 번역이면 원문을 그대로 보여준다.
+        if (lang != null) {
+            postTranslationService.findCurrent(post, lang)
+                    .ifPresent(translation -> model.addAttribute("translation", translation));
+            model.addAttribute("commentTranslations", postTranslationService.findCurrent(comments, lang));
+        }
         return "posts/detail";
     }
 
@@ -28,4 +57,4 @@ public class PostController {
         model.addAttribute("title", "글쓰기");
         return "posts/write";
     }
-}
\ No newline at end of file
+}
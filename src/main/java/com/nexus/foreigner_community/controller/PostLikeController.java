@@ -0,0 +1,57 @@
+package com.nexus.foreigner_community.controller;
+
+import java.security.Principal;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.nexus.foreigner_community.entity.User;
+import com.nexus.foreigner_community.service.UserService;
+import com.nexus.foreigner_community.vote.PostLikes;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/posts/{id}/like")
+@RequiredArgsConstructor
+public class PostLikeController {
+
+    private final PostLikes postLikes;
+    private final UserService userService;
+
+    public record LikeStatus(boolean liked, int likes) {
+    }
+
+    @GetMapping
+    public LikeStatus status(@PathVariable long id, Principal principal) {
+        boolean liked = principal != null && postLikes.hasLiked(id, user(principal).getId());
+        return new LikeStatus(liked, postLikes.count(id));
+    }
+
+    // 여러 번 눌러도 한 번만 센다.
+    @PostMapping
+    public LikeStatus like(@PathVariable long id, Principal principal) {
+        postLikes.like(id, user(principal).getId());
+        return new LikeStatus(true, postLikes.count(id));
+    }
+
+    @DeleteMapping
+    public LikeStatus unlike(@PathVariable long id, Principal principal) {
+        postLikes.unlike(id, user(principal).getId());
+        return new LikeStatus(false, postLikes.count(id));
+    }
+
+    private User user(Principal principal) {
+        User user = principal == null ? null : userService.findByEmail(principal.getName());
+        if (user == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "login required");
+        }
+        return user;
+    }
+}
@@ -0,0 +1,37 @@
+package com.nexus.foreigner_community.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.nexus.foreigner_community.DataNotFoundException;
+import com.nexus.foreigner_community.map.CampusRouter;
+import com.nexus.foreigner_community.map.Route;
+import com.nexus.foreigner_community.map.RoutingProfile;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/route")
+@RequiredArgsConstructor
+public class RouteController {
+
+    private final CampusRouter campusRouter;
+
+    // 예: /api/route/buildings?from=B1&to=E8&profile=WHEELCHAIR
+    @GetMapping("/buildings")
+    public Route betweenBuildings(@RequestParam String from, @RequestParam String to,
+                                  @RequestParam(defaultValue = "WALKING") RoutingProfile profile) {
+        return campusRouter.betweenBuildings(from, to, profile)
+                .orElseThrow(() -> new DataNotFoundException("no route from " + from + " to " + to));
+    }
+
+    @GetMapping
+    public Route between(@RequestParam double fromLat, @RequestParam double fromLon,
+                         @RequestParam double toLat, @RequestParam double toLon,
+                         @RequestParam(defaultValue = "WALKING") RoutingProfile profile) {
+        return campusRouter.between(fromLat, fromLon, toLat, toLon, profile)
+                .orElseThrow(() -> new DataNotFoundException("no route"));
+    }
+}
@@ -0,0 +1,145 @@
+package com.nexus.foreigner_community.controller;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.nexus.foreigner_community.DataNotFoundException;
+import com.nexus.foreigner_community.map.MapTiles;
+import com.nexus.foreigner_community.map.TileArchive;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/map/tiles")
+@RequiredArgsConstructor
+public class TileController {
+
+    // Tomcat 이 요청 처리 뒤 파일 구간을 sendfile 로 직접 소켓에 보내게 하는 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    // URL 에 아카이브 버전이 들어 있으므로 같은 URL 의 내용은 바뀌지 않는다.
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+
+    private final MapTiles mapTiles;
+
+    /** 지도 라이브러리에 넘길 타일 URL 템플릿. 아카이브가 바뀌면 버전도 바뀌므로 캐시하지 않는다. */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> metadata() {
+        TileArchive archive = archive();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(Map.of(
+                        "tiles", List.of("/api/map/tiles/" + archive.version() + "/{z}/{x}/{y}"),
+                        "minzoom", archive.minZoom(),
+                        "maxzoom", archive.maxZoom(),
+                        "contentType", archive.contentType(),
+                        "version", archive.version()));
+    }
+
+    // 예: /api/map/tiles/3f2a9c0d1e4b5a67/17/111755/50967
+    @GetMapping("/{version}/{z}/{x}/{y}")
+    public void tile(@PathVariable String version, @PathVariable int z, @PathVariable int x, @PathVariable int y,
+                     HttpServletRequest request, HttpServletResponse response) throws IOException {
+        TileArchive archive = archive();
+        if (!archive.version().equals(version)) {
+            throw new DataNotFoundException("unknown tile archive version " + version);
+        }
+        int index = archive.find(z, x, y);
+        if (index < 0) {
+            throw new DataNotFoundException("no tile " + z + "/" + x + "/" + y);
+        }
+
+        String etag = archive.etag(index);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        long length = archive.length(index);
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.equals(etag))) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(range);
+            } catch (IllegalArgumentException e) {
+                // 형식이 틀린 Range 는 무시하고 전체를 보낸다 (RFC 9110).
+                ranges = List.of();
+            }
+            // 타일은 작아서 여러 구간 요청은 전체 응답으로 대신한다.
+            if (ranges.size() == 1) {
+                try {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                } catch (IllegalArgumentException e) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    return;
+                }
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(archive.contentType());
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+        if (count >= mapTiles.getSendfileMinBytes() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            long fileStart = archive.fileOffset(index) + start;
+            request.setAttribute(SENDFILE_FILENAME, archive.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, fileStart);
+            request.setAttribute(SENDFILE_END, fileStart + count);
+            return;
+        }
+        // sendfile 을 못 쓰면 매핑된 페이지에서 바로 응답 버퍼로 쓴다 (중간 byte[] 없음).
+        ByteBuffer data = archive.data(index).slice((int) start, (int) count);
+        WritableByteChannel channel = Channels.newChannel(response.getOutputStream());
+        while (data.hasRemaining()) {
+            channel.write(data);
+        }
+    }
+
+    private TileArchive archive() {
+        return mapTiles.archive().orElseThrow(() -> new DataNotFoundException("tile archive is not available"));
+    }
+
+    // If-None-Match 는 쉼표로 여러 ETag 를 보낼 수 있고 약한 비교를 쓴다.
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
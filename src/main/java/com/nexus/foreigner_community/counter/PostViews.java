@@ -0,0 +1,72 @@
+package com.nexus.foreigner_community.counter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 글 조회수. 조회할 때마다 UPDATE 하지 않고 {@link StripedCounter} 에 모았다가 views.flush-ms 마다
+ * 글별 증가분을 JDBC 배치 UPDATE 한 번으로 반영한다. 인기 글도 주기마다 한 행을 한 번만 고친다.
+ * 종료할 때 남은 증가분을 반영하고, 반영이 실패하면 증가분을 되돌려 다음 주기에 다시 시도한다.
+ * 반영한 증가분은 {@link PostViewsFlushedEvent} 로 알린다.
+ */
+@Slf4j
+@Component
+public class PostViews {
+
+    private static final String UPDATE = "update post set views = views + ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StripedCounter counter;
+
+    public PostViews(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher,
+                     @Value("${views.stripes}") int stripes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.counter = new StripedCounter(stripes);
+    }
+
+    public void increment(long postId) {
+        counter.increment(postId);
+    }
+
+    /** DB 에 아직 반영하지 않은 조회수. 화면에는 DB 값에 이것을 더해 보여 준다. */
+    public long pending(long postId) {
+        return counter.pending(postId);
+    }
+
+    @Scheduled(fixedDelayString = "${views.flush-ms}")
+    public synchronized void flush() {
+        Map<Long, Long> drained = counter.drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+        // id 순으로 고쳐서 다른 트랜잭션과 행 잠금 순서가 엇갈리지 않게 한다.
+        List<Object[]> batch = new ArrayList<>(drained.size());
+        new TreeMap<>(drained).forEach((postId, delta) -> batch.add(new Object[] {delta, postId}));
+        try {
+            jdbcTemplate.batchUpdate(UPDATE, batch);
+        } catch (RuntimeException e) {
+            drained.forEach(counter::add);
+            log.warn("view count flush failed for {} posts, retrying next round", drained.size(), e);
+            return;
+        }
+        eventPublisher.publishEvent(new PostViewsFlushedEvent(drained));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,9 @@
+package com.nexus.foreigner_community.counter;
+
+import java.util.Map;
+
+/**
+ * 조회수 증가분이 DB 에 반영되었음을 알린다. views 는 글 번호별 증가분이고 받는 쪽은 고치면 안 된다.
+ */
+public record PostViewsFlushedEvent(Map<Long, Long> views) {
+}
@@ -0,0 +1,79 @@
+package com.nexus.foreigner_community.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 키별 증가분을 여러 줄(stripe)에 나눠 모은다. 줄은 키가 아니라 스레드로 고르므로 인기 글 하나에 조회가 몰려도
+ * 한 잠금에 줄을 서지 않는다. {@link #drain()} 은 줄마다 맵을 새것으로 바꿔 끼우고 모은 값을 합치므로,
+ * 동시에 들어온 증가분이 빠지거나 두 번 세어지지 않는다.
+ */
+public final class StripedCounter {
+
+    private final Stripe[] stripes;
+    private final int mask;
+
+    private static final class Stripe {
+
+        private Map<Long, long[]> counts = new HashMap<>();
+    }
+
+    /** stripes 는 2의 거듭제곱으로 올린다. */
+    public StripedCounter(int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.mask = size - 1;
+    }
+
+    public void add(long key, long delta) {
+        Stripe stripe = stripes[index(Thread.currentThread().threadId())];
+        synchronized (stripe) {
+            long[] count = stripe.counts.get(key);
+            if (count == null) {
+                stripe.counts.put(key, new long[] {delta});
+            } else {
+                count[0] += delta;
+            }
+        }
+    }
+
+    public void increment(long key) {
+        add(key, 1);
+    }
+
+    /** 아직 꺼내지 않은 key 의 증가분. */
+    public long pending(long key) {
+        long sum = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                long[] count = stripe.counts.get(key);
+                if (count != null) {
+                    sum += count[0];
+                }
+            }
+        }
+        return sum;
+    }
+
+    /** 모인 증가분을 모두 꺼내고 비운다. */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            Map<Long, long[]> counts;
+            synchronized (stripe) {
+                counts = stripe.counts;
+                stripe.counts = new HashMap<>();
+            }
+            counts.forEach((key, count) -> drained.merge(key, count[0], Long::sum));
+        }
+        return drained;
+    }
+
+    private int index(long threadId) {
+        long h = threadId * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 32) & mask;
+    }
+}
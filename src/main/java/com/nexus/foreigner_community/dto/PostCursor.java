@@ -0,0 +1,38 @@
+package com.nexus.foreigner_community.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시판 목록의 다음 페이지 위치. 마지막으로 본 글의 (분류, 작성 시각, id) 이고, 다음 페이지는 이보다 오래된 글이다.
+ * 클라이언트에는 내용을 신경 쓰지 않도록 base64url 문자열로 준다. category 가 null 이면 전체 목록의 커서.
+ * createdAt 이 null 이면 작성 시각이 없는 옛 글 구간의 커서이다.
+ */
+public record PostCursor(String category, LocalDateTime createdAt, long id) {
+
+    public static PostCursor after(String category, PostSummary last) {
+        return new PostCursor(category, last.createdAt(), last.id());
+    }
+
+    public String encode() {
+        String raw = (createdAt == null ? "" : createdAt) + "|" + id + "|" + (category == null ? "" : category);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 형식이 틀리면 IllegalArgumentException. */
+    public static PostCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("malformed cursor");
+            }
+            return new PostCursor(parts[2].isEmpty() ? null : parts[2],
+                    parts[0].isEmpty() ? null : LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("malformed cursor", e);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.nexus.foreigner_community.dto;
+
+import java.util.List;
+
+/**
+ * 게시판 목록 한 페이지. 더 오래된 글이 없으면 nextCursor 는 null 이다. 전체 글 수는 세지 않는다.
+ */
+public record PostPage(List<PostSummary> posts, String nextCursor) {
+}
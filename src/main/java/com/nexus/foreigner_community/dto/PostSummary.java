@@ -0,0 +1,10 @@
+package com.nexus.foreigner_community.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시판 목록 한 줄. 본문과 작성자 엔티티를 읽지 않도록 JPQL 에서 바로 만든다.
+ */
+public record PostSummary(Long id, String category, String title, String authorName, LocalDateTime createdAt,
+                          int commentCount, long views, int likes) {
+}
@@ -0,0 +1,44 @@
+package com.nexus.foreigner_community.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 캠퍼스 행사/모임. 게시판의 행사 글에서 만들었으면 postId 가 그 글이다. 시간은 [startsAt, endsAt) 이다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+public class CampusEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long postId;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(length = 20)
+    private String building;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    @Column(nullable = false)
+    private LocalDateTime startsAt;
+
+    @Column(nullable = false)
+    private LocalDateTime endsAt;
+}
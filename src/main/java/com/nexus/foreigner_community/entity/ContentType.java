@@ -0,0 +1,5 @@
+package com.nexus.foreigner_community.entity;
+
+public enum ContentType {
+    POST, COMMENT
+}
@@ -0,0 +1,68 @@
+package com.nexus.foreigner_community.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 게시판 글. 목록은 (분류, 작성 시각, id) 커서로 넘기므로 그 순서의 인덱스를 두고,
+ * 목록에 보이는 댓글 수는 댓글을 달 때 함께 올려 목록 조회에서 댓글을 세지 않는다.
+ * 조회수는 {@link com.nexus.foreigner_community.counter.PostViews} 가 모아서 주기적으로 더한다.
+ */
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_post_category_created", columnList = "category, createdAt, id"),
+        @Index(name = "idx_post_created", columnList = "createdAt, id")})
+@Getter
+@Setter
+@NoArgsConstructor
+public class Post {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 30)
+    private String category;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @ManyToOne
+    private User author;
+
+    // 위치는 선택이다. 좌표 없이 건물 번호만 있는 글은 그 건물의 글로만 찾는다.
+    private Double latitude;
+
+    private Double longitude;
+
+    @Column(length = 20)
+    private String building;
+
+    // 아래 수들은 한 행에 바로 더하는 UPDATE 로만 바꾼다. 엔티티를 저장할 때 읽어 둔 옛 값으로 덮어쓰지 않도록 쓰지 않는다.
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "integer default 0")
+    private int commentCount;
+
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long views;
+
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "integer default 0")
+    private int likeCount;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime modifiedAt;
+}
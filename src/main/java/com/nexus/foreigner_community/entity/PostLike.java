@@ -0,0 +1,38 @@
+package com.nexus.foreigner_community.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 글 추천 한 건. (글, 사용자) 가 유일하므로 같은 사람이 두 번 추천할 수 없다.
+ * 글 쪽에는 추천자 목록을 두지 않고 추천 수만 {@link Post#getLikeCount()} 로 둔다.
+ */
+@Entity
+@Table(name = "post_like", uniqueConstraints = @UniqueConstraint(columnNames = {"postId", "userId"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class PostLike {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long postId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    private LocalDateTime createdAt;
+}
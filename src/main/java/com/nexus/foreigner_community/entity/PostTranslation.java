@@ -0,0 +1,57 @@
+package com.nexus.foreigner_community.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 글/댓글을 저장 시점에 미리 번역해 둔 결과. 댓글은 title 이 없다.
+ */
+@Entity
+@Table(name = "post_translation",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"contentType", "contentId", "language"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class PostTranslation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ContentType contentType;
+
+    @Column(nullable = false)
+    private Long contentId;
+
+    @Column(nullable = false, length = 16)
+    private String language;
+
+    @Column(length = 16)
+    private String sourceLanguage;
+
+    @Column(length = 400)
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    // 원문이 바뀌었는지 확인하기 위한 해시
+    @Column(length = 64)
+    private String sourceHash;
+
+    private LocalDateTime translatedAt;
+}
@@ -0,0 +1,41 @@
+package com.nexus.foreigner_community.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "translation_cache",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"textHash", "sourceLang", "targetLang"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TranslationCacheEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String textHash;
+
+    @Column(nullable = false, length = 16)
+    private String sourceLang;
+
+    @Column(nullable = false, length = 16)
+    private String targetLang;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String translatedText;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,65 @@
+package com.nexus.foreigner_community.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import org.hibernate.annotations.ColumnDefault;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 번역 작업 큐의 한 항목. 글/댓글이 저장되는 트랜잭션 안에서 함께 기록된다.
+ */
+@Entity
+@Table(name = "translation_job",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"contentType", "contentId"}),
+        indexes = @Index(columnList = "status, nextAttemptAt"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class TranslationJob {
+
+    public enum Status {
+        PENDING, IN_PROGRESS, DONE, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ContentType contentType;
+
+    @Column(nullable = false)
+    private Long contentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status = Status.PENDING;
+
+    private int attempts;
+
+    // 가져가거나 다시 넣을 때마다 늘어난다. 처리 중에 다시 넣은 작업을 완료로 덮어쓰지 않기 위해 쓴다.
+    @ColumnDefault("0")
+    private int generation;
+
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,11 @@
+package com.nexus.foreigner_community.live;
+
+import java.time.Instant;
+
+/**
+ * 지도 위에 위치가 있는 새 항목(행사, 공지, 글). 애플리케이션 이벤트로 발행하면 {@link LiveFeed} 가
+ * 그 위치를 구독한 클라이언트에게 보낸다. kind 는 클라이언트가 구분할 종류("event", "notice", "post").
+ */
+public record GeoItem(String kind, String id, double lat, double lon, String title, String url,
+                      Instant publishedAt) {
+}
@@ -0,0 +1,78 @@
+package com.nexus.foreigner_community.live;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 영역 구독을 SSE 로 열어 주고, 발행된 {@link GeoItem} 이벤트를 그 영역의 구독자에게 보낸다.
+ * 연결마다 보내는 작업은 가상 스레드에서 돌므로 느린 클라이언트가 발행하는 쪽이나 다른 클라이언트를 막지 않는다.
+ */
+@Slf4j
+@Component
+public class LiveFeed implements AutoCloseable {
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("live-feed-", 0).factory());
+    private final SubscriptionGrid grid;
+    private final long timeoutMs;
+
+    public LiveFeed(@Value("${live.cell-degrees}") double cellDegrees,
+                    @Value("${live.max-cells}") int maxCells,
+                    @Value("${live.queue-capacity}") int queueCapacity,
+                    @Value("${live.sse-timeout-ms}") long timeoutMs) {
+        this.grid = new SubscriptionGrid(cellDegrees, maxCells, queueCapacity, executor);
+        this.timeoutMs = timeoutMs;
+    }
+
+    /** 좌표가 범위 밖이거나 영역이 너무 넓으면 IllegalArgumentException. 시간이 다 되면 클라이언트(EventSource)가 다시 연결한다. */
+    public SseEmitter subscribe(double south, double west, double north, double east) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscription subscription = grid.subscribe(south, west, north, east, new SseSink(emitter));
+        emitter.onCompletion(() -> subscription.close("completed"));
+        emitter.onTimeout(() -> subscription.close("timeout"));
+        emitter.onError(e -> subscription.close("error"));
+        return emitter;
+    }
+
+    @EventListener
+    public void publish(GeoItem item) {
+        grid.publish(item);
+    }
+
+    public int subscribers() {
+        return grid.size();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private record SseSink(SseEmitter emitter) implements SubscriptionSink {
+
+        @Override
+        public void send(GeoItem item) throws IOException {
+            emitter.send(SseEmitter.event().name(item.kind()).id(item.id()).data(item, MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void close(String reason) {
+            try {
+                emitter.send(SseEmitter.event().name("close").data(reason));
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                // 이미 끊긴 연결
+                log.debug("live subscription closed: {}", e.getMessage());
+            }
+        }
+    }
+}
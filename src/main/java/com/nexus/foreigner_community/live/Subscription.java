@@ -0,0 +1,121 @@
+package com.nexus.foreigner_community.live;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 한 클라이언트의 영역 구독. 발행하는 쪽은 큐에 넣기만 하고(막히지 않음), 전달은 executor 에서 한 번에 한 작업만
+ * 돌며 순서대로 보낸다. 큐가 capacity 를 넘으면 따라오지 못하는 소비자로 보고 연결을 끊는다.
+ */
+public final class Subscription {
+
+    private final long id;
+    private final double south;
+    private final double west;
+    private final double north;
+    private final double east;
+    private final SubscriptionSink sink;
+    private final int capacity;
+    private final Executor executor;
+    private final SubscriptionGrid grid;
+
+    private final Queue<GeoItem> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    Subscription(long id, double south, double west, double north, double east, SubscriptionSink sink, int capacity,
+                 Executor executor, SubscriptionGrid grid) {
+        this.id = id;
+        this.south = south;
+        this.west = west;
+        this.north = north;
+        this.east = east;
+        this.sink = sink;
+        this.capacity = capacity;
+        this.executor = executor;
+        this.grid = grid;
+    }
+
+    public long id() {
+        return id;
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    boolean contains(double lat, double lon) {
+        return lat >= south && lat <= north && lon >= west && lon <= east;
+    }
+
+    double south() {
+        return south;
+    }
+
+    double west() {
+        return west;
+    }
+
+    double north() {
+        return north;
+    }
+
+    double east() {
+        return east;
+    }
+
+    /** 큐에 넣는다. 큐가 가득 차 있으면 구독을 끊고 false. */
+    boolean offer(GeoItem item) {
+        if (closed.get()) {
+            return false;
+        }
+        if (queued.incrementAndGet() > capacity) {
+            queued.decrementAndGet();
+            close("slow consumer");
+            return false;
+        }
+        queue.offer(item);
+        scheduleDrain();
+        return true;
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            GeoItem item;
+            while (!closed.get() && (item = queue.poll()) != null) {
+                queued.decrementAndGet();
+                try {
+                    sink.send(item);
+                } catch (IOException | RuntimeException e) {
+                    close("send failed");
+                }
+            }
+            draining.set(false);
+            // 내려놓은 사이에 새 항목이 들어왔고 다른 스레드가 작업을 띄우지 못했으면 이어서 보낸다.
+            if (closed.get() || queue.isEmpty() || !draining.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    /** 구독을 끝낸다. 여러 번 불려도 한 번만 처리한다. */
+    public void close(String reason) {
+        if (closed.compareAndSet(false, true)) {
+            grid.remove(this);
+            queue.clear();
+            // 끊는 쪽(발행 스레드)이 연결 정리에 막히지 않도록 executor 에서 닫는다.
+            executor.execute(() -> sink.close(reason));
+        }
+    }
+}
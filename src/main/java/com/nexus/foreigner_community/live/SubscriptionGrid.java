@@ -0,0 +1,114 @@
+package com.nexus.foreigner_community.live;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 영역 구독을 위경도 격자로 색인한다. 구독은 자기 영역이 걸친 모든 칸에 등록되고, 항목을 발행하면
+ * 그 항목이 떨어진 한 칸의 구독자만 확인한다. 그래서 발행 비용은 전체 구독자 수가 아니라 그 칸의 구독자 수에 비례한다.
+ */
+public final class SubscriptionGrid {
+
+    private final double cellDegrees;
+    private final int maxCells;
+    private final int queueCapacity;
+    private final Executor executor;
+    private final ConcurrentHashMap<Long, Set<Subscription>> cells = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong();
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * @param cellDegrees   격자 한 칸의 크기(도). 0.001 이면 캠퍼스 위도에서 대략 110m x 90m.
+     * @param maxCells      구독 하나가 걸칠 수 있는 최대 칸 수. 너무 넓은 영역은 거절한다.
+     * @param queueCapacity 연결마다 보내지 못하고 쌓아 둘 수 있는 최대 항목 수.
+     * @param executor      전달 작업을 돌릴 executor. 전달은 막힐 수 있으므로 가상 스레드가 알맞다.
+     */
+    public SubscriptionGrid(double cellDegrees, int maxCells, int queueCapacity, Executor executor) {
+        this.cellDegrees = cellDegrees;
+        this.maxCells = maxCells;
+        this.queueCapacity = queueCapacity;
+        this.executor = executor;
+    }
+
+    public Subscription subscribe(double south, double west, double north, double east, SubscriptionSink sink) {
+        // NaN, 무한대, 범위 밖 좌표는 칸 번호가 int 끝에 붙어 칸 수 검사를 빠져나가므로 먼저 거절한다.
+        if (!(-90 <= south && north <= 90 && -180 <= west && east <= 180)) {
+            throw new IllegalArgumentException("area must lie within lat [-90, 90] and lon [-180, 180]");
+        }
+        if (!(south <= north && west <= east)) {
+            throw new IllegalArgumentException("empty area");
+        }
+        long rows = (long) row(north) - row(south) + 1;
+        long cols = (long) col(east) - col(west) + 1;
+        if (rows * cols > maxCells) {
+            throw new IllegalArgumentException("area covers " + rows * cols + " cells, at most " + maxCells);
+        }
+        Subscription subscription = new Subscription(nextId.incrementAndGet(), south, west, north, east, sink,
+                queueCapacity, executor, this);
+        for (int r = row(south); r <= row(north); r++) {
+            for (int c = col(west); c <= col(east); c++) {
+                // compute 안에서 넣어야 remove 가 빈 칸을 지우는 것과 엇갈리지 않는다.
+                cells.compute(key(r, c), (k, set) -> {
+                    Set<Subscription> target = set != null ? set : ConcurrentHashMap.newKeySet();
+                    target.add(subscription);
+                    return target;
+                });
+            }
+        }
+        size.incrementAndGet();
+        return subscription;
+    }
+
+    /** 항목을 영역 안의 구독자 큐에 넣고, 넣은 구독자 수를 돌려준다. 막히지 않는다. */
+    public int publish(GeoItem item) {
+        Set<Subscription> candidates = cells.get(key(row(item.lat()), col(item.lon())));
+        if (candidates == null) {
+            return 0;
+        }
+        int delivered = 0;
+        for (Subscription subscription : candidates) {
+            if (subscription.contains(item.lat(), item.lon()) && subscription.offer(item)) {
+                delivered++;
+            }
+        }
+        return delivered;
+    }
+
+    /** 칸에 등록된 구독 수 (발행 한 번에 확인하는 구독자 수). */
+    int candidates(double lat, double lon) {
+        Set<Subscription> candidates = cells.get(key(row(lat), col(lon)));
+        return candidates == null ? 0 : candidates.size();
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    void remove(Subscription subscription) {
+        for (int r = row(subscription.south()); r <= row(subscription.north()); r++) {
+            for (int c = col(subscription.west()); c <= col(subscription.east()); c++) {
+                // 칸이 비면 지운다.
+                cells.computeIfPresent(key(r, c), (k, set) -> {
+                    set.remove(subscription);
+                    return set.isEmpty() ? null : set;
+                });
+            }
+        }
+        size.decrementAndGet();
+    }
+
+    private int row(double lat) {
+        return (int) Math.floor(lat / cellDegrees);
+    }
+
+    private int col(double lon) {
+        return (int) Math.floor(lon / cellDegrees);
+    }
+
+    private static long key(int row, int col) {
+        return (long) row << 32 | (col & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,14 @@
+package com.nexus.foreigner_community.live;
+
+import java.io.IOException;
+
+/**
+ * 구독 하나의 실제 연결(SSE 등). send 는 전달 스레드에서만 순서대로 불리며 막혀도 된다.
+ */
+public interface SubscriptionSink {
+
+    void send(GeoItem item) throws IOException;
+
+    /** 구독이 끝났을 때 한 번 불린다. reason 은 클라이언트에게 알릴 이유. */
+    void close(String reason);
+}
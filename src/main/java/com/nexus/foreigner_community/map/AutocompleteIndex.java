@@ -0,0 +1,313 @@
+package com.nexus.foreigner_community.map;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * POI 이름/별칭에 대한 접두어 자동완성 색인. 만든 뒤에는 바뀌지 않는다.
+ * <ul>
+ * <li>한글은 자모로 풀어 넣으므로 "도서고"(관을 치는 중)도 "도서관"에 맞는다.</li>
+ * <li>한글 이름은 로마자 표기로도, 영어 이름/별칭은 소문자로 넣는다. 공백과 기호는 뺀다.</li>
+ * <li>여러 단어로 된 이름은 각 단어에서 시작하는 뒷부분도 넣는다 ("Main Library" → "library").</li>
+ * </ul>
+ * 압축 트라이(한 자식뿐인 노드는 간선 문자열로 합친다)를 배열로 저장하고, 노드마다 그 아래에서
+ * 인기순 상위 K 개의 POI 를 미리 들고 있어 조회는 질의 길이에만 비례한다.
+ */
+public final class AutocompleteIndex {
+
+    public static final int DEFAULT_TOP_K = 10;
+
+    // POI 는 인기순으로 정렬해 두고 순위 번호로 가리킨다. 스냅샷에서 읽었으면 매핑된 열을 보는 목록이다.
+    private final List<Poi> byRank;
+    // 노드 i 로 들어오는 간선 문자열은 labels[labelStart[i] .. labelStart[i] + labelLength[i])
+    private final char[] labels;
+    private final int[] labelStart;
+    private final int[] labelLength;
+    // 자식은 연속으로 저장되고 간선 첫 글자 순으로 정렬되어 있다.
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[] topStart;
+    private final int[] topLength;
+    private final int[] tops;
+
+    private AutocompleteIndex(List<Poi> byRank, char[] labels, int[] labelStart, int[] labelLength, int[] firstChild,
+                              int[] childCount, int[] topStart, int[] topLength, int[] tops) {
+        this.byRank = byRank;
+        this.labels = labels;
+        this.labelStart = labelStart;
+        this.labelLength = labelLength;
+        this.firstChild = firstChild;
+        this.childCount = childCount;
+        this.topStart = topStart;
+        this.topLength = topLength;
+        this.tops = tops;
+    }
+
+    /** 스냅샷 파일에 저장하는 트라이 배열들. 필드와 뜻이 같다. */
+    record Trie(char[] labels, int[] labelStart, int[] labelLength, int[] firstChild, int[] childCount,
+                int[] topStart, int[] topLength, int[] tops) {
+    }
+
+    /**
+     * 스냅샷 파일에 저장해 둔 트라이로 다시 만든다. byRank 는 인기순 POI 목록이다.
+     */
+    static AutocompleteIndex of(List<Poi> byRank, Trie trie) {
+        int nodes = trie.labelStart().length;
+        if (nodes == 0 || trie.labelLength().length != nodes || trie.firstChild().length != nodes
+                || trie.childCount().length != nodes || trie.topStart().length != nodes
+                || trie.topLength().length != nodes) {
+            throw new IllegalArgumentException("inconsistent autocomplete arrays");
+        }
+        return new AutocompleteIndex(byRank, trie.labels(), trie.labelStart(), trie.labelLength(), trie.firstChild(),
+                trie.childCount(), trie.topStart(), trie.topLength(), trie.tops());
+    }
+
+    public int nodeCount() {
+        return labelStart.length;
+    }
+
+    Trie trie() {
+        return new Trie(labels, labelStart, labelLength, firstChild, childCount, topStart, topLength, tops);
+    }
+
+    List<Poi> byRank() {
+        return byRank;
+    }
+
+    /** 질의로 시작하는 이름을 가진 POI 를 인기순으로 최대 limit 개. 빈 질의면 가장 인기 있는 POI. limit 가 0 이하면 빈 목록. */
+    public List<Poi> suggest(String query, int limit) {
+        String key = normalizeQuery(query);
+        int node = 0;
+        int pos = 0;
+        while (pos < key.length()) {
+            int child = findChild(node, key.charAt(pos));
+            if (child < 0) {
+                return List.of();
+            }
+            int start = labelStart[child];
+            int end = start + labelLength[child];
+            for (int i = start; i < end && pos < key.length(); i++, pos++) {
+                if (labels[i] != key.charAt(pos)) {
+                    return List.of();
+                }
+            }
+            node = child;
+        }
+        int count = Math.max(0, Math.min(limit, topLength[node]));
+        List<Poi> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(byRank.get(tops[topStart[node] + i]));
+        }
+        return result;
+    }
+
+    private int findChild(int node, char c) {
+        int lo = firstChild[node];
+        int hi = lo + childCount[node] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            char first = labels[labelStart[mid]];
+            if (first < c) {
+                lo = mid + 1;
+            } else if (first > c) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    static String normalizeQuery(String query) {
+        String lower = query.toLowerCase(Locale.ROOT);
+        return Hangul.containsHangul(lower) ? Hangul.decompose(stripSeparators(lower)) : stripSeparators(lower);
+    }
+
+    private static String stripSeparators(String text) {
+        StringBuilder out = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    /** 한 이름에서 색인할 키들. */
+    static Set<String> keys(String name) {
+        Set<String> keys = new LinkedHashSet<>();
+        if (name == null || name.isBlank()) {
+            return keys;
+        }
+        String[] words = name.toLowerCase(Locale.ROOT).trim().split("[\\s\\-_/()·,.]+");
+        for (int w = 0; w < words.length; w++) {
+            String suffix = String.join("", Arrays.copyOfRange(words, w, words.length));
+            String plain = stripSeparators(suffix);
+            if (plain.isEmpty()) {
+                continue;
+            }
+            if (Hangul.containsHangul(plain)) {
+                keys.add(Hangul.decompose(plain));
+                keys.add(stripSeparators(Hangul.romanize(plain)));
+            } else {
+                keys.add(plain);
+            }
+        }
+        return keys;
+    }
+
+    public static AutocompleteIndex build(List<Poi> pois) {
+        return build(pois, DEFAULT_TOP_K);
+    }
+
+    public static AutocompleteIndex build(List<Poi> pois, int topK) {
+        Poi[] byRank = pois.stream()
+                .sorted(Comparator.comparingInt(Poi::popularity).reversed().thenComparingLong(Poi::id))
+                .toArray(Poi[]::new);
+
+        List<Entry> entries = new ArrayList<>();
+        for (int rank = 0; rank < byRank.length; rank++) {
+            Poi poi = byRank[rank];
+            Set<String> keys = new LinkedHashSet<>();
+            keys.addAll(keys(poi.nameKo()));
+            keys.addAll(keys(poi.nameEn()));
+            keys.addAll(keys(poi.building()));
+            for (String alias : poi.aliases()) {
+                keys.addAll(keys(alias));
+            }
+            for (String key : keys) {
+                entries.add(new Entry(key, rank));
+            }
+        }
+        entries.sort(Comparator.comparing(Entry::key).thenComparingInt(Entry::rank));
+
+        Builder builder = new Builder(entries, topK);
+        builder.allocate(1);
+        builder.labelStart[0] = 0;
+        builder.build(0, 0, entries.size(), 0);
+        return builder.finish(byRank);
+    }
+
+    private record Entry(String key, int rank) {
+    }
+
+    /**
+     * 정렬된 키 목록에서 바로 압축 트라이를 만든다. 한 노드의 자식들은 번호를 한꺼번에 받으므로 배열에서 연속이다.
+     */
+    private static final class Builder {
+        final List<Entry> entries;
+        final int topK;
+        final StringBuilder labels = new StringBuilder();
+        int[] labelStart = new int[64];
+        int[] labelLength = new int[64];
+        int[] firstChild = new int[64];
+        int[] childCount = new int[64];
+        int[][] top = new int[64][];
+        int size;
+
+        Builder(List<Entry> entries, int topK) {
+            this.entries = entries;
+            this.topK = topK;
+        }
+
+        int allocate(int count) {
+            int first = size;
+            size += count;
+            if (size > labelStart.length) {
+                int capacity = Math.max(size, labelStart.length * 2);
+                labelStart = Arrays.copyOf(labelStart, capacity);
+                labelLength = Arrays.copyOf(labelLength, capacity);
+                firstChild = Arrays.copyOf(firstChild, capacity);
+                childCount = Arrays.copyOf(childCount, capacity);
+                top = Arrays.copyOf(top, capacity);
+            }
+            return first;
+        }
+
+        // [lo, hi) 의 키는 모두 길이 depth 의 같은 접두어(이 노드까지의 경로)를 가진다.
+        void build(int node, int lo, int hi, int depth) {
+            int start = lo;
+            while (start < hi && entries.get(start).key().length() == depth) {
+                start++;
+            }
+            List<int[]> groups = new ArrayList<>();
+            for (int i = start; i < hi; ) {
+                char c = entries.get(i).key().charAt(depth);
+                int j = i;
+                while (j < hi && entries.get(j).key().charAt(depth) == c) {
+                    j++;
+                }
+                groups.add(new int[] {i, j});
+                i = j;
+            }
+            int first = allocate(groups.size());
+            firstChild[node] = first;
+            childCount[node] = groups.size();
+            for (int g = 0; g < groups.size(); g++) {
+                int gLo = groups.get(g)[0];
+                int gHi = groups.get(g)[1];
+                // 정렬되어 있으므로 그룹의 공통 접두어는 첫 키와 마지막 키의 공통 접두어이다.
+                // 가장 짧은 키(첫 키)가 끝나는 곳에서는 노드가 있어야 하므로 멈춘다.
+                String firstKey = entries.get(gLo).key();
+                String lastKey = entries.get(gHi - 1).key();
+                int end = depth + 1;
+                while (end < firstKey.length() && firstKey.charAt(end) == lastKey.charAt(end)) {
+                    end++;
+                }
+                int child = first + g;
+                labelStart[child] = labels.length();
+                labelLength[child] = end - depth;
+                labels.append(firstKey, depth, end);
+                build(child, gLo, gHi, end);
+            }
+
+            // 이 노드에서 끝나는 키와 자식들의 상위 목록을 합쳐 순위가 높은 K 개를 남긴다.
+            int[] candidates = new int[(start - lo) + groups.size() * topK];
+            int count = 0;
+            for (int i = lo; i < start; i++) {
+                candidates[count++] = entries.get(i).rank();
+            }
+            for (int g = 0; g < groups.size(); g++) {
+                for (int rank : top[first + g]) {
+                    candidates[count++] = rank;
+                }
+            }
+            Arrays.sort(candidates, 0, count);
+            int kept = 0;
+            for (int i = 0; i < count && kept < topK; i++) {
+                if (kept == 0 || candidates[kept - 1] != candidates[i]) {
+                    candidates[kept++] = candidates[i];
+                }
+            }
+            top[node] = Arrays.copyOf(candidates, kept);
+        }
+
+        AutocompleteIndex finish(Poi[] byRank) {
+            int[] topStart = new int[size];
+            int[] topLength = new int[size];
+            int total = 0;
+            for (int i = 0; i < size; i++) {
+                total += top[i].length;
+            }
+            int[] tops = new int[total];
+            int pos = 0;
+            for (int i = 0; i < size; i++) {
+                topStart[i] = pos;
+                topLength[i] = top[i].length;
+                System.arraycopy(top[i], 0, tops, pos, top[i].length);
+                pos += top[i].length;
+            }
+            char[] labelChars = new char[labels.length()];
+            labels.getChars(0, labels.length(), labelChars, 0);
+            return new AutocompleteIndex(Arrays.asList(byRank), labelChars, Arrays.copyOf(labelStart, size),
+                    Arrays.copyOf(labelLength, size), Arrays.copyOf(firstChild, size), Arrays.copyOf(childCount, size),
+                    topStart, topLength, tops);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.nexus.foreigner_community.map;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시작할 때 읽는 캠퍼스 데이터. map.dataset 에 스냅샷 파일(./gradlew buildCampusDataset)이 지정되어 있으면
+ * 그것을 메모리 매핑해 쓰고, 없으면 CSV 를 읽는다 (기본값은 CSV).
+ * <p>
+ * 스냅샷으로 시작하면 POI 를 객체로 풀지 않는다. {@link CampusMap} 과 {@link PoiAutocomplete} 는 파일에 저장된
+ * R-tree 와 트라이를, {@link CampusRouter} 는 저장된 랜드마크 표를 쓴다. 경로 탐색의 안쪽 반복문은 힙 배열이 빠르므로
+ * 그래프 배열만 매핑에서 한꺼번에 복사한다.
+ */
+@Slf4j
+@Component
+public class CampusData {
+
+    private final CampusDataset dataset;
+    private final List<Poi> pois;
+    private final FootpathGraph graph;
+
+    public CampusData(@Value("${map.dataset}") String dataset,
+                      @Value("${map.pois}") Resource pois,
+                      @Value("${map.footpaths}") Resource footpaths) throws IOException {
+        long start = System.nanoTime();
+        if (!dataset.isBlank()) {
+            this.dataset = CampusDataset.open(Path.of(dataset));
+            this.pois = this.dataset.pois();
+            this.graph = null;
+            log.info("campus dataset {} mapped in {} ms ({} pois, {} nodes)", dataset,
+                    (System.nanoTime() - start) / 1_000_000, this.dataset.poiCount(), this.dataset.nodeCount());
+            return;
+        }
+        this.dataset = null;
+        try (InputStream in = pois.getInputStream()) {
+            this.pois = PoiCsv.read(in);
+        }
+        try (InputStream in = footpaths.getInputStream()) {
+            this.graph = FootpathCsv.read(in);
+        }
+        log.info("campus data loaded from csv in {} ms ({} pois, {} nodes)", (System.nanoTime() - start) / 1_000_000,
+                this.pois.size(), graph.nodeCount());
+    }
+
+    /** 스냅샷으로 시작했으면 매핑된 열을 보는 목록이다. */
+    public List<Poi> pois() {
+        return pois;
+    }
+
+    /** 스냅샷으로 시작했으면 부를 때마다 매핑에서 새로 복사한다. */
+    public FootpathGraph graph() {
+        return dataset != null ? dataset.graph() : graph;
+    }
+
+    /** 스냅샷으로 시작했을 때만 있다. */
+    public Optional<CampusDataset> dataset() {
+        return Optional.ofNullable(dataset);
+    }
+}
@@ -0,0 +1,486 @@
+package com.nexus.foreigner_community.map;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.zip.CRC32C;
+
+/**
+ * 캠퍼스 데이터(POI, 보행 그래프, 이름 색인) 스냅샷. 파일을 메모리 매핑하고 객체로 풀지 않은 채 열(column) 단위로 읽는다.
+ * 모든 수는 리틀 엔디언이다.
+ * <pre>
+ * 0   8  magic "CAMPDATA"
+ * 8   4  형식 버전
+ * 12  4  섹션 수
+ * 16  8  CRC32C (64 바이트 이후 파일 전체)
+ * 64  .. 섹션 표: 섹션마다 id 4, 예약 4, 오프셋 8, 길이 8
+ * 1 문자열 표: 개수 n, 바이트 오프셋 n+1 개, UTF-8 바이트
+ * 2 POI 열 (id 순): 개수 n, 별칭 수 m, id, type, building, nameKo, nameEn, lat, lon, floor, popularity,
+ *   별칭 시작 n+1 개, 별칭 m 개 (문자열은 문자열 표 번호, 없으면 -1)
+ * 3 그래프: 노드 수 N, 방향 간선 수 E, lat, lon, building, offsets N+1 개, targets, lengths(float), kinds(byte)
+ * 4 이름 색인: 개수 k, 정규화한 이름 k 개, POI 번호 k 개 (이름의 UTF-8 바이트 순)
+ * 5 R-tree (선택): 기준 위도, 점 수, 노드 크기, 층 수 L, 노드 수 M, 층 경계 L 개, 박스 4M 개, 번호 M 개
+ * 6 자동완성 트라이 (선택): 노드 수 M, 글자 수 C, 상위 목록 길이 T, 순위 수 R, 인기순 POI 번호 R 개, 간선 글자 C 개,
+ *   labelStart, labelLength, firstChild, childCount, topStart, topLength 각 M 개, 상위 목록 T 개
+ * 7 랜드마크 (선택): 프로필 수 P, 랜드마크 수 K, 노드 수 N, 프로필마다 (번호, 랜드마크 K 개, 거리 N*K 개)
+ * </pre>
+ * 열기 전에 체크섬을 확인하므로 잘렸거나 손상된 파일로는 시작하지 않는다.
+ * 5~7 은 서버가 시작할 때 색인을 다시 만들지 않으려고 넣는 섹션이라 오프라인 번들의 스냅샷에는 없다.
+ */
+public final class CampusDataset {
+
+    static final byte[] MAGIC = "CAMPDATA".getBytes(StandardCharsets.US_ASCII);
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_BYTES = 64;
+    static final int SECTION_ENTRY_BYTES = 24;
+    static final int STRINGS = 1;
+    static final int POIS = 2;
+    static final int GRAPH = 3;
+    static final int NAMES = 4;
+    static final int RTREE = 5;
+    static final int AUTOCOMPLETE = 6;
+    static final int LANDMARKS = 7;
+    private static final PoiType[] TYPES = PoiType.values();
+
+    private final ByteBuffer buffer;
+    private final long checksum;
+
+    private final int stringCount;
+    private final int stringOffsets;
+    private final int stringBytes;
+
+    private final int poiCount;
+    private final int poiIds;
+    private final int poiTypes;
+    private final int poiBuildings;
+    private final int poiNamesKo;
+    private final int poiNamesEn;
+    private final int poiLats;
+    private final int poiLons;
+    private final int poiFloors;
+    private final int poiPopularity;
+    private final int aliasStarts;
+    private final int aliases;
+
+    private final int nodeCount;
+    private final int edgeCount;
+    private final int graphStart;
+
+    private final int nameCount;
+    private final int nameKeys;
+    private final int namePois;
+
+    // 선택 섹션의 시작 위치. 없으면 0.
+    private final int rtreeStart;
+    private final int autocompleteStart;
+    private final int landmarkStart;
+
+    private CampusDataset(ByteBuffer buffer, Path path) throws IOException {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_BYTES) {
+            throw new IOException(path + " is too small to be a campus dataset");
+        }
+        byte[] magic = new byte[MAGIC.length];
+        buffer.get(0, magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException(path + " is not a campus dataset");
+        }
+        int formatVersion = buffer.getInt(8);
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException(path + " has unsupported format version " + formatVersion);
+        }
+        this.checksum = buffer.getLong(16);
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.duplicate().position(HEADER_BYTES));
+        if (crc.getValue() != checksum) {
+            throw new IOException(path + " is corrupt (checksum mismatch)");
+        }
+
+        int[] sectionOffsets = new int[LANDMARKS + 1];
+        int sections = buffer.getInt(12);
+        for (int i = 0; i < sections; i++) {
+            int at = HEADER_BYTES + i * SECTION_ENTRY_BYTES;
+            int id = buffer.getInt(at);
+            long offset = buffer.getLong(at + 8);
+            long length = buffer.getLong(at + 16);
+            if (offset < 0 || length < 0 || offset + length > buffer.capacity()) {
+                throw new IOException(path + " has a section outside the file");
+            }
+            // 모르는 섹션은 건너뛴다 (나중 버전에서 추가된 것).
+            if (id >= STRINGS && id <= LANDMARKS) {
+                sectionOffsets[id] = (int) offset;
+            }
+        }
+        for (int id = STRINGS; id <= NAMES; id++) {
+            if (sectionOffsets[id] == 0) {
+                throw new IOException(path + " is missing section " + id);
+            }
+        }
+
+        int at = sectionOffsets[STRINGS];
+        stringCount = buffer.getInt(at);
+        stringOffsets = at + 4;
+        stringBytes = stringOffsets + 4 * (stringCount + 1);
+
+        at = sectionOffsets[POIS];
+        poiCount = buffer.getInt(at);
+        int aliasCount = buffer.getInt(at + 4);
+        poiIds = at + 8;
+        poiTypes = poiIds + 8 * poiCount;
+        poiBuildings = poiTypes + poiCount;
+        poiNamesKo = poiBuildings + 4 * poiCount;
+        poiNamesEn = poiNamesKo + 4 * poiCount;
+        poiLats = poiNamesEn + 4 * poiCount;
+        poiLons = poiLats + 8 * poiCount;
+        poiFloors = poiLons + 8 * poiCount;
+        poiPopularity = poiFloors + 4 * poiCount;
+        aliasStarts = poiPopularity + 4 * poiCount;
+        aliases = aliasStarts + 4 * (poiCount + 1);
+        if (buffer.getInt(aliasStarts + 4 * poiCount) != aliasCount) {
+            throw new IOException(path + " has an inconsistent alias column");
+        }
+
+        at = sectionOffsets[GRAPH];
+        nodeCount = buffer.getInt(at);
+        edgeCount = buffer.getInt(at + 4);
+        graphStart = at + 8;
+
+        at = sectionOffsets[NAMES];
+        nameCount = buffer.getInt(at);
+        nameKeys = at + 4;
+        namePois = nameKeys + 4 * nameCount;
+
+        rtreeStart = sectionOffsets[RTREE];
+        autocompleteStart = sectionOffsets[AUTOCOMPLETE];
+        landmarkStart = sectionOffsets[LANDMARKS];
+    }
+
+    public static CampusDataset open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // 매핑은 채널을 닫아도 유지된다.
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new CampusDataset(mapped.order(ByteOrder.LITTLE_ENDIAN), path);
+        }
+    }
+
+    /** 이름 색인에 쓰는 형태. 소문자로 바꾸고 글자와 숫자만 남긴다. */
+    public static String nameKey(String name) {
+        if (name == null) {
+            return "";
+        }
+        String lower = name.toLowerCase(Locale.ROOT);
+        StringBuilder out = new StringBuilder(lower.length());
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    /** 파일 내용이 바뀌면 달라지는 값 (체크섬). */
+    public long checksum() {
+        return checksum;
+    }
+
+    // ---- 문자열 표
+
+    public String string(int index) {
+        if (index < 0) {
+            return null;
+        }
+        int start = buffer.getInt(stringOffsets + 4 * index);
+        int end = buffer.getInt(stringOffsets + 4 * (index + 1));
+        byte[] utf8 = new byte[end - start];
+        buffer.get(stringBytes + start, utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    // 문자열 표의 index 번 문자열과 UTF-8 바이트 key 를 부호 없는 바이트 순으로 비교한다. 디코딩하지 않는다.
+    private int compareString(int index, byte[] key) {
+        int start = stringBytes + buffer.getInt(stringOffsets + 4 * index);
+        int length = stringBytes + buffer.getInt(stringOffsets + 4 * (index + 1)) - start;
+        int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            int c = Byte.toUnsignedInt(buffer.get(start + i)) - Byte.toUnsignedInt(key[i]);
+            if (c != 0) {
+                return c;
+            }
+        }
+        return length - key.length;
+    }
+
+    // ---- POI 열
+
+    public int poiCount() {
+        return poiCount;
+    }
+
+    public long poiId(int poi) {
+        return buffer.getLong(poiIds + 8 * poi);
+    }
+
+    public PoiType poiType(int poi) {
+        return TYPES[buffer.get(poiTypes + poi)];
+    }
+
+    public String poiBuilding(int poi) {
+        return string(buffer.getInt(poiBuildings + 4 * poi));
+    }
+
+    public String poiNameKo(int poi) {
+        return string(buffer.getInt(poiNamesKo + 4 * poi));
+    }
+
+    public String poiNameEn(int poi) {
+        return string(buffer.getInt(poiNamesEn + 4 * poi));
+    }
+
+    public double poiLat(int poi) {
+        return buffer.getDouble(poiLats + 8 * poi);
+    }
+
+    public double poiLon(int poi) {
+        return buffer.getDouble(poiLons + 8 * poi);
+    }
+
+    public int poiFloor(int poi) {
+        return buffer.getInt(poiFloors + 4 * poi);
+    }
+
+    public int poiPopularity(int poi) {
+        return buffer.getInt(poiPopularity + 4 * poi);
+    }
+
+    public List<String> poiAliases(int poi) {
+        int start = buffer.getInt(aliasStarts + 4 * poi);
+        int end = buffer.getInt(aliasStarts + 4 * (poi + 1));
+        List<String> result = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            result.add(string(buffer.getInt(aliases + 4 * i)));
+        }
+        return List.copyOf(result);
+    }
+
+    /** id 열이 정렬되어 있으므로 이분 탐색한다. 없으면 -1. */
+    public int findPoi(long id) {
+        int lo = 0;
+        int hi = poiCount - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            long value = poiId(mid);
+            if (value < id) {
+                lo = mid + 1;
+            } else if (value > id) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /** 이름/별칭/건물 번호가 정규화했을 때 name 과 같은 POI 번호들. */
+    public int[] findByName(String name) {
+        byte[] key = nameKey(name).getBytes(StandardCharsets.UTF_8);
+        if (key.length == 0) {
+            return new int[0];
+        }
+        int lo = 0;
+        int hi = nameCount;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compareString(buffer.getInt(nameKeys + 4 * mid), key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        int end = lo;
+        while (end < nameCount && compareString(buffer.getInt(nameKeys + 4 * end), key) == 0) {
+            end++;
+        }
+        int[] result = new int[end - lo];
+        for (int i = lo; i < end; i++) {
+            result[i - lo] = buffer.getInt(namePois + 4 * i);
+        }
+        return result;
+    }
+
+    /** 한 POI 를 객체로 만든다. */
+    public Poi poi(int poi) {
+        return new Poi(poiId(poi), poiType(poi), poiBuilding(poi), poiNameKo(poi), poiNameEn(poi), poiLat(poi),
+                poiLon(poi), poiFloor(poi), poiAliases(poi), poiPopularity(poi));
+    }
+
+    /**
+     * 매핑된 열을 보는 읽기 전용 목록. 미리 풀어 두지 않고 get 할 때마다 그 POI 만 객체로 만든다.
+     */
+    public List<Poi> pois() {
+        return new PoiList();
+    }
+
+    private final class PoiList extends AbstractList<Poi> implements RandomAccess {
+        @Override
+        public Poi get(int index) {
+            Objects.checkIndex(index, poiCount);
+            return poi(index);
+        }
+
+        @Override
+        public int size() {
+            return poiCount;
+        }
+    }
+
+    // ---- 그래프
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    public int edgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * 경로 탐색의 안쪽 반복문은 힙 배열이 빠르므로 매핑된 열을 배열로 한꺼번에 복사한다 (파싱 없음).
+     */
+    public FootpathGraph graph() {
+        int at = graphStart;
+        double[] lats = new double[nodeCount];
+        buffer.slice(at, 8 * nodeCount).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().get(lats);
+        at += 8 * nodeCount;
+        double[] lons = new double[nodeCount];
+        buffer.slice(at, 8 * nodeCount).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().get(lons);
+        at += 8 * nodeCount;
+        String[] buildings = new String[nodeCount];
+        for (int v = 0; v < nodeCount; v++) {
+            buildings[v] = string(buffer.getInt(at + 4 * v));
+        }
+        at += 4 * nodeCount;
+        int[] offsets = new int[nodeCount + 1];
+        buffer.slice(at, 4 * (nodeCount + 1)).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(offsets);
+        at += 4 * (nodeCount + 1);
+        int[] targets = new int[edgeCount];
+        buffer.slice(at, 4 * edgeCount).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(targets);
+        at += 4 * edgeCount;
+        float[] lengths = new float[edgeCount];
+        buffer.slice(at, 4 * edgeCount).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(lengths);
+        at += 4 * edgeCount;
+        byte[] kinds = new byte[edgeCount];
+        buffer.get(at, kinds);
+        return FootpathGraph.of(lats, lons, buildings, offsets, targets, lengths, kinds);
+    }
+
+    // ---- 미리 만든 색인 (선택 섹션). 배열은 매핑에서 한꺼번에 복사하며 다시 계산하지 않는다.
+
+    /** POI 번호 위의 R-tree 와 그것을 만들 때 쓴 투영. */
+    public record SpatialIndex(LocalProjection projection, HilbertRTree tree) {
+    }
+
+    public Optional<SpatialIndex> spatialIndex() {
+        if (rtreeStart == 0) {
+            return Optional.empty();
+        }
+        int at = rtreeStart;
+        double referenceLat = buffer.getDouble(at);
+        int numItems = buffer.getInt(at + 8);
+        int nodeSize = buffer.getInt(at + 12);
+        int levels = buffer.getInt(at + 16);
+        int nodes = buffer.getInt(at + 20);
+        at += 24;
+        int[] levelBounds = ints(at, levels);
+        at += 4 * levels;
+        double[] boxes = new double[4 * nodes];
+        buffer.slice(at, 8 * boxes.length).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().get(boxes);
+        at += 8 * boxes.length;
+        int[] indices = ints(at, nodes);
+        return Optional.of(new SpatialIndex(new LocalProjection(referenceLat),
+                HilbertRTree.of(numItems, nodeSize, boxes, indices, levelBounds)));
+    }
+
+    /** 인기순 POI 는 {@link #pois()} 처럼 조회할 때 그 POI 만 객체로 만든다. */
+    public Optional<AutocompleteIndex> autocomplete() {
+        if (autocompleteStart == 0) {
+            return Optional.empty();
+        }
+        int at = autocompleteStart;
+        int nodes = buffer.getInt(at);
+        int labelCount = buffer.getInt(at + 4);
+        int topCount = buffer.getInt(at + 8);
+        int rankCount = buffer.getInt(at + 12);
+        at += 16;
+        int[] byRank = ints(at, rankCount);
+        at += 4 * rankCount;
+        char[] labels = new char[labelCount];
+        buffer.slice(at, 2 * labelCount).order(ByteOrder.LITTLE_ENDIAN).asCharBuffer().get(labels);
+        at += 2 * labelCount;
+        int[][] columns = new int[6][];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = ints(at, nodes);
+            at += 4 * nodes;
+        }
+        int[] tops = ints(at, topCount);
+        List<Poi> ranked = new AbstractList<>() {
+            @Override
+            public Poi get(int rank) {
+                return poi(byRank[rank]);
+            }
+
+            @Override
+            public int size() {
+                return byRank.length;
+            }
+        };
+        return Optional.of(AutocompleteIndex.of(ranked, new AutocompleteIndex.Trie(labels, columns[0], columns[1],
+                columns[2], columns[3], columns[4], columns[5], tops)));
+    }
+
+    /** 저장할 때 쓴 랜드마크 수가 설정과 다르면 {@link RouteEngine} 이 그 프로필은 새로 계산한다. */
+    public Map<RoutingProfile, RouteEngine.Landmarks> landmarks() {
+        if (landmarkStart == 0) {
+            return Map.of();
+        }
+        int at = landmarkStart;
+        int profiles = buffer.getInt(at);
+        int count = buffer.getInt(at + 4);
+        int nodes = buffer.getInt(at + 8);
+        at += 12;
+        RoutingProfile[] known = RoutingProfile.values();
+        Map<RoutingProfile, RouteEngine.Landmarks> result = new EnumMap<>(RoutingProfile.class);
+        for (int p = 0; p < profiles; p++) {
+            int ordinal = buffer.getInt(at);
+            int[] landmarks = ints(at + 4, count);
+            at += 4 + 4 * count;
+            double[] distances = new double[nodes * count];
+            buffer.slice(at, 8 * distances.length).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().get(distances);
+            at += 8 * distances.length;
+            if (ordinal < known.length) {
+                result.put(known[ordinal], new RouteEngine.Landmarks(landmarks, distances));
+            }
+        }
+        return result;
+    }
+
+    private int[] ints(int at, int count) {
+        int[] values = new int[count];
+        buffer.slice(at, 4 * count).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(values);
+        return values;
+    }
+}
@@ -0,0 +1,329 @@
+package com.nexus.foreigner_community.map;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32C;
+
+/**
+ * POI 목록과 보행 그래프를 {@link CampusDataset} 스냅샷 파일로 바꾼다.
+ * 사용법: ./gradlew buildCampusDataset
+ */
+public final class CampusDatasetWriter {
+
+    // application.properties 의 map.routing.landmarks 와 같아야 시작할 때 랜드마크 표를 그대로 쓴다.
+    static final int DEFAULT_LANDMARKS = 8;
+
+    private final Map<String, Integer> strings = new LinkedHashMap<>();
+
+    public static void main(String[] args) throws IOException {
+        Path pois = Path.of(args[0]);
+        Path footpaths = Path.of(args[1]);
+        Path output = Path.of(args[2]);
+        int landmarks = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_LANDMARKS;
+
+        List<Poi> poiList;
+        try (InputStream in = Files.newInputStream(pois)) {
+            poiList = PoiCsv.read(in);
+        }
+        FootpathGraph graph;
+        try (InputStream in = Files.newInputStream(footpaths)) {
+            graph = FootpathCsv.read(in);
+        }
+        write(poiList, graph, landmarks, output);
+        System.out.printf("wrote %s (%d pois, %d nodes, %d bytes)%n", output, poiList.size(), graph.nodeCount(),
+                Files.size(output));
+    }
+
+    public static void write(List<Poi> pois, FootpathGraph graph, Path target) throws IOException {
+        write(pois, graph, DEFAULT_LANDMARKS, target);
+    }
+
+    /**
+     * 서버가 시작할 때 읽는 파일. R-tree, 자동완성 트라이, 랜드마크 표까지 넣어 두어 시작할 때 색인을 만들지 않는다.
+     * 임시 파일에 다 쓴 뒤 옮기므로, 읽는 쪽이 반쯤 쓰인 파일을 볼 일은 없다.
+     */
+    public static void write(List<Poi> pois, FootpathGraph graph, int landmarks, Path target) throws IOException {
+        ByteBuffer body = ByteBuffer.wrap(checksummed(new CampusDatasetWriter().encode(pois, graph, true,
+                landmarks)));
+
+        Path parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            while (body.hasRemaining()) {
+                channel.write(body);
+            }
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /** 파일로 쓰지 않고 스냅샷 바이트만 만든다 (오프라인 번들 등). 크기를 줄이려고 색인 섹션은 넣지 않는다. */
+    public static byte[] toBytes(List<Poi> pois, FootpathGraph graph) {
+        return checksummed(new CampusDatasetWriter().encode(pois, graph, false, 0));
+    }
+
+    private static byte[] checksummed(ByteBuffer body) {
+        CRC32C crc = new CRC32C();
+        crc.update(body.duplicate().position(CampusDataset.HEADER_BYTES));
+        body.putLong(16, crc.getValue());
+        return body.array();
+    }
+
+    private ByteBuffer encode(List<Poi> pois, FootpathGraph graph, boolean indexes, int landmarks) {
+        List<Poi> sorted = new ArrayList<>(pois);
+        sorted.sort(Comparator.comparingLong(Poi::id));
+        for (int i = 1; i < sorted.size(); i++) {
+            if (sorted.get(i).id() == sorted.get(i - 1).id()) {
+                throw new IllegalArgumentException("duplicate poi id " + sorted.get(i).id());
+            }
+        }
+        // 문자열 번호가 먼저 정해져야 하므로 문자열 표는 다른 섹션을 만든 뒤에 만든다.
+        ByteBuffer poiSection = poiSection(sorted);
+        ByteBuffer graphSection = graphSection(graph);
+        ByteBuffer nameSection = nameSection(sorted);
+        ByteBuffer stringSection = stringSection();
+        Map<Integer, ByteBuffer> sections = new LinkedHashMap<>();
+        sections.put(CampusDataset.STRINGS, stringSection);
+        sections.put(CampusDataset.POIS, poiSection);
+        sections.put(CampusDataset.GRAPH, graphSection);
+        sections.put(CampusDataset.NAMES, nameSection);
+        if (indexes) {
+            sections.put(CampusDataset.RTREE, rtreeSection(sorted));
+            sections.put(CampusDataset.AUTOCOMPLETE, autocompleteSection(sorted));
+            sections.put(CampusDataset.LANDMARKS, landmarkSection(graph, landmarks));
+        }
+
+        int tableBytes = sections.size() * CampusDataset.SECTION_ENTRY_BYTES;
+        long total = CampusDataset.HEADER_BYTES + tableBytes;
+        for (ByteBuffer section : sections.values()) {
+            total += section.limit();
+        }
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("dataset is too large: " + total + " bytes");
+        }
+        ByteBuffer out = ByteBuffer.allocate((int) total).order(ByteOrder.LITTLE_ENDIAN);
+        out.put(CampusDataset.MAGIC);
+        out.putInt(CampusDataset.FORMAT_VERSION);
+        out.putInt(sections.size());
+        out.putLong(0); // CRC32C 는 다 쓴 뒤 채운다.
+        out.position(CampusDataset.HEADER_BYTES);
+        long offset = CampusDataset.HEADER_BYTES + tableBytes;
+        for (Map.Entry<Integer, ByteBuffer> section : sections.entrySet()) {
+            out.putInt(section.getKey());
+            out.putInt(0);
+            out.putLong(offset);
+            out.putLong(section.getValue().limit());
+            offset += section.getValue().limit();
+        }
+        for (ByteBuffer section : sections.values()) {
+            out.put(section);
+        }
+        return out.flip();
+    }
+
+    private int string(String value) {
+        if (value == null || value.isEmpty()) {
+            return -1;
+        }
+        return strings.computeIfAbsent(value, v -> strings.size());
+    }
+
+    private ByteBuffer stringSection() {
+        List<byte[]> encoded = new ArrayList<>(strings.size());
+        int bytes = 0;
+        for (String value : strings.keySet()) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            encoded.add(utf8);
+            bytes += utf8.length;
+        }
+        ByteBuffer out = allocate(4 + 4 * (encoded.size() + 1) + bytes);
+        out.putInt(encoded.size());
+        int position = 0;
+        for (byte[] utf8 : encoded) {
+            out.putInt(position);
+            position += utf8.length;
+        }
+        out.putInt(position);
+        encoded.forEach(out::put);
+        return out.flip();
+    }
+
+    private ByteBuffer poiSection(List<Poi> pois) {
+        int n = pois.size();
+        int aliasCount = pois.stream().mapToInt(poi -> poi.aliases().size()).sum();
+        ByteBuffer out = allocate(8 + n * (8 + 1 + 4 + 4 + 4 + 8 + 8 + 4 + 4) + 4 * (n + 1) + 4 * aliasCount);
+        out.putInt(n);
+        out.putInt(aliasCount);
+        pois.forEach(poi -> out.putLong(poi.id()));
+        pois.forEach(poi -> out.put((byte) poi.type().ordinal()));
+        pois.forEach(poi -> out.putInt(string(poi.building())));
+        pois.forEach(poi -> out.putInt(string(poi.nameKo())));
+        pois.forEach(poi -> out.putInt(string(poi.nameEn())));
+        pois.forEach(poi -> out.putDouble(poi.lat()));
+        pois.forEach(poi -> out.putDouble(poi.lon()));
+        pois.forEach(poi -> out.putInt(poi.floor()));
+        pois.forEach(poi -> out.putInt(poi.popularity()));
+        int start = 0;
+        for (Poi poi : pois) {
+            out.putInt(start);
+            start += poi.aliases().size();
+        }
+        out.putInt(start);
+        pois.forEach(poi -> poi.aliases().forEach(alias -> out.putInt(string(alias))));
+        return out.flip();
+    }
+
+    private ByteBuffer graphSection(FootpathGraph graph) {
+        int nodes = graph.nodeCount();
+        int edges = graph.edgeCount();
+        ByteBuffer out = allocate(8 + nodes * (8 + 8 + 4) + 4 * (nodes + 1) + edges * (4 + 4 + 1));
+        out.putInt(nodes);
+        out.putInt(edges);
+        for (int v = 0; v < nodes; v++) {
+            out.putDouble(graph.lat(v));
+        }
+        for (int v = 0; v < nodes; v++) {
+            out.putDouble(graph.lon(v));
+        }
+        for (int v = 0; v < nodes; v++) {
+            out.putInt(string(graph.building(v)));
+        }
+        for (int v = 0; v < nodes; v++) {
+            out.putInt(graph.firstEdge(v));
+        }
+        out.putInt(edges);
+        for (int e = 0; e < edges; e++) {
+            out.putInt(graph.target(e));
+        }
+        for (int e = 0; e < edges; e++) {
+            out.putFloat(graph.length(e));
+        }
+        for (int e = 0; e < edges; e++) {
+            out.put((byte) graph.kind(e).ordinal());
+        }
+        return out.flip();
+    }
+
+    // (정규화한 이름, POI 번호) 쌍을 이름의 UTF-8 바이트 순으로 정렬해 둔다. 읽는 쪽은 매핑된 바이트와 바로 비교한다.
+    private ByteBuffer nameSection(List<Poi> pois) {
+        record Name(byte[] key, int keyString, int poi) {
+        }
+        List<Name> names = new ArrayList<>();
+        for (int i = 0; i < pois.size(); i++) {
+            Poi poi = pois.get(i);
+            Set<String> keys = new LinkedHashSet<>();
+            keys.add(CampusDataset.nameKey(poi.nameKo()));
+            keys.add(CampusDataset.nameKey(poi.nameEn()));
+            keys.add(CampusDataset.nameKey(poi.building()));
+            poi.aliases().forEach(alias -> keys.add(CampusDataset.nameKey(alias)));
+            for (String key : keys) {
+                if (!key.isEmpty()) {
+                    names.add(new Name(key.getBytes(StandardCharsets.UTF_8), string(key), i));
+                }
+            }
+        }
+        names.sort((a, b) -> {
+            int c = Arrays.compareUnsigned(a.key(), b.key());
+            return c != 0 ? c : Integer.compare(a.poi(), b.poi());
+        });
+        ByteBuffer out = allocate(4 + names.size() * 8);
+        out.putInt(names.size());
+        names.forEach(name -> out.putInt(name.keyString()));
+        names.forEach(name -> out.putInt(name.poi()));
+        return out.flip();
+    }
+
+    // POI 번호(id 순) 위의 R-tree. CampusMap 이 만드는 것과 같은 투영과 노드 크기를 쓴다.
+    private ByteBuffer rtreeSection(List<Poi> pois) {
+        LocalProjection projection = CampusMap.projection(pois);
+        HilbertRTree tree = CampusMap.index(pois, projection);
+        int[] bounds = tree.levelBounds();
+        double[] boxes = tree.boxes();
+        int[] indices = tree.indices();
+        ByteBuffer out = allocate(8 + 16 + 4 * bounds.length + 8 * boxes.length + 4 * indices.length);
+        out.putDouble(projection.referenceLat());
+        out.putInt(tree.size());
+        out.putInt(tree.nodeSize());
+        out.putInt(bounds.length);
+        out.putInt(indices.length);
+        putInts(out, bounds);
+        for (double value : boxes) {
+            out.putDouble(value);
+        }
+        putInts(out, indices);
+        return out.flip();
+    }
+
+    // 인기순 POI 는 POI 번호로 저장한다.
+    private ByteBuffer autocompleteSection(List<Poi> pois) {
+        AutocompleteIndex index = AutocompleteIndex.build(pois);
+        AutocompleteIndex.Trie trie = index.trie();
+        long[] ids = pois.stream().mapToLong(Poi::id).toArray();
+        int[] byRank = index.byRank().stream().mapToInt(poi -> Arrays.binarySearch(ids, poi.id())).toArray();
+        int nodes = trie.labelStart().length;
+        ByteBuffer out = allocate(16 + 4 * byRank.length + 2 * trie.labels().length + 4 * 6 * nodes
+                + 4 * trie.tops().length);
+        out.putInt(nodes);
+        out.putInt(trie.labels().length);
+        out.putInt(trie.tops().length);
+        out.putInt(byRank.length);
+        putInts(out, byRank);
+        for (char c : trie.labels()) {
+            out.putChar(c);
+        }
+        putInts(out, trie.labelStart());
+        putInts(out, trie.labelLength());
+        putInts(out, trie.firstChild());
+        putInts(out, trie.childCount());
+        putInts(out, trie.topStart());
+        putInts(out, trie.topLength());
+        putInts(out, trie.tops());
+        return out.flip();
+    }
+
+    private ByteBuffer landmarkSection(FootpathGraph graph, int landmarks) {
+        RouteEngine engine = new RouteEngine(graph, landmarks);
+        RoutingProfile[] profiles = RoutingProfile.values();
+        int count = Math.min(landmarks, graph.nodeCount());
+        int nodes = graph.nodeCount();
+        ByteBuffer out = allocate(12 + profiles.length * (4 + 4 * count + 8 * nodes * count));
+        out.putInt(profiles.length);
+        out.putInt(count);
+        out.putInt(nodes);
+        for (RoutingProfile profile : profiles) {
+            RouteEngine.Landmarks table = engine.landmarks(profile);
+            out.putInt(profile.ordinal());
+            putInts(out, table.nodes());
+            for (double value : table.distances()) {
+                out.putDouble(value);
+            }
+        }
+        return out.flip();
+    }
+
+    private static void putInts(ByteBuffer out, int[] values) {
+        for (int value : values) {
+            out.putInt(value);
+        }
+    }
+
+    private static ByteBuffer allocate(int bytes) {
+        return ByteBuffer.allocate(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
@@ -0,0 +1,92 @@
+package com.nexus.foreigner_community.map;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 건물 코드나 좌표에서 출발하는 등시선. 결과는 (데이터 버전, 출발점, 분, 프로필) 로 캐시한다.
+ * Caffeine(W-TinyLFU)이 자주 묻는 출발점을 남기고, 보행 그래프나 POI 목록이 바뀌면 버전을 올리고 비운다.
+ * 좌표는 소수 넷째 자리(약 10m)로 반올림해서 계산하므로 근처에서 온 요청도 같은 캐시 항목을 쓴다.
+ */
+@Component
+public class CampusIsochrones {
+
+    public static final int MAX_MINUTES = 30;
+
+    private record Key(long version, String origin, int minutes, RoutingProfile profile) {
+    }
+
+    private final CampusRouter router;
+    private final CampusMap campusMap;
+    private final Cache<Key, Optional<Isochrone>> cache;
+    private final AtomicLong version = new AtomicLong();
+
+    public CampusIsochrones(CampusRouter router, CampusMap campusMap,
+                            @Value("${map.isochrone.cache-size}") long cacheSize) {
+        this.router = router;
+        this.campusMap = campusMap;
+        this.cache = Caffeine.newBuilder().maximumSize(cacheSize).build();
+        router.addListener(this::invalidate);
+        campusMap.addListener(pois -> invalidate());
+    }
+
+    private void invalidate() {
+        // 버전을 먼저 올려, 이전 데이터로 계산 중이던 결과가 새 키로 들어가지 않게 한다.
+        version.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * origin 은 건물 코드("N14") 나 "위도,경도". 모르는 건물이면 비어 있다. types 가 비어 있으면 모든 POI.
+     */
+    public Optional<Isochrone> compute(String origin, int minutes, RoutingProfile profile, Set<PoiType> types) {
+        int clamped = Math.max(1, Math.min(minutes, MAX_MINUTES));
+        String normalized = normalize(origin);
+        return cache.get(new Key(version.get(), normalized, clamped, profile), this::calculate)
+                .map(isochrone -> isochrone.withTypes(types));
+    }
+
+    /** 여러 출발점을 병렬로 계산한다. 결과는 origins 순서이다. */
+    public List<Optional<Isochrone>> computeAll(List<String> origins, int minutes, RoutingProfile profile,
+                                                Set<PoiType> types) {
+        return origins.parallelStream().map(origin -> compute(origin, minutes, profile, types)).toList();
+    }
+
+    private Optional<Isochrone> calculate(Key key) {
+        IsochroneCalculator calculator = new IsochroneCalculator(router.engine());
+        List<Poi> pois = campusMap.all();
+        int comma = key.origin().indexOf(',');
+        if (comma < 0) {
+            return Optional.ofNullable(calculator.fromBuilding(key.origin(), key.minutes(), key.profile(), pois));
+        }
+        double lat = Double.parseDouble(key.origin().substring(0, comma));
+        double lon = Double.parseDouble(key.origin().substring(comma + 1));
+        return Optional.of(calculator.fromPoint(lat, lon, key.minutes(), key.profile(), pois));
+    }
+
+    static String normalize(String origin) {
+        String trimmed = origin.trim();
+        int comma = trimmed.indexOf(',');
+        if (comma < 0) {
+            return trimmed;
+        }
+        try {
+            double lat = Double.parseDouble(trimmed.substring(0, comma).trim());
+            double lon = Double.parseDouble(trimmed.substring(comma + 1).trim());
+            if (Math.abs(lat) > 90 || Math.abs(lon) > 180) {
+                throw new IllegalArgumentException("coordinates out of range: " + origin);
+            }
+            return Math.round(lat * 1e4) / 1e4 + "," + Math.round(lon * 1e4) / 1e4;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("origin must be a building code or lat,lon: " + origin, e);
+        }
+    }
+}
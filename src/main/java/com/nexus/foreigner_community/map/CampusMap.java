@@ -0,0 +1,195 @@
+package com.nexus.foreigner_community.map;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시작할 때 POI 목록을 읽어 {@link HilbertRTree} 를 만들어 두고 근처/영역 조회에 답한다.
+ * POI 목록이 바뀌면 새 스냅샷을 통째로 만들어 바꿔 끼우므로 조회 중인 요청은 영향을 받지 않는다.
+ * <p>
+ * 캠퍼스 데이터 스냅샷으로 시작했다면 POI 를 객체로 풀어 두지 않는다. 파일에 저장된 R-tree 를 그대로 쓰고,
+ * id/이름 조회와 종류 필터는 매핑된 열에서 바로 하며, 결과로 돌려주는 POI 만 그때 객체로 만든다.
+ */
+@Component
+public class CampusMap {
+
+    public static final int MAX_RESULTS = 500;
+
+    // dataset 이 있으면 pois 는 그 파일의 열을 보는 목록이고 byId 는 만들지 않는다.
+    private record Snapshot(List<Poi> pois, Map<Long, Poi> byId, CampusDataset dataset, LocalProjection projection,
+                            HilbertRTree index) {
+
+        static Snapshot of(List<Poi> pois) {
+            Map<Long, Poi> byId = new HashMap<>();
+            for (Poi poi : pois) {
+                byId.put(poi.id(), poi);
+            }
+            LocalProjection projection = CampusMap.projection(pois);
+            return new Snapshot(pois, byId, null, projection, CampusMap.index(pois, projection));
+        }
+
+        // 스냅샷에 R-tree 가 없는 파일(색인 섹션 없이 만든 것)이면 여기서 한 번 만든다.
+        static Snapshot of(CampusDataset dataset) {
+            List<Poi> pois = dataset.pois();
+            CampusDataset.SpatialIndex spatial = dataset.spatialIndex().orElseGet(() -> {
+                LocalProjection projection = CampusMap.projection(pois);
+                return new CampusDataset.SpatialIndex(projection, CampusMap.index(pois, projection));
+            });
+            return new Snapshot(pois, Map.of(), dataset, spatial.projection(), spatial.tree());
+        }
+
+        PoiType type(int index) {
+            return dataset != null ? dataset.poiType(index) : pois.get(index).type();
+        }
+    }
+
+    /** POI 들의 평균 위도를 기준으로 한 투영. 스냅샷 파일을 쓸 때도 같은 방법으로 만든다. */
+    static LocalProjection projection(List<Poi> pois) {
+        return new LocalProjection(pois.stream().mapToDouble(Poi::lat).average().orElse(0));
+    }
+
+    /** 목록 순서의 번호로 점을 가리키는 R-tree. */
+    static HilbertRTree index(List<Poi> pois, LocalProjection projection) {
+        double[] xs = new double[pois.size()];
+        double[] ys = new double[pois.size()];
+        for (int i = 0; i < pois.size(); i++) {
+            xs[i] = projection.x(pois.get(i).lon());
+            ys[i] = projection.y(pois.get(i).lat());
+        }
+        return HilbertRTree.build(xs, ys);
+    }
+
+    private volatile Snapshot snapshot;
+    private final List<Consumer<List<Poi>>> listeners = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    public CampusMap(CampusData data) {
+        this.snapshot = data.dataset().map(Snapshot::of).orElseGet(() -> Snapshot.of(List.copyOf(data.pois())));
+    }
+
+    public CampusMap(Collection<Poi> pois) {
+        this.snapshot = Snapshot.of(List.copyOf(pois));
+    }
+
+    CampusMap(CampusDataset dataset) {
+        this.snapshot = Snapshot.of(dataset);
+    }
+
+    /** 바꾼 목록은 스냅샷 파일과 다르므로 이후 조회는 메모리의 목록으로 한다. */
+    public void replace(Collection<Poi> pois) {
+        Snapshot next = Snapshot.of(List.copyOf(pois));
+        this.snapshot = next;
+        listeners.forEach(listener -> listener.accept(next.pois()));
+    }
+
+    /** POI 목록이 바뀔 때마다 새 목록을 받는다. */
+    public void addListener(Consumer<List<Poi>> listener) {
+        listeners.add(listener);
+    }
+
+    /** 스냅샷 파일로 시작했다면 매핑된 열을 보는 목록이라, 전체를 돌면 POI 마다 객체를 새로 만든다. */
+    public List<Poi> all() {
+        return snapshot.pois();
+    }
+
+    /** 한 종류의 POI 만. 스냅샷 파일로 시작했다면 종류 열만 훑고 맞는 POI 만 객체로 만든다. */
+    public List<Poi> ofType(PoiType type) {
+        Snapshot current = snapshot;
+        List<Poi> result = new ArrayList<>();
+        for (int i = 0; i < current.pois().size(); i++) {
+            if (current.type(i) == type) {
+                result.add(current.pois().get(i));
+            }
+        }
+        return result;
+    }
+
+    /** 스냅샷 파일로 시작했고 아직 목록이 바뀌지 않았을 때만 있다. */
+    Optional<CampusDataset> dataset() {
+        return Optional.ofNullable(snapshot.dataset());
+    }
+
+    public int size() {
+        return snapshot.pois().size();
+    }
+
+    public Optional<Poi> find(long id) {
+        Snapshot current = snapshot;
+        if (current.dataset() == null) {
+            return Optional.ofNullable(current.byId().get(id));
+        }
+        int index = current.dataset().findPoi(id);
+        return index < 0 ? Optional.empty() : Optional.of(current.dataset().poi(index));
+    }
+
+    /** 한글/영어 이름, 별칭, 건물 번호가 {@link CampusDataset#nameKey} 로 정규화했을 때 name 과 같은 POI. */
+    public List<Poi> findByName(String name) {
+        Snapshot current = snapshot;
+        List<Poi> result = new ArrayList<>();
+        if (current.dataset() != null) {
+            for (int index : current.dataset().findByName(name)) {
+                result.add(current.dataset().poi(index));
+            }
+            return result;
+        }
+        String key = CampusDataset.nameKey(name);
+        if (key.isEmpty()) {
+            return result;
+        }
+        for (Poi poi : current.pois()) {
+            if (key.equals(CampusDataset.nameKey(poi.nameKo())) || key.equals(CampusDataset.nameKey(poi.nameEn()))
+                    || key.equals(CampusDataset.nameKey(poi.building()))
+                    || poi.aliases().stream().anyMatch(alias -> key.equals(CampusDataset.nameKey(alias)))) {
+                result.add(poi);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * (lat, lon) 에서 가까운 POI 를 최대 k 개, 가까운 순서로 돌려준다. types 가 비어 있으면 모든 종류.
+     */
+    public List<NearbyPoi> nearest(double lat, double lon, int k, Set<PoiType> types, double maxDistanceMeters) {
+        Snapshot current = snapshot;
+        List<Poi> pois = current.pois();
+        EnumSet<PoiType> wanted = types.isEmpty() ? EnumSet.allOf(PoiType.class) : EnumSet.copyOf(types);
+        double x = current.projection().x(lon);
+        double y = current.projection().y(lat);
+        int[] found = current.index().nearest(x, y, Math.min(k, MAX_RESULTS), maxDistanceMeters,
+                i -> wanted.contains(current.type(i)));
+        List<NearbyPoi> result = new ArrayList<>(found.length);
+        for (int i : found) {
+            Poi poi = pois.get(i);
+            result.add(new NearbyPoi(poi, current.projection().distance(lat, lon, poi.lat(), poi.lon())));
+        }
+        return result;
+    }
+
+    /**
+     * 위경도 박스 안의 POI 를 최대 limit 개 돌려준다. 순서는 정해져 있지 않다.
+     */
+    public List<Poi> within(double south, double west, double north, double east, Set<PoiType> types, int limit) {
+        Snapshot current = snapshot;
+        List<Poi> pois = current.pois();
+        LocalProjection projection = current.projection();
+        int max = Math.min(limit, MAX_RESULTS);
+        List<Poi> result = new ArrayList<>();
+        current.index().search(projection.x(west), projection.y(south), projection.x(east), projection.y(north), i -> {
+            if (result.size() < max && (types.isEmpty() || types.contains(current.type(i)))) {
+                result.add(pois.get(i));
+            }
+        });
+        return result;
+    }
+}
@@ -0,0 +1,96 @@
+package com.nexus.foreigner_community.map;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시작할 때 보행 그래프를 읽어 {@link RouteEngine} 을 만들고, 건물/좌표 단위 경로 요청에 답한다.
+ * 스냅샷 파일에 랜드마크 표가 있으면 다시 계산하지 않고 그것을 쓴다.
+ * 그래프를 바꾸면 새 엔진을 통째로 바꿔 끼우고 그래프 버전을 올린다.
+ */
+@Component
+public class CampusRouter {
+
+    private final int landmarks;
+    private volatile RouteEngine engine;
+    private final AtomicLong graphVersion = new AtomicLong();
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    public CampusRouter(CampusData data, @Value("${map.routing.landmarks}") int landmarks) {
+        this.landmarks = landmarks;
+        this.engine = new RouteEngine(data.graph(), landmarks,
+                data.dataset().map(CampusDataset::landmarks).orElse(Map.of()));
+    }
+
+    public void replaceGraph(FootpathGraph graph) {
+        this.engine = new RouteEngine(graph, landmarks);
+        graphVersion.incrementAndGet();
+        listeners.forEach(Runnable::run);
+    }
+
+    /** 그래프가 바뀔 때마다 불린다. */
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    public long graphVersion() {
+        return graphVersion.get();
+    }
+
+    public RouteEngine engine() {
+        return engine;
+    }
+
+    public Optional<Route> betweenBuildings(String from, String to, RoutingProfile profile) {
+        RouteEngine engine = this.engine;
+        return Optional.ofNullable(engine.routeBetweenBuildings(from, to, profile))
+                .map(path -> toRoute(engine, path, profile));
+    }
+
+    /** 두 좌표에서 가장 가까운(프로필로 갈 수 있는) 노드를 잡아 경로를 찾는다. */
+    public Optional<Route> between(double fromLat, double fromLon, double toLat, double toLon, RoutingProfile profile) {
+        RouteEngine engine = this.engine;
+        FootpathGraph graph = engine.graph();
+        int from = graph.nearestNode(fromLat, fromLon, v -> engine.reachable(v, profile));
+        int to = graph.nearestNode(toLat, toLon, v -> engine.reachable(v, profile));
+        if (from < 0 || to < 0) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(engine.route(from, to, profile)).map(path -> toRoute(engine, path, profile));
+    }
+
+    private Route toRoute(RouteEngine engine, RouteEngine.RoutePath path, RoutingProfile profile) {
+        FootpathGraph graph = engine.graph();
+        int[] nodes = path.nodes();
+        List<Route.Waypoint> waypoints = new ArrayList<>(nodes.length);
+        for (int i = 0; i < nodes.length; i++) {
+            int v = nodes[i];
+            waypoints.add(new Route.Waypoint(graph.lat(v), graph.lon(v), graph.building(v),
+                    i == 0 ? null : edgeKind(graph, nodes[i - 1], v, profile)));
+        }
+        return new Route(profile, path.seconds(), path.meters(), waypoints);
+    }
+
+    // 두 노드 사이에 간선이 여러 개면 프로필에서 가장 빠른 것이 경로에 쓰인 간선이다.
+    private EdgeKind edgeKind(FootpathGraph graph, int from, int to, RoutingProfile profile) {
+        EdgeKind best = null;
+        double bestSeconds = Double.POSITIVE_INFINITY;
+        for (int e = graph.firstEdge(from); e < graph.endEdge(from); e++) {
+            if (graph.target(e) == to) {
+                double seconds = profile.seconds(graph.kind(e), graph.length(e));
+                if (best == null || seconds < bestSeconds) {
+                    best = graph.kind(e);
+                    bestSeconds = seconds;
+                }
+            }
+        }
+        return best;
+    }
+}
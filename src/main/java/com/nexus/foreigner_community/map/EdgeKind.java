@@ -0,0 +1,9 @@
+package com.nexus.foreigner_community.map;
+
+public enum EdgeKind {
+    PATH,
+    CORRIDOR,
+    STAIRS,
+    RAMP,
+    ELEVATOR
+}
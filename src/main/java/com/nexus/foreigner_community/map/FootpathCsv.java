@@ -0,0 +1,48 @@
+package com.nexus.foreigner_community.map;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 보행 그래프 파일을 읽는다. 한 줄에 노드나 간선 하나이고 #으로 시작하는 줄은 주석이다.
+ * <pre>
+ * node,id,lat,lon,building      (building 은 건물 출입구일 때만)
+ * edge,from,to,kind[,meters]    (meters 를 비우면 직선 거리)
+ * </pre>
+ * 간선은 양방향이다. 노드는 간선보다 먼저 나와야 한다.
+ */
+public final class FootpathCsv {
+
+    private FootpathCsv() {
+    }
+
+    public static FootpathGraph read(InputStream in) throws IOException {
+        FootpathGraph.Builder builder = FootpathGraph.builder();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            String[] cols = line.split(",", -1);
+            try {
+                switch (cols[0].trim()) {
+                    case "node" -> builder.addNode(Long.parseLong(cols[1].trim()), Double.parseDouble(cols[2].trim()),
+                            Double.parseDouble(cols[3].trim()), cols.length > 4 ? cols[4].trim() : null);
+                    case "edge" -> builder.addEdge(builder.node(Long.parseLong(cols[1].trim())),
+                            builder.node(Long.parseLong(cols[2].trim())), EdgeKind.valueOf(cols[3].trim()),
+                            cols.length > 4 && !cols[4].isBlank() ? Double.parseDouble(cols[4].trim()) : Double.NaN);
+                    default -> throw new IllegalArgumentException("unknown record type " + cols[0]);
+                }
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+                throw new IOException("line " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+        return builder.build();
+    }
+}
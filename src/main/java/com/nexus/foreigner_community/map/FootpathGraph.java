@@ -0,0 +1,241 @@
+package com.nexus.foreigner_community.map;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * 보행 경로 그래프. 인접 목록을 CSR(offsets/targets) 배열로 저장한다.
+ * 노드 v 의 간선은 targets[offsets[v] .. offsets[v+1]) 이고 길이와 종류는 같은 위치의 lengths/kinds 에 있다.
+ * 모든 간선은 양방향이므로 두 방향이 각각 한 번씩 들어 있다.
+ */
+public final class FootpathGraph {
+
+    private static final EdgeKind[] KINDS = EdgeKind.values();
+
+    private final double[] lats;
+    private final double[] lons;
+    private final String[] buildings;
+    private final int[] offsets;
+    private final int[] targets;
+    private final float[] lengths;
+    private final byte[] kinds;
+    private final Map<String, int[]> entrances;
+    private final LocalProjection projection;
+    private final HilbertRTree nodeIndex;
+
+    private FootpathGraph(double[] lats, double[] lons, String[] buildings, int[] offsets, int[] targets,
+                          float[] lengths, byte[] kinds, LocalProjection projection) {
+        this.lats = lats;
+        this.lons = lons;
+        this.buildings = buildings;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.lengths = lengths;
+        this.kinds = kinds;
+        this.projection = projection;
+
+        Map<String, List<Integer>> byBuilding = new LinkedHashMap<>();
+        for (int v = 0; v < buildings.length; v++) {
+            if (buildings[v] != null) {
+                byBuilding.computeIfAbsent(buildings[v], b -> new ArrayList<>()).add(v);
+            }
+        }
+        Map<String, int[]> entrances = new LinkedHashMap<>();
+        byBuilding.forEach((building, nodes) -> entrances.put(building,
+                nodes.stream().mapToInt(Integer::intValue).toArray()));
+        this.entrances = entrances;
+
+        double[] xs = new double[lats.length];
+        double[] ys = new double[lats.length];
+        for (int v = 0; v < lats.length; v++) {
+            xs[v] = projection.x(lons[v]);
+            ys[v] = projection.y(lats[v]);
+        }
+        this.nodeIndex = HilbertRTree.build(xs, ys);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /** 이미 CSR 로 정리된 배열(스냅샷에서 읽은 것)을 그대로 쓴다. */
+    static FootpathGraph of(double[] lats, double[] lons, String[] buildings, int[] offsets, int[] targets,
+                            float[] lengths, byte[] kinds) {
+        return new FootpathGraph(lats, lons, buildings, offsets, targets, lengths, kinds,
+                new LocalProjection(referenceLat(lats, lats.length)));
+    }
+
+    private static double referenceLat(double[] lats, int nodes) {
+        double referenceLat = 0;
+        for (int v = 0; v < nodes; v++) {
+            referenceLat += lats[v] / nodes;
+        }
+        return referenceLat;
+    }
+
+    public int nodeCount() {
+        return lats.length;
+    }
+
+    /** 방향 간선 수 (양방향 간선 하나는 2로 센다). */
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    public double lat(int node) {
+        return lats[node];
+    }
+
+    public double lon(int node) {
+        return lons[node];
+    }
+
+    /** 건물 출입구 노드이면 건물 번호, 아니면 null. */
+    public String building(int node) {
+        return buildings[node];
+    }
+
+    public int firstEdge(int node) {
+        return offsets[node];
+    }
+
+    public int endEdge(int node) {
+        return offsets[node + 1];
+    }
+
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    public float length(int edge) {
+        return lengths[edge];
+    }
+
+    public EdgeKind kind(int edge) {
+        return KINDS[kinds[edge]];
+    }
+
+    public Map<String, int[]> entrances() {
+        return entrances;
+    }
+
+    public LocalProjection projection() {
+        return projection;
+    }
+
+    /** filter 를 통과하는 가장 가까운 노드, 없으면 -1. */
+    public int nearestNode(double lat, double lon, IntPredicate filter) {
+        int[] found = nearestNodes(lat, lon, 1, Double.POSITIVE_INFINITY, filter);
+        return found.length == 0 ? -1 : found[0];
+    }
+
+    /** filter 를 통과하는 maxDistanceMeters 안의 노드를 가까운 순서로 최대 k 개. */
+    public int[] nearestNodes(double lat, double lon, int k, double maxDistanceMeters, IntPredicate filter) {
+        return nodeIndex.nearest(projection.x(lon), projection.y(lat), k, maxDistanceMeters, filter);
+    }
+
+    public static final class Builder {
+
+        private double[] lats = new double[64];
+        private double[] lons = new double[64];
+        private final List<String> buildings = new ArrayList<>();
+        private int nodes;
+        private int[] edgeFrom = new int[64];
+        private int[] edgeTo = new int[64];
+        private float[] edgeLength = new float[64];
+        private byte[] edgeKind = new byte[64];
+        private int edges;
+        private final Map<Long, Integer> externalIds = new HashMap<>();
+
+        public int addNode(double lat, double lon, String building) {
+            if (nodes == lats.length) {
+                lats = Arrays.copyOf(lats, nodes * 2);
+                lons = Arrays.copyOf(lons, nodes * 2);
+            }
+            lats[nodes] = lat;
+            lons[nodes] = lon;
+            buildings.add(building == null || building.isEmpty() ? null : building);
+            return nodes++;
+        }
+
+        /** 외부 번호(파일의 node id)로 노드를 추가한다. */
+        public int addNode(long externalId, double lat, double lon, String building) {
+            if (externalIds.containsKey(externalId)) {
+                throw new IllegalArgumentException("duplicate node " + externalId);
+            }
+            int node = addNode(lat, lon, building);
+            externalIds.put(externalId, node);
+            return node;
+        }
+
+        public int node(long externalId) {
+            Integer node = externalIds.get(externalId);
+            if (node == null) {
+                throw new IllegalArgumentException("unknown node " + externalId);
+            }
+            return node;
+        }
+
+        /** 양방향 간선. lengthMeters 가 NaN 이면 두 노드 사이의 직선 거리를 쓴다. */
+        public Builder addEdge(int a, int b, EdgeKind kind, double lengthMeters) {
+            if (a < 0 || a >= nodes || b < 0 || b >= nodes) {
+                throw new IllegalArgumentException("edge " + a + "-" + b + " refers to a missing node");
+            }
+            add(a, b, kind, (float) lengthMeters);
+            add(b, a, kind, (float) lengthMeters);
+            return this;
+        }
+
+        public Builder addEdge(int a, int b, EdgeKind kind) {
+            return addEdge(a, b, kind, Double.NaN);
+        }
+
+        private void add(int from, int to, EdgeKind kind, float length) {
+            if (edges == edgeFrom.length) {
+                edgeFrom = Arrays.copyOf(edgeFrom, edges * 2);
+                edgeTo = Arrays.copyOf(edgeTo, edges * 2);
+                edgeLength = Arrays.copyOf(edgeLength, edges * 2);
+                edgeKind = Arrays.copyOf(edgeKind, edges * 2);
+            }
+            edgeFrom[edges] = from;
+            edgeTo[edges] = to;
+            edgeLength[edges] = length;
+            edgeKind[edges] = (byte) kind.ordinal();
+            edges++;
+        }
+
+        public FootpathGraph build() {
+            LocalProjection projection = new LocalProjection(referenceLat(lats, nodes));
+
+            // 출발 노드별로 개수를 센 뒤 누적합 자리에 채워 넣는다 (counting sort).
+            int[] offsets = new int[nodes + 1];
+            for (int e = 0; e < edges; e++) {
+                offsets[edgeFrom[e] + 1]++;
+            }
+            for (int v = 0; v < nodes; v++) {
+                offsets[v + 1] += offsets[v];
+            }
+            int[] cursor = Arrays.copyOf(offsets, nodes);
+            int[] targets = new int[edges];
+            float[] lengths = new float[edges];
+            byte[] kinds = new byte[edges];
+            for (int e = 0; e < edges; e++) {
+                int from = edgeFrom[e];
+                int to = edgeTo[e];
+                int slot = cursor[from]++;
+                targets[slot] = to;
+                kinds[slot] = edgeKind[e];
+                lengths[slot] = Float.isNaN(edgeLength[e])
+                        ? (float) projection.distance(lats[from], lons[from], lats[to], lons[to])
+                        : edgeLength[e];
+            }
+            return new FootpathGraph(Arrays.copyOf(lats, nodes), Arrays.copyOf(lons, nodes),
+                    buildings.toArray(new String[0]), offsets, targets, lengths, kinds, projection);
+        }
+    }
+}
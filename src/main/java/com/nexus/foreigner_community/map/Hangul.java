@@ -0,0 +1,135 @@
+package com.nexus.foreigner_community.map;
+
+import java.util.Map;
+
+/**
+ * 한글 음절을 자모로 분해하고 국어의 로마자 표기법(Revised Romanization)으로 옮긴다.
+ * 자동완성 색인용이라 받침의 연음(ㄱ+ㅇ → g)과 ㄹㄹ → ll 정도만 반영한다.
+ */
+public final class Hangul {
+
+    private static final int SYLLABLE_BASE = 0xAC00;
+    private static final int SYLLABLE_LAST = 0xD7A3;
+    private static final int MEDIALS = 21;
+    private static final int FINALS = 28;
+
+    // 호환 자모. 겹모음/겹받침은 입력 순서대로 쪼갠다 (ㅘ = ㅗ + ㅏ, ㄺ = ㄹ + ㄱ).
+    private static final String[] INITIAL_JAMO = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String[] MEDIAL_JAMO = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ",
+            "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] FINAL_JAMO = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+            "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private static final String[] INITIAL_ROMAN = {
+            "g", "kk", "n", "d", "tt", "r", "m", "b", "pp", "s", "ss", "", "j", "jj", "ch", "k", "t", "p", "h"
+    };
+    private static final String[] MEDIAL_ROMAN = {
+            "a", "ae", "ya", "yae", "eo", "e", "yeo", "ye", "o", "wa", "wae", "oe", "yo", "u", "wo", "we", "wi", "yu",
+            "eu", "ui", "i"
+    };
+    // 음절 끝(다음 음절이 자음으로 시작하거나 단어 끝)에서의 받침
+    private static final String[] FINAL_ROMAN = {
+            "", "k", "k", "k", "n", "n", "n", "t", "l", "k", "m", "l", "l", "l", "p", "l", "m", "p", "p", "t", "t", "ng",
+            "t", "t", "k", "t", "p", "t"
+    };
+    // 다음 음절이 ㅇ 으로 시작할 때 받침이 넘어가며 나는 소리
+    private static final String[] FINAL_LIAISON = {
+            "", "g", "kk", "ks", "n", "nj", "n", "d", "r", "lg", "lm", "lb", "ls", "lt", "lp", "r", "m", "b", "ps", "s",
+            "ss", "ng", "j", "ch", "k", "t", "p", ""
+    };
+
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"),
+            Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ"), Map.entry('ㄳ', "ㄱㅅ"),
+            Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"),
+            Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+            Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"));
+
+    private static final int INITIAL_IEUNG = 11;
+    private static final int INITIAL_RIEUL = 5;
+    private static final int FINAL_RIEUL = 8;
+
+    private Hangul() {
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+
+    public static boolean isJamo(char c) {
+        return c >= 0x3131 && c <= 0x318E;
+    }
+
+    public static boolean containsHangul(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c) || isJamo(c)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** 음절을 자모로 풀어 쓴다. 한글이 아닌 글자는 그대로 둔다. "관" → "ㄱㅗㅏㄴ" */
+    public static String decompose(CharSequence text) {
+        StringBuilder out = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BASE;
+                out.append(INITIAL_JAMO[index / (MEDIALS * FINALS)])
+                        .append(MEDIAL_JAMO[index / FINALS % MEDIALS])
+                        .append(FINAL_JAMO[index % FINALS]);
+            } else {
+                out.append(jamo(c));
+            }
+        }
+        return out.toString();
+    }
+
+    // 입력기가 만든 겹자모 한 글자(ㅘ, ㄺ)도 음절 분해와 같은 형태로 쪼갠다.
+    private static String jamo(char c) {
+        return COMPOUND_JAMO.getOrDefault(c, String.valueOf(c));
+    }
+
+    /** 로마자 표기. "중앙도서관" → "jungangdoseogwan". 한글이 아닌 글자는 그대로 둔다. */
+    public static String romanize(CharSequence text) {
+        StringBuilder out = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!isSyllable(c)) {
+                out.append(c);
+                continue;
+            }
+            int index = c - SYLLABLE_BASE;
+            int initial = index / (MEDIALS * FINALS);
+            int medial = index / FINALS % MEDIALS;
+            int fin = index % FINALS;
+            // 앞 음절에서 ㄹㄹ 을 ll 로 이미 적었으면 초성을 다시 적지 않는다.
+            boolean afterRieul = i > 0 && isSyllable(text.charAt(i - 1))
+                    && (text.charAt(i - 1) - SYLLABLE_BASE) % FINALS == FINAL_RIEUL;
+            if (!(afterRieul && initial == INITIAL_RIEUL)) {
+                out.append(INITIAL_ROMAN[initial]);
+            }
+            out.append(MEDIAL_ROMAN[medial]);
+            if (fin != 0) {
+                char next = i + 1 < text.length() ? text.charAt(i + 1) : 0;
+                int nextInitial = isSyllable(next) ? (next - SYLLABLE_BASE) / (MEDIALS * FINALS) : -1;
+                if (nextInitial == INITIAL_IEUNG) {
+                    out.append(FINAL_LIAISON[fin]);
+                } else if (nextInitial == INITIAL_RIEUL && fin == FINAL_RIEUL) {
+                    out.append("ll");
+                } else {
+                    out.append(FINAL_ROMAN[fin]);
+                }
+            }
+        }
+        return out.toString();
+    }
+}
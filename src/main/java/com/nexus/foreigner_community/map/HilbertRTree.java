@@ -0,0 +1,337 @@
+package com.nexus.foreigner_community.map;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * 점들을 Hilbert 곡선 순서로 정렬해 꽉 채워 묶은 정적 R-tree (flatbush 방식).
+ * 모든 노드의 박스는 하나의 double 배열에, 자식 위치/원래 번호는 하나의 int 배열에 들어 있다.
+ * 만든 뒤에는 바꿀 수 없으므로 여러 스레드가 잠금 없이 동시에 조회해도 된다.
+ *
+ * <p>좌표는 평면(미터) 좌표여야 한다. 위경도는 {@link LocalProjection} 으로 먼저 변환한다.
+ */
+public final class HilbertRTree {
+
+    public static final int DEFAULT_NODE_SIZE = 16;
+
+    private final int numItems;
+    private final int nodeSize;
+    // 노드 i 의 박스는 boxes[4i .. 4i+3] = minX, minY, maxX, maxY
+    private final double[] boxes;
+    // 잎 노드는 원래 점 번호, 내부 노드는 첫 자식의 boxes 위치(4의 배수)
+    private final int[] indices;
+    // 각 층이 끝나는 boxes 위치. 마지막이 루트 층이다.
+    private final int[] levelBounds;
+
+    private HilbertRTree(int numItems, int nodeSize, double[] boxes, int[] indices, int[] levelBounds) {
+        this.numItems = numItems;
+        this.nodeSize = nodeSize;
+        this.boxes = boxes;
+        this.indices = indices;
+        this.levelBounds = levelBounds;
+    }
+
+    public static HilbertRTree build(double[] xs, double[] ys) {
+        return build(xs, ys, DEFAULT_NODE_SIZE);
+    }
+
+    public static HilbertRTree build(double[] xs, double[] ys, int nodeSize) {
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException("xs and ys differ in length");
+        }
+        if (nodeSize < 2) {
+            throw new IllegalArgumentException("nodeSize must be at least 2");
+        }
+        int n = xs.length;
+        if (n == 0) {
+            return new HilbertRTree(0, nodeSize, new double[0], new int[0], new int[0]);
+        }
+
+        List<Integer> bounds = new ArrayList<>();
+        int m = n;
+        int numNodes = n;
+        bounds.add(n * 4);
+        do {
+            m = (m + nodeSize - 1) / nodeSize;
+            numNodes += m;
+            bounds.add(numNodes * 4);
+        } while (m != 1);
+        int[] levelBounds = bounds.stream().mapToInt(Integer::intValue).toArray();
+
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            minX = Math.min(minX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+            maxX = Math.max(maxX, xs[i]);
+            maxY = Math.max(maxY, ys[i]);
+        }
+
+        // (hilbert 값 << 31 | 번호) 를 정렬하면 별도 비교자 없이 Hilbert 순서가 된다.
+        double width = maxX - minX == 0 ? 1 : maxX - minX;
+        double height = maxY - minY == 0 ? 1 : maxY - minY;
+        long[] order = new long[n];
+        for (int i = 0; i < n; i++) {
+            int hx = (int) Math.floor(HILBERT_MAX * (xs[i] - minX) / width);
+            int hy = (int) Math.floor(HILBERT_MAX * (ys[i] - minY) / height);
+            order[i] = (Integer.toUnsignedLong(hilbert(hx, hy)) << 31) | i;
+        }
+        Arrays.sort(order);
+
+        double[] boxes = new double[numNodes * 4];
+        int[] indices = new int[numNodes];
+        for (int i = 0; i < n; i++) {
+            int item = (int) (order[i] & Integer.MAX_VALUE);
+            indices[i] = item;
+            boxes[4 * i] = xs[item];
+            boxes[4 * i + 1] = ys[item];
+            boxes[4 * i + 2] = xs[item];
+            boxes[4 * i + 3] = ys[item];
+        }
+
+        // 아래 층부터 nodeSize 개씩 묶어 부모 박스를 만든다.
+        int pos = 0;
+        int out = n * 4;
+        for (int level = 0; level < levelBounds.length - 1; level++) {
+            int end = levelBounds[level];
+            while (pos < end) {
+                int nodeIndex = pos;
+                double nodeMinX = Double.POSITIVE_INFINITY;
+                double nodeMinY = Double.POSITIVE_INFINITY;
+                double nodeMaxX = Double.NEGATIVE_INFINITY;
+                double nodeMaxY = Double.NEGATIVE_INFINITY;
+                for (int j = 0; j < nodeSize && pos < end; j++, pos += 4) {
+                    nodeMinX = Math.min(nodeMinX, boxes[pos]);
+                    nodeMinY = Math.min(nodeMinY, boxes[pos + 1]);
+                    nodeMaxX = Math.max(nodeMaxX, boxes[pos + 2]);
+                    nodeMaxY = Math.max(nodeMaxY, boxes[pos + 3]);
+                }
+                indices[out >> 2] = nodeIndex;
+                boxes[out] = nodeMinX;
+                boxes[out + 1] = nodeMinY;
+                boxes[out + 2] = nodeMaxX;
+                boxes[out + 3] = nodeMaxY;
+                out += 4;
+            }
+        }
+        return new HilbertRTree(n, nodeSize, boxes, indices, levelBounds);
+    }
+
+    /**
+     * 스냅샷 파일에 저장해 둔 배열로 다시 만든다. 배열은 {@link #build} 가 만든 것과 같은 형태여야 한다.
+     */
+    static HilbertRTree of(int numItems, int nodeSize, double[] boxes, int[] indices, int[] levelBounds) {
+        if (boxes.length != indices.length * 4 || numItems > indices.length || nodeSize < 2) {
+            throw new IllegalArgumentException("inconsistent r-tree arrays");
+        }
+        return new HilbertRTree(numItems, nodeSize, boxes, indices, levelBounds);
+    }
+
+    public int size() {
+        return numItems;
+    }
+
+    // ---- 스냅샷 파일에 쓸 때만 쓴다.
+
+    int nodeSize() {
+        return nodeSize;
+    }
+
+    double[] boxes() {
+        return boxes;
+    }
+
+    int[] indices() {
+        return indices;
+    }
+
+    int[] levelBounds() {
+        return levelBounds;
+    }
+
+    /**
+     * 박스 안(경계 포함)에 있는 점 번호를 하나씩 넘긴다. 순서는 정해져 있지 않다.
+     */
+    public void search(double minX, double minY, double maxX, double maxY, IntConsumer consumer) {
+        if (numItems == 0) {
+            return;
+        }
+        int[] stack = new int[16];
+        int top = 0;
+        int nodeIndex = boxes.length - 4;
+        while (true) {
+            int end = Math.min(nodeIndex + nodeSize * 4, upperBound(nodeIndex));
+            for (int pos = nodeIndex; pos < end; pos += 4) {
+                if (maxX < boxes[pos] || maxY < boxes[pos + 1] || minX > boxes[pos + 2] || minY > boxes[pos + 3]) {
+                    continue;
+                }
+                int index = indices[pos >> 2];
+                if (nodeIndex >= numItems * 4) {
+                    if (top == stack.length) {
+                        stack = Arrays.copyOf(stack, top * 2);
+                    }
+                    stack[top++] = index;
+                } else {
+                    consumer.accept(index);
+                }
+            }
+            if (top == 0) {
+                return;
+            }
+            nodeIndex = stack[--top];
+        }
+    }
+
+    public int[] search(double minX, double minY, double maxX, double maxY) {
+        IntList result = new IntList();
+        search(minX, minY, maxX, maxY, result::add);
+        return result.toArray();
+    }
+
+    /**
+     * (x, y) 에서 가까운 순서로 filter 를 통과한 점 번호를 최대 k 개 돌려준다.
+     * maxDistance 보다 먼 점은 제외한다. 노드를 박스까지의 거리 순으로 여는 best-first 탐색이다.
+     */
+    public int[] nearest(double x, double y, int k, double maxDistance, IntPredicate filter) {
+        if (numItems == 0 || k <= 0) {
+            return new int[0];
+        }
+        double maxDistSq = maxDistance == Double.POSITIVE_INFINITY ? maxDistance : maxDistance * maxDistance;
+        MinHeap queue = new MinHeap();
+        IntList result = new IntList();
+        int nodeIndex = boxes.length - 4;
+        search:
+        while (true) {
+            int end = Math.min(nodeIndex + nodeSize * 4, upperBound(nodeIndex));
+            boolean leafLevel = nodeIndex < numItems * 4;
+            for (int pos = nodeIndex; pos < end; pos += 4) {
+                int index = indices[pos >> 2];
+                double d = boxDistSq(x, y, pos);
+                if (d > maxDistSq) {
+                    continue;
+                }
+                if (leafLevel) {
+                    if (filter == null || filter.test(index)) {
+                        queue.push(index << 1, d);
+                    }
+                } else {
+                    queue.push((index << 1) | 1, d);
+                }
+            }
+            // 큐 맨 앞이 점이면 그보다 가까운 노드가 없으므로 확정이다.
+            while (queue.size() > 0 && (queue.peekId() & 1) == 0) {
+                result.add(queue.pop() >> 1);
+                if (result.size() == k) {
+                    break search;
+                }
+            }
+            if (queue.size() == 0) {
+                break;
+            }
+            nodeIndex = queue.pop() >> 1;
+        }
+        return result.toArray();
+    }
+
+    private double boxDistSq(double x, double y, int pos) {
+        double dx = axisDist(x, boxes[pos], boxes[pos + 2]);
+        double dy = axisDist(y, boxes[pos + 1], boxes[pos + 3]);
+        return dx * dx + dy * dy;
+    }
+
+    private static double axisDist(double k, double min, double max) {
+        return k < min ? min - k : k <= max ? 0 : k - max;
+    }
+
+    private int upperBound(int value) {
+        for (int bound : levelBounds) {
+            if (bound > value) {
+                return bound;
+            }
+        }
+        return levelBounds[levelBounds.length - 1];
+    }
+
+    private static final int HILBERT_MAX = (1 << 16) - 1;
+
+    // 16비트 좌표 -> 32비트 Hilbert 값 (Fast Hilbert curve, rawrunprotected)
+    static int hilbert(int x, int y) {
+        int a = x ^ y;
+        int b = 0xFFFF ^ a;
+        int c = 0xFFFF ^ (x | y);
+        int d = x & (y ^ 0xFFFF);
+
+        int aa = a | (b >>> 1);
+        int bb = (a >>> 1) ^ a;
+        int cc = ((c >>> 1) ^ (b & (d >>> 1))) ^ c;
+        int dd = ((a & (c >>> 1)) ^ (d >>> 1)) ^ d;
+
+        a = aa;
+        b = bb;
+        c = cc;
+        d = dd;
+        aa = (a & (a >>> 2)) ^ (b & (b >>> 2));
+        bb = (a & (b >>> 2)) ^ (b & ((a ^ b) >>> 2));
+        cc ^= (a & (c >>> 2)) ^ (b & (d >>> 2));
+        dd ^= (b & (c >>> 2)) ^ ((a ^ b) & (d >>> 2));
+
+        a = aa;
+        b = bb;
+        c = cc;
+        d = dd;
+        aa = (a & (a >>> 4)) ^ (b & (b >>> 4));
+        bb = (a & (b >>> 4)) ^ (b & ((a ^ b) >>> 4));
+        cc ^= (a & (c >>> 4)) ^ (b & (d >>> 4));
+        dd ^= (b & (c >>> 4)) ^ ((a ^ b) & (d >>> 4));
+
+        a = aa;
+        b = bb;
+        c = cc;
+        d = dd;
+        cc ^= (a & (c >>> 8)) ^ (b & (d >>> 8));
+        dd ^= (b & (c >>> 8)) ^ ((a ^ b) & (d >>> 8));
+
+        a = cc ^ (cc >>> 1);
+        b = dd ^ (dd >>> 1);
+
+        int i0 = x ^ y;
+        int i1 = b | (0xFFFF ^ (i0 | a));
+
+        i0 = (i0 | (i0 << 8)) & 0x00FF00FF;
+        i0 = (i0 | (i0 << 4)) & 0x0F0F0F0F;
+        i0 = (i0 | (i0 << 2)) & 0x33333333;
+        i0 = (i0 | (i0 << 1)) & 0x55555555;
+
+        i1 = (i1 | (i1 << 8)) & 0x00FF00FF;
+        i1 = (i1 | (i1 << 4)) & 0x0F0F0F0F;
+        i1 = (i1 | (i1 << 2)) & 0x33333333;
+        i1 = (i1 | (i1 << 1)) & 0x55555555;
+
+        return (i1 << 1) | i0;
+    }
+
+    private static final class IntList {
+        int[] values = new int[16];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
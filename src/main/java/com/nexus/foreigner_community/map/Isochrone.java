@@ -0,0 +1,27 @@
+package com.nexus.foreigner_community.map;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 출발점에서 minutes 분 안에 걸어서 닿는 영역. polygon 은 닫히지 않은 꼭짓점 목록(반시계 방향)이고,
+ * pois 는 그 안에서 실제로 갈 수 있는 POI 를 도착 시간 순으로 담는다.
+ */
+public record Isochrone(String origin, RoutingProfile profile, int minutes, List<Vertex> polygon,
+                        List<ReachablePoi> pois) {
+
+    public record Vertex(double lat, double lon) {
+    }
+
+    public record ReachablePoi(Poi poi, double seconds) {
+    }
+
+    /** 종류가 types 인 POI 만 남긴 사본. types 가 비어 있으면 그대로. */
+    public Isochrone withTypes(Set<PoiType> types) {
+        if (types.isEmpty()) {
+            return this;
+        }
+        return new Isochrone(origin, profile, minutes, polygon,
+                pois.stream().filter(p -> types.contains(p.poi().type())).toList());
+    }
+}
@@ -0,0 +1,186 @@
+package com.nexus.foreigner_community.map;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * {@link RouteEngine#reach} 결과로 등시선 영역과 그 안의 POI 를 만든다.
+ * <ul>
+ * <li>영역은 출발점 둘레를 {@link #SECTORS} 개의 부채꼴로 나눠 각 부채꼴에서 가장 먼 도달 지점을 이은 별 모양 다각형이다.
+ *     도달 지점에는 노드뿐 아니라 시간이 다 떨어지는 간선 중간 지점도 들어간다.</li>
+ * <li>POI 는 가장 가까운 도달 노드의 도착 시간에 그 노드에서 POI 까지 직선으로 걷는 시간을 더해 판정한다.</li>
+ * </ul>
+ */
+public final class IsochroneCalculator {
+
+    static final int SECTORS = 64;
+    // 좌표 출발점을 이만큼 안의 노드 몇 개에 붙인다. POI 도 이 거리 안의 도달 노드에서만 닿는다고 본다.
+    static final double MAX_SNAP_METERS = 50;
+    static final int SNAP_NODES = 3;
+
+    private final RouteEngine engine;
+
+    public IsochroneCalculator(RouteEngine engine) {
+        this.engine = engine;
+    }
+
+    /** 건물의 모든 출입구에서 동시에 출발한다. 모르는 건물이면 null. */
+    public Isochrone fromBuilding(String building, int minutes, RoutingProfile profile, List<Poi> pois) {
+        FootpathGraph graph = engine.graph();
+        int[] entrances = graph.entrances().get(building);
+        if (entrances == null) {
+            return null;
+        }
+        double lat = 0;
+        double lon = 0;
+        for (int v : entrances) {
+            lat += graph.lat(v);
+            lon += graph.lon(v);
+        }
+        return compute(building, lat / entrances.length, lon / entrances.length, entrances,
+                new double[entrances.length], minutes, profile, pois);
+    }
+
+    /** 좌표에서 가까운 노드 몇 개로 걸어가는 시간을 시작 시간으로 두고 출발한다. */
+    public Isochrone fromPoint(double lat, double lon, int minutes, RoutingProfile profile, List<Poi> pois) {
+        FootpathGraph graph = engine.graph();
+        int[] sources = graph.nearestNodes(lat, lon, SNAP_NODES, MAX_SNAP_METERS, v -> engine.reachable(v, profile));
+        if (sources.length == 0) {
+            sources = graph.nearestNodes(lat, lon, 1, Double.POSITIVE_INFINITY, v -> engine.reachable(v, profile));
+        }
+        double[] start = new double[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            double meters = graph.projection().distance(lat, lon, graph.lat(sources[i]), graph.lon(sources[i]));
+            start[i] = profile.seconds(EdgeKind.PATH, meters);
+        }
+        return compute(lat + "," + lon, lat, lon, sources, start, minutes, profile, pois);
+    }
+
+    private Isochrone compute(String origin, double lat, double lon, int[] sources, double[] start, int minutes,
+                              RoutingProfile profile, List<Poi> pois) {
+        double limit = minutes * 60.0;
+        RouteEngine.Reach reach = engine.reach(sources, start, limit, profile);
+        return new Isochrone(origin, profile, minutes, polygon(reach, lat, lon, limit, profile),
+                reachablePois(reach, limit, profile, pois));
+    }
+
+    private List<Isochrone.Vertex> polygon(RouteEngine.Reach reach, double lat, double lon, double limit,
+                                           RoutingProfile profile) {
+        FootpathGraph graph = engine.graph();
+        LocalProjection projection = graph.projection();
+        double cx = projection.x(lon);
+        double cy = projection.y(lat);
+        double[] best = new double[SECTORS];
+        double[] bestLat = new double[SECTORS];
+        double[] bestLon = new double[SECTORS];
+        Arrays.fill(best, -1);
+
+        int[] nodes = reach.nodes();
+        double[] seconds = reach.seconds();
+        for (int i = 0; i < nodes.length; i++) {
+            int v = nodes[i];
+            double vLat = graph.lat(v);
+            double vLon = graph.lon(v);
+            offer(projection, cx, cy, vLat, vLon, best, bestLat, bestLon);
+            double remaining = limit - seconds[i];
+            for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                double w = engine.seconds(e, profile);
+                if (w <= remaining || w == Double.POSITIVE_INFINITY) {
+                    // 끝까지 갈 수 있는 간선의 끝 노드는 도달 노드로 따로 들어온다.
+                    continue;
+                }
+                int u = graph.target(e);
+                double f = remaining / w;
+                offer(projection, cx, cy, vLat + (graph.lat(u) - vLat) * f, vLon + (graph.lon(u) - vLon) * f,
+                        best, bestLat, bestLon);
+            }
+        }
+        List<Isochrone.Vertex> polygon = new ArrayList<>();
+        for (int s = 0; s < SECTORS; s++) {
+            if (best[s] >= 0) {
+                polygon.add(new Isochrone.Vertex(bestLat[s], bestLon[s]));
+            }
+        }
+        return polygon;
+    }
+
+    private static void offer(LocalProjection projection, double cx, double cy, double lat, double lon,
+                              double[] best, double[] bestLat, double[] bestLon) {
+        double dx = projection.x(lon) - cx;
+        double dy = projection.y(lat) - cy;
+        double d = dx * dx + dy * dy;
+        int sector = (int) ((Math.atan2(dy, dx) + Math.PI) / (2 * Math.PI) * SECTORS) % SECTORS;
+        if (d > best[sector]) {
+            best[sector] = d;
+            bestLat[sector] = lat;
+            bestLon[sector] = lon;
+        }
+    }
+
+    private List<Isochrone.ReachablePoi> reachablePois(RouteEngine.Reach reach, double limit, RoutingProfile profile,
+                                                       List<Poi> pois) {
+        FootpathGraph graph = engine.graph();
+        int[] nodes = reach.nodes();
+        if (nodes.length == 0) {
+            return List.of();
+        }
+        // 노드 번호 → 도착 시간을 찾을 수 있게 (노드 << 32 | 순서) 로 정렬해 둔다.
+        long[] byNode = new long[nodes.length];
+        double south = Double.POSITIVE_INFINITY;
+        double north = Double.NEGATIVE_INFINITY;
+        double west = Double.POSITIVE_INFINITY;
+        double east = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < nodes.length; i++) {
+            byNode[i] = (long) nodes[i] << 32 | i;
+            south = Math.min(south, graph.lat(nodes[i]));
+            north = Math.max(north, graph.lat(nodes[i]));
+            west = Math.min(west, graph.lon(nodes[i]));
+            east = Math.max(east, graph.lon(nodes[i]));
+        }
+        Arrays.sort(byNode);
+        // 경계 상자를 스냅 거리만큼 넓힌다 (위도 1도 ≈ 111km).
+        double margin = MAX_SNAP_METERS / 111_000;
+        double lonMargin = margin / Math.cos(Math.toRadians((south + north) / 2));
+
+        List<Isochrone.ReachablePoi> result = new ArrayList<>();
+        for (Poi poi : pois) {
+            if (poi.lat() < south - margin || poi.lat() > north + margin
+                    || poi.lon() < west - lonMargin || poi.lon() > east + lonMargin) {
+                continue;
+            }
+            int[] near = graph.nearestNodes(poi.lat(), poi.lon(), 1, MAX_SNAP_METERS,
+                    v -> indexOf(byNode, v) >= 0);
+            if (near.length == 0) {
+                continue;
+            }
+            int v = near[0];
+            double walk = profile.seconds(EdgeKind.PATH,
+                    graph.projection().distance(poi.lat(), poi.lon(), graph.lat(v), graph.lon(v)));
+            double arrival = reach.seconds()[indexOf(byNode, v)] + walk;
+            if (arrival <= limit) {
+                result.add(new Isochrone.ReachablePoi(poi, arrival));
+            }
+        }
+        result.sort(Comparator.comparingDouble(Isochrone.ReachablePoi::seconds));
+        return result;
+    }
+
+    private static int indexOf(long[] byNode, int node) {
+        int lo = 0;
+        int hi = byNode.length - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int value = (int) (byNode[mid] >>> 32);
+            if (value < node) {
+                lo = mid + 1;
+            } else if (value > node) {
+                hi = mid - 1;
+            } else {
+                return (int) byNode[mid];
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,22 @@
+package com.nexus.foreigner_community.map;
+
+/**
+ * 기준 위도에서의 등장방형 투영. 캠퍼스 크기(수 km)에서는 오차가 1% 미만이라
+ * 위경도를 미터 단위 평면 좌표로 바꿔 유클리드 거리로 계산해도 된다.
+ */
+public record LocalProjection(double referenceLat) {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    public double x(double lon) {
+        return Math.toRadians(lon) * EARTH_RADIUS_METERS * Math.cos(Math.toRadians(referenceLat));
+    }
+
+    public double y(double lat) {
+        return Math.toRadians(lat) * EARTH_RADIUS_METERS;
+    }
+
+    public double distance(double lat1, double lon1, double lat2, double lon2) {
+        return Math.hypot(x(lon1) - x(lon2), y(lat1) - y(lat2));
+    }
+}
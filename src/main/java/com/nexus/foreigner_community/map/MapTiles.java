@@ -0,0 +1,42 @@
+package com.nexus.foreigner_community.map;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시작할 때 타일 아카이브를 메모리 매핑해 둔다. 아카이브는 빌드 단계(./gradlew buildMapTiles)에서 만들며,
+ * 파일이 없으면 타일 API 만 404 로 답하고 나머지 지도 기능은 그대로 동작한다.
+ */
+@Slf4j
+@Component
+public class MapTiles {
+
+    private final TileArchive archive;
+    /** 이 크기 이상인 응답은 sendfile 로 보낸다. 작은 타일은 매핑된 버퍼에서 바로 쓰는 편이 싸다. */
+    @Getter
+    private final int sendfileMinBytes;
+
+    public MapTiles(@Value("${map.tiles.archive}") Path path,
+                    @Value("${map.tiles.sendfile-min-bytes}") int sendfileMinBytes) throws IOException {
+        this.sendfileMinBytes = sendfileMinBytes;
+        if (Files.isRegularFile(path)) {
+            this.archive = TileArchive.open(path);
+            log.info("tile archive {} mapped ({} tiles, version {})", path, archive.tileCount(), archive.version());
+        } else {
+            this.archive = null;
+            log.warn("tile archive {} not found, run ./gradlew buildMapTiles", path);
+        }
+    }
+
+    public Optional<TileArchive> archive() {
+        return Optional.ofNullable(archive);
+    }
+}
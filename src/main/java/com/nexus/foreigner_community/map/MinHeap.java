@@ -0,0 +1,74 @@
+package com.nexus.foreigner_community.map;
+
+import java.util.Arrays;
+
+/**
+ * double 키 기준 이진 최소 힙. 박싱 없이 id 와 키를 나란히 배열에 저장한다.
+ */
+final class MinHeap {
+
+    private int[] ids = new int[64];
+    private double[] keys = new double[64];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    int peekId() {
+        return ids[0];
+    }
+
+    double peekKey() {
+        return keys[0];
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    void push(int id, double key) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+            keys = Arrays.copyOf(keys, size * 2);
+        }
+        int pos = size++;
+        while (pos > 0) {
+            int parent = (pos - 1) >> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            ids[pos] = ids[parent];
+            keys[pos] = keys[parent];
+            pos = parent;
+        }
+        ids[pos] = id;
+        keys[pos] = key;
+    }
+
+    int pop() {
+        int top = ids[0];
+        size--;
+        if (size > 0) {
+            int id = ids[size];
+            double key = keys[size];
+            int pos = 0;
+            int half = size >> 1;
+            while (pos < half) {
+                int child = 2 * pos + 1;
+                if (child + 1 < size && keys[child + 1] < keys[child]) {
+                    child++;
+                }
+                if (keys[child] >= key) {
+                    break;
+                }
+                ids[pos] = ids[child];
+                keys[pos] = keys[child];
+                pos = child;
+            }
+            ids[pos] = id;
+            keys[pos] = key;
+        }
+        return top;
+    }
+}
@@ -0,0 +1,4 @@
+package com.nexus.foreigner_community.map;
+
+public record NearbyPoi(Poi poi, double distanceMeters) {
+}
@@ -0,0 +1,11 @@
+package com.nexus.foreigner_community.map;
+
+import java.util.List;
+
+/**
+ * 지도 위의 한 지점. building 은 소속 건물 번호(E8 등)이고, 건물 자체인 경우 자기 번호이다.
+ * aliases 는 검색용 다른 이름(약칭, 옛 이름 등), popularity 는 자동완성 순위에 쓰는 인기 점수이다.
+ */
+public record Poi(long id, PoiType type, String building, String nameKo, String nameEn,
+                  double lat, double lon, int floor, List<String> aliases, int popularity) {
+}
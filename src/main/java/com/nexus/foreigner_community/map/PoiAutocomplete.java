@@ -0,0 +1,49 @@
+package com.nexus.foreigner_community.map;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link AutocompleteIndex} 를 들고 있다가 POI 목록이 바뀌면 백그라운드에서 새로 만들어 통째로 바꿔 끼운다.
+ * 다시 만드는 동안에는 이전 색인으로 답한다. 여러 번 연달아 바뀌면 마지막 목록으로 한 번만 만든다.
+ */
+@Component
+public class PoiAutocomplete implements AutoCloseable {
+
+    public static final int MAX_LIMIT = AutocompleteIndex.DEFAULT_TOP_K;
+
+    private volatile AutocompleteIndex index;
+    private final AtomicReference<List<Poi>> pending = new AtomicReference<>();
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("autocomplete-rebuild").daemon().factory());
+
+    public PoiAutocomplete(CampusMap campusMap) {
+        // 스냅샷 파일로 시작했으면 저장된 트라이를 쓴다.
+        this.index = campusMap.dataset().flatMap(CampusDataset::autocomplete)
+                .orElseGet(() -> AutocompleteIndex.build(campusMap.all()));
+        campusMap.addListener(this::rebuild);
+    }
+
+    public List<Poi> suggest(String query, int limit) {
+        return index.suggest(query, Math.min(limit, MAX_LIMIT));
+    }
+
+    public void rebuild(List<Poi> pois) {
+        // 이미 대기 중인 작업이 있으면 목록만 바꿔 두고 그 작업이 최신 목록으로 만들게 한다.
+        if (pending.getAndSet(pois) == null) {
+            rebuilder.execute(() -> {
+                List<Poi> latest = pending.getAndSet(null);
+                index = AutocompleteIndex.build(latest);
+            });
+        }
+    }
+
+    @Override
+    public void close() {
+        rebuilder.shutdownNow();
+    }
+}
@@ -0,0 +1,50 @@
+package com.nexus.foreigner_community.map;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * id,type,building,name_ko,name_en,lat,lon,floor,aliases,popularity 형식의 POI 목록을 읽는다.
+ * 첫 줄은 헤더, #으로 시작하는 줄은 주석이다. 이름에는 쉼표를 쓰지 않고 별칭은 | 로 구분한다.
+ */
+public final class PoiCsv {
+
+    private PoiCsv() {
+    }
+
+    public static List<Poi> read(InputStream in) throws IOException {
+        List<Poi> pois = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        int lineNumber = 1;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            String[] cols = line.split(",", -1);
+            if (cols.length != 10) {
+                throw new IOException("line " + lineNumber + ": expected 10 columns but got " + cols.length);
+            }
+            try {
+                pois.add(new Poi(Long.parseLong(cols[0].trim()), PoiType.valueOf(cols[1].trim()), cols[2].trim(),
+                        cols[3].trim(), cols[4].trim(), Double.parseDouble(cols[5].trim()),
+                        Double.parseDouble(cols[6].trim()), Integer.parseInt(cols[7].trim()), aliases(cols[8]),
+                        Integer.parseInt(cols[9].trim())));
+            } catch (IllegalArgumentException e) {
+                throw new IOException("line " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+        return pois;
+    }
+
+    private static List<String> aliases(String column) {
+        return Arrays.stream(column.split("\\|")).map(String::trim).filter(alias -> !alias.isEmpty()).toList();
+    }
+}
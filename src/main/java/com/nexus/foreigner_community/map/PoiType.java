@@ -0,0 +1,13 @@
+package com.nexus.foreigner_community.map;
+
+public enum PoiType {
+    BUILDING,
+    ENTRANCE,
+    ROOM,
+    ATM,
+    PRINTER,
+    CAFE,
+    RESTAURANT,
+    STORE,
+    BUS_STOP
+}
@@ -0,0 +1,12 @@
+package com.nexus.foreigner_community.map;
+
+import java.util.List;
+
+/**
+ * API 로 내보내는 경로. waypoints 의 via 는 직전 지점에서 그 지점으로 올 때 지난 간선 종류이다.
+ */
+public record Route(RoutingProfile profile, double seconds, double meters, List<Waypoint> waypoints) {
+
+    public record Waypoint(double lat, double lon, String building, EdgeKind via) {
+    }
+}
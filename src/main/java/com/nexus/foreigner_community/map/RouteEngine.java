@@ -0,0 +1,443 @@
+package com.nexus.foreigner_community.map;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+/**
+ * {@link FootpathGraph} 위의 최단 시간 경로 탐색.
+ * <ul>
+ * <li>프로필마다 간선 비용(초)을 배열로 미리 계산해 둔다.</li>
+ * <li>A* 의 추정치는 ALT(랜드마크 + 삼각 부등식)로 구한다. 그래프가 양방향이므로
+ *     랜드마크에서 각 노드까지의 거리 하나로 |d(L,t) - d(L,v)| 를 쓸 수 있다.</li>
+ * <li>자주 묻는 건물 간 경로는 생성할 때 모두 계산해 표로 들고 있는다.</li>
+ * </ul>
+ * 만든 뒤에는 읽기만 하므로 여러 스레드가 동시에 써도 된다. 탐색용 배열은 풀에서 빌려 쓴다.
+ */
+public final class RouteEngine {
+
+    /** 노드 번호 목록과 총 시간(초), 총 거리(m). */
+    public record RoutePath(int[] nodes, double seconds, double meters) {
+    }
+
+    /** 제한 시간 안에 닿는 노드와 도착 시간(초). 도착 시간 순이다. */
+    public record Reach(int[] nodes, double[] seconds) {
+    }
+
+    /**
+     * 한 프로필의 랜드마크 노드와 거리 표. 노드 v 의 랜드마크 l 까지 거리는 distances[v * nodes.length + l].
+     * 스냅샷 파일에 저장해 두면 시작할 때 다시 계산하지 않는다.
+     */
+    public record Landmarks(int[] nodes, double[] distances) {
+    }
+
+    private static final class ProfileData {
+        final double[] weights;
+        final int[] landmarks;
+        // 노드 v 의 랜드마크 l 까지 거리는 landmarkDist[v * landmarks.length + l]
+        final double[] landmarkDist;
+        final Map<String, Map<String, RoutePath>> buildingTable = new LinkedHashMap<>();
+
+        ProfileData(double[] weights, int[] landmarks, double[] landmarkDist) {
+            this.weights = weights;
+            this.landmarks = landmarks;
+            this.landmarkDist = landmarkDist;
+        }
+    }
+
+    private static final class SearchState {
+        final double[] dist;
+        // 직전 노드와 그 노드에서 들어온 간선. 출발점은 -1.
+        final int[] parent;
+        final int[] via;
+        final int[] stamp;
+        final int[] closed;
+        final MinHeap heap = new MinHeap();
+        int generation;
+
+        SearchState(int nodes) {
+            dist = new double[nodes];
+            parent = new int[nodes];
+            via = new int[nodes];
+            stamp = new int[nodes];
+            closed = new int[nodes];
+        }
+
+        // 배열을 지우지 않고 세대 번호만 올린다. stamp 가 다르면 이번 탐색에서 아직 보지 않은 노드이다.
+        void reset() {
+            heap.clear();
+            if (++generation == 0) {
+                Arrays.fill(stamp, 0);
+                Arrays.fill(closed, 0);
+                generation = 1;
+            }
+        }
+
+        double dist(int v) {
+            return stamp[v] == generation ? dist[v] : Double.POSITIVE_INFINITY;
+        }
+
+        void set(int v, double d, int from, int edge) {
+            stamp[v] = generation;
+            dist[v] = d;
+            parent[v] = from;
+            via[v] = edge;
+        }
+
+        // 처음 꺼낸 것이면 true. 추정치가 일관적(consistent)이므로 처음 꺼낼 때의 거리가 최단이다.
+        boolean close(int v) {
+            if (closed[v] == generation) {
+                return false;
+            }
+            closed[v] = generation;
+            return true;
+        }
+    }
+
+    private final FootpathGraph graph;
+    private final Map<RoutingProfile, ProfileData> profiles = new EnumMap<>(RoutingProfile.class);
+    private final ConcurrentLinkedQueue<SearchState> states = new ConcurrentLinkedQueue<>();
+
+    public RouteEngine(FootpathGraph graph, int landmarkCount) {
+        this(graph, landmarkCount, Map.of());
+    }
+
+    /**
+     * precomputed 에 있고 개수가 맞는 프로필은 그 랜드마크 표를 그대로 쓰고, 나머지는 새로 고른다.
+     */
+    public RouteEngine(FootpathGraph graph, int landmarkCount, Map<RoutingProfile, Landmarks> precomputed) {
+        this.graph = graph;
+        int count = Math.min(landmarkCount, graph.nodeCount());
+        for (RoutingProfile profile : RoutingProfile.values()) {
+            double[] weights = new double[graph.edgeCount()];
+            for (int e = 0; e < weights.length; e++) {
+                weights[e] = profile.seconds(graph.kind(e), graph.length(e));
+            }
+            Landmarks stored = precomputed.get(profile);
+            if (stored != null && stored.nodes().length == count
+                    && stored.distances().length == graph.nodeCount() * count) {
+                profiles.put(profile, new ProfileData(weights, stored.nodes(), stored.distances()));
+            } else {
+                profiles.put(profile, selectLandmarks(weights, count));
+            }
+        }
+        for (RoutingProfile profile : RoutingProfile.values()) {
+            buildBuildingTable(profile);
+        }
+    }
+
+    public FootpathGraph graph() {
+        return graph;
+    }
+
+    public Landmarks landmarks(RoutingProfile profile) {
+        ProfileData data = profiles.get(profile);
+        return new Landmarks(data.landmarks, data.landmarkDist);
+    }
+
+    /**
+     * from 에서 to 까지 가장 빠른 경로. 갈 수 없으면 null.
+     */
+    public RoutePath route(int from, int to, RoutingProfile profile) {
+        return search(from, to, profiles.get(profile), true);
+    }
+
+    /** 추정치 없이(다익스트라) 같은 탐색을 한다. 비교/검증용. */
+    RoutePath routeWithoutLandmarks(int from, int to, RoutingProfile profile) {
+        return search(from, to, profiles.get(profile), false);
+    }
+
+    /**
+     * 미리 계산한 건물 간 경로. 모르는 건물이거나 갈 수 없으면 null.
+     */
+    public RoutePath routeBetweenBuildings(String fromBuilding, String toBuilding, RoutingProfile profile) {
+        Map<String, RoutePath> row = profiles.get(profile).buildingTable.get(fromBuilding);
+        return row == null ? null : row.get(toBuilding);
+    }
+
+    /**
+     * 여러 출발점에서 동시에 출발해 limitSeconds 안에 닿는 노드를 모두 찾는다. startSeconds[i] 는 sources[i] 까지
+     * 오는 데 이미 쓴 시간이다. 제한을 넘는 노드는 힙에 넣지 않으므로 탐색 범위가 도달 영역에 비례한다.
+     */
+    public Reach reach(int[] sources, double[] startSeconds, double limitSeconds, RoutingProfile profile) {
+        double[] weights = profiles.get(profile).weights;
+        SearchState state = borrow();
+        try {
+            state.reset();
+            for (int i = 0; i < sources.length; i++) {
+                if (startSeconds[i] <= limitSeconds && startSeconds[i] < state.dist(sources[i])) {
+                    state.set(sources[i], startSeconds[i], -1, -1);
+                    state.heap.push(sources[i], startSeconds[i]);
+                }
+            }
+            int[] nodes = new int[16];
+            double[] seconds = new double[16];
+            int count = 0;
+            while (state.heap.size() > 0) {
+                double d = state.heap.peekKey();
+                int v = state.heap.pop();
+                if (!state.close(v)) {
+                    continue;
+                }
+                if (count == nodes.length) {
+                    nodes = Arrays.copyOf(nodes, count * 2);
+                    seconds = Arrays.copyOf(seconds, count * 2);
+                }
+                nodes[count] = v;
+                seconds[count++] = d;
+                for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                    double du = d + weights[e];
+                    int u = graph.target(e);
+                    if (du <= limitSeconds && du < state.dist(u)) {
+                        state.set(u, du, v, e);
+                        state.heap.push(u, du);
+                    }
+                }
+            }
+            return new Reach(Arrays.copyOf(nodes, count), Arrays.copyOf(seconds, count));
+        } finally {
+            states.offer(state);
+        }
+    }
+
+    /** 프로필에서 간선을 지나는 시간(초). 지나갈 수 없으면 무한대. */
+    public double seconds(int edge, RoutingProfile profile) {
+        return profiles.get(profile).weights[edge];
+    }
+
+    /** 프로필에서 지나갈 수 있는 간선이 하나라도 있는 노드인지. */
+    public boolean reachable(int node, RoutingProfile profile) {
+        double[] weights = profiles.get(profile).weights;
+        for (int e = graph.firstEdge(node); e < graph.endEdge(node); e++) {
+            if (weights[e] != Double.POSITIVE_INFINITY) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private RoutePath search(int from, int to, ProfileData data, boolean useLandmarks) {
+        SearchState state = borrow();
+        try {
+            state.reset();
+            double[] weights = data.weights;
+            state.set(from, 0, -1, -1);
+            state.heap.push(from, useLandmarks ? heuristic(data, from, to) : 0);
+            while (state.heap.size() > 0) {
+                int v = state.heap.pop();
+                if (!state.close(v)) {
+                    continue;
+                }
+                if (v == to) {
+                    return path(state, to);
+                }
+                double dv = state.dist(v);
+                for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                    double w = weights[e];
+                    if (w == Double.POSITIVE_INFINITY) {
+                        continue;
+                    }
+                    int u = graph.target(e);
+                    double du = dv + w;
+                    if (du < state.dist(u)) {
+                        state.set(u, du, v, e);
+                        state.heap.push(u, du + (useLandmarks ? heuristic(data, u, to) : 0));
+                    }
+                }
+            }
+            return null;
+        } finally {
+            states.offer(state);
+        }
+    }
+
+    private double heuristic(ProfileData data, int v, int target) {
+        int count = data.landmarks.length;
+        double[] lm = data.landmarkDist;
+        int vBase = v * count;
+        int tBase = target * count;
+        double best = 0;
+        for (int l = 0; l < count; l++) {
+            double dv = lm[vBase + l];
+            double dt = lm[tBase + l];
+            if (dv != Double.POSITIVE_INFINITY && dt != Double.POSITIVE_INFINITY) {
+                best = Math.max(best, Math.abs(dt - dv));
+            }
+        }
+        return best;
+    }
+
+    private RoutePath path(SearchState state, int to) {
+        int length = 1;
+        for (int v = to; state.parent[v] >= 0; v = state.parent[v]) {
+            length++;
+        }
+        int[] nodes = new int[length];
+        double meters = 0;
+        int v = to;
+        for (int i = length - 1; i > 0; i--) {
+            nodes[i] = v;
+            meters += graph.length(state.via[v]);
+            v = state.parent[v];
+        }
+        nodes[0] = v;
+        return new RoutePath(nodes, state.dist(to), meters);
+    }
+
+    /**
+     * 가장 큰 연결 요소 안에서 이미 고른 랜드마크로부터 가장 먼 노드를 차례로 고른다 (farthest selection).
+     * 다른 요소의 노드는 랜드마크 거리가 무한대라 추정치가 0 이 되고, 보통의 다익스트라처럼 탐색된다.
+     */
+    private ProfileData selectLandmarks(double[] weights, int count) {
+        int n = graph.nodeCount();
+        if (n == 0 || count == 0) {
+            return new ProfileData(weights, new int[0], new double[0]);
+        }
+        double[] dist = dijkstra(new int[] {largestComponentNode(weights)}, weights);
+        double[] minDist = dist.clone();
+        int[] landmarks = new int[count];
+        double[] landmarkDist = new double[n * count];
+        for (int l = 0; l < count; l++) {
+            int next = 0;
+            for (int v = 1; v < n; v++) {
+                if (minDist[v] != Double.POSITIVE_INFINITY
+                        && (minDist[next] == Double.POSITIVE_INFINITY || minDist[v] > minDist[next])) {
+                    next = v;
+                }
+            }
+            landmarks[l] = next;
+            dist = dijkstra(new int[] {next}, weights);
+            for (int v = 0; v < n; v++) {
+                landmarkDist[v * count + l] = dist[v];
+                minDist[v] = Math.min(minDist[v], dist[v]);
+            }
+        }
+        return new ProfileData(weights, landmarks, landmarkDist);
+    }
+
+    private int largestComponentNode(double[] weights) {
+        int n = graph.nodeCount();
+        int[] component = new int[n];
+        int[] stack = new int[n];
+        int best = 0;
+        int bestSize = 0;
+        int label = 0;
+        for (int start = 0; start < n; start++) {
+            if (component[start] != 0) {
+                continue;
+            }
+            label++;
+            int size = 0;
+            int top = 0;
+            stack[top++] = start;
+            component[start] = label;
+            while (top > 0) {
+                int v = stack[--top];
+                size++;
+                for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                    int u = graph.target(e);
+                    if (weights[e] != Double.POSITIVE_INFINITY && component[u] == 0) {
+                        component[u] = label;
+                        stack[top++] = u;
+                    }
+                }
+            }
+            if (size > bestSize) {
+                best = start;
+                bestSize = size;
+            }
+        }
+        return best;
+    }
+
+    /** sources 전체에서 출발하는 다익스트라. 갈 수 없는 노드는 무한대. */
+    double[] dijkstra(int[] sources, double[] weights) {
+        int n = graph.nodeCount();
+        double[] dist = new double[n];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        MinHeap heap = new MinHeap();
+        for (int s : sources) {
+            dist[s] = 0;
+            heap.push(s, 0);
+        }
+        while (heap.size() > 0) {
+            double d = heap.peekKey();
+            int v = heap.pop();
+            if (d > dist[v]) {
+                continue;
+            }
+            for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                double du = d + weights[e];
+                int u = graph.target(e);
+                if (du < dist[u]) {
+                    dist[u] = du;
+                    heap.push(u, du);
+                }
+            }
+        }
+        return dist;
+    }
+
+    /**
+     * 건물마다 모든 출입구에서 동시에 출발하는 탐색을 한 번씩 돌려 다른 모든 건물까지의 경로를 저장한다.
+     */
+    private void buildBuildingTable(RoutingProfile profile) {
+        ProfileData data = profiles.get(profile);
+        Map<String, int[]> entrances = graph.entrances();
+        List<String> buildings = List.copyOf(entrances.keySet());
+        // 병렬로 만들어도 toList 는 건물 순서를 지킨다.
+        List<Map<String, RoutePath>> rows = IntStream.range(0, buildings.size()).parallel().mapToObj(i -> {
+            Map<String, RoutePath> row = new LinkedHashMap<>();
+            SearchState state = new SearchState(graph.nodeCount());
+            int[] sources = entrances.get(buildings.get(i));
+            multiSource(state, sources, data.weights);
+            for (String target : buildings) {
+                int best = -1;
+                for (int entrance : entrances.get(target)) {
+                    if (best < 0 || state.dist(entrance) < state.dist(best)) {
+                        best = entrance;
+                    }
+                }
+                if (state.dist(best) != Double.POSITIVE_INFINITY) {
+                    row.put(target, path(state, best));
+                }
+            }
+            return row;
+        }).toList();
+        for (int i = 0; i < buildings.size(); i++) {
+            data.buildingTable.put(buildings.get(i), rows.get(i));
+        }
+    }
+
+    private void multiSource(SearchState state, int[] sources, double[] weights) {
+        state.reset();
+        for (int s : sources) {
+            state.set(s, 0, -1, -1);
+            state.heap.push(s, 0);
+        }
+        while (state.heap.size() > 0) {
+            double d = state.heap.peekKey();
+            int v = state.heap.pop();
+            if (d > state.dist(v)) {
+                continue;
+            }
+            for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                double du = d + weights[e];
+                int u = graph.target(e);
+                if (du < state.dist(u)) {
+                    state.set(u, du, v, e);
+                    state.heap.push(u, du);
+                }
+            }
+        }
+    }
+
+    private SearchState borrow() {
+        SearchState state = states.poll();
+        return state != null ? state : new SearchState(graph.nodeCount());
+    }
+}
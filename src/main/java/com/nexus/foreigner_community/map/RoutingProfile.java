@@ -0,0 +1,33 @@
+package com.nexus.foreigner_community.map;
+
+/**
+ * 간선 종류와 길이로 이동 시간(초)을 계산한다. 지나갈 수 없는 간선은 무한대.
+ */
+public enum RoutingProfile {
+
+    WALKING(1.3, 2.0, 1.1, 30),
+    // 계단은 지나갈 수 없고 경사로는 느리다.
+    WHEELCHAIR(1.0, Double.POSITIVE_INFINITY, 1.5, 30);
+
+    private final double metersPerSecond;
+    private final double stairsFactor;
+    private final double rampFactor;
+    private final double elevatorSeconds;
+
+    RoutingProfile(double metersPerSecond, double stairsFactor, double rampFactor, double elevatorSeconds) {
+        this.metersPerSecond = metersPerSecond;
+        this.stairsFactor = stairsFactor;
+        this.rampFactor = rampFactor;
+        this.elevatorSeconds = elevatorSeconds;
+    }
+
+    public double seconds(EdgeKind kind, double meters) {
+        double base = meters / metersPerSecond;
+        return switch (kind) {
+            case PATH, CORRIDOR -> base;
+            case STAIRS -> stairsFactor == Double.POSITIVE_INFINITY ? stairsFactor : base * stairsFactor;
+            case RAMP -> base * rampFactor;
+            case ELEVATOR -> base + elevatorSeconds;
+        };
+    }
+}
@@ -0,0 +1,167 @@
+package com.nexus.foreigner_community.map;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * 미리 렌더링한 타일을 한 파일에 모은 아카이브 (MBTiles/PMTiles 와 비슷한 구조). 파일 전체를 메모리 매핑한다.
+ * <pre>
+ * 0   8  magic "CAMPTILE"
+ * 8   4  형식 버전
+ * 12  1  최소 줌, 13 1 최대 줌, 14 2 예약
+ * 16  4  디렉터리 항목 수
+ * 20  4  content type 길이, 24..56 content type (ASCII)
+ * 56  8  아카이브 id (모든 타일 해시에서 계산)
+ * 64  .. 디렉터리: 항목마다 tileId 8, 파일 내 오프셋 8, 길이 4, 내용 해시 8 (tileId 순 정렬)
+ * ..  .. 타일 데이터. 내용이 같은 타일은 한 번만 저장하고 오프셋을 공유한다.
+ * </pre>
+ * 2GB 를 넘는 아카이브는 MappedByteBuffer 한 개로 매핑할 수 없으므로 지원하지 않는다.
+ */
+public final class TileArchive {
+
+    static final byte[] MAGIC = "CAMPTILE".getBytes(StandardCharsets.US_ASCII);
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_BYTES = 64;
+    static final int ENTRY_BYTES = 28;
+    static final int MAX_CONTENT_TYPE = 32;
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final String contentType;
+    private final int minZoom;
+    private final int maxZoom;
+    private final String version;
+    private final long[] ids;
+    private final long[] offsets;
+    private final int[] lengths;
+    private final long[] hashes;
+
+    private TileArchive(Path path, MappedByteBuffer buffer) throws IOException {
+        this.path = path;
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_BYTES) {
+            throw new IOException(path + " is too small to be a tile archive");
+        }
+        byte[] magic = new byte[MAGIC.length];
+        buffer.get(0, magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException(path + " is not a tile archive");
+        }
+        int formatVersion = buffer.getInt(8);
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException(path + " has unsupported format version " + formatVersion);
+        }
+        this.minZoom = buffer.get(12);
+        this.maxZoom = buffer.get(13);
+        int count = buffer.getInt(16);
+        int typeLength = buffer.getInt(20);
+        // 손상된 헤더의 값으로 배열을 잡기 전에 파일 크기 안에 들어오는지 확인한다.
+        if (typeLength < 0 || typeLength > MAX_CONTENT_TYPE) {
+            throw new IOException(path + " has invalid content type length " + typeLength);
+        }
+        if (count < 0 || (long) count * ENTRY_BYTES > buffer.capacity() - HEADER_BYTES) {
+            throw new IOException(path + " has a directory of " + count + " entries that does not fit in the file");
+        }
+        byte[] type = new byte[typeLength];
+        buffer.get(24, type);
+        this.contentType = new String(type, StandardCharsets.US_ASCII);
+        this.version = HexFormat.of().toHexDigits(buffer.getLong(56));
+
+        ids = new long[count];
+        offsets = new long[count];
+        lengths = new int[count];
+        hashes = new long[count];
+        for (int i = 0; i < count; i++) {
+            int at = HEADER_BYTES + i * ENTRY_BYTES;
+            ids[i] = buffer.getLong(at);
+            offsets[i] = buffer.getLong(at + 8);
+            lengths[i] = buffer.getInt(at + 16);
+            hashes[i] = buffer.getLong(at + 20);
+            if (offsets[i] < 0 || lengths[i] < 0 || offsets[i] + lengths[i] > buffer.capacity()) {
+                throw new IOException(path + " has a tile outside the file");
+            }
+        }
+    }
+
+    public static TileArchive open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // 매핑은 채널을 닫아도 유지된다.
+            return new TileArchive(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public static long tileId(int z, int x, int y) {
+        return (long) z << 58 | (long) x << 29 | y;
+    }
+
+    /** 타일의 디렉터리 번호. 없으면 -1. */
+    public int find(int z, int x, int y) {
+        if (z < 0 || z > 29 || x < 0 || y < 0 || x >= 1 << z || y >= 1 << z) {
+            return -1;
+        }
+        int index = Arrays.binarySearch(ids, tileId(z, x, y));
+        return index < 0 ? -1 : index;
+    }
+
+    public int z(int index) {
+        return (int) (ids[index] >>> 58);
+    }
+
+    public int x(int index) {
+        return (int) (ids[index] >>> 29) & ((1 << 29) - 1);
+    }
+
+    public int y(int index) {
+        return (int) ids[index] & ((1 << 29) - 1);
+    }
+
+    /** 복사 없이 매핑된 영역을 가리키는 버퍼. */
+    public ByteBuffer data(int index) {
+        return buffer.slice((int) offsets[index], lengths[index]).asReadOnlyBuffer();
+    }
+
+    public long fileOffset(int index) {
+        return offsets[index];
+    }
+
+    public int length(int index) {
+        return lengths[index];
+    }
+
+    /** 내용 해시로 만든 강한 ETag (따옴표 포함). */
+    public String etag(int index) {
+        return "\"" + HexFormat.of().toHexDigits(hashes[index]) + "\"";
+    }
+
+    public int tileCount() {
+        return ids.length;
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public int minZoom() {
+        return minZoom;
+    }
+
+    public int maxZoom() {
+        return maxZoom;
+    }
+
+    /** 아카이브 내용이 바뀌면 달라지는 값. 타일 URL 에 넣어 immutable 캐시를 안전하게 쓴다. */
+    public String version() {
+        return version;
+    }
+}
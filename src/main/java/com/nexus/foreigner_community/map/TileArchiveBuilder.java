@@ -0,0 +1,164 @@
+package com.nexus.foreigner_community.map;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Line2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+/**
+ * 보행 그래프와 POI 로 캠퍼스 래스터 타일(256px PNG, 웹 메르카토르)을 그려 {@link TileArchive} 로 저장한다.
+ * 사용법: ./gradlew buildMapTiles
+ */
+public class TileArchiveBuilder {
+
+    static final int TILE_SIZE = 256;
+    static final int MIN_ZOOM = 15;
+    static final int MAX_ZOOM = 19;
+    // 경계 바깥으로 조금 더 그려 가장자리 건물이 잘리지 않게 한다.
+    private static final double PADDING_DEGREES = 0.002;
+
+    private static final Color BACKGROUND = new Color(0xEEF3E8);
+    private static final Color BUILDING = new Color(0xB9A98F);
+    private static final Color POI = new Color(0x3A6EA5);
+    private static final Map<EdgeKind, Color> EDGE_COLORS = new EnumMap<>(Map.of(
+            EdgeKind.PATH, new Color(0xFFFFFF),
+            EdgeKind.CORRIDOR, new Color(0xD8CFC0),
+            EdgeKind.STAIRS, new Color(0xC0504D),
+            EdgeKind.RAMP, new Color(0x4F9D69),
+            EdgeKind.ELEVATOR, new Color(0x8064A2)));
+
+    public static void main(String[] args) throws IOException {
+        Path footpaths = Path.of(args[0]);
+        Path pois = Path.of(args[1]);
+        Path output = Path.of(args[2]);
+
+        FootpathGraph graph;
+        try (InputStream in = Files.newInputStream(footpaths)) {
+            graph = FootpathCsv.read(in);
+        }
+        List<Poi> poiList;
+        try (InputStream in = Files.newInputStream(pois)) {
+            poiList = PoiCsv.read(in);
+        }
+
+        TileArchiveWriter writer = new TileArchiveWriter("image/png");
+        int count = render(graph, poiList, MIN_ZOOM, MAX_ZOOM, writer);
+        writer.write(output);
+        System.out.printf("wrote %s (%d tiles, %d bytes)%n", output, count, Files.size(output));
+    }
+
+    /** 데이터 경계를 덮는 모든 타일을 그려 writer 에 넣고 타일 수를 돌려준다. */
+    static int render(FootpathGraph graph, List<Poi> pois, int minZoom, int maxZoom, TileArchiveWriter writer)
+            throws IOException {
+        double south = Double.POSITIVE_INFINITY;
+        double north = Double.NEGATIVE_INFINITY;
+        double west = Double.POSITIVE_INFINITY;
+        double east = Double.NEGATIVE_INFINITY;
+        for (int v = 0; v < graph.nodeCount(); v++) {
+            south = Math.min(south, graph.lat(v));
+            north = Math.max(north, graph.lat(v));
+            west = Math.min(west, graph.lon(v));
+            east = Math.max(east, graph.lon(v));
+        }
+        for (Poi poi : pois) {
+            south = Math.min(south, poi.lat());
+            north = Math.max(north, poi.lat());
+            west = Math.min(west, poi.lon());
+            east = Math.max(east, poi.lon());
+        }
+        if (south > north) {
+            return 0;
+        }
+        south -= PADDING_DEGREES;
+        north += PADDING_DEGREES;
+        west -= PADDING_DEGREES;
+        east += PADDING_DEGREES;
+
+        int count = 0;
+        for (int z = minZoom; z <= maxZoom; z++) {
+            int minX = (int) Math.floor(tileX(west, z));
+            int maxX = (int) Math.floor(tileX(east, z));
+            int minY = (int) Math.floor(tileY(north, z));
+            int maxY = (int) Math.floor(tileY(south, z));
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    writer.add(z, x, y, renderTile(graph, pois, z, x, y));
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    static byte[] renderTile(FootpathGraph graph, List<Poi> pois, int z, int x, int y) throws IOException {
+        BufferedImage image = new BufferedImage(TILE_SIZE, TILE_SIZE, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setColor(BACKGROUND);
+            g.fillRect(0, 0, TILE_SIZE, TILE_SIZE);
+            // 타일 바깥 좌표도 그대로 그리면 Graphics2D 가 잘라 준다. 이웃 타일과 경계가 맞는다.
+            double scale = Math.pow(2, z - MIN_ZOOM);
+            g.setStroke(new BasicStroke((float) Math.max(1, 1.5 * scale), BasicStroke.CAP_ROUND,
+                    BasicStroke.JOIN_ROUND));
+            for (int v = 0; v < graph.nodeCount(); v++) {
+                double x1 = pixel(tileX(graph.lon(v), z), x);
+                double y1 = pixel(tileY(graph.lat(v), z), y);
+                for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                    int w = graph.target(e);
+                    if (w < v) {
+                        continue;
+                    }
+                    g.setColor(EDGE_COLORS.get(graph.kind(e)));
+                    g.draw(new Line2D.Double(x1, y1, pixel(tileX(graph.lon(w), z), x),
+                            pixel(tileY(graph.lat(w), z), y)));
+                }
+            }
+            double buildingSize = 4 * scale;
+            double markerSize = Math.max(2, 1.5 * scale);
+            for (Poi poi : pois) {
+                double px = pixel(tileX(poi.lon(), z), x);
+                double py = pixel(tileY(poi.lat(), z), y);
+                boolean building = poi.type() == PoiType.BUILDING;
+                double size = building ? buildingSize : markerSize;
+                if (px + size < 0 || py + size < 0 || px - size > TILE_SIZE || py - size > TILE_SIZE) {
+                    continue;
+                }
+                g.setColor(building ? BUILDING : POI);
+                g.fill(new Rectangle2D.Double(px - size / 2, py - size / 2, size, size));
+            }
+        } finally {
+            g.dispose();
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private static double pixel(double tileCoordinate, int tile) {
+        return (tileCoordinate - tile) * TILE_SIZE;
+    }
+
+    /** 웹 메르카토르 타일 좌표 (정수부가 타일 번호). */
+    static double tileX(double lon, int z) {
+        return (lon + 180) / 360 * (1 << z);
+    }
+
+    static double tileY(double lat, int z) {
+        double rad = Math.toRadians(lat);
+        return (1 - Math.log(Math.tan(rad) + 1 / Math.cos(rad)) / Math.PI) / 2 * (1 << z);
+    }
+}
@@ -0,0 +1,112 @@
+package com.nexus.foreigner_community.map;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * {@link TileArchive} 형식으로 타일을 모아 쓴다. 내용이 같은 타일(빈 잔디밭 등)은 한 번만 저장한다.
+ */
+public final class TileArchiveWriter {
+
+    private final String contentType;
+    private final TreeMap<Long, byte[]> tiles = new TreeMap<>();
+    private int minZoom = Integer.MAX_VALUE;
+    private int maxZoom = Integer.MIN_VALUE;
+
+    public TileArchiveWriter(String contentType) {
+        if (contentType.length() > TileArchive.MAX_CONTENT_TYPE) {
+            throw new IllegalArgumentException("content type is too long: " + contentType);
+        }
+        this.contentType = contentType;
+    }
+
+    public TileArchiveWriter add(int z, int x, int y, byte[] data) {
+        tiles.put(TileArchive.tileId(z, x, y), data);
+        minZoom = Math.min(minZoom, z);
+        maxZoom = Math.max(maxZoom, z);
+        return this;
+    }
+
+    /** 임시 파일에 다 쓴 뒤 옮기므로, 읽는 쪽이 반쯤 쓰인 파일을 볼 일은 없다. */
+    public void write(Path target) throws IOException {
+        List<Long> ids = new ArrayList<>(tiles.keySet());
+        long dataStart = TileArchive.HEADER_BYTES + (long) ids.size() * TileArchive.ENTRY_BYTES;
+
+        Map<Long, Long> offsetByHash = new HashMap<>();
+        List<byte[]> blobs = new ArrayList<>();
+        long[] offsets = new long[ids.size()];
+        long[] hashes = new long[ids.size()];
+        long next = dataStart;
+        MessageDigest archiveDigest = sha256();
+        for (int i = 0; i < ids.size(); i++) {
+            byte[] data = tiles.get(ids.get(i));
+            long hash = hash(data);
+            hashes[i] = hash;
+            Long existing = offsetByHash.get(hash);
+            if (existing == null) {
+                existing = next;
+                offsetByHash.put(hash, existing);
+                blobs.add(data);
+                next += data.length;
+            }
+            offsets[i] = existing;
+            archiveDigest.update(ByteBuffer.allocate(16).putLong(ids.get(i)).putLong(hash).array());
+        }
+
+        ByteBuffer head = ByteBuffer.allocate((int) dataStart);
+        head.put(TileArchive.MAGIC);
+        head.putInt(TileArchive.FORMAT_VERSION);
+        head.put((byte) (ids.isEmpty() ? 0 : minZoom));
+        head.put((byte) (ids.isEmpty() ? 0 : maxZoom));
+        head.putShort((short) 0);
+        head.putInt(ids.size());
+        byte[] type = contentType.getBytes(StandardCharsets.US_ASCII);
+        head.putInt(type.length);
+        head.put(type);
+        head.position(56);
+        head.putLong(ByteBuffer.wrap(archiveDigest.digest()).getLong());
+        for (int i = 0; i < ids.size(); i++) {
+            head.putLong(ids.get(i));
+            head.putLong(offsets[i]);
+            head.putInt(tiles.get(ids.get(i)).length);
+            head.putLong(hashes[i]);
+        }
+        head.flip();
+
+        Path parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.write(head);
+            for (byte[] blob : blobs) {
+                channel.write(ByteBuffer.wrap(blob));
+            }
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static long hash(byte[] data) {
+        return ByteBuffer.wrap(sha256().digest(data)).getLong();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
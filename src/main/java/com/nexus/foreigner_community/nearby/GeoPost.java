@@ -0,0 +1,14 @@
+package com.nexus.foreigner_community.nearby;
+
+import java.time.Instant;
+
+/**
+ * 위치 색인에 넣는 글 요약. 좌표가 없으면 lat/lon 은 NaN 이고 건물로만 찾는다. building 은 없으면 null.
+ */
+public record GeoPost(long id, String category, String title, String building, double lat, double lon,
+                      Instant createdAt) {
+
+    public boolean hasLocation() {
+        return !Double.isNaN(lat) && !Double.isNaN(lon);
+    }
+}
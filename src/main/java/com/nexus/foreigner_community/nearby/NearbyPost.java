@@ -0,0 +1,7 @@
+package com.nexus.foreigner_community.nearby;
+
+/**
+ * 근처 글 검색 결과. distanceMeters 는 건물 글 검색에서는 0, score 는 거리와 시간 감쇠를 곱한 순위 점수.
+ */
+public record NearbyPost(GeoPost post, double distanceMeters, double score) {
+}
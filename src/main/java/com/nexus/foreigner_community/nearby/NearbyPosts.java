@@ -0,0 +1,126 @@
+package com.nexus.foreigner_community.nearby;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.nexus.foreigner_community.entity.Post;
+import com.nexus.foreigner_community.live.GeoItem;
+import com.nexus.foreigner_community.map.CampusMap;
+import com.nexus.foreigner_community.map.Poi;
+import com.nexus.foreigner_community.map.PoiType;
+import com.nexus.foreigner_community.repository.PostRepository;
+import com.nexus.foreigner_community.service.PostChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * "이 근처 글", "이 건물 글" 조회. 시작할 때 위치가 있는 글만 id 순으로 나눠 읽어 {@link PostGeoIndex} 를 채우고,
+ * 그 뒤로는 글 변경 이벤트를 커밋 뒤에 받아 색인을 고친다. 조회는 글 테이블을 읽지 않는다.
+ * 좌표 없이 건물 번호만 있는 글은 그 건물 POI 의 좌표로 근처 검색에도 나온다.
+ */
+@Slf4j
+@Component
+public class NearbyPosts {
+
+    public static final double MAX_RADIUS_METERS = 3000;
+    public static final int MAX_LIMIT = 100;
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    private final PostGeoIndex index;
+    private final ApplicationEventPublisher eventPublisher;
+    private volatile Map<String, Poi> buildings;
+
+    public NearbyPosts(PostRepository postRepository, CampusMap campusMap, ApplicationEventPublisher eventPublisher,
+                       @Value("${nearby.cell-degrees}") double cellDegrees,
+                       @Value("${nearby.half-life-hours}") long halfLifeHours,
+                       @Value("${nearby.distance-scale-meters}") double distanceScaleMeters) {
+        this.index = new PostGeoIndex(cellDegrees, Duration.ofHours(halfLifeHours), distanceScaleMeters);
+        this.eventPublisher = eventPublisher;
+        this.buildings = buildings(campusMap.ofType(PoiType.BUILDING));
+        campusMap.addListener(pois -> buildings = buildings(pois));
+
+        long after = 0;
+        while (true) {
+            List<PostRepository.LocatedPost> page = postRepository.findLocatedAfter(after,
+                    PageRequest.of(0, LOAD_PAGE_SIZE));
+            if (page.isEmpty()) {
+                break;
+            }
+            for (PostRepository.LocatedPost post : page) {
+                index.put(geoPost(post.getId(), post.getCategory(), post.getTitle(), post.getLatitude(),
+                        post.getLongitude(), post.getBuilding(), post.getCreatedAt()));
+            }
+            after = page.get(page.size() - 1).getId();
+        }
+        log.info("nearby post index loaded ({} posts)", index.size());
+    }
+
+    // 롤백된 글이 색인에 들어가거나 구독자에게 나가지 않도록 커밋 뒤에 반영한다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        Post post = event.post();
+        if (event.change() == PostChangedEvent.Change.DELETED) {
+            index.remove(post.getId());
+            return;
+        }
+        GeoPost geoPost = geoPost(post.getId(), post.getCategory(), post.getTitle(), post.getLatitude(),
+                post.getLongitude(), post.getBuilding(), post.getCreatedAt());
+        index.put(geoPost);
+        if (event.change() == PostChangedEvent.Change.CREATED && geoPost.hasLocation()) {
+            eventPublisher.publishEvent(new GeoItem("post", String.valueOf(geoPost.id()), geoPost.lat(),
+                    geoPost.lon(), geoPost.title(), "/posts/" + geoPost.id(), geoPost.createdAt()));
+        }
+    }
+
+    public List<NearbyPost> near(double lat, double lon, double radiusMeters, Set<String> categories, int limit) {
+        return index.near(lat, lon, Math.min(radiusMeters, MAX_RADIUS_METERS), categories,
+                Math.min(limit, MAX_LIMIT), Instant.now());
+    }
+
+    public List<NearbyPost> inBuilding(String building, Set<String> categories, int limit) {
+        return index.inBuilding(building, categories, Math.min(limit, MAX_LIMIT), Instant.now());
+    }
+
+    /** 건물 번호의 건물 POI. 근처 검색의 중심으로 쓴다. */
+    public Optional<Poi> building(String building) {
+        return Optional.ofNullable(buildings.get(building));
+    }
+
+    private GeoPost geoPost(long id, String category, String title, Double lat, Double lon, String building,
+                            LocalDateTime createdAt) {
+        double latitude = lat == null ? Double.NaN : lat;
+        double longitude = lon == null ? Double.NaN : lon;
+        if (lat == null && building != null) {
+            Poi poi = buildings.get(building);
+            if (poi != null) {
+                latitude = poi.lat();
+                longitude = poi.lon();
+            }
+        }
+        Instant created = createdAt == null ? Instant.EPOCH : createdAt.atZone(ZoneId.systemDefault()).toInstant();
+        return new GeoPost(id, category, title, building, latitude, longitude, created);
+    }
+
+    private static Map<String, Poi> buildings(List<Poi> pois) {
+        Map<String, Poi> buildings = new HashMap<>();
+        for (Poi poi : pois) {
+            if (poi.type() == PoiType.BUILDING && poi.building() != null) {
+                buildings.putIfAbsent(poi.building(), poi);
+            }
+        }
+        return buildings;
+    }
+}
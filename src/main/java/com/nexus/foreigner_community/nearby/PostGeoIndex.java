@@ -0,0 +1,283 @@
+package com.nexus.foreigner_community.nearby;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.nexus.foreigner_community.map.LocalProjection;
+
+/**
+ * 위치가 있는 글의 공간 + 최신순 색인. 글은 위경도 격자 칸과 건물별 목록에 오래된 순서로 들어 있어서
+ * 새 글은 대개 목록 끝에 붙는다.
+ * <p>
+ * 점수는 {@code 0.5^(경과 시간 / halfLife) / (1 + 거리 / distanceScale)} 이다. 근처 검색은 반경에 걸친 칸마다
+ * 가장 최신 글부터 내려가는 커서를 두고, 칸까지의 최소 거리와 다음 글의 시간 감쇠로 점수 상한을 계산해
+ * 상한이 가장 큰 커서부터 꺼낸다. 상한이 이미 찾은 limit 번째 점수보다 작아지면 멈추므로, 오래된 글은 보지 않는다.
+ */
+public final class PostGeoIndex {
+
+    private static final Comparator<GeoPost> ORDER = Comparator.comparing(GeoPost::createdAt)
+            .thenComparingLong(GeoPost::id);
+    private static final double METERS_PER_DEGREE_LAT = 111_195;
+
+    private final double cellDegrees;
+    private final double halfLifeMillis;
+    private final double distanceScaleMeters;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, GeoPost> byId = new HashMap<>();
+    private final Map<Long, List<GeoPost>> cells = new HashMap<>();
+    private final Map<String, List<GeoPost>> buildings = new HashMap<>();
+
+    /**
+     * @param cellDegrees         격자 한 칸의 크기(도). 0.002 면 캠퍼스 위도에서 대략 220m x 180m.
+     * @param halfLife            점수가 절반이 되는 시간.
+     * @param distanceScaleMeters 거리 점수가 절반이 되는 거리.
+     */
+    public PostGeoIndex(double cellDegrees, Duration halfLife, double distanceScaleMeters) {
+        this.cellDegrees = cellDegrees;
+        this.halfLifeMillis = halfLife.toMillis();
+        this.distanceScaleMeters = distanceScaleMeters;
+    }
+
+    /** 넣거나, 같은 번호의 글이 있으면 바꾼다. 좌표도 건물도 없는 글은 지우기만 한다. */
+    public void put(GeoPost post) {
+        lock.writeLock().lock();
+        try {
+            GeoPost previous = byId.remove(post.id());
+            if (previous != null) {
+                unlink(previous);
+            }
+            if (!post.hasLocation() && post.building() == null) {
+                return;
+            }
+            byId.put(post.id(), post);
+            if (post.hasLocation()) {
+                insert(cells.computeIfAbsent(cell(post.lat(), post.lon()), k -> new ArrayList<>()), post);
+            }
+            if (post.building() != null) {
+                insert(buildings.computeIfAbsent(post.building(), k -> new ArrayList<>()), post);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            GeoPost previous = byId.remove(id);
+            if (previous != null) {
+                unlink(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * (lat, lon) 에서 radiusMeters 안의 글을 점수 순으로 최대 limit 개. categories 가 비어 있으면 모든 분류.
+     * 좌표가 범위 밖이거나 반경이 유한하지 않으면 IllegalArgumentException.
+     */
+    public List<NearbyPost> near(double lat, double lon, double radiusMeters, Set<String> categories, int limit,
+                                 Instant now) {
+        if (!(-90 <= lat && lat <= 90 && -180 <= lon && lon <= 180 && radiusMeters >= 0)
+                || Double.isInfinite(radiusMeters)) {
+            throw new IllegalArgumentException("lat must be in [-90, 90], lon in [-180, 180], radius finite");
+        }
+        if (limit <= 0) {
+            return List.of();
+        }
+        LocalProjection projection = new LocalProjection(lat);
+        double latRadius = radiusMeters / METERS_PER_DEGREE_LAT;
+        // 극 근처에서는 경도 반경이 끝없이 커지므로 위경도 범위로 자른다.
+        double lonRadius = Math.min(360, latRadius / Math.cos(Math.toRadians(lat)));
+        int south = row(Math.max(-90, lat - latRadius));
+        int north = row(Math.min(90, lat + latRadius));
+        int west = col(Math.max(-180, lon - lonRadius));
+        int east = col(Math.min(180, lon + lonRadius));
+        PriorityQueue<Cursor> cursors = new PriorityQueue<>(Comparator.comparingDouble((Cursor c) -> c.bound)
+                .reversed());
+        PriorityQueue<NearbyPost> best = new PriorityQueue<>(Comparator.comparingDouble(NearbyPost::score));
+
+        lock.readLock().lock();
+        try {
+            // 영역의 칸 수가 글이 있는 칸 수보다 많으면 (넓은 반경, 극 근처) 글이 있는 칸만 훑는다.
+            long boxCells = ((long) north - south + 1) * ((long) east - west + 1);
+            if (boxCells > cells.size()) {
+                for (Map.Entry<Long, List<GeoPost>> entry : cells.entrySet()) {
+                    int r = (int) (entry.getKey() >> 32);
+                    int c = (int) (long) entry.getKey();
+                    if (south <= r && r <= north && west <= c && c <= east) {
+                        addCursor(cursors, entry.getValue(), projection, lat, lon, r, c, radiusMeters, now);
+                    }
+                }
+            } else {
+                for (int r = south; r <= north; r++) {
+                    for (int c = west; c <= east; c++) {
+                        List<GeoPost> posts = cells.get(key(r, c));
+                        if (posts != null) {
+                            addCursor(cursors, posts, projection, lat, lon, r, c, radiusMeters, now);
+                        }
+                    }
+                }
+            }
+            while (!cursors.isEmpty()) {
+                Cursor cursor = cursors.poll();
+                if (best.size() == limit && cursor.bound <= best.peek().score()) {
+                    break;
+                }
+                GeoPost post = cursor.posts.get(cursor.index);
+                if (categories.isEmpty() || categories.contains(post.category())) {
+                    double distance = projection.distance(lat, lon, post.lat(), post.lon());
+                    if (distance <= radiusMeters) {
+                        double score = distanceFactor(distance) * decay(post.createdAt(), now);
+                        offer(best, new NearbyPost(post, distance, score), limit);
+                    }
+                }
+                if (--cursor.index >= 0) {
+                    cursor.bound = cursor.factor * decay(cursor.posts.get(cursor.index).createdAt(), now);
+                    cursors.add(cursor);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return sorted(best);
+    }
+
+    private void addCursor(PriorityQueue<Cursor> cursors, List<GeoPost> posts, LocalProjection projection,
+                           double lat, double lon, int r, int c, double radiusMeters, Instant now) {
+        double distance = distanceToCell(projection, lat, lon, r, c);
+        if (distance <= radiusMeters) {
+            Cursor cursor = new Cursor(posts, distanceFactor(distance));
+            cursor.bound = cursor.factor * decay(posts.get(cursor.index).createdAt(), now);
+            cursors.add(cursor);
+        }
+    }
+
+    /** building 에 달린 글을 최신순으로 최대 limit 개. */
+    public List<NearbyPost> inBuilding(String building, Set<String> categories, int limit, Instant now) {
+        List<NearbyPost> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            List<GeoPost> posts = buildings.getOrDefault(building, List.of());
+            for (int i = posts.size() - 1; i >= 0 && result.size() < limit; i--) {
+                GeoPost post = posts.get(i);
+                if (categories.isEmpty() || categories.contains(post.category())) {
+                    result.add(new NearbyPost(post, 0, decay(post.createdAt(), now)));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    private void unlink(GeoPost post) {
+        if (post.hasLocation()) {
+            long key = cell(post.lat(), post.lon());
+            if (delete(cells.get(key), post)) {
+                cells.remove(key);
+            }
+        }
+        if (post.building() != null && delete(buildings.get(post.building()), post)) {
+            buildings.remove(post.building());
+        }
+    }
+
+    private static void insert(List<GeoPost> posts, GeoPost post) {
+        int at = Collections.binarySearch(posts, post, ORDER);
+        posts.add(at < 0 ? -at - 1 : at, post);
+    }
+
+    // 지우고 목록이 비었으면 true.
+    private static boolean delete(List<GeoPost> posts, GeoPost post) {
+        int at = Collections.binarySearch(posts, post, ORDER);
+        if (at >= 0) {
+            posts.remove(at);
+        }
+        return posts.isEmpty();
+    }
+
+    private static void offer(PriorityQueue<NearbyPost> best, NearbyPost candidate, int limit) {
+        if (best.size() < limit) {
+            best.add(candidate);
+        } else if (candidate.score() > best.peek().score()) {
+            best.poll();
+            best.add(candidate);
+        }
+    }
+
+    private static List<NearbyPost> sorted(PriorityQueue<NearbyPost> best) {
+        List<NearbyPost> result = new ArrayList<>(best);
+        result.sort(Comparator.comparingDouble(NearbyPost::score).reversed());
+        return result;
+    }
+
+    private double decay(Instant createdAt, Instant now) {
+        long age = Math.max(0, now.toEpochMilli() - createdAt.toEpochMilli());
+        return Math.pow(0.5, age / halfLifeMillis);
+    }
+
+    private double distanceFactor(double meters) {
+        return 1 / (1 + meters / distanceScaleMeters);
+    }
+
+    // (lat, lon) 에서 칸 (r, c) 의 가장 가까운 점까지의 거리. 점이 칸 안에 있으면 0.
+    private double distanceToCell(LocalProjection projection, double lat, double lon, int r, int c) {
+        double south = r * cellDegrees;
+        double west = c * cellDegrees;
+        double nearestLat = Math.max(south, Math.min(lat, south + cellDegrees));
+        double nearestLon = Math.max(west, Math.min(lon, west + cellDegrees));
+        return projection.distance(lat, lon, nearestLat, nearestLon);
+    }
+
+    private long cell(double lat, double lon) {
+        return key(row(lat), col(lon));
+    }
+
+    private int row(double lat) {
+        return (int) Math.floor(lat / cellDegrees);
+    }
+
+    private int col(double lon) {
+        return (int) Math.floor(lon / cellDegrees);
+    }
+
+    private static long key(int row, int col) {
+        return (long) row << 32 | (col & 0xFFFFFFFFL);
+    }
+
+    // 칸 하나의 글을 최신 글부터 내려가며 본다. bound 는 아직 보지 않은 글이 받을 수 있는 최대 점수.
+    private static final class Cursor {
+
+        final List<GeoPost> posts;
+        final double factor;
+        int index;
+        double bound;
+
+        Cursor(List<GeoPost> posts, double factor) {
+            this.posts = posts;
+            this.factor = factor;
+            this.index = posts.size() - 1;
+        }
+    }
+}
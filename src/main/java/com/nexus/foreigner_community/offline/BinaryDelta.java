@@ -0,0 +1,175 @@
+package com.nexus.foreigner_community.offline;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 두 바이트 배열의 차이를 rsync 방식으로 만든다. 이전 내용을 BLOCK 바이트씩 잘라 약한 롤링 해시로 색인하고,
+ * 새 내용을 한 바이트씩 밀며 같은 블록을 찾으면 COPY(이전 오프셋, 길이), 못 찾은 구간은 INSERT(바이트)로 적는다.
+ * 서버는 두 내용을 다 가지고 있으므로 해시가 맞으면 바이트를 직접 비교해 확인하고, 일치 구간을 블록 너머까지 늘린다.
+ * <pre>
+ * varint 이전 길이, varint 새 길이, 명령들:
+ *   1 varint 오프셋 varint 길이   (COPY)
+ *   2 varint 길이 바이트...        (INSERT)
+ * </pre>
+ */
+public final class BinaryDelta {
+
+    static final int BLOCK = 64;
+    private static final int COPY = 1;
+    private static final int INSERT = 2;
+
+    private BinaryDelta() {
+    }
+
+    public static byte[] diff(byte[] base, byte[] target) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(32, target.length / 8));
+        writeVarint(out, base.length);
+        writeVarint(out, target.length);
+
+        Map<Integer, int[]> blocks = index(base);
+        int literalStart = 0;
+        int p = 0;
+        int hash = target.length >= BLOCK ? hash(target, 0) : 0;
+        while (p + BLOCK <= target.length) {
+            int match = blocks.isEmpty() ? -1 : find(blocks.get(hash), base, target, p);
+            if (match >= 0) {
+                int length = BLOCK;
+                while (match + length < base.length && p + length < target.length
+                        && base[match + length] == target[p + length]) {
+                    length++;
+                }
+                if (p > literalStart) {
+                    writeInsert(out, target, literalStart, p);
+                }
+                out.write(COPY);
+                writeVarint(out, match);
+                writeVarint(out, length);
+                p += length;
+                literalStart = p;
+                if (p + BLOCK <= target.length) {
+                    hash = hash(target, p);
+                }
+            } else {
+                if (p + BLOCK < target.length) {
+                    hash = roll(hash, target[p], target[p + BLOCK]);
+                }
+                p++;
+            }
+        }
+        if (target.length > literalStart) {
+            writeInsert(out, target, literalStart, target.length);
+        }
+        return out.toByteArray();
+    }
+
+    public static byte[] apply(byte[] base, byte[] delta) {
+        int[] pos = {0};
+        int baseLength = readVarint(delta, pos);
+        int targetLength = readVarint(delta, pos);
+        if (baseLength != base.length) {
+            throw new IllegalArgumentException("delta expects " + baseLength + " base bytes but got " + base.length);
+        }
+        byte[] target = new byte[targetLength];
+        int written = 0;
+        while (pos[0] < delta.length) {
+            int op = delta[pos[0]++];
+            if (op == COPY) {
+                int offset = readVarint(delta, pos);
+                int length = readVarint(delta, pos);
+                System.arraycopy(base, offset, target, written, length);
+                written += length;
+            } else if (op == INSERT) {
+                int length = readVarint(delta, pos);
+                System.arraycopy(delta, pos[0], target, written, length);
+                pos[0] += length;
+                written += length;
+            } else {
+                throw new IllegalArgumentException("unknown delta op " + op);
+            }
+        }
+        if (written != targetLength) {
+            throw new IllegalArgumentException("delta produced " + written + " bytes, expected " + targetLength);
+        }
+        return target;
+    }
+
+    // 겹치지 않는 블록마다 해시 → 오프셋 목록
+    private static Map<Integer, int[]> index(byte[] base) {
+        Map<Integer, int[]> blocks = new HashMap<>();
+        for (int offset = 0; offset + BLOCK <= base.length; offset += BLOCK) {
+            int hash = hash(base, offset);
+            int[] offsets = blocks.get(hash);
+            if (offsets == null) {
+                blocks.put(hash, new int[] {offset});
+            } else if (offsets.length < 8) {
+                // 같은 해시가 아주 많으면(0으로 채운 구간 등) 몇 개만 둔다.
+                int[] grown = Arrays.copyOf(offsets, offsets.length + 1);
+                grown[offsets.length] = offset;
+                blocks.put(hash, grown);
+            }
+        }
+        return blocks;
+    }
+
+    private static int find(int[] candidates, byte[] base, byte[] target, int p) {
+        if (candidates == null) {
+            return -1;
+        }
+        for (int offset : candidates) {
+            if (Arrays.equals(base, offset, offset + BLOCK, target, p, p + BLOCK)) {
+                return offset;
+            }
+        }
+        return -1;
+    }
+
+    // rsync 의 약한 체크섬: a = 바이트 합, b = 위치 가중 합. 각각 16비트.
+    private static int hash(byte[] data, int offset) {
+        int a = 0;
+        int b = 0;
+        for (int i = 0; i < BLOCK; i++) {
+            int x = data[offset + i] & 0xFF;
+            a += x;
+            b += (BLOCK - i) * x;
+        }
+        return (b & 0xFFFF) << 16 | (a & 0xFFFF);
+    }
+
+    private static int roll(int hash, byte out, byte in) {
+        int a = hash & 0xFFFF;
+        int b = hash >>> 16;
+        a = (a - (out & 0xFF) + (in & 0xFF)) & 0xFFFF;
+        b = (b - BLOCK * (out & 0xFF) + a) & 0xFFFF;
+        return b << 16 | a;
+    }
+
+    private static void writeInsert(ByteArrayOutputStream out, byte[] data, int from, int to) {
+        out.write(INSERT);
+        writeVarint(out, to - from);
+        out.write(data, from, to - from);
+    }
+
+    static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    static int readVarint(byte[] data, int[] pos) {
+        int value = 0;
+        int shift = 0;
+        while (true) {
+            int b = data[pos[0]++];
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.nexus.foreigner_community.offline;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 한 번들 버전에서 다른 버전으로 가는 차이. 항목 단위로 비교해서 그대로인 항목은 적지 않고,
+ * 바뀐 항목은 {@link BinaryDelta} 가 전체보다 작을 때만 PATCH, 아니면 PUT 으로 새 내용을 통째로 싣는다.
+ * 타일처럼 작은 PNG 는 대개 PUT, campus.dataset 처럼 큰 항목은 PATCH 가 된다. 모든 수는 빅 엔디언이다.
+ * <pre>
+ * magic "CAMPDLTA" 8, 형식 버전 4, 이전 버전 8, 새 버전 8, 명령 수 4
+ * 명령: 종류 1, 이름 길이 2, 이름(UTF-8), [PUT/PATCH] 길이 4, 바이트
+ * </pre>
+ */
+public final class BundleDelta {
+
+    static final byte[] MAGIC = "CAMPDLTA".getBytes(StandardCharsets.US_ASCII);
+    static final int FORMAT_VERSION = 1;
+    private static final int PUT = 1;
+    private static final int PATCH = 2;
+    private static final int DELETE = 3;
+
+    private BundleDelta() {
+    }
+
+    public static byte[] create(OfflineBundle from, OfflineBundle to) {
+        record Op(int type, String name, byte[] data) {
+        }
+        List<Op> ops = new ArrayList<>();
+        for (Map.Entry<String, byte[]> entry : to.entries().entrySet()) {
+            byte[] previous = from.entries().get(entry.getKey());
+            byte[] next = entry.getValue();
+            if (previous == null) {
+                ops.add(new Op(PUT, entry.getKey(), next));
+            } else if (!Arrays.equals(previous, next)) {
+                byte[] patch = BinaryDelta.diff(previous, next);
+                ops.add(patch.length < next.length
+                        ? new Op(PATCH, entry.getKey(), patch)
+                        : new Op(PUT, entry.getKey(), next));
+            }
+        }
+        for (String name : from.entries().keySet()) {
+            if (!to.entries().containsKey(name)) {
+                ops.add(new Op(DELETE, name, null));
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.write(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(Long.parseUnsignedLong(from.version(), 16));
+            out.writeLong(Long.parseUnsignedLong(to.version(), 16));
+            out.writeInt(ops.size());
+            for (Op op : ops) {
+                byte[] name = op.name().getBytes(StandardCharsets.UTF_8);
+                out.writeByte(op.type());
+                out.writeShort(name.length);
+                out.write(name);
+                if (op.data() != null) {
+                    out.writeInt(op.data().length);
+                    out.write(op.data());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /** from 에 delta 를 적용한 번들. delta 가 다른 버전용이거나 결과 버전이 맞지 않으면 IOException. */
+    public static OfflineBundle apply(OfflineBundle from, byte[] delta) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(delta));
+        byte[] magic = new byte[MAGIC.length];
+        in.readFully(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("not a bundle delta");
+        }
+        int formatVersion = in.readInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("unsupported delta format version " + formatVersion);
+        }
+        String fromVersion = hex(in.readLong());
+        String toVersion = hex(in.readLong());
+        if (!fromVersion.equals(from.version())) {
+            throw new IOException("delta is for version " + fromVersion + " but bundle is " + from.version());
+        }
+        Map<String, byte[]> entries = new TreeMap<>(from.entries());
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            int type = in.readUnsignedByte();
+            byte[] name = new byte[in.readUnsignedShort()];
+            in.readFully(name);
+            String key = new String(name, StandardCharsets.UTF_8);
+            if (type == DELETE) {
+                entries.remove(key);
+                continue;
+            }
+            byte[] data = new byte[in.readInt()];
+            in.readFully(data);
+            if (type == PUT) {
+                entries.put(key, data);
+            } else if (type == PATCH) {
+                byte[] base = entries.get(key);
+                if (base == null) {
+                    throw new IOException("patch for missing entry " + key);
+                }
+                entries.put(key, BinaryDelta.apply(base, data));
+            } else {
+                throw new IOException("unknown delta op " + type);
+            }
+        }
+        OfflineBundle result = OfflineBundle.of(entries);
+        if (!result.version().equals(toVersion)) {
+            throw new IOException("delta produced version " + result.version() + ", expected " + toVersion);
+        }
+        return result;
+    }
+
+    private static String hex(long version) {
+        return HexFormat.of().toHexDigits(version);
+    }
+}
@@ -0,0 +1,154 @@
+package com.nexus.foreigner_community.offline;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 오프라인 지도 번들. 이름 붙은 항목(tiles/17/111755/50967.png, campus.dataset, names/vi.json 등)을 한 파일에 담는다.
+ * 버전은 항목 이름과 내용 해시에서 계산하므로 내용이 같으면 버전도 같다. 모든 수는 빅 엔디언이다.
+ * <pre>
+ * magic "CAMPBNDL" 8, 형식 버전 4, 항목 수 4, 번들 버전 8
+ * 디렉터리 (이름 순): 이름 길이 2, 이름(UTF-8), 파일 내 오프셋 8, 길이 4, 내용 해시 8
+ * 데이터
+ * </pre>
+ */
+public final class OfflineBundle {
+
+    static final byte[] MAGIC = "CAMPBNDL".getBytes(StandardCharsets.US_ASCII);
+    static final int FORMAT_VERSION = 1;
+
+    private final SortedMap<String, byte[]> entries;
+    private final long version;
+
+    private OfflineBundle(SortedMap<String, byte[]> entries) {
+        this.entries = Collections.unmodifiableSortedMap(entries);
+        MessageDigest digest = sha256();
+        entries.forEach((name, data) -> {
+            digest.update(name.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(ByteBuffer.allocate(8).putLong(hash(data)).array());
+        });
+        this.version = ByteBuffer.wrap(digest.digest()).getLong();
+    }
+
+    public static OfflineBundle of(Map<String, byte[]> entries) {
+        return new OfflineBundle(new TreeMap<>(entries));
+    }
+
+    /** 16자리 16진수. 파일 이름과 URL 에 쓴다. */
+    public String version() {
+        return HexFormat.of().toHexDigits(version);
+    }
+
+    public SortedMap<String, byte[]> entries() {
+        return entries;
+    }
+
+    /** 임시 파일에 다 쓴 뒤 옮기므로, 내려받는 쪽이 반쯤 쓰인 파일을 볼 일은 없다. */
+    public void write(Path target) throws IOException {
+        Path parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+        try (OutputStream file = Files.newOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+            out.write(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(entries.size());
+            out.writeLong(version);
+            long offset = MAGIC.length + 4 + 4 + 8;
+            for (String name : entries.keySet()) {
+                offset += 2 + name.getBytes(StandardCharsets.UTF_8).length + 8 + 4 + 8;
+            }
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                byte[] name = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                out.writeShort(name.length);
+                out.write(name);
+                out.writeLong(offset);
+                out.writeInt(entry.getValue().length);
+                out.writeLong(hash(entry.getValue()));
+                offset += entry.getValue().length;
+            }
+            for (byte[] data : entries.values()) {
+                out.write(data);
+            }
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static OfflineBundle read(Path path) throws IOException {
+        try (InputStream file = Files.newInputStream(path)) {
+            return read(file);
+        }
+    }
+
+    public static OfflineBundle read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        byte[] magic = new byte[MAGIC.length];
+        data.readFully(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("not an offline bundle");
+        }
+        int formatVersion = data.readInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("unsupported bundle format version " + formatVersion);
+        }
+        int count = data.readInt();
+        long version = data.readLong();
+        String[] names = new String[count];
+        int[] lengths = new int[count];
+        long[] hashes = new long[count];
+        for (int i = 0; i < count; i++) {
+            byte[] name = new byte[data.readUnsignedShort()];
+            data.readFully(name);
+            names[i] = new String(name, StandardCharsets.UTF_8);
+            data.readLong(); // 항목은 디렉터리 순서대로 이어져 있으므로 오프셋은 임의 접근용이다.
+            lengths[i] = data.readInt();
+            hashes[i] = data.readLong();
+        }
+        SortedMap<String, byte[]> entries = new TreeMap<>();
+        for (int i = 0; i < count; i++) {
+            byte[] content = new byte[lengths[i]];
+            data.readFully(content);
+            if (hash(content) != hashes[i]) {
+                throw new IOException("entry " + names[i] + " is corrupt");
+            }
+            entries.put(names[i], content);
+        }
+        OfflineBundle bundle = new OfflineBundle(entries);
+        if (bundle.version != version) {
+            throw new IOException("bundle version does not match its contents");
+        }
+        return bundle;
+    }
+
+    /** 내용 SHA-256 의 앞 8 바이트. */
+    static long hash(byte[] data) {
+        return ByteBuffer.wrap(sha256().digest(data)).getLong();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.nexus.foreigner_community.offline;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexus.foreigner_community.ai.TranslationService;
+import com.nexus.foreigner_community.ai.TranslationUnavailableException;
+import com.nexus.foreigner_community.map.CampusDatasetWriter;
+import com.nexus.foreigner_community.map.CampusMap;
+import com.nexus.foreigner_community.map.CampusRouter;
+import com.nexus.foreigner_community.map.MapTiles;
+import com.nexus.foreigner_community.map.Poi;
+import com.nexus.foreigner_community.map.TileArchive;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 앱이 내려받아 오프라인으로 쓰는 지도 번들. 타일, 캠퍼스 데이터 스냅샷(POI + 보행 그래프), 언어별 POI 이름을 담는다.
+ * 번들은 버전마다 한 번만 만들어 dir 에 {버전}.bundle 로 두고, 차이 파일도 {이전}-{새}.delta 로 한 번만 만든다.
+ * 같은 버전의 파일은 내용이 바뀌지 않으므로 컨트롤러는 그대로 파일을 내보낸다.
+ * <p>
+ * 번들은 시작할 때와 POI 나 보행 그래프가 바뀔 때 백그라운드에서 만들고, 그동안에는 마지막으로 다 만든 번들로 답한다.
+ * 시작 직후에는 디스크에 남은 가장 최근 번들이 그 역할을 한다. 어떤 언어의 이름을 번역하지 못하면 그 언어가 빠진
+ * 번들로 바꾸지 않고 이전 번들을 유지한 채 offline.retry-ms 뒤에 다시 만든다. 이전 번들이 없을 때만 빠진 채로 낸다.
+ */
+@Slf4j
+@Component
+public class OfflineBundles implements AutoCloseable {
+
+    private static final Pattern VERSION = Pattern.compile("[0-9a-f]{16}");
+    private static final String BUNDLE_SUFFIX = ".bundle";
+    private static final String DELTA_SUFFIX = ".delta";
+
+    private final CampusMap campusMap;
+    private final CampusRouter router;
+    private final MapTiles mapTiles;
+    private final TranslationService translationService;
+    private final ObjectMapper objectMapper;
+    private final Path dir;
+    private final int keepVersions;
+    private final List<String> languages;
+    private final long retryMillis;
+    private final ScheduledExecutorService builder = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("offline-bundle-build").daemon().factory());
+    private final AtomicBoolean pending = new AtomicBoolean();
+
+    private volatile OfflineBundle current;
+
+    // 번역하지 못한 언어가 있으면 missing 에 들어 있다.
+    private record Build(OfflineBundle bundle, List<String> missing) {
+    }
+
+    public OfflineBundles(CampusMap campusMap, CampusRouter router, MapTiles mapTiles,
+                          TranslationService translationService, ObjectMapper objectMapper,
+                          @Value("${offline.dir}") Path dir,
+                          @Value("${offline.keep-versions}") int keepVersions,
+                          @Value("${translate.target-languages}") List<String> languages,
+                          @Value("${offline.retry-ms}") long retryMillis) {
+        this.campusMap = campusMap;
+        this.router = router;
+        this.mapTiles = mapTiles;
+        this.translationService = translationService;
+        this.objectMapper = objectMapper;
+        this.dir = dir;
+        this.keepVersions = keepVersions;
+        this.languages = languages;
+        this.retryMillis = retryMillis;
+        router.addListener(this::rebuild);
+        campusMap.addListener(pois -> rebuild());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        latestOnDisk().ifPresent(bundle -> current = bundle);
+        rebuild();
+    }
+
+    /** 새 번들을 만들도록 예약한다. 만드는 중에 또 부르면 그 빌드가 끝난 뒤 한 번 더 만든다. */
+    public void rebuild() {
+        if (pending.compareAndSet(false, true)) {
+            builder.execute(this::buildAndPublish);
+        }
+    }
+
+    /** 마지막으로 다 만든 번들. 처음 시작해 디스크에도 번들이 없으면 첫 빌드가 끝날 때까지 비어 있다. */
+    public Optional<OfflineBundle> current() {
+        return Optional.ofNullable(current);
+    }
+
+    private void buildAndPublish() {
+        pending.set(false);
+        try {
+            Build build = build();
+            if (!build.missing().isEmpty()) {
+                retryLater();
+                OfflineBundle previous = current;
+                if (previous != null) {
+                    log.warn("offline bundle kept at {}: names for {} could not be translated, retrying in {} ms",
+                            previous.version(), build.missing(), retryMillis);
+                    return;
+                }
+                log.warn("offline bundle published without {} names, retrying in {} ms", build.missing(),
+                        retryMillis);
+            }
+            publish(build.bundle());
+        } catch (IOException | RuntimeException e) {
+            log.error("offline bundle build failed, retrying in {} ms", retryMillis, e);
+            retryLater();
+        }
+    }
+
+    private void retryLater() {
+        if (!builder.isShutdown()) {
+            builder.schedule(this::rebuild, retryMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // 차이 파일을 만드는 중에 지우지 않도록 delta 와 같은 모니터 안에서 쓰고 정리한다.
+    private synchronized void publish(OfflineBundle bundle) throws IOException {
+        Path file = bundlePath(bundle.version());
+        if (!Files.exists(file)) {
+            bundle.write(file);
+            log.info("offline bundle {} written ({} entries, {} bytes)", bundle.version(), bundle.entries().size(),
+                    Files.size(file));
+            prune();
+        }
+        current = bundle;
+    }
+
+    private Optional<OfflineBundle> latestOnDisk() {
+        if (!Files.isDirectory(dir)) {
+            return Optional.empty();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            Optional<Path> latest = files.filter(file -> file.getFileName().toString().endsWith(BUNDLE_SUFFIX))
+                    .max(Comparator.comparing(OfflineBundles::modified));
+            return latest.isPresent() ? Optional.of(OfflineBundle.read(latest.get())) : Optional.empty();
+        } catch (IOException e) {
+            log.warn("could not read the last offline bundle from {}", dir, e);
+            return Optional.empty();
+        }
+    }
+
+    public Optional<Path> bundle(String version) {
+        if (!VERSION.matcher(version).matches()) {
+            return Optional.empty();
+        }
+        Path file = bundlePath(version);
+        return Files.isRegularFile(file) ? Optional.of(file) : Optional.empty();
+    }
+
+    /**
+     * from 에서 현재 버전으로 가는 차이 파일. from 번들이 남아 있지 않으면(너무 오래됐거나 모르는 버전) 비어 있다.
+     * 같은 쌍은 한 번만 만든다.
+     */
+    public Optional<Path> delta(String from, String to) {
+        if (!VERSION.matcher(from).matches() || !VERSION.matcher(to).matches() || from.equals(to)) {
+            return Optional.empty();
+        }
+        Path file = dir.resolve(from + "-" + to + DELTA_SUFFIX);
+        if (Files.isRegularFile(file)) {
+            return Optional.of(file);
+        }
+        Optional<Path> fromFile = bundle(from);
+        Optional<Path> toFile = bundle(to);
+        if (fromFile.isEmpty() || toFile.isEmpty()) {
+            return Optional.empty();
+        }
+        synchronized (this) {
+            try {
+                if (!Files.isRegularFile(file)) {
+                    byte[] delta = BundleDelta.create(OfflineBundle.read(fromFile.get()),
+                            OfflineBundle.read(toFile.get()));
+                    Path temp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+                    Files.write(temp, delta);
+                    Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+                    log.info("offline delta {} -> {} written ({} bytes)", from, to, delta.length);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return Optional.of(file);
+    }
+
+    private Path bundlePath(String version) {
+        return dir.resolve(version + BUNDLE_SUFFIX);
+    }
+
+    private Build build() {
+        Map<String, byte[]> entries = new TreeMap<>();
+        List<Poi> pois = campusMap.all();
+        entries.put("campus.dataset", CampusDatasetWriter.toBytes(pois, router.engine().graph()));
+
+        Map<String, Object> manifest = new LinkedHashMap<>();
+        mapTiles.archive().ifPresent(archive -> {
+            for (int i = 0; i < archive.tileCount(); i++) {
+                entries.put("tiles/" + archive.z(i) + "/" + archive.x(i) + "/" + archive.y(i), bytes(archive, i));
+            }
+            manifest.put("tileContentType", archive.contentType());
+            manifest.put("minzoom", archive.minZoom());
+            manifest.put("maxzoom", archive.maxZoom());
+        });
+
+        // POI 이름은 한국어/영어가 데이터에 들어 있다. 나머지 언어는 번역해서 싣고, 번역을 못 하면 그 언어만 뺀다.
+        List<String> names = pois.stream().map(Poi::nameKo).toList();
+        List<String> translated = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+        for (String language : languages) {
+            if (language.equals("ko") || language.equals("en")) {
+                continue;
+            }
+            try {
+                List<String> result = translationService.translateAllOrThrow(names, "ko", language);
+                Map<Long, String> byId = new LinkedHashMap<>();
+                for (int i = 0; i < pois.size(); i++) {
+                    byId.put(pois.get(i).id(), result.get(i));
+                }
+                entries.put("names/" + language + ".json", json(byId));
+                translated.add(language);
+            } catch (TranslationUnavailableException e) {
+                log.warn("could not translate {} names for the offline bundle: {}", language, e.getMessage());
+                missing.add(language);
+            }
+        }
+        manifest.put("languages", translated);
+        entries.put("manifest.json", json(manifest));
+        return new Build(OfflineBundle.of(entries), missing);
+    }
+
+    private static byte[] bytes(TileArchive archive, int index) {
+        ByteBuffer data = archive.data(index);
+        byte[] bytes = new byte[data.remaining()];
+        data.get(bytes);
+        return bytes;
+    }
+
+    private byte[] json(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 최근 keepVersions 개의 번들만 남기고, 지운 번들과 관련된 차이 파일도 지운다.
+    private void prune() throws IOException {
+        List<Path> bundles;
+        try (Stream<Path> files = Files.list(dir)) {
+            bundles = files.filter(file -> file.getFileName().toString().endsWith(BUNDLE_SUFFIX))
+                    .sorted(Comparator.comparing(OfflineBundles::modified).reversed())
+                    .toList();
+        }
+        for (Path old : bundles.subList(Math.min(keepVersions, bundles.size()), bundles.size())) {
+            String version = old.getFileName().toString().replace(BUNDLE_SUFFIX, "");
+            Files.deleteIfExists(old);
+            try (Stream<Path> files = Files.list(dir)) {
+                for (Path delta : files.filter(file -> file.getFileName().toString().endsWith(DELTA_SUFFIX)
+                        && file.getFileName().toString().contains(version)).toList()) {
+                    Files.deleteIfExists(delta);
+                }
+            }
+        }
+    }
+
+    // 만들던 번들이 종료 뒤에 디렉터리에 쓰지 않도록 잠시 기다린다.
+    @Override
+    public void close() {
+        builder.shutdownNow();
+        try {
+            if (!builder.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("offline bundle build did not stop within 5 s");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long modified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
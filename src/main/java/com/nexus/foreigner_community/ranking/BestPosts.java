@@ -0,0 +1,102 @@
+package com.nexus.foreigner_community.ranking;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.nexus.foreigner_community.counter.PostViewsFlushedEvent;
+import com.nexus.foreigner_community.dto.PostSummary;
+import com.nexus.foreigner_community.entity.Post;
+import com.nexus.foreigner_community.service.CommentAddedEvent;
+import com.nexus.foreigner_community.service.PostChangedEvent;
+import com.nexus.foreigner_community.service.PostService;
+import com.nexus.foreigner_community.vote.PostLikeChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * "Best" 탭. 글마다 시간 감쇠 인기 점수를 {@link HotRanking} 에 두고 추천, 댓글, 조회 이벤트로 고친다.
+ * 요청마다 전체 글을 정렬하지 않고, 순위의 상위 글 번호로 목록 줄만 기본 키로 읽는다.
+ * <p>
+ * 시작할 때 글 테이블을 한 번 스트리밍으로 읽어 채운다. 이때는 반응이 언제 있었는지 모르므로 지금까지의 추천, 댓글,
+ * 조회를 모두 글이 올라온 시각에 받은 것으로 친다. 그 뒤의 반응은 실제 시각으로 더한다.
+ */
+@Slf4j
+@Component
+public class BestPosts {
+
+    public static final int MAX_LIMIT = 100;
+    private static final String LOAD = "select id, category, created_at, views, comment_count, like_count from post";
+    private static final int FETCH_SIZE = 1000;
+
+    private final PostService postService;
+    private final HotRanking ranking;
+
+    public BestPosts(PostService postService, JdbcTemplate jdbcTemplate,
+                     @Value("${ranking.half-life-hours}") long halfLifeHours,
+                     @Value("${ranking.top-k}") int topK) {
+        this.postService = postService;
+        this.ranking = new HotRanking(Duration.ofHours(halfLifeHours), topK);
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement statement = con.prepareStatement(LOAD, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, row -> {
+            double engagement = HotRanking.POST + HotRanking.VIEW * row.getLong("views")
+                    + HotRanking.COMMENT * row.getInt("comment_count") + HotRanking.LIKE * row.getInt("like_count");
+            // 작성 시각이 없는 옛 글은 아주 오래된 글로 친다 (NearbyPosts 와 같다).
+            Timestamp createdAt = row.getTimestamp("created_at");
+            ranking.put(row.getLong("id"), row.getString("category"),
+                    createdAt == null ? Instant.EPOCH : createdAt.toInstant(), engagement);
+        });
+        log.info("best post ranking loaded ({} posts)", ranking.size());
+    }
+
+    /** 분류의 인기 글, 높은 순으로 최대 min(limit, ranking.top-k) 개. category 가 null 이면 전체. */
+    public List<PostSummary> best(String category, int limit) {
+        List<RankedPost> top = ranking.top(category, Math.min(limit, MAX_LIMIT), Instant.now());
+        // 순위를 읽은 뒤에 지워진 글은 빠진다.
+        return postService.summaries(top.stream().map(RankedPost::id).toList());
+    }
+
+    // 롤백된 변경이 순위에 들어가지 않도록 커밋 뒤에 반영한다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        Post post = event.post();
+        if (event.change() == PostChangedEvent.Change.DELETED) {
+            ranking.remove(post.getId());
+            return;
+        }
+        Instant createdAt = post.getCreatedAt() == null ? Instant.now()
+                : post.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant();
+        ranking.put(post.getId(), post.getCategory(), createdAt, HotRanking.POST);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentAdded(CommentAddedEvent event) {
+        ranking.add(event.postId(), HotRanking.COMMENT, Instant.now());
+    }
+
+    // 취소는 그 추천이 들어온 시각의 기여만큼 빼므로, 오래전 추천을 취소해도 점수가 크게 깎이지 않는다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostLikeChanged(PostLikeChangedEvent event) {
+        ranking.add(event.postId(), event.liked() ? HotRanking.LIKE : -HotRanking.LIKE, event.likedAt());
+    }
+
+    @EventListener
+    public void onViewsFlushed(PostViewsFlushedEvent event) {
+        ranking.addAll(event.views(), HotRanking.VIEW, Instant.now());
+    }
+}
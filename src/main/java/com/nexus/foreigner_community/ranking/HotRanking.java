@@ -0,0 +1,254 @@
+package com.nexus.foreigner_community.ranking;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 시간 감쇠 인기 점수와 분류별 상위 K 개 글.
+ * <p>
+ * 글의 점수는 받은 반응마다 {@code 가중치 * 0.5^((지금 - 반응 시각) / halfLife)} 를 더한 값이다. 모든 글이 같은
+ * 비율로 줄어들므로 순서는 시간이 지나도 바뀌지 않는다. 그래서 고정된 기준 시각에서 본 점수의 log2 를 키로 두면
+ * 반응이 올 때만 그 글의 키를 올리면 되고, 감쇠는 읽을 때 한 번 곱한다. log 로 두는 것은 기준 시각에서 멀어질수록
+ * 값이 2 의 거듭제곱으로 커져 double 을 넘기 때문이다.
+ * <p>
+ * 분류마다 (그리고 전체에) 키가 큰 순서로 최대 2K 개를 TreeSet 에 두고, 순위 밖 글들의 키 상한을 함께 둔다.
+ * 상한 이상인 글만 순위에 넣으므로 들어 있는 글은 항상 그 분류의 상위 글들이고, 읽기는 앞의 K 개만 본다.
+ * 순위 안의 글이 상한 아래로 내려가거나 지워져서 K 개보다 적어지면 그 분류를 한 번 훑어 다시 채운다.
+ * 점수는 대개 오르기만 하므로 드물다.
+ */
+public final class HotRanking {
+
+    /** 반응별 가중치. 글 자체도 올라온 시각에 1 을 받는다. */
+    public static final double POST = 1;
+    public static final double VIEW = 1;
+    public static final double COMMENT = 4;
+    public static final double LIKE = 8;
+
+    private static final Instant ORIGIN = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Comparator<Entry> ORDER = Comparator.comparingDouble((Entry e) -> -e.key)
+            .thenComparingLong(e -> -e.id);
+
+    private final double halfLifeMillis;
+    private final int k;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Board all = new Board(null);
+    private final Map<String, Board> boards = new HashMap<>();
+
+    /**
+     * @param halfLife 점수가 절반이 되는 시간.
+     * @param k        분류마다 읽을 수 있는 최대 글 수.
+     */
+    public HotRanking(Duration halfLife, int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be positive");
+        }
+        this.halfLifeMillis = halfLife.toMillis();
+        this.k = k;
+    }
+
+    /**
+     * 글을 넣는다. engagement 는 createdAt 에 받은 것으로 치는 가중치 합이고, 새 글이면 {@link #POST} 이다.
+     * 이미 있는 글이면 분류만 바꾸고 점수는 그대로 둔다.
+     */
+    public void put(long id, String category, Instant createdAt, double engagement) {
+        category = category == null ? "" : category;
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                entry = new Entry(id, category, key(engagement, createdAt));
+                entries.put(id, entry);
+                join(all, entry);
+                join(board(category), entry);
+            } else if (!entry.category.equals(category)) {
+                Board previous = board(entry.category);
+                entry.category = category;
+                leave(previous, entry);
+                join(board(category), entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** at 에 받은 반응을 더한다. 추천 취소처럼 weight 가 음수이면 뺀다. 없는 글이면 무시한다. */
+    public void add(long id, double weight, Instant at) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.get(id);
+            if (entry != null) {
+                rekey(entry, combine(entry.key, weight, at));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 글별 같은 종류의 반응 수를 한 번에 더한다 (조회수 반영 주기마다). */
+    public void addAll(Map<Long, Long> counts, double weight, Instant at) {
+        lock.writeLock().lock();
+        try {
+            counts.forEach((id, count) -> {
+                Entry entry = entries.get(id);
+                if (entry != null) {
+                    rekey(entry, combine(entry.key, weight * count, at));
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.remove(id);
+            if (entry != null) {
+                leave(all, entry);
+                leave(board(entry.category), entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 점수가 높은 순서로 최대 min(limit, K) 개. category 가 null 이면 전체. */
+    public List<RankedPost> top(String category, int limit, Instant now) {
+        lock.readLock().lock();
+        try {
+            Board board = category == null ? all : boards.get(category);
+            if (board == null) {
+                return List.of();
+            }
+            double elapsed = (now.toEpochMilli() - ORIGIN.toEpochMilli()) / halfLifeMillis;
+            List<RankedPost> result = new ArrayList<>(Math.min(Math.min(limit, k), board.top.size()));
+            for (Entry entry : board.top) {
+                if (result.size() == limit || result.size() == k) {
+                    break;
+                }
+                result.add(new RankedPost(entry.id, entry.category, Math.pow(2, entry.key - elapsed)));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private double key(double weight, Instant at) {
+        return Math.log(weight) / Math.log(2) + (at.toEpochMilli() - ORIGIN.toEpochMilli()) / halfLifeMillis;
+    }
+
+    // log2(2^key + weight * 2^t). 빼서 0 이하가 되면 (쌓인 오차로만 생긴다) 아주 작은 점수로 둔다.
+    private double combine(double key, double weight, Instant at) {
+        if (weight == 0) {
+            return key;
+        }
+        double other = key(Math.abs(weight), at);
+        if (weight > 0) {
+            double high = Math.max(key, other);
+            return high + Math.log1p(Math.pow(2, Math.min(key, other) - high)) / Math.log(2);
+        }
+        if (other >= key) {
+            return key - 64;
+        }
+        return key + Math.log1p(-Math.pow(2, other - key)) / Math.log(2);
+    }
+
+    private void rekey(Entry entry, double key) {
+        Board board = board(entry.category);
+        all.top.remove(entry);
+        board.top.remove(entry);
+        entry.key = key;
+        offer(all, entry);
+        offer(board, entry);
+        refillIfShort(all);
+        refillIfShort(board);
+    }
+
+    private void join(Board board, Entry entry) {
+        board.members++;
+        offer(board, entry);
+    }
+
+    private void leave(Board board, Entry entry) {
+        board.members--;
+        board.top.remove(entry);
+        refillIfShort(board);
+    }
+
+    // 밖에 남는 글의 키는 상한 아래이므로 불변식이 그대로 지켜진다. 순위 안에 있다가 내려간 글도 마찬가지다.
+    private void offer(Board board, Entry entry) {
+        boolean othersOutside = board.members - board.top.size() > 1;
+        if (!othersOutside || entry.key >= board.outsideMax) {
+            add(board, entry);
+        }
+    }
+
+    private void add(Board board, Entry entry) {
+        board.top.add(entry);
+        if (board.top.size() > 2 * k) {
+            board.outsideMax = Math.max(board.outsideMax, board.top.pollLast().key);
+        }
+    }
+
+    private void refillIfShort(Board board) {
+        if (board.top.size() >= k || board.top.size() == board.members) {
+            return;
+        }
+        board.top.clear();
+        board.outsideMax = Double.NEGATIVE_INFINITY;
+        for (Entry entry : entries.values()) {
+            if (board.category == null || board.category.equals(entry.category)) {
+                add(board, entry);
+            }
+        }
+    }
+
+    private Board board(String category) {
+        return boards.computeIfAbsent(category, Board::new);
+    }
+
+    private static final class Entry {
+
+        private final long id;
+        private String category;
+        private double key;
+
+        private Entry(long id, String category, double key) {
+            this.id = id;
+            this.category = category;
+            this.key = key;
+        }
+    }
+
+    private static final class Board {
+
+        private final String category;
+        private final TreeSet<Entry> top = new TreeSet<>(ORDER);
+        private int members;
+        // 순위 밖 글들의 키 상한. 밖으로 밀려난 키 중 가장 큰 것이다.
+        private double outsideMax = Double.NEGATIVE_INFINITY;
+
+        private Board(String category) {
+            this.category = category;
+        }
+    }
+}
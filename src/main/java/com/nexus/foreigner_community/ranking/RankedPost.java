@@ -0,0 +1,5 @@
+package com.nexus.foreigner_community.ranking;
+
+/** 인기 글 순위의 한 줄. score 는 조회한 시각 기준으로 감쇠한 점수. */
+public record RankedPost(long id, String category, double score) {
+}
@@ -0,0 +1,17 @@
+package com.nexus.foreigner_community.repository;
+
+import com.nexus.foreigner_community.entity.CampusEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CampusEventRepository extends JpaRepository<CampusEvent, Long> {
+
+    @Query("select e from CampusEvent e where e.id > :after order by e.id")
+    List<CampusEvent> findAfter(@Param("after") long after, Pageable pageable);
+}
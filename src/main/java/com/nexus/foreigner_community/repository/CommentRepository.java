@@ -0,0 +1,19 @@
+package com.nexus.foreigner_community.repository;
+
+import com.nexus.foreigner_community.entity.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    List<Comment> findByPostIdOrderByIdAsc(Long postId);
+
+    @Query("select c.id from Comment c where c.id > :after order by c.id")
+    List<Long> findIdsAfter(@Param("after") long after, Pageable pageable);
+}
@@ -0,0 +1,79 @@
+package com.nexus.foreigner_community.repository;
+
+import com.nexus.foreigner_community.dto.PostSummary;
+import com.nexus.foreigner_community.entity.Post;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PostRepository extends JpaRepository<Post, Long> {
+
+    @Query("select p.id from Post p where p.id > :after order by p.id")
+    List<Long> findIdsAfter(@Param("after") long after, Pageable pageable);
+
+    // 게시판 목록. OFFSET 대신 마지막으로 본 (작성 시각, id) 보다 오래된 글부터 읽으므로 깊은 페이지도
+    // 인덱스에서 바로 시작한다. Pageable 은 LIMIT 에만 쓰고, 반환형이 List 라서 count 쿼리는 없다.
+    String SUMMARY = "select new com.nexus.foreigner_community.dto.PostSummary(p.id, p.category, p.title, a.name,"
+            + " p.createdAt, p.commentCount, p.views, p.likeCount) from Post p left join p.author a";
+
+    // 작성 시각이 없는 옛 글은 DB 마다 null 정렬 위치가 다르므로 여기서 빼고 목록 맨 끝에 id 순으로 따로 읽는다.
+    @Query(SUMMARY + " where p.category = :category and p.createdAt is not null order by p.createdAt desc, p.id desc")
+    List<PostSummary> findLatest(@Param("category") String category, Pageable pageable);
+
+    @Query(SUMMARY + " where p.category = :category and (p.createdAt < :createdAt"
+            + " or (p.createdAt = :createdAt and p.id < :id)) order by p.createdAt desc, p.id desc")
+    List<PostSummary> findLatestBefore(@Param("category") String category, @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") long id, Pageable pageable);
+
+    // 인기 글처럼 번호를 이미 아는 목록. 순서는 보장하지 않는다.
+    @Query(SUMMARY + " where p.id in :ids")
+    List<PostSummary> findSummaries(@Param("ids") Collection<Long> ids);
+
+    @Query(SUMMARY + " where p.createdAt is not null order by p.createdAt desc, p.id desc")
+    List<PostSummary> findLatest(Pageable pageable);
+
+    @Query(SUMMARY + " where p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id)"
+            + " order by p.createdAt desc, p.id desc")
+    List<PostSummary> findLatestBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") long id,
+                                       Pageable pageable);
+
+    @Query(SUMMARY + " where p.category = :category and p.createdAt is null and p.id < :id order by p.id desc")
+    List<PostSummary> findUndatedBefore(@Param("category") String category, @Param("id") long id, Pageable pageable);
+
+    @Query(SUMMARY + " where p.createdAt is null and p.id < :id order by p.id desc")
+    List<PostSummary> findUndatedBefore(@Param("id") long id, Pageable pageable);
+
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + 1 where p.id = :id")
+    int incrementCommentCount(@Param("id") long id);
+
+    /** 위치 색인을 채울 때 쓰는 요약. 본문과 작성자는 읽지 않는다. */
+    interface LocatedPost {
+        Long getId();
+
+        String getCategory();
+
+        String getTitle();
+
+        Double getLatitude();
+
+        Double getLongitude();
+
+        String getBuilding();
+
+        LocalDateTime getCreatedAt();
+    }
+
+    @Query("select p.id as id, p.category as category, p.title as title, p.latitude as latitude,"
+            + " p.longitude as longitude, p.building as building, p.createdAt as createdAt from Post p"
+            + " where p.id > :after and (p.latitude is not null or p.building is not null) order by p.id")
+    List<LocatedPost> findLocatedAfter(@Param("after") long after, Pageable pageable);
+}
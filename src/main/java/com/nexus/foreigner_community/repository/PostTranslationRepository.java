@@ -0,0 +1,20 @@
+package com.nexus.foreigner_community.repository;
+
+import com.nexus.foreigner_community.entity.ContentType;
+import com.nexus.foreigner_community.entity.PostTranslation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PostTranslationRepository extends JpaRepository<PostTranslation, Long> {
+    Optional<PostTranslation> findByContentTypeAndContentIdAndLanguage(ContentType contentType, Long contentId, String language);
+
+    List<PostTranslation> findByContentTypeAndContentIdInAndLanguage(ContentType contentType,
+                                                                     Collection<Long> contentIds, String language);
+
+    void deleteByContentTypeAndContentIdIn(ContentType contentType, Collection<Long> contentIds);
+}
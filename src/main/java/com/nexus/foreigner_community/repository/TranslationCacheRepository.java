@@ -0,0 +1,12 @@
+package com.nexus.foreigner_community.repository;
+
+import com.nexus.foreigner_community.entity.TranslationCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TranslationCacheRepository extends JpaRepository<TranslationCacheEntry, Long> {
+    Optional<TranslationCacheEntry> findByTextHashAndSourceLangAndTargetLang(String textHash, String sourceLang, String targetLang);
+}
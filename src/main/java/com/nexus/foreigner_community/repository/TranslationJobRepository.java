@@ -0,0 +1,62 @@
+package com.nexus.foreigner_community.repository;
+
+import com.nexus.foreigner_community.entity.ContentType;
+import com.nexus.foreigner_community.entity.TranslationJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TranslationJobRepository extends JpaRepository<TranslationJob, Long> {
+
+    Optional<TranslationJob> findByContentTypeAndContentId(ContentType contentType, Long contentId);
+
+    boolean existsByContentTypeAndContentId(ContentType contentType, Long contentId);
+
+    List<TranslationJob> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+            TranslationJob.Status status, LocalDateTime now, Pageable pageable);
+
+    long countByStatus(TranslationJob.Status status);
+
+    @Modifying
+    @Query("update TranslationJob j set j.status = com.nexus.foreigner_community.entity.TranslationJob.Status.PENDING, "
+            + "j.attempts = 0, j.generation = j.generation + 1, j.nextAttemptAt = :now, j.updatedAt = :now "
+            + "where j.status in :statuses")
+    int requeue(@Param("statuses") Collection<TranslationJob.Status> statuses, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update TranslationJob j set j.status = com.nexus.foreigner_community.entity.TranslationJob.Status.PENDING, "
+            + "j.attempts = 0, j.generation = j.generation + 1, j.lastError = null, j.nextAttemptAt = :now, "
+            + "j.updatedAt = :now where j.contentType = :contentType and j.contentId = :contentId")
+    int reset(@Param("contentType") ContentType contentType, @Param("contentId") Long contentId,
+              @Param("now") LocalDateTime now);
+
+    // 읽은 뒤 다른 곳에서 바뀌지 않은 경우에만 가져간다. 읽어 둔 엔티티는 떼어 내 다시 저장되지 않게 한다.
+    @Modifying(clearAutomatically = true)
+    @Query("update TranslationJob j "
+            + "set j.status = com.nexus.foreigner_community.entity.TranslationJob.Status.IN_PROGRESS, "
+            + "j.attempts = j.attempts + 1, j.generation = j.generation + 1, j.updatedAt = :now "
+            + "where j.id = :id and j.generation = :generation "
+            + "and j.status = com.nexus.foreigner_community.entity.TranslationJob.Status.PENDING")
+    int claim(@Param("id") Long id, @Param("generation") int generation, @Param("now") LocalDateTime now);
+
+    // 가져간 뒤 다시 넣지 않은 작업에만 결과를 기록한다.
+    @Modifying
+    @Query("update TranslationJob j set j.status = :status, j.lastError = :lastError, "
+            + "j.nextAttemptAt = :nextAttemptAt, j.updatedAt = :now "
+            + "where j.id = :id and j.generation = :generation "
+            + "and j.status = com.nexus.foreigner_community.entity.TranslationJob.Status.IN_PROGRESS")
+    int finish(@Param("id") Long id, @Param("generation") int generation, @Param("status") TranslationJob.Status status,
+               @Param("lastError") String lastError, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+               @Param("now") LocalDateTime now);
+
+    void deleteByContentTypeAndContentIdIn(ContentType contentType, Collection<Long> contentIds);
+}
@@ -0,0 +1,115 @@
+package com.nexus.foreigner_community.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.nexus.foreigner_community.dto.PostSummary;
+import com.nexus.foreigner_community.service.CommentAddedEvent;
+import com.nexus.foreigner_community.service.PostChangedEvent;
+import com.nexus.foreigner_community.service.PostService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시판 검색. LIKE '%검색어%' 로 글과 댓글을 훑는 대신 {@link SearchIndex} 에서 찾고, 결과 글의 목록 줄만
+ * 기본 키로 읽는다. 시작할 때 글을 id 순으로 나눠 읽어 색인을 채우고, 그 뒤로는 글이나 댓글이 바뀌면
+ * 커밋 뒤에 그 글을 다시 읽어 색인한다.
+ */
+@Slf4j
+@Component
+public class PostSearch {
+
+    public static final int MAX_LIMIT = 100;
+    private static final int LOAD_PAGE_SIZE = 1000;
+    // 시작할 때는 이만큼 모일 때마다 구간으로 굳힌다.
+    private static final int LOAD_SEGMENT_DOCS = 50_000;
+    private static final String POSTS = "select p.id, p.title, p.content, u.name from post p"
+            + " left join users u on u.id = p.author_id";
+    private static final String COMMENTS = "select post_id, content from comment";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostService postService;
+    private final SearchIndex index = new SearchIndex();
+
+    public PostSearch(JdbcTemplate jdbcTemplate, PostService postService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.postService = postService;
+
+        long after = 0;
+        while (true) {
+            List<Object[]> posts = jdbcTemplate.query(POSTS + " where p.id > ? order by p.id limit ?",
+                    (row, n) -> new Object[] {row.getLong(1), row.getString(2), row.getString(3), row.getString(4)},
+                    after, LOAD_PAGE_SIZE);
+            if (posts.isEmpty()) {
+                break;
+            }
+            long last = (long) posts.get(posts.size() - 1)[0];
+            Map<Long, List<String>> comments = comments(COMMENTS + " where post_id > ? and post_id <= ?", after, last);
+            for (Object[] post : posts) {
+                long id = (long) post[0];
+                index.put(id, (String) post[1], (String) post[2], (String) post[3],
+                        comments.getOrDefault(id, List.of()));
+            }
+            if (index.pendingCount() >= LOAD_SEGMENT_DOCS) {
+                index.flush();
+            }
+            after = last;
+        }
+        index.flush();
+        log.info("post search index loaded ({} posts)", index.size());
+    }
+
+    /** 검색어의 단어가 모두 들어 있는 글, 관련도 순. */
+    public List<PostSummary> search(String query, int limit) {
+        List<SearchHit> hits = index.search(query, Math.min(limit, MAX_LIMIT));
+        return postService.summaries(hits.stream().map(SearchHit::id).toList());
+    }
+
+    @Scheduled(fixedDelayString = "${search.flush-ms}")
+    public void flush() {
+        index.flush();
+    }
+
+    // 롤백된 글이 검색되지 않도록 커밋 뒤에 반영한다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.change() == PostChangedEvent.Change.DELETED) {
+            index.remove(event.post().getId());
+        } else {
+            reindex(event.post().getId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentAdded(CommentAddedEvent event) {
+        reindex(event.postId());
+    }
+
+    private void reindex(long postId) {
+        List<Object[]> posts = jdbcTemplate.query(POSTS + " where p.id = ?",
+                (row, n) -> new Object[] {row.getString(2), row.getString(3), row.getString(4)}, postId);
+        if (posts.isEmpty()) {
+            index.remove(postId);
+            return;
+        }
+        Object[] post = posts.get(0);
+        List<String> comments = comments(COMMENTS + " where post_id = ?", postId)
+                .getOrDefault(postId, List.of());
+        index.put(postId, (String) post[0], (String) post[1], (String) post[2], comments);
+    }
+
+    private Map<Long, List<String>> comments(String sql, Object... args) {
+        Map<Long, List<String>> comments = new HashMap<>();
+        jdbcTemplate.query(sql, row -> {
+            comments.computeIfAbsent(row.getLong(1), id -> new ArrayList<>()).add(row.getString(2));
+        }, args);
+        return comments;
+    }
+}
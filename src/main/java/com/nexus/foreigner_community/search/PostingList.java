@@ -0,0 +1,159 @@
+package com.nexus.foreigner_community.search;
+
+import java.util.Arrays;
+
+/**
+ * 한 단어가 나오는 문서 목록. 문서는 구간(segment) 안의 번호(ordinal) 오름차순이고, 각 항목은
+ * (앞 번호와의 차이, 가중 빈도) 두 varint 이다. 128 개마다 블록을 나누고 블록의 마지막 번호와 시작 위치를
+ * 따로 두어, 교집합을 구할 때 건너뛸 블록은 풀지 않는다. 블록 첫 항목의 차이는 앞 블록의 마지막 번호 기준이다.
+ */
+final class PostingList {
+
+    static final int BLOCK = 128;
+    static final int END = Integer.MAX_VALUE;
+
+    private final int count;
+    private final int[] blockLast;
+    private final int[] blockOffset;
+    private final byte[] data;
+
+    private PostingList(int count, int[] blockLast, int[] blockOffset, byte[] data) {
+        this.count = count;
+        this.blockLast = blockLast;
+        this.blockOffset = blockOffset;
+        this.data = data;
+    }
+
+    int count() {
+        return count;
+    }
+
+    int sizeInBytes() {
+        return data.length + 8 * blockLast.length;
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    /** 번호가 늘어나는 순서로 넣어야 한다. */
+    static final class Writer {
+
+        private byte[] data = new byte[16];
+        private int length;
+        private int[] blockLast = new int[1];
+        private int[] blockOffset = new int[1];
+        private int count;
+        private int last = -1;
+
+        void add(int ordinal, int frequency) {
+            if (ordinal <= last) {
+                throw new IllegalArgumentException("ordinal " + ordinal + " after " + last);
+            }
+            int block = count / BLOCK;
+            if (count % BLOCK == 0) {
+                if (block == blockLast.length) {
+                    blockLast = Arrays.copyOf(blockLast, block * 2);
+                    blockOffset = Arrays.copyOf(blockOffset, block * 2);
+                }
+                blockOffset[block] = length;
+            }
+            writeVarint(ordinal - last);
+            writeVarint(frequency);
+            blockLast[block] = ordinal;
+            last = ordinal;
+            count++;
+        }
+
+        boolean isEmpty() {
+            return count == 0;
+        }
+
+        PostingList build() {
+            int blocks = (count + BLOCK - 1) / BLOCK;
+            return new PostingList(count, Arrays.copyOf(blockLast, blocks), Arrays.copyOf(blockOffset, blocks),
+                    Arrays.copyOf(data, length));
+        }
+
+        private void writeVarint(int value) {
+            if (length + 5 > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, length + 5));
+            }
+            while ((value & ~0x7F) != 0) {
+                data[length++] = (byte) (value & 0x7F | 0x80);
+                value >>>= 7;
+            }
+            data[length++] = (byte) value;
+        }
+    }
+
+    /** 앞으로만 움직인다. 처음에는 doc() 가 -1 이고, 끝나면 {@link #END}. */
+    final class Cursor {
+
+        private int read;
+        private int position;
+        private int doc = -1;
+        private int frequency;
+
+        int doc() {
+            return doc;
+        }
+
+        int frequency() {
+            return frequency;
+        }
+
+        int next() {
+            if (read == count) {
+                return doc = END;
+            }
+            if (read % BLOCK == 0) {
+                int block = read / BLOCK;
+                position = blockOffset[block];
+                doc = block == 0 ? -1 : blockLast[block - 1];
+            }
+            doc += readVarint();
+            frequency = readVarint();
+            read++;
+            return doc;
+        }
+
+        /** target 이상인 첫 번호로 간다. 이미 그 이상이면 그대로. */
+        int advance(int target) {
+            if (doc >= target) {
+                return doc;
+            }
+            if (read == count) {
+                return doc = END;
+            }
+            int block = read == 0 ? 0 : (read - 1) / BLOCK;
+            if (blockLast[block] < target) {
+                do {
+                    block++;
+                } while (block < blockLast.length && blockLast[block] < target);
+                if (block == blockLast.length) {
+                    read = count;
+                    return doc = END;
+                }
+                read = block * BLOCK;
+            }
+            // 블록 안에서는 차례로 푼다.
+            while (next() < target) {
+                continue;
+            }
+            return doc;
+        }
+
+        private int readVarint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
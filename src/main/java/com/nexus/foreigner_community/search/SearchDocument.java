@@ -0,0 +1,32 @@
+package com.nexus.foreigner_community.search;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 색인에 넣을 글 하나. 단어별 빈도는 필드 가중치를 곱해 더한 값이고, length 는 그 합이다.
+ * 제목은 {@link #TITLE_WEIGHT} 배로 센다. 본문, 댓글, 작성자는 한 번씩 센다.
+ */
+record SearchDocument(long id, Map<String, Integer> frequencies, int length) {
+
+    static final int TITLE_WEIGHT = 3;
+
+    static SearchDocument of(long id, String title, String content, String author, List<String> comments) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = count(title, TITLE_WEIGHT, frequencies) + count(content, 1, frequencies)
+                + count(author, 1, frequencies);
+        for (String comment : comments) {
+            length += count(comment, 1, frequencies);
+        }
+        return new SearchDocument(id, frequencies, length);
+    }
+
+    private static int count(String text, int weight, Map<String, Integer> frequencies) {
+        List<String> tokens = Tokenizer.tokens(text);
+        for (String token : tokens) {
+            frequencies.merge(token, weight, Integer::sum);
+        }
+        return tokens.size() * weight;
+    }
+}
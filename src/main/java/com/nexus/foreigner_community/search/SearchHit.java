@@ -0,0 +1,5 @@
+package com.nexus.foreigner_community.search;
+
+/** 검색 결과 한 건. score 는 BM25 점수. */
+public record SearchHit(long id, double score) {
+}
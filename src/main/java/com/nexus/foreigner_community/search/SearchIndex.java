@@ -0,0 +1,293 @@
+package com.nexus.foreigner_community.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 글 검색용 역색인. 제목, 본문, 댓글, 작성자를 {@link Tokenizer} 로 잘라 넣고, 검색어의 모든 단어가 들어 있는
+ * 글을 BM25 점수 순으로 돌려준다.
+ * <p>
+ * 새로 넣은 글은 먼저 메모리(pending)에 두고, {@link #flush()} 때 압축한 {@link Segment} 로 굳힌다. 고치거나 지운
+ * 글은 원래 구간에서 지움 표시만 한다. 구간은 오래된 것부터 쌓이고, 끝에서부터 크기가 비슷한 구간들을 한 번에
+ * 합쳐 구간 수를 로그 수준으로 유지한다. 합치기는 잠금 밖에서 하므로 그동안에도 검색과 쓰기가 된다.
+ * <p>
+ * 단어의 문서 빈도(df)에는 아직 합쳐지지 않은 지운 글도 들어 있어 IDF 는 근사값이다.
+ */
+public final class SearchIndex {
+
+    public static final int MAX_QUERY_TERMS = 16;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final Comparator<SearchHit> WORST_FIRST = Comparator.comparingDouble(SearchHit::score)
+            .thenComparingLong(SearchHit::id);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Segment> segments = new ArrayList<>();
+    private final Map<Long, SearchDocument> pending = new HashMap<>();
+    private final Map<String, Integer> pendingFrequencies = new HashMap<>();
+    private long liveDocs;
+    private long totalLength;
+
+    /** 넣거나, 같은 번호의 글이 있으면 바꾼다. */
+    public void put(long id, String title, String content, String author, List<String> comments) {
+        SearchDocument document = SearchDocument.of(id, title, content, author, comments);
+        lock.writeLock().lock();
+        try {
+            delete(id);
+            pending.put(id, document);
+            document.frequencies().keySet().forEach(term -> pendingFrequencies.merge(term, 1, Integer::sum));
+            liveDocs++;
+            totalLength += document.length();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            delete(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 아직 구간으로 굳히지 않은 글 수. */
+    public int pendingCount() {
+        lock.readLock().lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 검색어의 단어를 모두 포함하는 글, 점수가 높은 순으로 최대 limit 개. 점수가 같으면 최신 글(큰 번호) 먼저. */
+    public List<SearchHit> search(String query, int limit) {
+        Set<String> unique = new LinkedHashSet<>(Tokenizer.tokens(query));
+        List<String> terms = new ArrayList<>(unique).subList(0, Math.min(unique.size(), MAX_QUERY_TERMS));
+        if (terms.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        PriorityQueue<SearchHit> top = new PriorityQueue<>(WORST_FIRST);
+        lock.readLock().lock();
+        try {
+            if (liveDocs == 0) {
+                return List.of();
+            }
+            double averageLength = Math.max(1, (double) totalLength / liveDocs);
+            double[] idf = new double[terms.size()];
+            for (int t = 0; t < terms.size(); t++) {
+                long df = pendingFrequencies.getOrDefault(terms.get(t), 0);
+                for (Segment segment : segments) {
+                    PostingList list = segment.postings.get(terms.get(t));
+                    df += list == null ? 0 : list.count();
+                }
+                if (df == 0) {
+                    return List.of();
+                }
+                df = Math.min(df, liveDocs);
+                idf[t] = Math.log(1 + (liveDocs - df + 0.5) / (df + 0.5));
+            }
+            for (Segment segment : segments) {
+                searchSegment(segment, terms, idf, averageLength, limit, top);
+            }
+            for (SearchDocument document : pending.values()) {
+                double score = 0;
+                for (int t = 0; t < terms.size() && score >= 0; t++) {
+                    Integer frequency = document.frequencies().get(terms.get(t));
+                    score = frequency == null ? -1 : score + bm25(idf[t], frequency, document.length(), averageLength);
+                }
+                if (score >= 0) {
+                    offer(top, limit, document.id(), score);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<SearchHit> hits = new ArrayList<>(top);
+        hits.sort(WORST_FIRST.reversed());
+        return hits;
+    }
+
+    /**
+     * 메모리의 글을 구간으로 굳히고, 필요하면 끝쪽 구간들을 합친다. 주기적으로 한 스레드에서 부르면 된다.
+     */
+    public synchronized void flush() {
+        lock.writeLock().lock();
+        try {
+            if (!pending.isEmpty()) {
+                segments.add(Segment.build(new ArrayList<>(pending.values())));
+                pending.clear();
+                pendingFrequencies.clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        while (true) {
+            List<Segment> inputs;
+            List<BitSet> snapshots = new ArrayList<>();
+            lock.readLock().lock();
+            try {
+                int from = mergeFrom();
+                if (from < 0) {
+                    return;
+                }
+                inputs = List.copyOf(segments.subList(from, segments.size()));
+                inputs.forEach(input -> snapshots.add((BitSet) input.deleted.clone()));
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            Segment.Merged merged = Segment.merge(inputs, snapshots);
+
+            lock.writeLock().lock();
+            try {
+                // 합치는 동안 지워진 글을 합친 구간에도 표시한다.
+                Segment segment = merged.segment();
+                for (int i = 0; i < inputs.size(); i++) {
+                    BitSet deletedSince = (BitSet) inputs.get(i).deleted.clone();
+                    deletedSince.andNot(snapshots.get(i));
+                    for (int ordinal = deletedSince.nextSetBit(0); ordinal >= 0;
+                         ordinal = deletedSince.nextSetBit(ordinal + 1)) {
+                        segment.deleted.set(merged.remaps()[i][ordinal]);
+                        segment.live--;
+                    }
+                }
+                // 구간 목록은 이 메서드만 바꾸므로 inputs 는 그대로 목록 끝에 있다.
+                segments.subList(segments.size() - inputs.size(), segments.size()).clear();
+                if (segment.docs.length > 0) {
+                    segments.add(segment);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    int segmentCount() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 끝에서부터, 뒤쪽 구간들의 합이 바로 앞 구간 이상이면 그 앞 구간까지 함께 합친다 (이진 카운터처럼).
+    // 절반 넘게 지워진 구간이 있으면 거기서부터 합쳐 자리를 돌려받는다.
+    private int mergeFrom() {
+        int n = segments.size();
+        int from = n - 1;
+        long tail = n == 0 ? 0 : segments.get(n - 1).live;
+        while (from > 0 && tail >= segments.get(from - 1).live) {
+            from--;
+            tail += segments.get(from).live;
+        }
+        for (int i = 0; i < from; i++) {
+            Segment segment = segments.get(i);
+            if (segment.live * 2 < segment.docs.length) {
+                from = i;
+                break;
+            }
+        }
+        return from < n - 1 ? from : -1;
+    }
+
+    private void delete(long id) {
+        SearchDocument previous = pending.remove(id);
+        if (previous != null) {
+            previous.frequencies().keySet().forEach(term ->
+                    pendingFrequencies.computeIfPresent(term, (t, count) -> count == 1 ? null : count - 1));
+            liveDocs--;
+            totalLength -= previous.length();
+            return;
+        }
+        for (Segment segment : segments) {
+            int ordinal = segment.ordinal(id);
+            if (ordinal >= 0) {
+                segment.deleted.set(ordinal);
+                segment.live--;
+                liveDocs--;
+                totalLength -= segment.lengths[ordinal];
+                return;
+            }
+        }
+    }
+
+    // 가장 짧은 목록을 따라가며 나머지 목록을 그 번호까지 건너뛴다.
+    private static void searchSegment(Segment segment, List<String> terms, double[] idf, double averageLength,
+                                      int limit, PriorityQueue<SearchHit> top) {
+        int n = terms.size();
+        PostingList.Cursor[] cursors = new PostingList.Cursor[n];
+        double[] weights = new double[n];
+        Integer[] order = new Integer[n];
+        for (int t = 0; t < n; t++) {
+            if (segment.postings.get(terms.get(t)) == null) {
+                return;
+            }
+            order[t] = t;
+        }
+        Arrays.sort(order, Comparator.comparingInt(t -> segment.postings.get(terms.get(t)).count()));
+        for (int i = 0; i < n; i++) {
+            cursors[i] = segment.postings.get(terms.get(order[i])).cursor();
+            weights[i] = idf[order[i]];
+        }
+
+        PostingList.Cursor lead = cursors[0];
+        int doc = lead.next();
+        while (doc != PostingList.END) {
+            int i = 1;
+            while (i < n && cursors[i].advance(doc) == doc) {
+                i++;
+            }
+            if (i < n) {
+                doc = cursors[i].doc() == PostingList.END ? PostingList.END : lead.advance(cursors[i].doc());
+                continue;
+            }
+            if (!segment.deleted.get(doc)) {
+                double score = 0;
+                for (int c = 0; c < n; c++) {
+                    score += bm25(weights[c], cursors[c].frequency(), segment.lengths[doc], averageLength);
+                }
+                offer(top, limit, segment.docs[doc], score);
+            }
+            doc = lead.next();
+        }
+    }
+
+    private static double bm25(double idf, int frequency, int length, double averageLength) {
+        return idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+    }
+
+    private static void offer(PriorityQueue<SearchHit> top, int limit, long id, double score) {
+        if (top.size() < limit) {
+            top.add(new SearchHit(id, score));
+            return;
+        }
+        SearchHit worst = top.peek();
+        if (score > worst.score() || score == worst.score() && id > worst.id()) {
+            top.poll();
+            top.add(new SearchHit(id, score));
+        }
+    }
+}
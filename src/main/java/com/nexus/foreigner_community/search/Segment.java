@@ -0,0 +1,133 @@
+package com.nexus.foreigner_community.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한 번 만들면 바뀌지 않는 색인 구간. 문서는 글 번호 순으로 0 부터 번호(ordinal)를 받고, 단어마다
+ * {@link PostingList} 를 둔다. 지워지거나 다시 색인된 글은 deleted 에 표시만 하고, 구간을 합칠 때 빠진다.
+ * deleted 와 live 는 {@link SearchIndex} 의 쓰기 잠금 아래에서만 바꾼다.
+ */
+final class Segment {
+
+    final long[] docs;
+    final int[] lengths;
+    final Map<String, PostingList> postings;
+    final BitSet deleted = new BitSet();
+    int live;
+
+    private Segment(long[] docs, int[] lengths, Map<String, PostingList> postings) {
+        this.docs = docs;
+        this.lengths = lengths;
+        this.postings = postings;
+        this.live = docs.length;
+    }
+
+    static Segment build(List<SearchDocument> documents) {
+        List<SearchDocument> sorted = new ArrayList<>(documents);
+        sorted.sort(Comparator.comparingLong(SearchDocument::id));
+        long[] docs = new long[sorted.size()];
+        int[] lengths = new int[sorted.size()];
+        Map<String, PostingList.Writer> writers = new HashMap<>();
+        for (int ordinal = 0; ordinal < sorted.size(); ordinal++) {
+            SearchDocument document = sorted.get(ordinal);
+            docs[ordinal] = document.id();
+            lengths[ordinal] = document.length();
+            int o = ordinal;
+            document.frequencies().forEach((term, frequency) ->
+                    writers.computeIfAbsent(term, t -> new PostingList.Writer()).add(o, frequency));
+        }
+        return new Segment(docs, lengths, build(writers));
+    }
+
+    /** 지워지지 않은 글의 번호, 없으면 -1. */
+    int ordinal(long id) {
+        int ordinal = Arrays.binarySearch(docs, id);
+        return ordinal >= 0 && !deleted.get(ordinal) ? ordinal : -1;
+    }
+
+    /**
+     * 구간들을 하나로 합친다. deletedSnapshots 는 각 구간의 deleted 를 복사한 것이고, 그 뒤에 지워진 글은
+     * 호출한 쪽이 {@link Merged#remaps} 로 옮겨 표시한다. 한 글은 많아야 한 구간에만 살아 있다.
+     */
+    static Merged merge(List<Segment> inputs, List<BitSet> deletedSnapshots) {
+        record Live(long id, int input, int ordinal) {
+        }
+        List<Live> lives = new ArrayList<>();
+        for (int i = 0; i < inputs.size(); i++) {
+            Segment input = inputs.get(i);
+            BitSet deleted = deletedSnapshots.get(i);
+            for (int ordinal = 0; ordinal < input.docs.length; ordinal++) {
+                if (!deleted.get(ordinal)) {
+                    lives.add(new Live(input.docs[ordinal], i, ordinal));
+                }
+            }
+        }
+        lives.sort(Comparator.comparingLong(Live::id));
+
+        int[][] remaps = new int[inputs.size()][];
+        for (int i = 0; i < inputs.size(); i++) {
+            remaps[i] = new int[inputs.get(i).docs.length];
+            Arrays.fill(remaps[i], -1);
+        }
+        long[] docs = new long[lives.size()];
+        int[] lengths = new int[lives.size()];
+        for (int ordinal = 0; ordinal < lives.size(); ordinal++) {
+            Live live = lives.get(ordinal);
+            docs[ordinal] = live.id();
+            lengths[ordinal] = inputs.get(live.input()).lengths[live.ordinal()];
+            remaps[live.input()][live.ordinal()] = ordinal;
+        }
+
+        Set<String> terms = new HashSet<>();
+        inputs.forEach(input -> terms.addAll(input.postings.keySet()));
+        Map<String, PostingList> postings = new HashMap<>(terms.size() * 4 / 3 + 1);
+        long[] entries = new long[64];
+        for (String term : terms) {
+            int n = 0;
+            for (int i = 0; i < inputs.size(); i++) {
+                PostingList list = inputs.get(i).postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                PostingList.Cursor cursor = list.cursor();
+                while (cursor.next() != PostingList.END) {
+                    int ordinal = remaps[i][cursor.doc()];
+                    if (ordinal >= 0) {
+                        if (n == entries.length) {
+                            entries = Arrays.copyOf(entries, n * 2);
+                        }
+                        entries[n++] = (long) ordinal << 32 | cursor.frequency();
+                    }
+                }
+            }
+            if (n == 0) {
+                continue;
+            }
+            Arrays.sort(entries, 0, n);
+            PostingList.Writer writer = new PostingList.Writer();
+            for (int k = 0; k < n; k++) {
+                writer.add((int) (entries[k] >>> 32), (int) entries[k]);
+            }
+            postings.put(term, writer.build());
+        }
+        return new Merged(new Segment(docs, lengths, postings), remaps);
+    }
+
+    private static Map<String, PostingList> build(Map<String, PostingList.Writer> writers) {
+        Map<String, PostingList> postings = new HashMap<>(writers.size() * 4 / 3 + 1);
+        writers.forEach((term, writer) -> postings.put(term, writer.build()));
+        return postings;
+    }
+
+    /** remaps[i][번호] 는 i 번째 입력 구간의 글이 합친 구간에서 받은 번호, 빠졌으면 -1. */
+    record Merged(Segment segment, int[][] remaps) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.nexus.foreigner_community.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * 검색어와 문서를 같은 방식으로 자른다.
+ * <ul>
+ * <li>NFKC 로 정규화하고 소문자로 바꾼다 (전각 문자, 호환 자모 등).</li>
+ * <li>한글, 한자, 가나가 이어진 부분은 두 글자씩 겹쳐 자른다 ("도서관에서" → 도서, 서관, 관에, 에서).
+ * 형태소 분석 없이 조사가 붙은 말도 찾기 위해서다. 한 글자뿐이면 그 글자를 그대로 쓴다.</li>
+ * <li>그 밖의 글자와 숫자는 공백과 기호를 경계로 한 단어씩 자른다.</li>
+ * </ul>
+ */
+public final class Tokenizer {
+
+    /** 이보다 긴 단어는 잘라서 넣는다 (URL, 긴 숫자 등). */
+    static final int MAX_WORD_LENGTH = 32;
+
+    private Tokenizer() {
+    }
+
+    public static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        forEachToken(text, tokens::add);
+        return tokens;
+    }
+
+    public static void forEachToken(String text, Consumer<String> consumer) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int i = 0;
+        while (i < length) {
+            int codePoint = normalized.codePointAt(i);
+            if (isCjk(codePoint)) {
+                int end = i;
+                while (end < length && isCjk(normalized.codePointAt(end))) {
+                    end += Character.charCount(normalized.codePointAt(end));
+                }
+                bigrams(normalized, i, end, consumer);
+                i = end;
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                int end = i;
+                while (end < length) {
+                    int c = normalized.codePointAt(end);
+                    if (!Character.isLetterOrDigit(c) || isCjk(c)) {
+                        break;
+                    }
+                    end += Character.charCount(c);
+                }
+                consumer.accept(normalized.substring(i, Math.min(end, i + MAX_WORD_LENGTH)));
+                i = end;
+            } else {
+                i += Character.charCount(codePoint);
+            }
+        }
+    }
+
+    private static void bigrams(String text, int start, int end, Consumer<String> consumer) {
+        int second = start + Character.charCount(text.codePointAt(start));
+        if (second >= end) {
+            consumer.accept(text.substring(start, end));
+            return;
+        }
+        int first = start;
+        while (second < end) {
+            int next = second + Character.charCount(text.codePointAt(second));
+            consumer.accept(text.substring(first, next));
+            first = second;
+            second = next;
+        }
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA || script == Character.UnicodeScript.KATAKANA;
+    }
+}
@@ -0,0 +1,13 @@
+package com.nexus.foreigner_community.service;
+
+import com.nexus.foreigner_community.entity.CampusEvent;
+
+/**
+ * 행사가 만들어지거나 고쳐지거나 지워졌음을 알린다. 트랜잭션 안에서 발행되므로 받는 쪽은 커밋 뒤에 처리해야 한다.
+ */
+public record CampusEventChangedEvent(Change change, CampusEvent event) {
+
+    public enum Change {
+        CREATED, MODIFIED, DELETED
+    }
+}
@@ -0,0 +1,66 @@
+package com.nexus.foreigner_community.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.nexus.foreigner_community.DataNotFoundException;
+import com.nexus.foreigner_community.entity.CampusEvent;
+import com.nexus.foreigner_community.repository.CampusEventRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class CampusEventService {
+
+    private final CampusEventRepository campusEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public CampusEvent getEvent(Long id) {
+        return campusEventRepository.findById(id).orElseThrow(() -> new DataNotFoundException("event not found"));
+    }
+
+    /** 위도와 경도는 함께 있거나 함께 없어야 하고, 끝은 시작보다 뒤여야 한다. */
+    public CampusEvent create(Long postId, String title, String building, Double latitude, Double longitude,
+                              LocalDateTime startsAt, LocalDateTime endsAt) {
+        CampusEvent event = new CampusEvent();
+        event.setPostId(postId);
+        apply(event, title, building, latitude, longitude, startsAt, endsAt);
+        campusEventRepository.save(event);
+        eventPublisher.publishEvent(new CampusEventChangedEvent(CampusEventChangedEvent.Change.CREATED, event));
+        return event;
+    }
+
+    public void modify(CampusEvent event, String title, String building, Double latitude, Double longitude,
+                       LocalDateTime startsAt, LocalDateTime endsAt) {
+        apply(event, title, building, latitude, longitude, startsAt, endsAt);
+        campusEventRepository.save(event);
+        eventPublisher.publishEvent(new CampusEventChangedEvent(CampusEventChangedEvent.Change.MODIFIED, event));
+    }
+
+    public void delete(CampusEvent event) {
+        campusEventRepository.delete(event);
+        eventPublisher.publishEvent(new CampusEventChangedEvent(CampusEventChangedEvent.Change.DELETED, event));
+    }
+
+    private static void apply(CampusEvent event, String title, String building, Double latitude, Double longitude,
+                              LocalDateTime startsAt, LocalDateTime endsAt) {
+        if ((latitude == null) != (longitude == null)) {
+            throw new IllegalArgumentException("latitude and longitude must be given together");
+        }
+        if (!endsAt.isAfter(startsAt)) {
+            throw new IllegalArgumentException("event must end after it starts");
+        }
+        event.setTitle(title);
+        event.setBuilding(building == null || building.isBlank() ? null : building.trim());
+        event.setLatitude(latitude);
+        event.setLongitude(longitude);
+        event.setStartsAt(startsAt);
+        event.setEndsAt(endsAt);
+    }
+}
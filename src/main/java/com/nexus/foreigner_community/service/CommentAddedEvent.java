@@ -0,0 +1,7 @@
+package com.nexus.foreigner_community.service;
+
+/**
+ * 글에 댓글이 달렸음을 알린다. 트랜잭션 안에서 발행되므로 받는 쪽은 커밋 뒤에 처리해야 한다.
+ */
+public record CommentAddedEvent(long postId, long commentId) {
+}
@@ -0,0 +1,14 @@
+package com.nexus.foreigner_community.service;
+
+import com.nexus.foreigner_community.entity.Post;
+
+/**
+ * 글이 만들어지거나 고쳐지거나 지워졌음을 알린다. 글을 메모리에 색인해 두는 쪽은 이 이벤트로 색인을 고친다.
+ * 트랜잭션 안에서 발행되므로 받는 쪽은 커밋 뒤에 처리해야 한다 (@TransactionalEventListener).
+ */
+public record PostChangedEvent(Change change, Post post) {
+
+    public enum Change {
+        CREATED, MODIFIED, DELETED
+    }
+}
@@ -0,0 +1,177 @@
+package com.nexus.foreigner_community.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.nexus.foreigner_community.DataNotFoundException;
+import com.nexus.foreigner_community.dto.PostCursor;
+import com.nexus.foreigner_community.dto.PostPage;
+import com.nexus.foreigner_community.dto.PostSummary;
+import com.nexus.foreigner_community.entity.Comment;
+import com.nexus.foreigner_community.entity.ContentType;
+import com.nexus.foreigner_community.entity.Post;
+import com.nexus.foreigner_community.entity.User;
+import com.nexus.foreigner_community.repository.CommentRepository;
+import com.nexus.foreigner_community.repository.PostRepository;
+import com.nexus.foreigner_community.view.ContentChangedEvent;
+import com.nexus.foreigner_community.vote.PostLikes;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class PostService {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PostLikes postLikes;
+    private final TranslationJobQueue translationJobQueue;
+    private final PostTranslationService postTranslationService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public Post getPost(Long id) {
+        return postRepository.findById(id).orElseThrow(() -> new DataNotFoundException("post not found"));
+    }
+
+    /**
+     * 분류별 최신 글 목록. category 가 null 이면 전체. cursor 는 앞 페이지의 nextCursor 이고 null 이면 첫 페이지.
+     * 한 개를 더 읽어서 다음 페이지가 있는지 안다. 커서가 잘못됐거나 다른 분류의 것이면 IllegalArgumentException.
+     * 작성 시각이 없는 옛 글은 작성 시각이 있는 글이 다 나온 뒤에 id 역순으로 나온다.
+     */
+    @Transactional(readOnly = true)
+    public PostPage list(String category, String cursor, int size) {
+        PostCursor after = cursor == null ? null : PostCursor.decode(cursor);
+        if (after != null && !Objects.equals(after.category(), category)) {
+            throw new IllegalArgumentException("cursor belongs to another category");
+        }
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<PostSummary> posts;
+        if (after == null) {
+            posts = category == null ? postRepository.findLatest(limit) : postRepository.findLatest(category, limit);
+        } else if (after.createdAt() != null) {
+            posts = category == null
+                    ? postRepository.findLatestBefore(after.createdAt(), after.id(), limit)
+                    : postRepository.findLatestBefore(category, after.createdAt(), after.id(), limit);
+        } else {
+            posts = undatedBefore(category, after.id(), size + 1);
+        }
+        if (posts.size() <= size && (after == null || after.createdAt() != null)) {
+            // 작성 시각이 있는 글이 끝났으면 남은 자리를 작성 시각이 없는 글로 채운다.
+            List<PostSummary> filled = new ArrayList<>(posts);
+            filled.addAll(undatedBefore(category, Long.MAX_VALUE, size + 1 - posts.size()));
+            posts = filled;
+        }
+        if (posts.size() <= size) {
+            return new PostPage(posts, null);
+        }
+        List<PostSummary> page = posts.subList(0, size);
+        return new PostPage(List.copyOf(page), PostCursor.after(category, page.get(size - 1)).encode());
+    }
+
+    private List<PostSummary> undatedBefore(String category, long id, int count) {
+        Pageable limit = PageRequest.of(0, count);
+        return category == null ? postRepository.findUndatedBefore(id, limit)
+                : postRepository.findUndatedBefore(category, id, limit);
+    }
+
+    /** 번호를 이미 아는 글들(인기 글, 검색 결과)의 목록 줄을 기본 키로 읽는다. 순서는 ids 를 따르고 없는 글은 빠진다. */
+    @Transactional(readOnly = true)
+    public List<PostSummary> summaries(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> order = new HashMap<>();
+        for (Long id : ids) {
+            order.putIfAbsent(id, order.size());
+        }
+        return postRepository.findSummaries(order.keySet()).stream()
+                .sorted(Comparator.comparing(summary -> order.get(summary.id())))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<Comment> getComments(Long postId) {
+        return commentRepository.findByPostIdOrderByIdAsc(postId);
+    }
+
+    public Post create(String category, String title, String content, User author) {
+        return create(category, title, content, author, null, null, null);
+    }
+
+    /**
+     * 위치가 있는 글. 좌표와 건물 번호는 각각 없어도 되지만 위도와 경도는 함께 있어야 한다.
+     * 번역 작업은 글과 같은 트랜잭션에서 기록되므로 글이 저장되면 작업도 반드시 남는다.
+     */
+    public Post create(String category, String title, String content, User author,
+                       Double latitude, Double longitude, String building) {
+        if ((latitude == null) != (longitude == null)) {
+            throw new IllegalArgumentException("latitude and longitude must be given together");
+        }
+        Post post = new Post();
+        post.setCategory(category);
+        post.setTitle(title);
+        post.setContent(content);
+        post.setAuthor(author);
+        post.setLatitude(latitude);
+        post.setLongitude(longitude);
+        post.setBuilding(building == null || building.isBlank() ? null : building.trim());
+        post.setCreatedAt(LocalDateTime.now());
+        postRepository.save(post);
+        translationJobQueue.enqueue(ContentType.POST, post.getId());
+        eventPublisher.publishEvent(new ContentChangedEvent(ContentChangedEvent.POSTS));
+        eventPublisher.publishEvent(new PostChangedEvent(PostChangedEvent.Change.CREATED, post));
+        return post;
+    }
+
+    public void modify(Post post, String title, String content) {
+        post.setTitle(title);
+        post.setContent(content);
+        post.setModifiedAt(LocalDateTime.now());
+        postRepository.save(post);
+        translationJobQueue.enqueue(ContentType.POST, post.getId());
+        eventPublisher.publishEvent(new ContentChangedEvent(ContentChangedEvent.POSTS));
+        eventPublisher.publishEvent(new PostChangedEvent(PostChangedEvent.Change.MODIFIED, post));
+    }
+
+    // 댓글, 좋아요, 글과 댓글의 번역 결과와 남은 번역 작업도 같은 트랜잭션에서 지운다.
+    public void delete(Post post) {
+        List<Comment> comments = commentRepository.findByPostIdOrderByIdAsc(post.getId());
+        List<Long> commentIds = comments.stream().map(Comment::getId).toList();
+        postTranslationService.deleteAll(ContentType.COMMENT, commentIds);
+        translationJobQueue.deleteAll(ContentType.COMMENT, commentIds);
+        postTranslationService.deleteAll(ContentType.POST, List.of(post.getId()));
+        translationJobQueue.deleteAll(ContentType.POST, List.of(post.getId()));
+        commentRepository.deleteAll(comments);
+        postLikes.deleteAll(post.getId());
+        postRepository.delete(post);
+        eventPublisher.publishEvent(new ContentChangedEvent(ContentChangedEvent.POSTS));
+        eventPublisher.publishEvent(new PostChangedEvent(PostChangedEvent.Change.DELETED, post));
+    }
+
+    public Comment addComment(Post post, String content, User author) {
+        Comment comment = new Comment();
+        comment.setPost(post);
+        comment.setContent(content);
+        comment.setAuthor(author);
+        comment.setCreatedAt(LocalDateTime.now());
+        commentRepository.save(comment);
+        postRepository.incrementCommentCount(post.getId());
+        translationJobQueue.enqueue(ContentType.COMMENT, comment.getId());
+        eventPublisher.publishEvent(new ContentChangedEvent(ContentChangedEvent.POSTS));
+        eventPublisher.publishEvent(new CommentAddedEvent(post.getId(), comment.getId()));
+        return comment;
+    }
+}
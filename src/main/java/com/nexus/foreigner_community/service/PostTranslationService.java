@@ -0,0 +1,89 @@
+package com.nexus.foreigner_community.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.nexus.foreigner_community.ai.TranslationKey;
+import com.nexus.foreigner_community.entity.Comment;
+import com.nexus.foreigner_community.entity.ContentType;
+import com.nexus.foreigner_community.entity.Post;
+import com.nexus.foreigner_community.entity.PostTranslation;
+import com.nexus.foreigner_community.repository.PostTranslationRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class PostTranslationService {
+
+    private final PostTranslationRepository postTranslationRepository;
+
+    @Transactional(readOnly = true)
+    public Optional<PostTranslation> find(ContentType contentType, Long contentId, String language) {
+        return postTranslationRepository.findByContentTypeAndContentIdAndLanguage(contentType, contentId, language);
+    }
+
+    /**
+     * 글의 현재 원문으로 만든 번역만 돌려준다. 수정된 뒤 아직 다시 번역되지 않았으면 비어 있다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<PostTranslation> findCurrent(Post post, String language) {
+        String hash = sourceHash(post.getTitle(), post.getContent());
+        return find(ContentType.POST, post.getId(), language)
+                .filter(translation -> hash.equals(translation.getSourceHash()));
+    }
+
+    // 댓글 id 별 현재 원문의 번역. 번역이 없거나 오래된 댓글은 빠진다.
+    @Transactional(readOnly = true)
+    public Map<Long, PostTranslation> findCurrent(List<Comment> comments, String language) {
+        Map<Long, String> hashes = comments.stream()
+                .collect(Collectors.toMap(Comment::getId, comment -> sourceHash(null, comment.getContent())));
+        if (hashes.isEmpty()) {
+            return Map.of();
+        }
+        return postTranslationRepository
+                .findByContentTypeAndContentIdInAndLanguage(ContentType.COMMENT, hashes.keySet(), language).stream()
+                .filter(translation -> translation.getSourceHash() != null
+                        && translation.getSourceHash().equals(hashes.get(translation.getContentId())))
+                .collect(Collectors.toMap(PostTranslation::getContentId, Function.identity()));
+    }
+
+    public void deleteAll(ContentType contentType, Collection<Long> contentIds) {
+        if (!contentIds.isEmpty()) {
+            postTranslationRepository.deleteByContentTypeAndContentIdIn(contentType, contentIds);
+        }
+    }
+
+    // 번역 파이프라인이 저장할 때와 화면에서 비교할 때 같은 값을 쓴다. 댓글은 title 이 null 이다.
+    public static String sourceHash(String title, String content) {
+        return TranslationKey.hash(title == null ? content : title + "\n" + content);
+    }
+
+    public void save(ContentType contentType, Long contentId, String language, String sourceLanguage,
+                     String title, String content, String sourceHash) {
+        PostTranslation translation = postTranslationRepository
+                .findByContentTypeAndContentIdAndLanguage(contentType, contentId, language)
+                .orElseGet(() -> {
+                    PostTranslation created = new PostTranslation();
+                    created.setContentType(contentType);
+                    created.setContentId(contentId);
+                    created.setLanguage(language);
+                    return created;
+                });
+        translation.setSourceLanguage(sourceLanguage);
+        translation.setTitle(title);
+        translation.setContent(content);
+        translation.setSourceHash(sourceHash);
+        translation.setTranslatedAt(LocalDateTime.now());
+        postTranslationRepository.save(translation);
+    }
+}
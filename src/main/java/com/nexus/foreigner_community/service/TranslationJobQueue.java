@@ -0,0 +1,117 @@
+package com.nexus.foreigner_community.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.nexus.foreigner_community.entity.ContentType;
+import com.nexus.foreigner_community.entity.TranslationJob;
+import com.nexus.foreigner_community.entity.TranslationJob.Status;
+import com.nexus.foreigner_community.repository.TranslationJobRepository;
+
+/**
+ * translation_job 테이블을 이용한 영속 작업 큐. 재시작해도 남은 작업과 실패한 작업이 다시 처리된다.
+ */
+@Service
+@Transactional
+public class TranslationJobQueue {
+
+    private final TranslationJobRepository jobRepository;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+
+    public TranslationJobQueue(TranslationJobRepository jobRepository,
+                               @Value("${translate.pipeline.max-attempts}") int maxAttempts,
+                               @Value("${translate.pipeline.backoff-ms}") long backoffMs) {
+        this.jobRepository = jobRepository;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = Duration.ofMillis(backoffMs);
+    }
+
+    /**
+     * 작업을 대기 상태로 (다시) 넣는다. 처리 중인 작업이면 세대가 바뀌어 그 처리 결과는 기록되지 않고 다시 처리된다.
+     */
+    public void enqueue(ContentType contentType, Long contentId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (jobRepository.reset(contentType, contentId, now) > 0) {
+            return;
+        }
+        TranslationJob job = new TranslationJob();
+        job.setContentType(contentType);
+        job.setContentId(contentId);
+        job.setStatus(Status.PENDING);
+        job.setNextAttemptAt(now);
+        job.setCreatedAt(now);
+        job.setUpdatedAt(now);
+        jobRepository.save(job);
+    }
+
+    public boolean enqueueIfAbsent(ContentType contentType, Long contentId) {
+        if (jobRepository.existsByContentTypeAndContentId(contentType, contentId)) {
+            return false;
+        }
+        enqueue(contentType, contentId);
+        return true;
+    }
+
+    /**
+     * 처리할 작업을 가져온다. 돌려주는 작업은 영속성 컨텍스트에서 떼어 낸 것이고 generation 은 가져간 뒤의 값이다.
+     */
+    public List<TranslationJob> claim(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<TranslationJob> candidates = jobRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                Status.PENDING, now, PageRequest.of(0, limit));
+        List<TranslationJob> claimed = new ArrayList<>(candidates.size());
+        for (TranslationJob job : candidates) {
+            if (jobRepository.claim(job.getId(), job.getGeneration(), now) == 0) {
+                continue;
+            }
+            job.setStatus(Status.IN_PROGRESS);
+            job.setAttempts(job.getAttempts() + 1);
+            job.setGeneration(job.getGeneration() + 1);
+            job.setUpdatedAt(now);
+            claimed.add(job);
+        }
+        return claimed;
+    }
+
+    public void complete(TranslationJob job) {
+        LocalDateTime now = LocalDateTime.now();
+        jobRepository.finish(job.getId(), job.getGeneration(), Status.DONE, null, now, now);
+    }
+
+    public void fail(TranslationJob job, Throwable error) {
+        LocalDateTime now = LocalDateTime.now();
+        String message = String.valueOf(error.getMessage());
+        String lastError = message.length() > 500 ? message.substring(0, 500) : message;
+        if (job.getAttempts() >= maxAttempts) {
+            jobRepository.finish(job.getId(), job.getGeneration(), Status.FAILED, lastError, now, now);
+        } else {
+            // 1, 2, 4, 8 ... 배로 늘어나는 재시도 간격
+            LocalDateTime next = now.plus(baseBackoff.multipliedBy(1L << Math.min(job.getAttempts() - 1, 10)));
+            jobRepository.finish(job.getId(), job.getGeneration(), Status.PENDING, lastError, next, now);
+        }
+    }
+
+    // 글/댓글이 지워질 때 같은 트랜잭션에서 남은 작업도 지운다.
+    public void deleteAll(ContentType contentType, Collection<Long> contentIds) {
+        if (!contentIds.isEmpty()) {
+            jobRepository.deleteByContentTypeAndContentIdIn(contentType, contentIds);
+        }
+    }
+
+    // 비정상 종료로 멈춘 작업과 포기했던 작업을 다시 대기열에 넣는다.
+    public int requeueUnfinished() {
+        return jobRepository.requeue(List.of(Status.IN_PROGRESS, Status.FAILED), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,10 @@
+package com.nexus.foreigner_community.view;
+
+/**
+ * scope 에 속한 내용이 바뀌었음을 알린다. 해당 scope 로 캐시된 화면 조각은 모두 무효가 된다.
+ */
+public record ContentChangedEvent(String scope) {
+
+    public static final String LAYOUT = "layout";
+    public static final String POSTS = "posts";
+}
@@ -0,0 +1,115 @@
+package com.nexus.foreigner_community.view;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.nexus.foreigner_community.ai.TranslationRequester;
+import com.nexus.foreigner_community.ai.TranslationUnavailableException;
+
+/**
+ * 언어별로 번역까지 끝난 Thymeleaf 화면 조각(HTML)을 캐시한다.
+ * 키는 (템플릿, 조각, 언어, scope, scope 의 내용 버전, 변수) 이고, {@link ContentChangedEvent} 가 오면
+ * 버전을 올리고 해당 scope 의 조각을 모두 지운다. 변수 값은 equals/hashCode 로 비교되므로
+ * 문자열, 숫자, record 처럼 값으로 비교되는 것만 넘겨야 한다.
+ */
+@Component
+public class FragmentCache {
+
+    record FragmentKey(String template, String fragment, String language, String scope, long version,
+                       Map<String, Object> variables) {
+    }
+
+    private final ITemplateEngine templateEngine;
+    private final HtmlTextTranslator htmlTextTranslator;
+    private final String sourceLanguage;
+    private final boolean enabled;
+    private final AsyncCache<FragmentKey, String> cache;
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public FragmentCache(ITemplateEngine templateEngine, HtmlTextTranslator htmlTextTranslator,
+                         @Value("${view.fragment-cache.source-language}") String sourceLanguage,
+                         @Value("${view.fragment-cache.enabled}") boolean enabled,
+                         @Value("${view.fragment-cache.max-chars}") long maxChars) {
+        this.templateEngine = templateEngine;
+        this.htmlTextTranslator = htmlTextTranslator;
+        this.sourceLanguage = sourceLanguage;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxChars)
+                .weigher((FragmentKey key, String html) -> html.length())
+                .recordStats()
+                .buildAsync();
+    }
+
+    public String render(String template, String fragment, String scope, Locale locale, Map<String, Object> variables) {
+        String language = locale.getLanguage();
+        if (!enabled) {
+            return renderAndTranslate(template, fragment, locale, language, variables);
+        }
+        FragmentKey key = new FragmentKey(template, fragment, language, scope, version(scope).get(),
+                Map.copyOf(variables));
+        // 같은 키를 동시에 요청하면 한 번만 렌더링/번역한다. 캐시에는 빈 future 만 넣고 렌더링/번역은
+        // 그 밖에서 하므로, 느린 번역이 캐시의 다른 키나 무효화를 막지 않는다.
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> future = cache.get(key, (k, executor) -> mine);
+        if (future == mine) {
+            try {
+                mine.complete(renderAndTranslate(template, fragment, locale, language, variables));
+            } catch (RuntimeException e) {
+                // 실패한 future 는 캐시에서 저절로 빠진다.
+                mine.completeExceptionally(e);
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (!(e.getCause() instanceof TranslationUnavailableException)) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+            // 번역하지 못한 조각은 캐시하지 않고 원문으로 보여준다.
+            return templateEngine.process(template, Set.of(fragment), new Context(locale, variables));
+        }
+    }
+
+    private String renderAndTranslate(String template, String fragment, Locale locale, String language,
+                                      Map<String, Object> variables) {
+        String html = templateEngine.process(template, Set.of(fragment), new Context(locale, variables));
+        if (language.isEmpty() || language.equals(sourceLanguage)) {
+            return html;
+        }
+        return htmlTextTranslator.translate(html, sourceLanguage, language, TranslationRequester.ANONYMOUS);
+    }
+
+    @EventListener
+    public void onContentChanged(ContentChangedEvent event) {
+        version(event.scope()).incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> key.scope().equals(event.scope()));
+    }
+
+    public void invalidateAll() {
+        versions.values().forEach(AtomicLong::incrementAndGet);
+        cache.synchronous().invalidateAll();
+    }
+
+    private AtomicLong version(String scope) {
+        return versions.computeIfAbsent(scope, s -> new AtomicLong());
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+}
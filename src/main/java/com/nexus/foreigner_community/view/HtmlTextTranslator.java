@@ -0,0 +1,56 @@
+package com.nexus.foreigner_community.view;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import com.nexus.foreigner_community.ai.TranslationRequester;
+import com.nexus.foreigner_community.ai.TranslationService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 렌더링된 HTML 의 텍스트 노드만 골라 한 번에(배치로) 번역하고 태그는 그대로 둔다.
+ * script/style 안의 내용은 번역하지 않는다. 하나라도 번역에 실패하면 TranslationUnavailableException.
+ */
+@Component
+@RequiredArgsConstructor
+public class HtmlTextTranslator {
+
+    private static final Pattern TOKENS = Pattern.compile(
+            "(?is)<script\\b.*?</script>|<style\\b.*?</style>|<!--.*?-->|<[^>]*>|[^<]+");
+
+    private final TranslationService translationService;
+
+    public String translate(String html, String source, String target, TranslationRequester requester) {
+        List<String> tokens = new ArrayList<>();
+        List<Integer> textIndexes = new ArrayList<>();
+        List<String> texts = new ArrayList<>();
+        Matcher matcher = TOKENS.matcher(html);
+        while (matcher.find()) {
+            String token = matcher.group();
+            if (token.charAt(0) != '<' && !token.isBlank()) {
+                textIndexes.add(tokens.size());
+                texts.add(HtmlUtils.htmlUnescape(token.strip()));
+            }
+            tokens.add(token);
+        }
+        if (texts.isEmpty()) {
+            return html;
+        }
+
+        List<String> translated = translationService.translateAllOrThrow(texts, source, target, requester);
+        for (int i = 0; i < textIndexes.size(); i++) {
+            int index = textIndexes.get(i);
+            String token = tokens.get(index);
+            String leading = token.substring(0, token.indexOf(token.strip()));
+            String trailing = token.substring(leading.length() + token.strip().length());
+            tokens.set(index, leading + HtmlUtils.htmlEscape(translated.get(i)) + trailing);
+        }
+        return String.join("", tokens);
+    }
+}
@@ -0,0 +1,48 @@
+package com.nexus.foreigner_community.view;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.exceptions.TemplateInputException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * prod 프로파일에서 시작할 때 모든 템플릿을 한 번씩 파싱해 Thymeleaf 템플릿 캐시를 채운다.
+ * 첫 요청이 파싱 비용을 내지 않게 하기 위함이다. (spring.thymeleaf.cache=true 필요)
+ */
+@Slf4j
+@Component
+@Profile("prod")
+@RequiredArgsConstructor
+public class TemplatePrecompiler {
+
+    private final ITemplateEngine templateEngine;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void precompile() throws IOException {
+        Resource[] templates = new PathMatchingResourcePatternResolver().getResources("classpath:/templates/**/*.html");
+        for (Resource template : templates) {
+            String path = template.getURL().getPath();
+            String name = path.substring(path.lastIndexOf("/templates/") + "/templates/".length(), path.length() - ".html".length());
+            try {
+                // 파싱된 템플릿은 처리 전에 캐시에 들어가므로 변수가 없어 처리에 실패해도 괜찮다.
+                templateEngine.process(name, new Context(Locale.KOREAN));
+            } catch (TemplateInputException e) {
+                // 읽거나 파싱하지 못한 템플릿은 첫 요청에서도 실패한다.
+                log.warn("template {} could not be parsed", name, e);
+            } catch (RuntimeException e) {
+                log.debug("template {} parsed but not rendered without variables: {}", name, e.toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.nexus.foreigner_community.vote;
+
+import java.time.Instant;
+
+/**
+ * 글 추천이 늘거나 줄었음을 알린다. 실제로 바뀐 경우에만 발행하고, 받는 쪽은 커밋 뒤에 처리해야 한다.
+ * likedAt 은 추천한 시각이고, 취소일 때는 취소된 추천을 했던 시각이다.
+ */
+public record PostLikeChangedEvent(long postId, long userId, boolean liked, Instant likedAt) {
+}
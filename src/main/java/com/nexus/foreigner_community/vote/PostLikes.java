@@ -0,0 +1,172 @@
+package com.nexus.foreigner_community.vote;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nexus.foreigner_community.DataNotFoundException;
+
+/**
+ * 글 추천. 추천자 목록을 읽지 않고 post_like 에 (글, 사용자) 한 행을 "없으면 넣기" 로 넣고, 실제로 들어갔을 때만
+ * 글의 추천 수를 UPDATE 로 1 올린다. 그래서 추천 한 번의 비용은 이미 받은 추천 수와 상관없이 인덱스 조회 두어 번이다.
+ * <p>
+ * 추천이 votes.hot-threshold 이상인 글은 추천자 id 를 {@link VoterBitmap} 으로 캐시해서 "내가 추천했나" 를
+ * DB 없이 답하고, 이미 추천한 사람의 중복 요청도 DB 에 가지 않는다. 비트맵은 커밋된 변경만 반영한다.
+ */
+@Service
+@Transactional
+public class PostLikes {
+
+    // 같은 사용자의 요청이 동시에 오면 둘 다 NOT EXISTS 를 통과할 수 있다. 그때는 유일 제약이 하나를 막는다.
+    private static final String INSERT_IF_ABSENT = "insert into post_like (post_id, user_id, created_at)"
+            + " select ?, ?, ? where not exists (select 1 from post_like where post_id = ? and user_id = ?)";
+    private static final String DELETE = "delete from post_like where post_id = ? and user_id = ?";
+    private static final String DELETE_POST = "delete from post_like where post_id = ?";
+    private static final String LIKED_AT = "select created_at from post_like where post_id = ? and user_id = ?";
+    private static final String EXISTS = "select count(*) from post_like where post_id = ? and user_id = ?";
+    private static final String ADD_COUNT = "update post set like_count = like_count + ? where id = ?";
+    private static final String COUNT = "select like_count from post where id = ?";
+    private static final String VOTERS = "select user_id from post_like where post_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int hotThreshold;
+    private final Cache<Long, VoterBitmap> hotVoters;
+
+    public PostLikes(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher,
+                     @Value("${votes.hot-threshold}") int hotThreshold,
+                     @Value("${votes.bitmap-cache-bytes}") long bitmapCacheBytes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.hotThreshold = hotThreshold;
+        this.hotVoters = Caffeine.newBuilder()
+                .maximumWeight(bitmapCacheBytes)
+                .<Long, VoterBitmap>weigher((postId, voters) -> voters.sizeInBytes())
+                .build();
+    }
+
+    /** 새로 추천했으면 true, 이미 추천했으면 false. 글이 없으면 DataNotFoundException. */
+    public boolean like(long postId, long userId) {
+        VoterBitmap voters = hotVoters(postId);
+        if (voters != null && contains(voters, userId)) {
+            return false;
+        }
+        Instant now = Instant.now();
+        int inserted;
+        try {
+            inserted = jdbcTemplate.update(INSERT_IF_ABSENT, postId, userId,
+                    Timestamp.valueOf(LocalDateTime.ofInstant(now, ZoneId.systemDefault())), postId, userId);
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+        if (inserted == 0) {
+            return false;
+        }
+        if (jdbcTemplate.update(ADD_COUNT, 1, postId) == 0) {
+            throw new DataNotFoundException("post not found");
+        }
+        changed(postId, userId, true, now);
+        return true;
+    }
+
+    /** 추천을 취소했으면 true, 추천한 적이 없으면 false. */
+    public boolean unlike(long postId, long userId) {
+        List<Timestamp> likedAt = jdbcTemplate.queryForList(LIKED_AT, Timestamp.class, postId, userId);
+        if (likedAt.isEmpty() || jdbcTemplate.update(DELETE, postId, userId) == 0) {
+            return false;
+        }
+        jdbcTemplate.update(ADD_COUNT, -1, postId);
+        changed(postId, userId, false, likedAt.get(0).toInstant());
+        return true;
+    }
+
+    /** 글을 지울 때 부른다. 추천 수는 글과 함께 지워지므로 고치지 않고, 이벤트도 내지 않는다. */
+    public void deleteAll(long postId) {
+        jdbcTemplate.update(DELETE_POST, postId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                hotVoters.invalidate(postId);
+            }
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public boolean hasLiked(long postId, long userId) {
+        VoterBitmap voters = hotVoters(postId);
+        if (voters != null) {
+            return contains(voters, userId);
+        }
+        Integer count = jdbcTemplate.queryForObject(EXISTS, Integer.class, postId, userId);
+        return count != null && count > 0;
+    }
+
+    @Transactional(readOnly = true)
+    public int count(long postId) {
+        List<Integer> counts = jdbcTemplate.queryForList(COUNT, Integer.class, postId);
+        if (counts.isEmpty()) {
+            throw new DataNotFoundException("post not found");
+        }
+        return counts.get(0);
+    }
+
+    // 캐시에 있으면 그것을, 없으면 추천이 많은 글일 때만 읽어서 캐시한다.
+    private VoterBitmap hotVoters(long postId) {
+        VoterBitmap cached = hotVoters.getIfPresent(postId);
+        if (cached != null) {
+            return cached;
+        }
+        List<Integer> counts = jdbcTemplate.queryForList(COUNT, Integer.class, postId);
+        if (counts.isEmpty() || counts.get(0) < hotThreshold) {
+            return null;
+        }
+        return hotVoters.get(postId, this::loadVoters);
+    }
+
+    private VoterBitmap loadVoters(long postId) {
+        VoterBitmap voters = new VoterBitmap();
+        jdbcTemplate.query(VOTERS, row -> {
+            voters.add(row.getLong(1));
+        }, postId);
+        return voters;
+    }
+
+    private static boolean contains(VoterBitmap voters, long userId) {
+        synchronized (voters) {
+            return voters.contains(userId);
+        }
+    }
+
+    // 롤백되면 비트맵과 구독자 모두 모르게 커밋 뒤에 반영한다. 읽는 중인 캐시 항목은 computeIfPresent 가 기다려 준다.
+    private void changed(long postId, long userId, boolean liked, Instant likedAt) {
+        eventPublisher.publishEvent(new PostLikeChangedEvent(postId, userId, liked, likedAt));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                hotVoters.asMap().computeIfPresent(postId, (id, voters) -> {
+                    synchronized (voters) {
+                        if (liked) {
+                            voters.add(userId);
+                        } else {
+                            voters.remove(userId);
+                        }
+                    }
+                    return voters;
+                });
+            }
+        });
+    }
+}
@@ -0,0 +1,155 @@
+package com.nexus.foreigner_community.vote;
+
+import java.util.Arrays;
+
+/**
+ * 투표한 사용자 id 집합을 작게 담는 비트맵 (Roaring 방식). id 를 위 16비트로 나눠 묶음마다
+ * 4096 개까지는 정렬된 char 배열, 그보다 많으면 8KB 비트맵에 담는다. id 는 0 이상 2^32 미만이어야 한다.
+ * 스레드 안전하지 않으므로 여럿이 쓰면 밖에서 잠가야 한다.
+ */
+public final class VoterBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1 << 10;
+
+    private char[] highs = new char[4];
+    private Object[] containers = new Object[4];
+    private int[] cardinalities = new int[4];
+    private int size;
+    private int cardinality;
+
+    public boolean contains(long id) {
+        if (id < 0 || id > 0xFFFFFFFFL) {
+            return false;
+        }
+        int i = Arrays.binarySearch(highs, 0, size, (char) (id >>> 16));
+        if (i < 0) {
+            return false;
+        }
+        char low = (char) id;
+        if (containers[i] instanceof long[] bits) {
+            return (bits[low >>> 6] & 1L << low) != 0;
+        }
+        return Arrays.binarySearch((char[]) containers[i], 0, cardinalities[i], low) >= 0;
+    }
+
+    /** 새로 넣었으면 true. */
+    public boolean add(long id) {
+        if (id < 0 || id > 0xFFFFFFFFL) {
+            throw new IllegalArgumentException("voter id out of range: " + id);
+        }
+        char high = (char) (id >>> 16);
+        char low = (char) id;
+        int i = Arrays.binarySearch(highs, 0, size, high);
+        if (i < 0) {
+            i = -i - 1;
+            insertContainer(i, high);
+        }
+        if (containers[i] instanceof long[] bits) {
+            long mask = 1L << low;
+            if ((bits[low >>> 6] & mask) != 0) {
+                return false;
+            }
+            bits[low >>> 6] |= mask;
+        } else {
+            char[] values = (char[]) containers[i];
+            int n = cardinalities[i];
+            int at = Arrays.binarySearch(values, 0, n, low);
+            if (at >= 0) {
+                return false;
+            }
+            at = -at - 1;
+            if (n == ARRAY_MAX) {
+                long[] bits = toBitmap(values, n);
+                bits[low >>> 6] |= 1L << low;
+                containers[i] = bits;
+            } else {
+                if (n == values.length) {
+                    values = Arrays.copyOf(values, Math.min(ARRAY_MAX, n * 2));
+                    containers[i] = values;
+                }
+                System.arraycopy(values, at, values, at + 1, n - at);
+                values[at] = low;
+            }
+        }
+        cardinalities[i]++;
+        cardinality++;
+        return true;
+    }
+
+    /** 있었으면 빼고 true. */
+    public boolean remove(long id) {
+        if (id < 0 || id > 0xFFFFFFFFL) {
+            return false;
+        }
+        int i = Arrays.binarySearch(highs, 0, size, (char) (id >>> 16));
+        if (i < 0) {
+            return false;
+        }
+        char low = (char) id;
+        if (containers[i] instanceof long[] bits) {
+            long mask = 1L << low;
+            if ((bits[low >>> 6] & mask) == 0) {
+                return false;
+            }
+            bits[low >>> 6] &= ~mask;
+        } else {
+            char[] values = (char[]) containers[i];
+            int n = cardinalities[i];
+            int at = Arrays.binarySearch(values, 0, n, low);
+            if (at < 0) {
+                return false;
+            }
+            System.arraycopy(values, at + 1, values, at, n - at - 1);
+        }
+        cardinality--;
+        if (--cardinalities[i] == 0) {
+            removeContainer(i);
+        }
+        return true;
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    /** 담고 있는 배열의 대략적인 바이트 수 (캐시 무게). */
+    public int sizeInBytes() {
+        int bytes = 64 + highs.length * (2 + 8 + 4);
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i] instanceof long[] bits ? bits.length * 8 : ((char[]) containers[i]).length * 2;
+        }
+        return bytes;
+    }
+
+    private void insertContainer(int i, char high) {
+        if (size == highs.length) {
+            highs = Arrays.copyOf(highs, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+            cardinalities = Arrays.copyOf(cardinalities, size * 2);
+        }
+        System.arraycopy(highs, i, highs, i + 1, size - i);
+        System.arraycopy(containers, i, containers, i + 1, size - i);
+        System.arraycopy(cardinalities, i, cardinalities, i + 1, size - i);
+        highs[i] = high;
+        containers[i] = new char[4];
+        cardinalities[i] = 0;
+        size++;
+    }
+
+    private void removeContainer(int i) {
+        System.arraycopy(highs, i + 1, highs, i, size - i - 1);
+        System.arraycopy(containers, i + 1, containers, i, size - i - 1);
+        System.arraycopy(cardinalities, i + 1, cardinalities, i, size - i - 1);
+        size--;
+        containers[size] = null;
+    }
+
+    private static long[] toBitmap(char[] values, int n) {
+        long[] bits = new long[BITMAP_WORDS];
+        for (int j = 0; j < n; j++) {
+            bits[values[j] >>> 6] |= 1L << values[j];
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,85 @@
+package com.nexus.foreigner_community.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class InstrumentedTranslationProviderTest {
+
+    private static class FakeProvider implements TranslationProvider {
+        RuntimeException failure;
+
+        @Override
+        public String name() {
+            return "fake";
+        }
+
+        @Override
+        public List<String> translate(List<String> texts, String source, String target) {
+            if (failure != null) {
+                throw failure;
+            }
+            return texts.stream().map(text -> text + "!").toList();
+        }
+
+        @Override
+        public String detect(String text) {
+            return "ko";
+        }
+    }
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final FakeProvider fake = new FakeProvider();
+    private final InstrumentedTranslationProvider provider = new InstrumentedTranslationProvider(
+            fake, registry, Set.of("ko", "en"), Duration.ofSeconds(1), 1.0);
+
+    @Test
+    void recordsLatencyAndPayloadSizes() {
+        provider.translate(List.of("안녕", "hi"), "ko", "en");
+
+        assertThat(registry.get("translation.provider.calls")
+                .tags("operation", "translate", "source", "ko", "target", "en", "outcome", "success")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get("translation.provider.chars").tags("direction", "request").counter().count())
+                .isEqualTo(4);
+        // 한글은 UTF-8 로 3바이트
+        assertThat(registry.get("translation.provider.bytes").tags("direction", "request").counter().count())
+                .isEqualTo(8);
+        assertThat(registry.get("translation.provider.chars").tags("direction", "response").counter().count())
+                .isEqualTo(6);
+    }
+
+    @Test
+    void unknownLanguagesShareOneTag() {
+        provider.translate(List.of("x"), "ko", "xx-made-up");
+
+        assertThat(registry.get("translation.provider.calls").tags("target", "other").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void classifiesFailures() {
+        fake.failure = new TranslationUnavailableException("circuit is open");
+        assertThatThrownBy(() -> provider.translate(List.of("a"), "ko", "en"))
+                .isInstanceOf(TranslationUnavailableException.class);
+        fake.failure = new TranslationUnavailableException("timed out", new TimeoutException());
+        assertThatThrownBy(() -> provider.translate(List.of("a"), "ko", "en"))
+                .isInstanceOf(TranslationUnavailableException.class);
+        fake.failure = new IllegalStateException("boom");
+        assertThatThrownBy(() -> provider.translate(List.of("a"), "ko", "en"))
+                .isInstanceOf(IllegalStateException.class);
+
+        for (String outcome : List.of("rejected", "timeout", "error")) {
+            assertThat(registry.get("translation.provider.calls").tags("outcome", outcome).timer().count())
+                    .isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.nexus.foreigner_community.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class LanguageIdentifierTest {
+
+    private record Sample(String language, String text) {
+    }
+
+    private static LanguageIdentifier identifier;
+    private static List<Sample> samples;
+
+    @BeforeAll
+    static void load() throws IOException {
+        try (InputStream in = LanguageIdentifierTest.class.getResourceAsStream("/langid/profiles.bin")) {
+            identifier = LanguageIdentifier.load(in, 0.25);
+        }
+        samples = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                LanguageIdentifierTest.class.getResourceAsStream("/langid/accuracy.tsv"), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split("\t", 2);
+                samples.add(new Sample(parts[0], parts[1]));
+            }
+        }
+    }
+
+    @Test
+    void coversRequiredLanguages() {
+        assertThat(identifier.languages()).contains("ko", "en", "mn", "vi", "zh", "ja");
+    }
+
+    @Test
+    void accuracyPerLanguage() {
+        Map<String, int[]> results = new TreeMap<>();
+        for (Sample sample : samples) {
+            int[] counts = results.computeIfAbsent(sample.language(), k -> new int[2]);
+            counts[1]++;
+            if (sample.language().equals(identifier.bestLanguage(sample.text()))) {
+                counts[0]++;
+            }
+        }
+        results.forEach((language, counts) ->
+                assertThat((double) counts[0] / counts[1]).as(language).isGreaterThanOrEqualTo(0.9));
+    }
+
+    @Test
+    void confidentDetectionsAreCorrect() {
+        int confident = 0;
+        for (Sample sample : samples) {
+            String detected = identifier.detect(sample.text());
+            if (detected != null) {
+                confident++;
+                assertThat(detected).as(sample.text()).isEqualTo(sample.language());
+            }
+        }
+        // 대부분은 원격 detect 호출 없이 처리되어야 한다.
+        assertThat((double) confident / samples.size()).isGreaterThanOrEqualTo(0.9);
+    }
+
+    @Test
+    void emptyTextIsUndetermined() {
+        assertThat(identifier.detect("")).isNull();
+        assertThat(identifier.detect("1234 !?")).isNull();
+    }
+
+    @Test
+    void detectDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        String text = samples.get(0).text();
+        for (int i = 0; i < 10_000; i++) {
+            identifier.detect(text);
+        }
+        long threadId = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 10_000; i++) {
+            identifier.detect(text);
+        }
+        assertThat(threads.getThreadAllocatedBytes(threadId) - before).isLessThan(1024);
+    }
+}
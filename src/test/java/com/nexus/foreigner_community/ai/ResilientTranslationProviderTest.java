@@ -0,0 +1,137 @@
+package com.nexus.foreigner_community.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ResilientTranslationProviderTest {
+
+    private StubTranslationServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = new StubTranslationServer(0, 0, 0);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop();
+    }
+
+    private ResilientTranslationProvider provider(int maxConcurrent, long timeoutMs, int failureThreshold) {
+        StubTranslationProvider stub = new StubTranslationProvider(
+                URI.create("http://127.0.0.1:" + server.port()), Duration.ofSeconds(5));
+        return new ResilientTranslationProvider(stub, maxConcurrent, Duration.ofMillis(timeoutMs),
+                new CircuitBreaker(failureThreshold, Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void translatesThroughStubServer() {
+        try (ResilientTranslationProvider provider = provider(4, 1000, 3)) {
+            assertThat(provider.translate(List.of("안녕", "감사합니다"), "ko", "en"))
+                    .containsExactly("[en] 안녕", "[en] 감사합니다");
+            assertThat(provider.detect("안녕하세요")).isEqualTo("ko");
+        }
+    }
+
+    @Test
+    void slowCallsHitTheDeadline() {
+        server.setLatencyMillis(1000);
+        try (ResilientTranslationProvider provider = provider(4, 100, 3)) {
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> provider.translate(List.of("hello"), "en", "ko"))
+                    .isInstanceOf(TranslationUnavailableException.class);
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(800));
+        }
+    }
+
+    @Test
+    void circuitOpensAfterRepeatedFailures() {
+        server.setFailureEvery(1);
+        try (ResilientTranslationProvider provider = provider(4, 1000, 3)) {
+            for (int i = 0; i < 3; i++) {
+                assertThatThrownBy(() -> provider.translate(List.of("hello"), "en", "ko"))
+                        .isInstanceOf(TranslationUnavailableException.class);
+            }
+            assertThat(provider.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+            long requests = server.requestCount();
+            assertThatThrownBy(() -> provider.translate(List.of("hello"), "en", "ko"))
+                    .isInstanceOf(TranslationUnavailableException.class)
+                    .hasMessageContaining("circuit is open");
+            assertThat(server.requestCount()).isEqualTo(requests);
+        }
+    }
+
+    @Test
+    void bulkheadRejectsInsteadOfQueueing() {
+        server.setLatencyMillis(500);
+        try (ResilientTranslationProvider provider = provider(1, 2000, 3)) {
+            CompletableFuture<List<String>> first =
+                    CompletableFuture.supplyAsync(() -> provider.translate(List.of("a"), "en", "ko"));
+            while (provider.availableCalls() > 0) {
+                Thread.onSpinWait();
+            }
+            assertThatThrownBy(() -> provider.translate(List.of("b"), "en", "ko"))
+                    .hasMessageContaining("too many calls");
+            assertThat(first.join()).containsExactly("[ko] a");
+        }
+    }
+
+    @Test
+    void interruptedTrialReopensTheCircuitAndReturnsThePermit() throws InterruptedException {
+        server.setLatencyMillis(500);
+        long[] now = {0};
+        CircuitBreaker breaker = new CircuitBreaker(1, Duration.ofSeconds(10), () -> now[0]);
+        breaker.onFailure();
+        now[0] = Duration.ofSeconds(11).toNanos();
+        StubTranslationProvider stub = new StubTranslationProvider(
+                URI.create("http://127.0.0.1:" + server.port()), Duration.ofSeconds(5));
+        try (ResilientTranslationProvider provider = new ResilientTranslationProvider(stub, 1,
+                Duration.ofSeconds(2), breaker)) {
+            Thread caller = new Thread(() -> {
+                try {
+                    provider.translate(List.of("a"), "en", "ko");
+                } catch (TranslationUnavailableException ignored) {
+                    // 끊긴 호출
+                }
+            });
+            caller.start();
+            while (provider.availableCalls() > 0) {
+                Thread.onSpinWait();
+            }
+            caller.interrupt();
+            caller.join();
+
+            assertThat(provider.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+            while (provider.availableCalls() == 0) {
+                Thread.onSpinWait();
+            }
+            assertThat(provider.availableCalls()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void halfOpenAllowsSingleTrial() {
+        long[] now = {0};
+        CircuitBreaker breaker = new CircuitBreaker(1, Duration.ofSeconds(10), () -> now[0]);
+        breaker.onFailure();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+
+        now[0] = Duration.ofSeconds(11).toNanos();
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        breaker.onSuccess();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+}
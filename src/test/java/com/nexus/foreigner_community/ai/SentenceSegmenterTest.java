@@ -0,0 +1,50 @@
+package com.nexus.foreigner_community.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SentenceSegmenterTest {
+
+    private static List<String> sentences(String text) {
+        return SentenceSegmenter.split(text).stream()
+                .filter(SentenceSegmenter.Segment::translatable)
+                .map(SentenceSegmenter.Segment::text)
+                .toList();
+    }
+
+    private static String join(String text) {
+        StringBuilder joined = new StringBuilder();
+        SentenceSegmenter.split(text).forEach(segment -> joined.append(segment.text()));
+        return joined.toString();
+    }
+
+    @Test
+    void splitsOnTerminalsAndNewlines() {
+        String text = "안녕하세요. 저는 몽골에서 왔습니다!  기숙사는 어디인가요?\n\n비자 연장은 3.5일 걸려요.";
+        assertThat(sentences(text)).containsExactly(
+                "안녕하세요.", "저는 몽골에서 왔습니다!", "기숙사는 어디인가요?", "비자 연장은 3.5일 걸려요.");
+        assertThat(join(text)).isEqualTo(text);
+    }
+
+    @Test
+    void splitsFullwidthPunctuationWithoutSpaces() {
+        assertThat(sentences("今天天气很好。我们去公园吧！好吗？"))
+                .containsExactly("今天天气很好。", "我们去公园吧！", "好吗？");
+    }
+
+    @Test
+    void keepsClosingQuotesWithTheSentence() {
+        String text = "He said \"Hi.\" Then left... ok?";
+        assertThat(sentences(text)).containsExactly("He said \"Hi.\"", "Then left...", "ok?");
+        assertThat(join(text)).isEqualTo(text);
+    }
+
+    @Test
+    void preservesSurroundingWhitespace() {
+        assertThat(join("  lead and trail  ")).isEqualTo("  lead and trail  ");
+        assertThat(SentenceSegmenter.split("")).isEmpty();
+    }
+}
@@ -0,0 +1,206 @@
+package com.nexus.foreigner_community.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.nexus.foreigner_community.ai.StreamingTranslationService.SegmentEvent;
+import com.nexus.foreigner_community.repository.TranslationCacheRepository;
+
+// 스텁 제공자는 테스트가 문장별로 열어 줄 때까지 응답하지 않는다.
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StreamingTranslationServiceTest {
+
+    @Autowired
+    private TranslationCacheRepository repository;
+
+    private final Map<String, CompletableFuture<Void>> gates = new ConcurrentHashMap<>();
+    private final List<String> requested = new CopyOnWriteArrayList<>();
+    private final List<String> answered = new CopyOnWriteArrayList<>();
+    private TranslationBatcher batcher;
+    private TranslationScheduler scheduler;
+    private TranslationMemory memory;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        batcher = new TranslationBatcher((texts, source, target) -> {
+            List<String> results = new ArrayList<>(texts.size());
+            for (String text : texts) {
+                requested.add(text);
+                gate(text).join();
+                answered.add(text);
+                results.add("[" + target + "] " + text);
+            }
+            return results;
+        }, 1, Duration.ofMillis(1));
+        scheduler = new TranslationScheduler(1_000_000, 1_000_000, 1_000_000, 0.2);
+        memory = new TranslationMemory(new TranslationCache(repository, 1_000_000), batcher, scheduler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        gates.values().forEach(gate -> gate.complete(null));
+        batcher.close();
+        scheduler.close();
+    }
+
+    private CompletableFuture<Void> gate(String sentence) {
+        return gates.computeIfAbsent(sentence, s -> new CompletableFuture<>());
+    }
+
+    private void release(String sentence) {
+        gate(sentence).complete(null);
+    }
+
+    private StreamingTranslationService service(int maxInFlight) {
+        return new StreamingTranslationService(memory, maxInFlight, 60_000, 60_000, 0);
+    }
+
+    @Test
+    void emitsSentencesInSourceOrderEvenWhenLaterOnesFinishFirst() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        service(4).stream(emitter, "첫 문장이에요. 두 번째 문장이에요. 세 번째 문장이에요.", "ko", "en",
+                TranslationRequester.ANONYMOUS);
+        awaitSize(requested, 3);
+
+        release("세 번째 문장이에요.");
+        release("두 번째 문장이에요.");
+        awaitSize(answered, 2);
+        Thread.sleep(100);
+        assertThat(emitter.segments()).isEmpty();
+
+        release("첫 문장이에요.");
+        assertThat(emitter.completed.get(5, TimeUnit.SECONDS)).isEqualTo(emitter.segments().size());
+        assertThat(emitter.segments()).extracting(SegmentEvent::index)
+                .isEqualTo(IntStream.range(0, emitter.segments().size()).boxed().toList());
+        assertThat(String.join("", emitter.segments().stream().map(SegmentEvent::text).toList()))
+                .isEqualTo("[en] 첫 문장이에요. [en] 두 번째 문장이에요. [en] 세 번째 문장이에요.");
+    }
+
+    @Test
+    void stopsTranslatingWhenTheEmitterCompletes() throws Exception {
+        assertStopsAfter(emitter -> emitter.completionCallback.run(), "완료");
+    }
+
+    @Test
+    void stopsTranslatingWhenTheEmitterTimesOut() throws Exception {
+        assertStopsAfter(emitter -> emitter.timeoutCallback.run(), "시간 초과");
+    }
+
+    @Test
+    void stopsTranslatingWhenTheEmitterFails() throws Exception {
+        assertStopsAfter(emitter -> emitter.errorCallback.accept(new IOException("broken pipe")), "오류");
+    }
+
+    // 동시에 두 문장만 보내므로 중간에 끊기면 나머지 네 문장은 제공자에 가지 않아야 한다.
+    private void assertStopsAfter(Consumer<RecordingEmitter> stop, String label) throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        List<String> sentences = List.of(label + " 하나.", label + " 둘.", label + " 셋.", label + " 넷.",
+                label + " 다섯.", label + " 여섯.");
+        service(2).stream(emitter, String.join(" ", sentences), "ko", "en", TranslationRequester.ANONYMOUS);
+        awaitSize(requested, 2);
+
+        stop.accept(emitter);
+        sentences.forEach(this::release);
+        Thread.sleep(200);
+
+        assertThat(requested).containsExactly(sentences.get(0), sentences.get(1));
+        assertThat(emitter.segments()).isEmpty();
+        assertThat(emitter.completed).isNotDone();
+    }
+
+    @Test
+    void stopsTranslatingWhenTheClientDisconnects() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.disconnected = true;
+        service(1).stream(emitter, "연결 하나. 연결 둘. 연결 셋.", "ko", "en", TranslationRequester.ANONYMOUS);
+        awaitSize(requested, 1);
+
+        release("연결 하나.");
+        awaitSize(answered, 1);
+        release("연결 둘.");
+        release("연결 셋.");
+        Thread.sleep(200);
+
+        assertThat(requested).containsExactly("연결 하나.");
+        assertThat(emitter.completed).isNotDone();
+    }
+
+    private static void awaitSize(List<?> list, int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (list.size() < size && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(list).hasSize(size);
+    }
+
+    /**
+     * 보낸 이벤트를 모으고 종료 콜백을 붙잡아 두는 emitter. 서블릿 요청 없이 쓰므로
+     * 콜백은 테스트가 직접 부른다.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<SegmentEvent> segments = new CopyOnWriteArrayList<>();
+        private final CompletableFuture<Integer> completed = new CompletableFuture<>();
+        private volatile boolean disconnected;
+        private Runnable completionCallback;
+        private Runnable timeoutCallback;
+        private Consumer<Throwable> errorCallback;
+
+        List<SegmentEvent> segments() {
+            return segments;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (disconnected) {
+                throw new IOException("client disconnected");
+            }
+            Set<ResponseBodyEmitter.DataWithMediaType> parts = builder.build();
+            for (ResponseBodyEmitter.DataWithMediaType part : parts) {
+                if (part.getData() instanceof SegmentEvent segment) {
+                    segments.add(segment);
+                } else if (part.getData() instanceof Integer count) {
+                    completed.complete(count);
+                }
+            }
+        }
+
+        @Override
+        public void onCompletion(Runnable callback) {
+            this.completionCallback = callback;
+        }
+
+        @Override
+        public void onTimeout(Runnable callback) {
+            this.timeoutCallback = callback;
+        }
+
+        @Override
+        public void onError(Consumer<Throwable> callback) {
+            this.errorCallback = callback;
+        }
+    }
+}
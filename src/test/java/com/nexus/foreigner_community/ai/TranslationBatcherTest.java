@@ -0,0 +1,128 @@
+package com.nexus.foreigner_community.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TranslationBatcherTest {
+
+    private record Call(List<String> texts, String source, String target) {
+    }
+
+    private final List<Call> calls = new CopyOnWriteArrayList<>();
+    private TranslationBatcher batcher;
+
+    @AfterEach
+    void close() {
+        batcher.close();
+    }
+
+    private BatchTranslator recording(BatchTranslator translator) {
+        return (texts, source, target) -> {
+            calls.add(new Call(List.copyOf(texts), source, target));
+            return translator.translate(texts, source, target);
+        };
+    }
+
+    private static List<String> prefixed(List<String> texts, String source, String target) {
+        return texts.stream().map(text -> "[" + target + "] " + text).toList();
+    }
+
+    private static String await(CompletableFuture<String> future) throws Exception {
+        return future.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void sendsAFullBatchWithoutWaitingForTheDelay() throws Exception {
+        batcher = new TranslationBatcher(recording(TranslationBatcherTest::prefixed), 3, Duration.ofHours(1));
+
+        CompletableFuture<String> first = batcher.submit("하나", "ko", "en");
+        CompletableFuture<String> second = batcher.submit("둘", "ko", "en");
+        assertThat(first).isNotDone();
+
+        CompletableFuture<String> third = batcher.submit("셋", "ko", "en");
+        assertThat(await(first)).isEqualTo("[en] 하나");
+        assertThat(await(second)).isEqualTo("[en] 둘");
+        assertThat(await(third)).isEqualTo("[en] 셋");
+        assertThat(calls).containsExactly(new Call(List.of("하나", "둘", "셋"), "ko", "en"));
+    }
+
+    @Test
+    void sendsAPartialBatchAfterTheMaxDelay() throws Exception {
+        batcher = new TranslationBatcher(recording(TranslationBatcherTest::prefixed), 100, Duration.ofMillis(200));
+
+        long start = System.nanoTime();
+        CompletableFuture<String> first = batcher.submit("하나", "ko", "en");
+        CompletableFuture<String> second = batcher.submit("둘", "ko", "en");
+        assertThat(first).isNotDone();
+
+        assertThat(await(first)).isEqualTo("[en] 하나");
+        assertThat(await(second)).isEqualTo("[en] 둘");
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+        assertThat(calls).containsExactly(new Call(List.of("하나", "둘"), "ko", "en"));
+    }
+
+    @Test
+    void givesEachCallerItsOwnResultAndSendsDuplicatesOnce() throws Exception {
+        batcher = new TranslationBatcher(recording(TranslationBatcherTest::prefixed), 3, Duration.ofMillis(50));
+
+        List<CompletableFuture<String>> korean = batcher.submitAll(List.of("도서관", "식당", "도서관"), "ko", "en");
+        CompletableFuture<String> japanese = batcher.submit("도서관", "ko", "ja");
+
+        assertThat(await(korean.get(0))).isEqualTo("[en] 도서관");
+        assertThat(await(korean.get(1))).isEqualTo("[en] 식당");
+        assertThat(await(korean.get(2))).isEqualTo("[en] 도서관");
+        assertThat(await(japanese)).isEqualTo("[ja] 도서관");
+        assertThat(calls).containsExactlyInAnyOrder(
+                new Call(List.of("도서관", "식당"), "ko", "en"),
+                new Call(List.of("도서관"), "ko", "ja"));
+    }
+
+    @Test
+    void failsEveryCallerInTheBatchWhenTheProviderFails() {
+        IllegalStateException down = new IllegalStateException("provider down");
+        batcher = new TranslationBatcher(recording((texts, source, target) -> {
+            throw down;
+        }), 2, Duration.ofHours(1));
+
+        CompletableFuture<String> first = batcher.submit("하나", "ko", "en");
+        CompletableFuture<String> second = batcher.submit("둘", "ko", "en");
+
+        assertThatThrownBy(() -> await(first)).isInstanceOf(ExecutionException.class).hasCause(down);
+        assertThatThrownBy(() -> await(second)).isInstanceOf(ExecutionException.class).hasCause(down);
+    }
+
+    @Test
+    void failsTheBatchWhenTheProviderReturnsTheWrongNumberOfResults() {
+        batcher = new TranslationBatcher(recording((texts, source, target) -> List.of("하나뿐")),
+                2, Duration.ofHours(1));
+
+        CompletableFuture<String> first = batcher.submit("하나", "ko", "en");
+        CompletableFuture<String> second = batcher.submit("둘", "ko", "en");
+
+        assertThatThrownBy(() -> await(first)).hasCauseInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("expected 2 translations but got 1");
+        assertThatThrownBy(() -> await(second)).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void skipsTextsWhoseCallersHaveAllCancelled() throws Exception {
+        batcher = new TranslationBatcher(recording(TranslationBatcherTest::prefixed), 2, Duration.ofHours(1));
+
+        CompletableFuture<String> cancelled = batcher.submit("취소", "ko", "en");
+        cancelled.cancel(false);
+        CompletableFuture<String> kept = batcher.submit("유지", "ko", "en");
+
+        assertThat(await(kept)).isEqualTo("[en] 유지");
+        assertThat(calls).containsExactly(new Call(List.of("유지"), "ko", "en"));
+    }
+}
@@ -0,0 +1,112 @@
+package com.nexus.foreigner_community.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.nexus.foreigner_community.repository.TranslationCacheRepository;
+
+// 번역 결과는 배치 스레드에서 저장되므로 테스트 트랜잭션 없이 실제로 커밋한다.
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TranslationCacheTest {
+
+    @Autowired
+    private TranslationCacheRepository repository;
+
+    private final AtomicInteger providerCalls = new AtomicInteger();
+    private TranslationBatcher batcher;
+    private TranslationScheduler scheduler;
+    private LanguageIdentifier languageIdentifier;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        repository.deleteAll();
+        batcher = new TranslationBatcher((texts, source, target) -> {
+            providerCalls.incrementAndGet();
+            return texts.stream().map(text -> "[" + target + "] " + text).toList();
+        }, 16, Duration.ofMillis(1));
+        scheduler = new TranslationScheduler(1_000_000, 1_000_000, 1_000_000, 0.2);
+        try (InputStream in = getClass().getResourceAsStream("/langid/profiles.bin")) {
+            languageIdentifier = LanguageIdentifier.load(in, 0.25);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        batcher.close();
+        scheduler.close();
+    }
+
+    // 재시작한 것처럼 메모리 캐시가 빈 새 서비스를 만든다. DB 는 그대로다.
+    private TranslationService service(TranslationCache cache) {
+        TranslationProvider provider = new TranslationProvider() {
+            @Override
+            public String name() {
+                return "test";
+            }
+
+            @Override
+            public List<String> translate(List<String> texts, String source, String target) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public String detect(String text) {
+                return TranslationKey.AUTO;
+            }
+        };
+        return new TranslationService(provider, new TranslationMemory(cache, batcher, scheduler), cache,
+                languageIdentifier, 2000, 5);
+    }
+
+    @Test
+    void writesThroughToTheTableAndReadsBackAfterRestart() throws InterruptedException {
+        TranslationCache first = new TranslationCache(repository, 10_000);
+        assertThat(service(first).translateAllOrThrow(List.of("도서관은 어디예요?"), "ko", "en"))
+                .containsExactly("[en] 도서관은 어디예요?");
+        awaitRows(1);
+        assertThat(providerCalls.get()).isEqualTo(1);
+
+        TranslationCache restarted = new TranslationCache(repository, 10_000);
+        assertThat(restarted.size()).isZero();
+        assertThat(service(restarted).translateAllOrThrow(List.of("도서관은 어디예요?"), "ko", "en"))
+                .containsExactly("[en] 도서관은 어디예요?");
+        assertThat(providerCalls.get()).isEqualTo(1);
+        // 테이블에서 읽은 번역은 메모리에도 올라간다.
+        assertThat(restarted.size()).isEqualTo(1);
+        assertThat(restarted.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsTheFirstStoredTranslationWhenTwoWritersRace() {
+        TranslationKey key = TranslationKey.of("안녕하세요.", "ko", "en");
+        new TranslationCache(repository, 10_000).put(key, "Hello.");
+        new TranslationCache(repository, 10_000).put(key, "Hi.");
+
+        assertThat(repository.count()).isEqualTo(1);
+        assertThat(new TranslationCache(repository, 10_000).get(key)).contains("Hello.");
+        assertThat(new TranslationCache(repository, 10_000).get(TranslationKey.of("안녕하세요.", "ko", "ja")))
+                .isEmpty();
+    }
+
+    private void awaitRows(long rows) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (repository.count() < rows && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(repository.count()).isEqualTo(rows);
+    }
+}
@@ -0,0 +1,82 @@
+package com.nexus.foreigner_community.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.nexus.foreigner_community.entity.Comment;
+import com.nexus.foreigner_community.entity.ContentType;
+import com.nexus.foreigner_community.entity.Post;
+import com.nexus.foreigner_community.entity.PostTranslation;
+import com.nexus.foreigner_community.repository.PostTranslationRepository;
+import com.nexus.foreigner_community.repository.TranslationJobRepository;
+import com.nexus.foreigner_community.service.PostService;
+import com.nexus.foreigner_community.service.PostTranslationService;
+
+// 주기 처리는 시작할 때 한 번만 돌도록 늦추고 process 를 직접 부른다.
+@SpringBootTest(properties = {
+        "translate.provider=stub",
+        "translate.stub.embedded=true",
+        "translate.stub.port=18090",
+        "translate.stub.latency-ms=0",
+        "translate.pipeline.poll-ms=3600000"})
+class TranslationPipelineTest {
+
+    @Autowired
+    private TranslationPipeline pipeline;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostTranslationService postTranslationService;
+
+    @Autowired
+    private PostTranslationRepository postTranslationRepository;
+
+    @Autowired
+    private TranslationJobRepository jobRepository;
+
+    @Test
+    void storesTheSourceHashAndHidesTranslationsOfAnOlderVersion() {
+        Post post = postService.create("free", "도서관 위치", "도서관은 몇 시에 열어요?", null);
+        pipeline.process(ContentType.POST, post.getId());
+
+        PostTranslation translation = postTranslationService.find(ContentType.POST, post.getId(), "en").orElseThrow();
+        assertThat(translation.getSourceHash())
+                .isEqualTo(PostTranslationService.sourceHash("도서관 위치", "도서관은 몇 시에 열어요?"));
+        assertThat(translation.getTitle()).isEqualTo("[en] 도서관 위치");
+        assertThat(postTranslationService.findCurrent(post, "en")).isPresent();
+
+        postService.modify(post, "도서관 위치", "도서관은 몇 시에 닫아요?");
+        assertThat(postTranslationService.findCurrent(post, "en")).isEmpty();
+
+        pipeline.process(ContentType.POST, post.getId());
+        assertThat(postTranslationService.findCurrent(post, "en"))
+                .hasValueSatisfying(current -> assertThat(current.getContent()).isEqualTo("[en] 도서관은 몇 시에 닫아요?"));
+    }
+
+    @Test
+    void translatesCommentsAndDeletesEverythingWithThePost() {
+        Post post = postService.create("free", "기숙사", "기숙사 신청은 언제예요?", null);
+        Comment comment = postService.addComment(post, "다음 주 월요일부터예요.", null);
+        pipeline.process(ContentType.POST, post.getId());
+        pipeline.process(ContentType.COMMENT, comment.getId());
+
+        assertThat(postTranslationService.findCurrent(List.of(comment), "en"))
+                .hasEntrySatisfying(comment.getId(),
+                        translation -> assertThat(translation.getContent()).isEqualTo("[en] 다음 주 월요일부터예요."));
+
+        postService.delete(postService.getPost(post.getId()));
+        assertThat(postTranslationRepository.findByContentTypeAndContentIdInAndLanguage(
+                ContentType.POST, List.of(post.getId()), "en")).isEmpty();
+        assertThat(postTranslationRepository.findByContentTypeAndContentIdInAndLanguage(
+                ContentType.COMMENT, List.of(comment.getId()), "en")).isEmpty();
+        assertThat(jobRepository.findByContentTypeAndContentId(ContentType.POST, post.getId())).isEmpty();
+        assertThat(jobRepository.findByContentTypeAndContentId(ContentType.COMMENT, comment.getId())).isEmpty();
+    }
+}
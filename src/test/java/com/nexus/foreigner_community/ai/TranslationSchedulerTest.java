@@ -0,0 +1,101 @@
+package com.nexus.foreigner_community.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.nexus.foreigner_community.ai.TranslationRequester.Priority;
+
+class TranslationSchedulerTest {
+
+    private final long[] now = {0};
+    private final Clock wallClock = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+    private TranslationScheduler scheduler;
+
+    @AfterEach
+    void close() {
+        scheduler.close();
+    }
+
+    private void advanceMillis(long millis) {
+        now[0] += millis * 1_000_000;
+        scheduler.dispatch();
+    }
+
+    @Test
+    void interactiveGoesFirstAndUsersTakeTurns() {
+        scheduler = new TranslationScheduler(100, 100, 10_000, 0.2, () -> now[0], wallClock);
+        assertThat(scheduler.acquire(TranslationRequester.interactive("a"), 100)).isDone();
+
+        CompletableFuture<Void> background = scheduler.acquire(TranslationRequester.BACKGROUND, 50);
+        CompletableFuture<Void> a1 = scheduler.acquire(TranslationRequester.interactive("a"), 50);
+        CompletableFuture<Void> a2 = scheduler.acquire(TranslationRequester.interactive("a"), 50);
+        CompletableFuture<Void> b1 = scheduler.acquire(TranslationRequester.interactive("b"), 50);
+
+        advanceMillis(500);
+        assertThat(a1).isDone();
+        assertThat(b1).isNotDone();
+
+        advanceMillis(500);
+        assertThat(b1).isDone();
+        assertThat(a2).isNotDone();
+
+        advanceMillis(500);
+        assertThat(a2).isDone();
+        assertThat(background).isNotDone();
+
+        advanceMillis(500);
+        assertThat(background).isDone();
+
+        TranslationScheduler.Stats stats = scheduler.stats();
+        assertThat(stats.spentToday()).isEqualTo(300);
+        assertThat(stats.classes().get(Priority.INTERACTIVE).granted()).isEqualTo(4);
+        assertThat(stats.classes().get(Priority.BACKGROUND).maxWaitNanos()).isEqualTo(2_000_000_000L);
+    }
+
+    @Test
+    void backgroundWaitsWhenBudgetIsTightButInteractiveProceeds() {
+        scheduler = new TranslationScheduler(1_000_000, 1_000_000, 1000, 0.5, () -> now[0], wallClock);
+
+        assertThat(scheduler.acquire(TranslationRequester.BACKGROUND, 400)).isDone();
+        CompletableFuture<Void> deferred = scheduler.acquire(TranslationRequester.BACKGROUND, 200);
+        assertThat(deferred).isNotDone();
+        assertThat(scheduler.acquire(TranslationRequester.interactive("x"), 500)).isDone();
+
+        CompletableFuture<Void> overBudget = scheduler.acquire(TranslationRequester.interactive("x"), 200);
+        assertThat(overBudget).isCompletedExceptionally();
+        assertThat(deferred).isNotDone();
+        assertThat(scheduler.stats().rejected()).isEqualTo(1);
+    }
+
+    @Test
+    void cancelledRequestsDoNotSpendBudget() {
+        scheduler = new TranslationScheduler(100, 100, 10_000, 0.2, () -> now[0], wallClock);
+        scheduler.acquire(TranslationRequester.interactive("a"), 100);
+        CompletableFuture<Void> cancelled = scheduler.acquire(TranslationRequester.interactive("a"), 50);
+        cancelled.cancel(false);
+
+        advanceMillis(1000);
+        assertThat(scheduler.stats().spentToday()).isEqualTo(100);
+        assertThat(scheduler.stats().classes().get(Priority.INTERACTIVE).queueDepth()).isZero();
+    }
+
+    @Test
+    void wakesByItselfWhenTheBucketHasRefilled() throws Exception {
+        scheduler = new TranslationScheduler(1000, 100, 10_000, 0.2);
+        assertThat(scheduler.acquire(TranslationRequester.interactive("a"), 100)).isDone();
+        CompletableFuture<Void> waiting = scheduler.acquire(TranslationRequester.BACKGROUND, 50);
+        assertThat(waiting).isNotDone();
+
+        // 아무도 dispatch 를 부르지 않아도 버킷이 50 글자만큼 차는 50ms 뒤에 허가된다.
+        waiting.get(2, TimeUnit.SECONDS);
+        assertThat(scheduler.stats().classes().get(Priority.BACKGROUND).granted()).isEqualTo(1);
+    }
+}
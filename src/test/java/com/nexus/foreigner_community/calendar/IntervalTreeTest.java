@@ -0,0 +1,103 @@
+package com.nexus.foreigner_community.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class IntervalTreeTest {
+
+    private static final long HOUR = 3_600_000;
+
+    @Test
+    void overlappingMatchesAScanAfterInsertsAndRemoves() {
+        Random random = new Random(3);
+        List<EventInterval> live = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            live.add(randomInterval(i, random));
+        }
+        IntervalTree bulk = IntervalTree.of(live);
+        IntervalTree incremental = IntervalTree.EMPTY;
+        for (EventInterval interval : live) {
+            incremental = incremental.insert(interval);
+        }
+        for (int i = 0; i < 2_000; i++) {
+            EventInterval gone = live.remove(random.nextInt(live.size()));
+            bulk = bulk.remove(gone);
+            incremental = incremental.remove(gone);
+            EventInterval added = randomInterval(10_000 + i, random);
+            live.add(added);
+            bulk = bulk.insert(added);
+            incremental = incremental.insert(added);
+        }
+
+        assertThat(bulk.size()).isEqualTo(live.size());
+        assertThat(incremental.size()).isEqualTo(live.size());
+        for (int q = 0; q < 200; q++) {
+            long from = random.nextInt(24 * 365) * HOUR;
+            long to = from + (1 + random.nextInt(24 * 7)) * HOUR;
+            List<EventInterval> expected = live.stream().filter(interval -> interval.overlaps(from, to))
+                    .sorted(Comparator.comparingLong(EventInterval::start).thenComparingLong(EventInterval::id))
+                    .toList();
+
+            assertThat(collect(bulk, from, to)).isEqualTo(expected);
+            assertThat(collect(incremental, from, to)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void oldTreeIsUnchangedByLaterWrites() {
+        EventInterval concert = new EventInterval(1, "concert", "N14", Double.NaN, Double.NaN, 10 * HOUR, 12 * HOUR);
+        IntervalTree before = IntervalTree.EMPTY.insert(concert);
+
+        IntervalTree after = before.remove(concert)
+                .insert(new EventInterval(2, "fair", "E8", Double.NaN, Double.NaN, 9 * HOUR, 18 * HOUR));
+
+        assertThat(collect(before, 11 * HOUR, 11 * HOUR + 1)).containsExactly(concert);
+        assertThat(collect(after, 11 * HOUR, 11 * HOUR + 1)).hasSize(1);
+        assertThat(collect(after, 12 * HOUR, 13 * HOUR).get(0).id()).isEqualTo(2L);
+    }
+
+    @Test
+    void calendarAnswersPerBuildingAndFollowsUpdates() {
+        EventCalendar calendar = new EventCalendar();
+        calendar.load(List.of(
+                new EventInterval(1, "세미나", "N14", Double.NaN, Double.NaN, 13 * HOUR, 15 * HOUR),
+                new EventInterval(2, "축제", null, 36.6285, 127.4563, 10 * HOUR, 22 * HOUR),
+                new EventInterval(3, "스터디", "N14", Double.NaN, Double.NaN, 16 * HOUR, 17 * HOUR)));
+
+        assertThat(ids(calendar.happeningAt(14 * HOUR, null, 10))).containsExactly(2L, 1L);
+        assertThat(ids(calendar.happeningAt(14 * HOUR, "N14", 10))).containsExactly(1L);
+        assertThat(ids(calendar.overlapping(12 * HOUR, 18 * HOUR, "N14", 10))).containsExactly(1L, 3L);
+        assertThat(ids(calendar.overlapping(12 * HOUR, 18 * HOUR, null, 2))).containsExactly(2L, 1L);
+
+        calendar.put(new EventInterval(1, "세미나", "E8", Double.NaN, Double.NaN, 13 * HOUR, 15 * HOUR));
+        calendar.remove(3);
+
+        assertThat(calendar.overlapping(12 * HOUR, 18 * HOUR, "N14", 10)).isEmpty();
+        assertThat(ids(calendar.overlapping(12 * HOUR, 18 * HOUR, "E8", 10))).containsExactly(1L);
+        assertThat(calendar.size()).isEqualTo(2);
+    }
+
+    private static EventInterval randomInterval(long id, Random random) {
+        long start = random.nextInt(24 * 365) * HOUR + random.nextInt(60) * 60_000L;
+        // 대부분 몇 시간짜리이고, 가끔 몇 주짜리 전시가 섞인다.
+        long length = random.nextInt(20) == 0 ? (1 + random.nextInt(24 * 30)) * HOUR : (1 + random.nextInt(4)) * HOUR;
+        return new EventInterval(id, "event " + id, "B" + random.nextInt(50), Double.NaN, Double.NaN, start,
+                start + length);
+    }
+
+    private static List<EventInterval> collect(IntervalTree tree, long from, long to) {
+        List<EventInterval> found = new ArrayList<>();
+        tree.overlapping(from, to, found::add);
+        return found;
+    }
+
+    private static List<Long> ids(List<EventInterval> intervals) {
+        return intervals.stream().map(EventInterval::id).toList();
+    }
+}
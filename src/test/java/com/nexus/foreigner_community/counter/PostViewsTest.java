@@ -0,0 +1,113 @@
+package com.nexus.foreigner_community.counter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.nexus.foreigner_community.entity.Post;
+import com.nexus.foreigner_community.repository.PostRepository;
+
+@DataJpaTest
+class PostViewsTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    private final List<Object> events = new ArrayList<>();
+    private boolean failNextFlush;
+    private JdbcTemplate jdbcTemplate;
+    private PostViews postViews;
+
+    @BeforeEach
+    void setUp() {
+        // 다음 배치 UPDATE 하나만 실패시킬 수 있는 JdbcTemplate.
+        jdbcTemplate = new JdbcTemplate(dataSource) {
+            @Override
+            public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+                if (failNextFlush) {
+                    failNextFlush = false;
+                    throw new DataAccessResourceFailureException("injected failure");
+                }
+                return super.batchUpdate(sql, batchArgs);
+            }
+        };
+        postViews = new PostViews(jdbcTemplate, events::add, 4);
+    }
+
+    private long post() {
+        Post post = new Post();
+        post.setCategory("free");
+        post.setTitle("조회수 테스트");
+        post.setContent("내용");
+        post.setCreatedAt(LocalDateTime.now());
+        return postRepository.saveAndFlush(post).getId();
+    }
+
+    // 엔티티의 views 는 영속성 컨텍스트에 남은 옛 값일 수 있으므로 테이블을 직접 읽는다.
+    private long views(long postId) {
+        return jdbcTemplate.queryForObject("select views from post where id = ?", Long.class, postId);
+    }
+
+    @Test
+    void flushAddsCountedViewsToThePostRows() {
+        long hot = post();
+        long cold = post();
+        for (int i = 0; i < 5; i++) {
+            postViews.increment(hot);
+        }
+        postViews.increment(cold);
+        assertThat(postViews.pending(hot)).isEqualTo(5);
+
+        postViews.flush();
+        assertThat(views(hot)).isEqualTo(5);
+        assertThat(views(cold)).isEqualTo(1);
+        assertThat(postViews.pending(hot)).isZero();
+        assertThat(events).containsExactly(new PostViewsFlushedEvent(Map.of(hot, 5L, cold, 1L)));
+
+        postViews.increment(hot);
+        postViews.flush();
+        assertThat(views(hot)).isEqualTo(6);
+    }
+
+    @Test
+    void failedFlushKeepsTheViewsForTheNextRound() {
+        long postId = post();
+        postViews.increment(postId);
+        postViews.increment(postId);
+
+        failNextFlush = true;
+        postViews.flush();
+        assertThat(views(postId)).isZero();
+        assertThat(postViews.pending(postId)).isEqualTo(2);
+        assertThat(events).isEmpty();
+
+        postViews.increment(postId);
+        postViews.flush();
+        assertThat(views(postId)).isEqualTo(3);
+        assertThat(postViews.pending(postId)).isZero();
+    }
+
+    @Test
+    void shutdownFlushesWhatIsLeft() {
+        long postId = post();
+        postViews.increment(postId);
+
+        postViews.shutdown();
+        assertThat(views(postId)).isEqualTo(1);
+    }
+}
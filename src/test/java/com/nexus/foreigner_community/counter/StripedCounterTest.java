@@ -0,0 +1,74 @@
+package com.nexus.foreigner_community.counter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+class StripedCounterTest {
+
+    private static final int THREADS = 16;
+    private static final int VIEWS_PER_THREAD = 200_000;
+    private static final int POSTS = 1_000;
+
+    @Test
+    void drainsWhileCountingWithoutLosingOrDoublingAnyView() throws InterruptedException {
+        StripedCounter counter = new StripedCounter(64);
+        long[][] expected = new long[THREADS][POSTS];
+        CountDownLatch done = new CountDownLatch(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            Thread.ofPlatform().start(() -> {
+                Random random = new Random(thread);
+                for (int i = 0; i < VIEWS_PER_THREAD; i++) {
+                    // 절반은 인기 글 하나에 몰린다.
+                    int post = random.nextBoolean() ? 0 : random.nextInt(POSTS);
+                    counter.increment(post);
+                    expected[thread][post]++;
+                }
+                done.countDown();
+            });
+        }
+        // 주기적인 반영을 흉내 내서 세는 중에 계속 꺼낸다.
+        Map<Long, Long> flushed = new HashMap<>();
+        AtomicBoolean stop = new AtomicBoolean();
+        Thread flusher = Thread.ofPlatform().start(() -> {
+            while (!stop.get()) {
+                counter.drain().forEach((post, delta) -> flushed.merge(post, delta, Long::sum));
+            }
+        });
+        done.await();
+        stop.set(true);
+        flusher.join();
+        counter.drain().forEach((post, delta) -> flushed.merge(post, delta, Long::sum));
+
+        long total = 0;
+        for (int post = 0; post < POSTS; post++) {
+            long views = 0;
+            for (long[] perThread : expected) {
+                views += perThread[post];
+            }
+            assertThat(flushed.getOrDefault((long) post, 0L)).isEqualTo(views);
+            total += views;
+        }
+        assertThat(total).isEqualTo((long) THREADS * VIEWS_PER_THREAD);
+        assertThat(counter.drain()).isEmpty();
+    }
+
+    @Test
+    void pendingCountsUntilDrained() {
+        StripedCounter counter = new StripedCounter(8);
+        counter.increment(7);
+        counter.add(7, 4);
+        counter.increment(9);
+
+        assertThat(counter.pending(7)).isEqualTo(5L);
+        assertThat(counter.drain()).isEqualTo(Map.of(7L, 5L, 9L, 1L));
+        assertThat(counter.pending(7)).isEqualTo(0L);
+    }
+}
@@ -0,0 +1,31 @@
+package com.nexus.foreigner_community.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+class PostCursorTest {
+
+    @Test
+    void roundTripsThroughAnUrlSafeString() {
+        PostCursor cursor = new PostCursor("맛집/카페", LocalDateTime.of(2025, 5, 1, 12, 30, 15, 123_456_000), 42);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+        assertThat(PostCursor.decode(encoded)).isEqualTo(cursor);
+        assertThat(PostCursor.decode(new PostCursor(null, cursor.createdAt(), 7).encode()).category()).isNull();
+        assertThat(PostCursor.decode(new PostCursor("잡담", null, 7).encode())).isEqualTo(new PostCursor("잡담", null, 7));
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        assertThatThrownBy(() -> PostCursor.decode("not a cursor!")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PostCursor.decode("YWJj")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PostCursor.decode(new PostCursor("잡담", LocalDateTime.of(2025, 1, 1, 9, 0), 1).encode()
+                .substring(2))).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,189 @@
+package com.nexus.foreigner_community.live;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SubscriptionGridTest {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    // 받은 항목을 모아 두는 구독. blocker 가 있으면 첫 전송에서 풀릴 때까지 막힌다 (느린 소비자).
+    private static final class RecordingSink implements SubscriptionSink {
+        final List<GeoItem> received = new ArrayList<>();
+        final CountDownLatch blocker;
+        volatile String closedReason;
+
+        RecordingSink(CountDownLatch blocker) {
+            this.blocker = blocker;
+        }
+
+        @Override
+        public void send(GeoItem item) {
+            if (blocker != null) {
+                try {
+                    blocker.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            synchronized (received) {
+                received.add(item);
+            }
+        }
+
+        @Override
+        public void close(String reason) {
+            closedReason = reason;
+        }
+
+        int count() {
+            synchronized (received) {
+                return received.size();
+            }
+        }
+    }
+
+    private static GeoItem item(int id, double lat, double lon) {
+        return new GeoItem("event", String.valueOf(id), lat, lon, "item " + id, null, Instant.EPOCH);
+    }
+
+    @Test
+    void deliversOnlyToSubscribersWhoseAreaContainsTheItem() throws InterruptedException {
+        SubscriptionGrid grid = new SubscriptionGrid(0.001, 100, 16, executor);
+        RecordingSink library = new RecordingSink(null);
+        RecordingSink union = new RecordingSink(null);
+        grid.subscribe(36.6280, 127.4575, 36.6295, 127.4590, library);
+        grid.subscribe(36.6270, 127.4580, 36.6280, 127.4592, union);
+
+        assertThat(grid.publish(item(1, 36.6287, 127.4581))).isEqualTo(1);
+        assertThat(grid.publish(item(2, 36.6276, 127.4586))).isEqualTo(1);
+        assertThat(grid.publish(item(3, 36.6400, 127.4700))).isZero();
+        awaitCount(library, 1);
+        awaitCount(union, 1);
+
+        assertThat(library.received).extracting(GeoItem::id).containsExactly("1");
+        assertThat(union.received).extracting(GeoItem::id).containsExactly("2");
+    }
+
+    @Test
+    void rejectsAreasCoveringTooManyCells() {
+        SubscriptionGrid grid = new SubscriptionGrid(0.001, 100, 16, executor);
+
+        assertThatThrownBy(() -> grid.subscribe(36.60, 127.40, 36.70, 127.50, new RecordingSink(null)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsHugeAndNonFiniteAreasWithoutOverflowing() {
+        SubscriptionGrid grid = new SubscriptionGrid(0.001, 2500, 16, executor);
+        RecordingSink sink = new RecordingSink(null);
+
+        assertThatThrownBy(() -> grid.subscribe(-1e9, -1e9, 1e9, 1e9, sink))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> grid.subscribe(Double.NEGATIVE_INFINITY, 127.45, Double.POSITIVE_INFINITY, 127.46,
+                sink)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> grid.subscribe(Double.NaN, 127.45, 36.63, 127.46, sink))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> grid.subscribe(-90, -180, 90, 180, sink))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(grid.size()).isZero();
+    }
+
+    @Test
+    void closingRemovesTheSubscriptionFromEveryCell() {
+        SubscriptionGrid grid = new SubscriptionGrid(0.001, 100, 16, executor);
+        Subscription subscription = grid.subscribe(36.6280, 127.4575, 36.6295, 127.4590, new RecordingSink(null));
+
+        subscription.close("bye");
+
+        assertThat(grid.size()).isZero();
+        assertThat(grid.candidates(36.6287, 127.4581)).isZero();
+        assertThat(grid.publish(item(1, 36.6287, 127.4581))).isZero();
+    }
+
+    @Test
+    void tenThousandSubscribersWithSlowConsumersEvicted() throws InterruptedException {
+        int subscribers = 10_000;
+        int items = 2_000;
+        int capacity = 1024;
+        SubscriptionGrid grid = new SubscriptionGrid(0.001, 400, capacity, executor);
+        SplittableRandom random = new SplittableRandom(17);
+        CountDownLatch never = new CountDownLatch(1);
+
+        // 캠퍼스(약 1.4km x 1.3km) 안의 100~300m 영역. 1% 는 캠퍼스 전체를 구독했지만 전송이 막혀 있는 느린 소비자.
+        List<double[]> areas = new ArrayList<>();
+        List<RecordingSink> sinks = new ArrayList<>();
+        List<Subscription> subscriptions = new ArrayList<>();
+        for (int i = 0; i < subscribers; i++) {
+            boolean slow = i % 100 == 0;
+            double south = 36.620 + random.nextDouble() * 0.010;
+            double west = 127.450 + random.nextDouble() * 0.012;
+            double[] area = slow ? new double[] {36.620, 127.450, 36.633, 127.465}
+                    : new double[] {south, west, south + 0.001 + random.nextDouble() * 0.002,
+                            west + 0.001 + random.nextDouble() * 0.002};
+            RecordingSink sink = new RecordingSink(slow ? never : null);
+            areas.add(area);
+            sinks.add(sink);
+            subscriptions.add(grid.subscribe(area[0], area[1], area[2], area[3], sink));
+        }
+
+        List<GeoItem> published = new ArrayList<>();
+        long start = System.nanoTime();
+        long checked = 0;
+        for (int i = 0; i < items; i++) {
+            GeoItem item = item(i, 36.620 + random.nextDouble() * 0.013, 127.450 + random.nextDouble() * 0.015);
+            checked += grid.candidates(item.lat(), item.lon());
+            grid.publish(item);
+            published.add(item);
+        }
+        long publishMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // 칸 색인 덕분에 발행 한 번에 전체의 일부만 확인한다.
+        assertThat(checked / items).isLessThan(subscribers / 10);
+        assertThat(publishMillis).isLessThan(10_000);
+
+        for (int i = 0; i < subscribers; i++) {
+            double[] area = areas.get(i);
+            List<String> expected = published.stream()
+                    .filter(item -> item.lat() >= area[0] && item.lat() <= area[2]
+                            && item.lon() >= area[1] && item.lon() <= area[3])
+                    .map(GeoItem::id)
+                    .toList();
+            RecordingSink sink = sinks.get(i);
+            if (sink.blocker != null) {
+                // 첫 항목에서 막힌 뒤 큐가 넘쳐 끊겼다.
+                assertThat(subscriptions.get(i).isClosed()).isTrue();
+            } else {
+                awaitCount(sink, expected.size());
+                assertThat(sink.received).extracting(GeoItem::id).containsExactlyElementsOf(expected);
+                assertThat(subscriptions.get(i).isClosed()).isFalse();
+            }
+        }
+        never.countDown();
+    }
+
+    private static void awaitCount(RecordingSink sink, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (sink.count() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(sink.count()).isEqualTo(expected);
+    }
+}
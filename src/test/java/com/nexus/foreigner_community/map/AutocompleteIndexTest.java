@@ -0,0 +1,63 @@
+package com.nexus.foreigner_community.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class AutocompleteIndexTest {
+
+    private static Poi poi(long id, String nameKo, String nameEn, List<String> aliases, int popularity) {
+        return new Poi(id, PoiType.BUILDING, "B" + id, nameKo, nameEn, 36.6, 127.4, 0, aliases, popularity);
+    }
+
+    private final AutocompleteIndex index = AutocompleteIndex.build(List.of(
+            poi(1, "중앙도서관", "Main Library", List.of("도서관"), 100),
+            poi(2, "도서관 카페", "Library Cafe", List.of("카페"), 60),
+            poi(3, "학생회관", "Student Union", List.of("학관"), 95),
+            poi(4, "학생회관 식당", "Student Union Cafeteria", List.of("학식"), 88),
+            poi(5, "전자정보대학", "College of Electrical and Computer Engineering", List.of("전정대"), 80)));
+
+    private List<Long> ids(String query) {
+        return index.suggest(query, 10).stream().map(Poi::id).toList();
+    }
+
+    @Test
+    void romanizesKorean() {
+        assertThat(Hangul.romanize("중앙도서관")).isEqualTo("jungangdoseogwan");
+        assertThat(Hangul.romanize("학생회관")).isEqualTo("haksaenghoegwan");
+        assertThat(Hangul.romanize("국제교류본부")).isEqualTo("gukjegyoryubonbu");
+        assertThat(Hangul.decompose("관")).isEqualTo("ㄱㅗㅏㄴ");
+        assertThat(Hangul.decompose("ㄺ")).isEqualTo("ㄹㄱ");
+    }
+
+    @Test
+    void matchesHalfTypedSyllables() {
+        // "도서관"을 치는 중: 도석 → 도서고 → 도서과
+        assertThat(ids("도석")).containsExactly(1L, 2L);
+        assertThat(ids("도서고")).containsExactly(1L, 2L);
+        assertThat(ids("도서과")).containsExactly(1L, 2L);
+        assertThat(ids("ㅎ")).containsExactly(3L, 4L);
+    }
+
+    @Test
+    void matchesRomanizedAndEnglishNames() {
+        assertThat(ids("jungang")).containsExactly(1L);
+        assertThat(ids("haksaeng")).containsExactly(3L, 4L);
+        assertThat(ids("Main Li")).containsExactly(1L);
+        assertThat(ids("library")).containsExactly(1L, 2L);
+        assertThat(ids("cafe")).containsExactly(4L, 2L);
+        assertThat(ids("electrical")).containsExactly(5L);
+        assertThat(ids("nothing here")).isEmpty();
+    }
+
+    @Test
+    void ranksByPopularityAndLimits() {
+        assertThat(ids("")).containsExactly(1L, 3L, 4L, 5L, 2L);
+        assertThat(index.suggest("", 2)).extracting(Poi::id).containsExactly(1L, 3L);
+        assertThat(ids("학")).containsExactly(3L, 4L);
+        assertThat(index.suggest("", 0)).isEmpty();
+        assertThat(index.suggest("학", -1)).isEmpty();
+    }
+}
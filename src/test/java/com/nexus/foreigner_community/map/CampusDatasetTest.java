@@ -0,0 +1,162 @@
+package com.nexus.foreigner_community.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CampusDatasetTest {
+
+    @TempDir
+    Path dir;
+
+    private final Poi library = new Poi(2, PoiType.BUILDING, "N14", "중앙도서관", "Main Library", 36.6287, 127.4581, 0,
+            List.of("도서관", "lib"), 100);
+    private final Poi atm = new Poi(11, PoiType.ATM, "N14", "중앙도서관 ATM", "Library ATM", 36.62868, 127.45815, 1,
+            List.of(), 40);
+    private final Poi cafe = new Poi(7, PoiType.CAFE, "N13", "학생회관 카페", null, 36.6276, 127.4586, 1,
+            List.of("도서관"), 60);
+
+    private FootpathGraph graph() {
+        FootpathGraph.Builder builder = FootpathGraph.builder();
+        int a = builder.addNode(36.6287, 127.4580, "N14");
+        int b = builder.addNode(36.6281, 127.4583, null);
+        int c = builder.addNode(36.6276, 127.4585, "N13");
+        builder.addEdge(a, b, EdgeKind.PATH);
+        builder.addEdge(b, c, EdgeKind.STAIRS, 80);
+        return builder.build();
+    }
+
+    private Path write(FootpathGraph graph) throws IOException {
+        Path file = dir.resolve("campus.dataset");
+        CampusDatasetWriter.write(List.of(atm, library, cafe), graph, file);
+        return file;
+    }
+
+    @Test
+    void roundTripsPoisAndGraph() throws IOException {
+        FootpathGraph graph = graph();
+        CampusDataset dataset = CampusDataset.open(write(graph));
+
+        assertThat(dataset.pois()).containsExactly(library, cafe, atm);
+        FootpathGraph loaded = dataset.graph();
+        assertThat(loaded.nodeCount()).isEqualTo(graph.nodeCount());
+        assertThat(loaded.edgeCount()).isEqualTo(graph.edgeCount());
+        for (int v = 0; v < graph.nodeCount(); v++) {
+            assertThat(loaded.lat(v)).isEqualTo(graph.lat(v));
+            assertThat(loaded.building(v)).isEqualTo(graph.building(v));
+            assertThat(loaded.firstEdge(v)).isEqualTo(graph.firstEdge(v));
+        }
+        for (int e = 0; e < graph.edgeCount(); e++) {
+            assertThat(loaded.target(e)).isEqualTo(graph.target(e));
+            assertThat(loaded.length(e)).isEqualTo(graph.length(e));
+            assertThat(loaded.kind(e)).isEqualTo(graph.kind(e));
+        }
+        assertThat(loaded.entrances()).containsOnlyKeys("N14", "N13");
+    }
+
+    @Test
+    void answersLookupsFromTheMappedColumns() throws IOException {
+        CampusDataset dataset = CampusDataset.open(write(graph()));
+
+        int index = dataset.findPoi(11);
+        assertThat(dataset.poiNameEn(index)).isEqualTo("Library ATM");
+        assertThat(dataset.poiType(index)).isEqualTo(PoiType.ATM);
+        assertThat(dataset.poiNameEn(dataset.findPoi(7))).isNull();
+        assertThat(dataset.findPoi(3)).isEqualTo(-1);
+
+        assertThat(ids(dataset, dataset.findByName("main  LIBRARY"))).containsExactly(2L);
+        assertThat(ids(dataset, dataset.findByName("도서관"))).containsExactly(2L, 7L);
+        assertThat(ids(dataset, dataset.findByName("n14"))).containsExactly(2L, 11L);
+        assertThat(dataset.findByName("도서")).isEmpty();
+    }
+
+    @Test
+    void campusMapLooksUpThroughTheDatasetUntilReplaced() throws IOException {
+        CampusDataset dataset = CampusDataset.open(write(graph()));
+        CampusMap map = new CampusMap(dataset);
+
+        assertThat(map.find(11)).contains(atm);
+        assertThat(map.find(3)).isEmpty();
+        assertThat(map.findByName("도서관")).containsExactly(library, cafe);
+
+        map.replace(List.of(library, atm));
+        assertThat(map.find(7)).isEmpty();
+        assertThat(map.findByName("도서관")).containsExactly(library);
+        assertThat(map.findByName("n14")).containsExactly(library, atm);
+    }
+
+    @Test
+    void readsStoredIndexesThatAnswerLikeRebuiltOnes() throws IOException {
+        FootpathGraph graph = graph();
+        CampusDataset dataset = CampusDataset.open(write(graph));
+        assertThat(dataset.spatialIndex()).isPresent();
+
+        CampusMap stored = new CampusMap(dataset);
+        CampusMap rebuilt = new CampusMap(List.of(atm, library, cafe));
+        assertThat(stored.nearest(36.6287, 127.4581, 3, Set.of(), 1000))
+                .isEqualTo(rebuilt.nearest(36.6287, 127.4581, 3, Set.of(), 1000));
+        assertThat(stored.nearest(36.6287, 127.4581, 3, Set.of(PoiType.CAFE), 1000)).extracting(NearbyPoi::poi)
+                .containsExactly(cafe);
+        assertThat(stored.within(36.6280, 127.4580, 36.6290, 127.4590, Set.of(), 10))
+                .containsExactlyInAnyOrder(library, atm);
+        assertThat(stored.ofType(PoiType.BUILDING)).containsExactly(library);
+
+        AutocompleteIndex autocomplete = dataset.autocomplete().orElseThrow();
+        AutocompleteIndex expected = AutocompleteIndex.build(List.of(atm, library, cafe));
+        for (String query : List.of("", "도서", "ㄷ", "lib", "library atm", "n1", "카페", "x")) {
+            assertThat(autocomplete.suggest(query, 10)).isEqualTo(expected.suggest(query, 10));
+        }
+
+        RouteEngine engine = new RouteEngine(dataset.graph(), CampusDatasetWriter.DEFAULT_LANDMARKS,
+                dataset.landmarks());
+        RouteEngine recomputed = new RouteEngine(graph, CampusDatasetWriter.DEFAULT_LANDMARKS);
+        for (RoutingProfile profile : RoutingProfile.values()) {
+            assertThat(engine.landmarks(profile).distances())
+                    .containsExactly(recomputed.landmarks(profile).distances());
+            assertThat(engine.routeBetweenBuildings("N14", "N13", profile))
+                    .usingRecursiveComparison().isEqualTo(recomputed.routeBetweenBuildings("N14", "N13", profile));
+        }
+    }
+
+    @Test
+    void bundleSnapshotsLeaveOutTheIndexSections() throws IOException {
+        Path file = dir.resolve("bundle.dataset");
+        Files.write(file, CampusDatasetWriter.toBytes(List.of(atm, library, cafe), graph()));
+        CampusDataset dataset = CampusDataset.open(file);
+
+        assertThat(dataset.spatialIndex()).isEmpty();
+        assertThat(dataset.autocomplete()).isEmpty();
+        assertThat(dataset.landmarks()).isEmpty();
+        // 색인 섹션이 없으면 CampusMap 이 R-tree 를 직접 만든다.
+        assertThat(new CampusMap(dataset).nearest(36.6276, 127.4586, 1, Set.of(), 1000)).extracting(NearbyPoi::poi)
+                .containsExactly(cafe);
+    }
+
+    @Test
+    void rejectsCorruptedFiles() throws IOException {
+        Path file = write(graph());
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 5] ^= 0x10;
+        Path corrupted = dir.resolve("corrupted.dataset");
+        Files.write(corrupted, bytes);
+
+        assertThatThrownBy(() -> CampusDataset.open(corrupted)).isInstanceOf(IOException.class)
+                .hasMessageContaining("checksum");
+    }
+
+    private static long[] ids(CampusDataset dataset, int[] pois) {
+        long[] ids = new long[pois.length];
+        for (int i = 0; i < pois.length; i++) {
+            ids[i] = dataset.poiId(pois[i]);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,105 @@
+package com.nexus.foreigner_community.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class HilbertRTreeTest {
+
+    private static final int N = 20_000;
+
+    private final Random random = new Random(42);
+    private final double[] xs = new double[N];
+    private final double[] ys = new double[N];
+
+    HilbertRTreeTest() {
+        // 2km x 2km 캠퍼스에 일부는 한 점에 겹치게 둔다.
+        for (int i = 0; i < N; i++) {
+            xs[i] = i % 100 == 0 ? 500 : random.nextDouble() * 2000;
+            ys[i] = i % 100 == 0 ? 500 : random.nextDouble() * 2000;
+        }
+    }
+
+    @Test
+    void nearestMatchesBruteForce() {
+        HilbertRTree tree = HilbertRTree.build(xs, ys);
+        for (int q = 0; q < 500; q++) {
+            double x = random.nextDouble() * 2200 - 100;
+            double y = random.nextDouble() * 2200 - 100;
+            int k = 1 + random.nextInt(30);
+
+            int[] found = tree.nearest(x, y, k, Double.POSITIVE_INFINITY, null);
+            double[] expected = IntStream.range(0, N)
+                    .mapToDouble(i -> Math.hypot(xs[i] - x, ys[i] - y))
+                    .sorted()
+                    .limit(k)
+                    .toArray();
+
+            // 거리가 같은 점은 순서가 달라질 수 있으므로 거리 목록으로 비교한다.
+            assertThat(Arrays.stream(found).mapToDouble(i -> Math.hypot(xs[i] - x, ys[i] - y)).toArray())
+                    .containsExactly(expected);
+            assertThat(Arrays.stream(found).distinct().count()).isEqualTo(k);
+        }
+    }
+
+    @Test
+    void nearestRespectsFilterAndRadius() {
+        HilbertRTree tree = HilbertRTree.build(xs, ys);
+        for (int q = 0; q < 200; q++) {
+            double x = random.nextDouble() * 2000;
+            double y = random.nextDouble() * 2000;
+            double radius = 50 + random.nextDouble() * 200;
+
+            int[] found = tree.nearest(x, y, 20, radius, i -> i % 3 == 0);
+            int[] expected = IntStream.range(0, N)
+                    .filter(i -> i % 3 == 0)
+                    .filter(i -> Math.hypot(xs[i] - x, ys[i] - y) <= radius)
+                    .boxed()
+                    .sorted(Comparator.comparingDouble(i -> Math.hypot(xs[i] - x, ys[i] - y)))
+                    .limit(20)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+
+            assertThat(found).hasSameSizeAs(expected);
+            for (int i = 0; i < found.length; i++) {
+                assertThat(Math.hypot(xs[found[i]] - x, ys[found[i]] - y))
+                        .isEqualTo(Math.hypot(xs[expected[i]] - x, ys[expected[i]] - y));
+            }
+        }
+    }
+
+    @Test
+    void searchMatchesBruteForce() {
+        HilbertRTree tree = HilbertRTree.build(xs, ys);
+        for (int q = 0; q < 500; q++) {
+            double minX = random.nextDouble() * 2000;
+            double minY = random.nextDouble() * 2000;
+            double maxX = minX + random.nextDouble() * 300;
+            double maxY = minY + random.nextDouble() * 300;
+
+            int[] found = tree.search(minX, minY, maxX, maxY);
+            int[] expected = IntStream.range(0, N)
+                    .filter(i -> xs[i] >= minX && xs[i] <= maxX && ys[i] >= minY && ys[i] <= maxY)
+                    .toArray();
+
+            Arrays.sort(found);
+            assertThat(found).containsExactly(expected);
+        }
+    }
+
+    @Test
+    void smallAndEmptyTrees() {
+        assertThat(HilbertRTree.build(new double[0], new double[0]).nearest(0, 0, 5, Double.POSITIVE_INFINITY, null))
+                .isEmpty();
+
+        HilbertRTree single = HilbertRTree.build(new double[] {3}, new double[] {4});
+        assertThat(single.nearest(0, 0, 5, Double.POSITIVE_INFINITY, null)).containsExactly(0);
+        assertThat(single.nearest(0, 0, 5, 4.9, null)).isEmpty();
+        assertThat(single.search(0, 0, 3, 4)).containsExactly(0);
+    }
+}
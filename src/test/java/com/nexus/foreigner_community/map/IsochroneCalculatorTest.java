@@ -0,0 +1,118 @@
+package com.nexus.foreigner_community.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class IsochroneCalculatorTest {
+
+    private static final int SIZE = 30;
+
+    private final SplittableRandom random = new SplittableRandom(5);
+    private final int[][] node = new int[SIZE][SIZE];
+    private final FootpathGraph graph = grid();
+    private final RouteEngine engine = new RouteEngine(graph, 4);
+    private final IsochroneCalculator calculator = new IsochroneCalculator(engine);
+
+    // 약 6~7m 간격 격자. (0,0) 에 건물 A 출입구가 있다.
+    private FootpathGraph grid() {
+        FootpathGraph.Builder builder = FootpathGraph.builder();
+        for (int x = 0; x < SIZE; x++) {
+            for (int y = 0; y < SIZE; y++) {
+                node[x][y] = builder.addNode(36.62 + y * 0.00006, 127.45 + x * 0.000075,
+                        x == 0 && y == 0 ? "A" : null);
+            }
+        }
+        for (int x = 0; x < SIZE; x++) {
+            for (int y = 0; y < SIZE; y++) {
+                if (x + 1 < SIZE && random.nextDouble() < 0.9) {
+                    builder.addEdge(node[x][y], node[x + 1][y], random.nextDouble() < 0.1 ? EdgeKind.STAIRS
+                            : EdgeKind.PATH);
+                }
+                if (y + 1 < SIZE) {
+                    builder.addEdge(node[x][y], node[x][y + 1], EdgeKind.PATH);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    @Test
+    void reachMatchesUnboundedDijkstraWithinTheLimit() {
+        int[] sources = {node[0][0], node[20][20]};
+        double[] start = {0, 30};
+        double limit = 90;
+        RouteEngine.Reach reach = engine.reach(sources, start, limit, RoutingProfile.WALKING);
+
+        double[] weights = new double[graph.edgeCount()];
+        for (int e = 0; e < weights.length; e++) {
+            weights[e] = RoutingProfile.WALKING.seconds(graph.kind(e), graph.length(e));
+        }
+        double[] fromFirst = engine.dijkstra(new int[] {sources[0]}, weights);
+        double[] fromSecond = engine.dijkstra(new int[] {sources[1]}, weights);
+        int expected = 0;
+        for (int v = 0; v < graph.nodeCount(); v++) {
+            if (Math.min(fromFirst[v], fromSecond[v] + start[1]) <= limit) {
+                expected++;
+            }
+        }
+
+        assertThat(reach.nodes()).hasSize(expected);
+        for (int i = 0; i < reach.nodes().length; i++) {
+            int v = reach.nodes()[i];
+            assertThat(reach.seconds()[i]).isCloseTo(Math.min(fromFirst[v], fromSecond[v] + start[1]), within(1e-6));
+            if (i > 0) {
+                assertThat(reach.seconds()[i]).isGreaterThanOrEqualTo(reach.seconds()[i - 1]);
+            }
+        }
+    }
+
+    @Test
+    void listsOnlyPoisThatCanBeReachedInTime() {
+        Poi near = poi(1, PoiType.CAFE, node[2][2]);
+        Poi far = poi(2, PoiType.PRINTER, node[29][29]);
+
+        Isochrone isochrone = calculator.fromBuilding("A", 1, RoutingProfile.WALKING, List.of(near, far));
+
+        assertThat(isochrone.pois()).extracting(Isochrone.ReachablePoi::poi).containsExactly(near);
+        assertThat(isochrone.pois().get(0).seconds()).isLessThanOrEqualTo(60);
+        assertThat(isochrone.polygon()).hasSizeGreaterThan(2);
+        for (Isochrone.Vertex vertex : isochrone.polygon()) {
+            assertThat(vertex.lat()).isBetween(36.62, 36.62 + SIZE * 0.00006);
+            assertThat(vertex.lon()).isBetween(127.45, 127.45 + SIZE * 0.000075);
+        }
+    }
+
+    @Test
+    void widerLimitCoversMore() {
+        Isochrone small = calculator.fromPoint(36.6209, 127.4511, 1, RoutingProfile.WALKING, List.of());
+        Isochrone large = calculator.fromPoint(36.6209, 127.4511, 3, RoutingProfile.WALKING, List.of());
+
+        assertThat(area(large)).isGreaterThan(area(small));
+    }
+
+    @Test
+    void unknownBuildingHasNoIsochrone() {
+        assertThat(calculator.fromBuilding("Z9", 5, RoutingProfile.WALKING, List.of())).isNull();
+    }
+
+    private Poi poi(long id, PoiType type, int v) {
+        return new Poi(id, type, null, "poi" + id, "poi" + id, graph.lat(v), graph.lon(v), 0, List.of(), 0);
+    }
+
+    // 신발끈 공식 (위경도 단위 그대로)
+    private static double area(Isochrone isochrone) {
+        List<Isochrone.Vertex> ring = isochrone.polygon();
+        double sum = 0;
+        for (int i = 0; i < ring.size(); i++) {
+            Isochrone.Vertex a = ring.get(i);
+            Isochrone.Vertex b = ring.get((i + 1) % ring.size());
+            sum += a.lon() * b.lat() - b.lon() * a.lat();
+        }
+        return Math.abs(sum) / 2;
+    }
+}
@@ -0,0 +1,112 @@
+package com.nexus.foreigner_community.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class RouteEngineTest {
+
+    private static final int SIZE = 40;
+
+    private final SplittableRandom random = new SplittableRandom(3);
+    private final FootpathGraph graph = grid();
+    private final RouteEngine engine = new RouteEngine(graph, 6);
+
+    // 일부 간선이 빠지고 계단/경사로/엘리베이터가 섞인 격자. 20칸마다 건물 출입구가 있다.
+    private FootpathGraph grid() {
+        FootpathGraph.Builder builder = FootpathGraph.builder();
+        int[][] node = new int[SIZE][SIZE];
+        for (int x = 0; x < SIZE; x++) {
+            for (int y = 0; y < SIZE; y++) {
+                String building = x % 10 == 0 && y % 10 == 0 ? "B" + (x / 10) + (y / 10) : null;
+                node[x][y] = builder.addNode(36.62 + y * 0.00006 + random.nextDouble() * 0.00002,
+                        127.45 + x * 0.000075 + random.nextDouble() * 0.00002, building);
+            }
+        }
+        for (int x = 0; x < SIZE; x++) {
+            for (int y = 0; y < SIZE; y++) {
+                if (x + 1 < SIZE && random.nextDouble() < 0.95) {
+                    builder.addEdge(node[x][y], node[x + 1][y], kind());
+                }
+                if (y + 1 < SIZE && random.nextDouble() < 0.95) {
+                    builder.addEdge(node[x][y], node[x][y + 1], kind());
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    private EdgeKind kind() {
+        double d = random.nextDouble();
+        return d < 0.75 ? EdgeKind.PATH : d < 0.85 ? EdgeKind.CORRIDOR : d < 0.93 ? EdgeKind.STAIRS
+                : d < 0.99 ? EdgeKind.RAMP : EdgeKind.ELEVATOR;
+    }
+
+    @Test
+    void landmarkSearchMatchesDijkstra() {
+        for (RoutingProfile profile : RoutingProfile.values()) {
+            for (int i = 0; i < 500; i++) {
+                int from = random.nextInt(graph.nodeCount());
+                int to = random.nextInt(graph.nodeCount());
+                RouteEngine.RoutePath fast = engine.route(from, to, profile);
+                RouteEngine.RoutePath slow = engine.routeWithoutLandmarks(from, to, profile);
+                if (slow == null) {
+                    assertThat(fast).isNull();
+                    continue;
+                }
+                assertThat(fast.seconds()).isCloseTo(slow.seconds(), within(1e-6));
+                assertThat(fast.nodes()[0]).isEqualTo(from);
+                assertThat(fast.nodes()[fast.nodes().length - 1]).isEqualTo(to);
+                assertThat(pathSeconds(fast.nodes(), profile)).isCloseTo(fast.seconds(), within(1e-6));
+            }
+        }
+    }
+
+    @Test
+    void wheelchairRoutesNeverUseStairs() {
+        for (int i = 0; i < 200; i++) {
+            RouteEngine.RoutePath path = engine.route(random.nextInt(graph.nodeCount()),
+                    random.nextInt(graph.nodeCount()), RoutingProfile.WHEELCHAIR);
+            if (path != null) {
+                assertThat(pathSeconds(path.nodes(), RoutingProfile.WHEELCHAIR)).isFinite();
+            }
+        }
+    }
+
+    @Test
+    void buildingTableMatchesSearch() {
+        for (RoutingProfile profile : RoutingProfile.values()) {
+            for (String from : graph.entrances().keySet()) {
+                for (String to : graph.entrances().keySet()) {
+                    RouteEngine.RoutePath table = engine.routeBetweenBuildings(from, to, profile);
+                    RouteEngine.RoutePath search = engine.route(graph.entrances().get(from)[0],
+                            graph.entrances().get(to)[0], profile);
+                    if (search == null) {
+                        assertThat(table).isNull();
+                    } else {
+                        assertThat(table.seconds()).isCloseTo(search.seconds(), within(1e-6));
+                    }
+                }
+            }
+        }
+        assertThat(engine.routeBetweenBuildings("B00", "nowhere", RoutingProfile.WALKING)).isNull();
+    }
+
+    // 연속한 두 노드 사이에서 프로필로 가장 빠른 간선의 시간을 더한다.
+    private double pathSeconds(int[] nodes, RoutingProfile profile) {
+        double total = 0;
+        for (int i = 1; i < nodes.length; i++) {
+            double best = Double.POSITIVE_INFINITY;
+            for (int e = graph.firstEdge(nodes[i - 1]); e < graph.endEdge(nodes[i - 1]); e++) {
+                if (graph.target(e) == nodes[i]) {
+                    best = Math.min(best, profile.seconds(graph.kind(e), graph.length(e)));
+                }
+            }
+            total += best;
+        }
+        return total;
+    }
+}
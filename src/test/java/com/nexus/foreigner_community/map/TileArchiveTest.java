@@ -0,0 +1,130 @@
+package com.nexus.foreigner_community.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TileArchiveTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsBackEveryTileFromTheMappedFile() throws IOException {
+        Path file = dir.resolve("test.tiles");
+        new TileArchiveWriter("application/x-protobuf")
+                .add(16, 55877, 25483, bytes("a"))
+                .add(15, 27938, 12741, bytes("bb"))
+                .add(17, 111755, 50967, bytes("ccc"))
+                .write(file);
+
+        TileArchive archive = TileArchive.open(file);
+
+        assertThat(archive.tileCount()).isEqualTo(3);
+        assertThat(archive.minZoom()).isEqualTo(15);
+        assertThat(archive.maxZoom()).isEqualTo(17);
+        assertThat(archive.contentType()).isEqualTo("application/x-protobuf");
+        assertThat(read(archive, archive.find(15, 27938, 12741))).isEqualTo("bb");
+        assertThat(read(archive, archive.find(17, 111755, 50967))).isEqualTo("ccc");
+        assertThat(archive.find(17, 111755, 50968)).isEqualTo(-1);
+        assertThat(archive.find(3, 8, 0)).isEqualTo(-1);
+    }
+
+    @Test
+    void identicalTilesShareStorageAndEtag() throws IOException {
+        Path file = dir.resolve("dedup.tiles");
+        byte[] empty = new byte[4096];
+        new TileArchiveWriter("image/png")
+                .add(18, 1, 1, empty)
+                .add(18, 1, 2, empty)
+                .add(18, 1, 3, bytes("road"))
+                .write(file);
+
+        TileArchive archive = TileArchive.open(file);
+        int first = archive.find(18, 1, 1);
+        int second = archive.find(18, 1, 2);
+
+        assertThat(Files.size(file)).isLessThan(2L * empty.length);
+        assertThat(archive.fileOffset(first)).isEqualTo(archive.fileOffset(second));
+        assertThat(archive.etag(first)).isEqualTo(archive.etag(second))
+                .isNotEqualTo(archive.etag(archive.find(18, 1, 3)))
+                .startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    void versionChangesWhenAnyTileChanges() throws IOException {
+        Path a = dir.resolve("a.tiles");
+        Path b = dir.resolve("b.tiles");
+        new TileArchiveWriter("image/png").add(16, 1, 1, bytes("x")).add(16, 1, 2, bytes("y")).write(a);
+        new TileArchiveWriter("image/png").add(16, 1, 1, bytes("x")).add(16, 1, 2, bytes("z")).write(b);
+
+        assertThat(TileArchive.open(a).version()).isNotEqualTo(TileArchive.open(b).version());
+    }
+
+    @Test
+    void rendersTilesCoveringTheSourceGeometry() throws IOException {
+        FootpathGraph.Builder builder = FootpathGraph.builder();
+        int a = builder.addNode(36.6283, 127.4562, "N14");
+        int b = builder.addNode(36.6301, 127.4590, null);
+        builder.addEdge(a, b, EdgeKind.PATH);
+        Poi library = new Poi(1, PoiType.BUILDING, "N14", "중앙도서관", "Main Library", 36.6283, 127.4562, 0,
+                List.of(), 100);
+        TileArchiveWriter writer = new TileArchiveWriter("image/png");
+
+        int count = TileArchiveBuilder.render(builder.build(), List.of(library), 15, 16, writer);
+        Path file = dir.resolve("campus.tiles");
+        writer.write(file);
+
+        TileArchive archive = TileArchive.open(file);
+        assertThat(archive.tileCount()).isEqualTo(count).isPositive();
+        int z = 16;
+        int x = (int) TileArchiveBuilder.tileX(127.4562, z);
+        int y = (int) TileArchiveBuilder.tileY(36.6283, z);
+        ByteBuffer png = archive.data(archive.find(z, x, y));
+        assertThat(png.get(1)).isEqualTo((byte) 'P');
+    }
+
+    @Test
+    void rejectsCorruptHeadersBeforeAllocating() throws IOException {
+        Path file = dir.resolve("valid.tiles");
+        new TileArchiveWriter("image/png").add(16, 1, 1, bytes("x")).add(16, 1, 2, bytes("y")).write(file);
+        byte[] valid = Files.readAllBytes(file);
+
+        assertCorrupt(valid, 20, -1, "invalid content type length -1");
+        assertCorrupt(valid, 20, TileArchive.MAX_CONTENT_TYPE + 1, "invalid content type length 33");
+        assertCorrupt(valid, 16, -1, "directory of -1 entries");
+        assertCorrupt(valid, 16, Integer.MAX_VALUE, "directory of " + Integer.MAX_VALUE + " entries");
+        // 파일 크기로 들어갈 수 있는 것보다 한 개 많은 항목.
+        int fits = (valid.length - TileArchive.HEADER_BYTES) / TileArchive.ENTRY_BYTES;
+        assertCorrupt(valid, 16, fits + 1, "entries that does not fit");
+        assertThat(TileArchive.open(file).tileCount()).isEqualTo(2);
+    }
+
+    private void assertCorrupt(byte[] valid, int offset, int value, String message) throws IOException {
+        byte[] corrupt = valid.clone();
+        ByteBuffer.wrap(corrupt).putInt(offset, value);
+        Path file = Files.write(dir.resolve("corrupt.tiles"), corrupt);
+
+        assertThatThrownBy(() -> TileArchive.open(file)).isInstanceOf(IOException.class).hasMessageContaining(message);
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String read(TileArchive archive, int index) {
+        ByteBuffer data = archive.data(index);
+        byte[] out = new byte[data.remaining()];
+        data.get(out);
+        return new String(out, StandardCharsets.UTF_8);
+    }
+}
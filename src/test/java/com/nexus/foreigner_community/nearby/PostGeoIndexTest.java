@@ -0,0 +1,111 @@
+package com.nexus.foreigner_community.nearby;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.nexus.foreigner_community.map.LocalProjection;
+
+class PostGeoIndexTest {
+
+    private static final Instant NOW = Instant.parse("2025-05-01T12:00:00Z");
+    private static final double LAT = 36.6285;
+    private static final double LON = 127.4563;
+
+    @Test
+    void nearMatchesScoringEveryPost() {
+        PostGeoIndex index = new PostGeoIndex(0.002, Duration.ofHours(24), 150);
+        Random random = new Random(7);
+        List<GeoPost> posts = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            GeoPost post = new GeoPost(i, random.nextBoolean() ? "맛집/카페" : "주거/기숙사", "글 " + i, null,
+                    LAT + (random.nextDouble() - 0.5) * 0.03, LON + (random.nextDouble() - 0.5) * 0.03,
+                    NOW.minus(Duration.ofMinutes(random.nextInt(60 * 24 * 90))));
+            posts.add(post);
+            index.put(post);
+        }
+
+        for (int q = 0; q < 50; q++) {
+            double lat = LAT + (random.nextDouble() - 0.5) * 0.02;
+            double lon = LON + (random.nextDouble() - 0.5) * 0.02;
+            Set<String> categories = q % 2 == 0 ? Set.of() : Set.of("맛집/카페");
+            List<NearbyPost> found = index.near(lat, lon, 300, categories, 10, NOW);
+
+            assertThat(ids(found)).isEqualTo(ids(bruteForce(posts, lat, lon, 300, categories, 10)));
+        }
+    }
+
+    @Test
+    void removedAndMovedPostsFollowTheIndex() {
+        PostGeoIndex index = new PostGeoIndex(0.002, Duration.ofHours(24), 150);
+        index.put(new GeoPost(1, "맛집/카페", "a", "N14", LAT, LON, NOW.minusSeconds(60)));
+        index.put(new GeoPost(2, "맛집/카페", "b", "N14", Double.NaN, Double.NaN, NOW));
+        index.put(new GeoPost(3, "행사/모임", "c", null, LAT + 0.0005, LON, NOW.minusSeconds(30)));
+
+        assertThat(ids(index.inBuilding("N14", Set.of(), 10, NOW))).containsExactly(2L, 1L);
+        assertThat(ids(index.near(LAT, LON, 300, Set.of(), 10, NOW))).containsExactly(1L, 3L);
+
+        index.put(new GeoPost(1, "맛집/카페", "a", "E8", LAT + 0.05, LON, NOW.minusSeconds(60)));
+        index.remove(3);
+
+        assertThat(ids(index.inBuilding("N14", Set.of(), 10, NOW))).containsExactly(2L);
+        assertThat(ids(index.inBuilding("E8", Set.of(), 10, NOW))).containsExactly(1L);
+        assertThat(index.near(LAT, LON, 300, Set.of(), 10, NOW)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void recentPostSlightlyFartherAwayOutranksAnOldOneNextDoor() {
+        PostGeoIndex index = new PostGeoIndex(0.002, Duration.ofHours(24), 150);
+        index.put(new GeoPost(1, "맛집/카페", "old", null, LAT, LON, NOW.minus(Duration.ofDays(7))));
+        index.put(new GeoPost(2, "맛집/카페", "new", null, LAT + 0.001, LON, NOW.minus(Duration.ofHours(1))));
+
+        List<NearbyPost> found = index.near(LAT, LON, 300, Set.of(), 10, NOW);
+
+        assertThat(ids(found)).containsExactly(2L, 1L);
+        assertThat(found.get(0).distanceMeters()).isBetween(100.0, 120.0);
+    }
+
+    private static List<NearbyPost> bruteForce(List<GeoPost> posts, double lat, double lon, double radius,
+                                               Set<String> categories, int limit) {
+        LocalProjection projection = new LocalProjection(lat);
+        List<NearbyPost> result = new ArrayList<>();
+        for (GeoPost post : posts) {
+            double distance = projection.distance(lat, lon, post.lat(), post.lon());
+            if (distance <= radius && (categories.isEmpty() || categories.contains(post.category()))) {
+                double age = Duration.between(post.createdAt(), NOW).toMillis();
+                double score = Math.pow(0.5, age / Duration.ofHours(24).toMillis()) / (1 + distance / 150);
+                result.add(new NearbyPost(post, distance, score));
+            }
+        }
+        result.sort(Comparator.comparingDouble(NearbyPost::score).reversed());
+        return result.subList(0, Math.min(limit, result.size()));
+    }
+
+    private static List<Long> ids(List<NearbyPost> posts) {
+        return posts.stream().map(found -> found.post().id()).toList();
+    }
+
+    @Test
+    void nearThePolesOnlyVisitsOccupiedCells() {
+        PostGeoIndex index = new PostGeoIndex(0.002, Duration.ofHours(24), 150);
+        index.put(new GeoPost(1, "맛집/카페", "북극", null, 89.9999, 10, NOW));
+        index.put(new GeoPost(2, "맛집/카페", "캠퍼스", null, LAT, LON, NOW));
+
+        assertThat(index.near(90, 0, 3000, Set.of(), 10, NOW)).hasSize(1);
+        assertThat(index.near(89.99999, 179.9, 3000, Set.of(), 10, NOW).get(0).post().id()).isEqualTo(1L);
+        assertThatThrownBy(() -> index.near(91, 0, 300, Set.of(), 10, NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.near(Double.NaN, 0, 300, Set.of(), 10, NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,100 @@
+package com.nexus.foreigner_community.offline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BundleDeltaTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void binaryDeltaOfASmallEditIsSmall() {
+        byte[] base = random(200_000, 1);
+        byte[] target = base.clone();
+        target[1000] ^= 1;
+        target[150_000] ^= 1;
+
+        byte[] delta = BinaryDelta.diff(base, target);
+
+        assertThat(BinaryDelta.apply(base, delta)).isEqualTo(target);
+        assertThat(delta.length).isLessThan(500);
+    }
+
+    @Test
+    void binaryDeltaHandlesInsertionsAndUnrelatedContent() {
+        byte[] base = random(50_000, 2);
+        byte[] inserted = new byte[base.length + 3];
+        System.arraycopy(base, 0, inserted, 0, 20_000);
+        System.arraycopy(base, 20_000, inserted, 20_003, base.length - 20_000);
+        byte[] unrelated = random(3_000, 3);
+
+        assertThat(BinaryDelta.apply(base, BinaryDelta.diff(base, inserted))).isEqualTo(inserted);
+        assertThat(BinaryDelta.diff(base, inserted).length).isLessThan(100);
+        assertThat(BinaryDelta.apply(base, BinaryDelta.diff(base, unrelated))).isEqualTo(unrelated);
+        assertThat(BinaryDelta.apply(new byte[0], BinaryDelta.diff(new byte[0], unrelated))).isEqualTo(unrelated);
+        assertThat(BinaryDelta.apply(base, BinaryDelta.diff(base, new byte[0]))).isEmpty();
+    }
+
+    @Test
+    void bundleDeltaTurnsTheOldVersionIntoTheNewOne() throws IOException {
+        byte[] dataset = random(100_000, 4);
+        Map<String, byte[]> before = new TreeMap<>();
+        before.put("campus.dataset", dataset);
+        before.put("tiles/17/1/1", bytes("old tile"));
+        before.put("tiles/17/1/2", bytes("removed tile"));
+        before.put("names/vi.json", bytes("{\"1\":\"Thư viện\"}"));
+        Map<String, byte[]> after = new TreeMap<>(before);
+        byte[] changed = dataset.clone();
+        changed[5_000] ^= 1;
+        after.put("campus.dataset", changed);
+        after.put("tiles/17/1/1", bytes("new tile"));
+        after.remove("tiles/17/1/2");
+        after.put("tiles/17/1/3", bytes("added tile"));
+        OfflineBundle from = OfflineBundle.of(before);
+        OfflineBundle to = OfflineBundle.of(after);
+
+        byte[] delta = BundleDelta.create(from, to);
+        OfflineBundle applied = BundleDelta.apply(from, delta);
+
+        assertThat(to.version()).isNotEqualTo(from.version()).matches("[0-9a-f]{16}");
+        assertThat(applied.version()).isEqualTo(to.version());
+        assertThat(applied.entries().keySet()).isEqualTo(after.keySet());
+        assertThat(applied.entries().get("campus.dataset")).isEqualTo(changed);
+        assertThat(delta.length).isLessThan(1_000);
+        assertThatThrownBy(() -> BundleDelta.apply(to, delta)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void bundleFileRoundTripsAndVersionDependsOnlyOnContent() throws IOException {
+        Map<String, byte[]> entries = Map.of("manifest.json", bytes("{}"), "tiles/15/2/3", random(10_000, 5));
+        OfflineBundle bundle = OfflineBundle.of(entries);
+        Path file = dir.resolve(bundle.version() + ".bundle");
+
+        bundle.write(file);
+        OfflineBundle read = OfflineBundle.read(file);
+
+        assertThat(read.version()).isEqualTo(bundle.version()).isEqualTo(OfflineBundle.of(entries).version());
+        assertThat(read.entries().get("tiles/15/2/3")).isEqualTo(entries.get("tiles/15/2/3"));
+    }
+
+    private static byte[] random(int length, long seed) {
+        byte[] bytes = new byte[length];
+        new Random(seed).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,98 @@
+package com.nexus.foreigner_community.offline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.nexus.foreigner_community.ai.StubTranslationServer;
+import com.nexus.foreigner_community.map.CampusMap;
+import com.nexus.foreigner_community.map.Poi;
+import com.nexus.foreigner_community.map.PoiType;
+
+@SpringBootTest(properties = {
+        "translate.provider=stub",
+        "translate.stub.embedded=true",
+        "translate.stub.port=18089",
+        "translate.stub.latency-ms=0",
+        "translate.resilience.open-ms=50",
+        "offline.retry-ms=100"})
+@DirtiesContext
+class OfflineBundlesTest {
+
+    // 지난 실행의 번들이 남아 있으면 그것이 처음 버전이 되므로 매번 빈 디렉터리에서 시작한다.
+    // 임시 디렉터리를 지우기 전에 컨텍스트를 닫아 백그라운드 빌드가 멈추게 한다.
+    @TempDir
+    static Path dir;
+
+    @DynamicPropertySource
+    static void offlineDir(DynamicPropertyRegistry registry) {
+        registry.add("offline.dir", () -> dir.toString());
+    }
+
+    @Autowired
+    private OfflineBundles offlineBundles;
+
+    @Autowired
+    private CampusMap campusMap;
+
+    @Autowired
+    private StubTranslationServer server;
+
+    private List<Poi> original;
+
+    @AfterEach
+    void restore() {
+        server.setFailureEvery(0);
+        if (original != null) {
+            campusMap.replace(original);
+        }
+    }
+
+    @Test
+    void keepsServingTheLastBundleWhileTranslationFailsAndRetries() throws InterruptedException {
+        // 첫 빌드에서 빠진 언어가 있어도 다시 만들어 모든 언어가 들어간 번들이 될 때까지 기다린다.
+        await(() -> offlineBundles.current().filter(bundle -> List.of("mn", "vi", "zh", "ja").stream()
+                .allMatch(language -> bundle.entries().containsKey("names/" + language + ".json"))).isPresent());
+        String first = offlineBundles.current().get().version();
+
+        original = campusMap.all();
+        List<Poi> changed = new ArrayList<>(original);
+        changed.add(new Poi(999_999, PoiType.BUILDING, "X1", "오프라인 번들 시험관", "Offline Test Hall", 36.63, 127.45,
+                0, List.of(), 0));
+        server.setFailureEvery(1);
+        long requests = server.requestCount();
+        campusMap.replace(changed);
+
+        await(() -> server.requestCount() > requests);
+        Thread.sleep(200);
+        assertThat(offlineBundles.current().get().version()).isEqualTo(first);
+
+        server.setFailureEvery(0);
+        await(() -> !offlineBundles.current().get().version().equals(first));
+        OfflineBundle updated = offlineBundles.current().get();
+        assertThat(new String(updated.entries().get("names/ja.json"), StandardCharsets.UTF_8)).contains("오프라인 번들 시험관");
+        assertThat(offlineBundles.bundle(updated.version())).isPresent();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(20).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.nexus.foreigner_community.ranking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.nexus.foreigner_community.dto.PostSummary;
+import com.nexus.foreigner_community.entity.Post;
+import com.nexus.foreigner_community.repository.PostRepository;
+import com.nexus.foreigner_community.service.PostService;
+
+@SpringBootTest
+class BestPostsTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Post post(String title, LocalDateTime createdAt) {
+        Post post = new Post();
+        post.setCategory("best-test");
+        post.setTitle(title);
+        post.setContent("내용");
+        post.setCreatedAt(createdAt);
+        return postRepository.save(post);
+    }
+
+    @Test
+    void loadsPostsWithoutCreationTimeAsTheOldest() {
+        Post legacy = post("작성 시각 없는 글", null);
+        Post recent = post("새 글", LocalDateTime.now());
+        jdbcTemplate.update("update post set views = 1000 where id = ?", legacy.getId());
+
+        // 시작할 때처럼 테이블을 읽어 새로 채운다.
+        BestPosts bestPosts = new BestPosts(postService, jdbcTemplate, 24, 100);
+
+        assertThat(bestPosts.best("best-test", 10)).extracting(PostSummary::id)
+                .containsExactly(recent.getId(), legacy.getId());
+    }
+}
@@ -0,0 +1,138 @@
+package com.nexus.foreigner_community.ranking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class HotRankingTest {
+
+    private static final Instant NOW = Instant.parse("2025-05-01T12:00:00Z");
+    private static final Duration HALF_LIFE = Duration.ofHours(12);
+    private static final String[] CATEGORIES = {"맛집/카페", "주거/기숙사", "학업/수업"};
+
+    @Test
+    void scoreHalvesEveryHalfLife() {
+        HotRanking ranking = new HotRanking(HALF_LIFE, 10);
+        ranking.put(1, "맛집/카페", NOW, HotRanking.POST);
+        ranking.add(1, HotRanking.LIKE, NOW);
+
+        assertThat(ranking.top(null, 10, NOW).get(0).score()).isBetween(8.999, 9.001);
+        assertThat(ranking.top(null, 10, NOW.plus(HALF_LIFE)).get(0).score()).isBetween(4.499, 4.501);
+    }
+
+    @Test
+    void newerReactionsOutweighOlderOnes() {
+        HotRanking ranking = new HotRanking(HALF_LIFE, 10);
+        ranking.put(1, "맛집/카페", NOW.minus(Duration.ofDays(3)), 200);
+        ranking.put(2, "맛집/카페", NOW.minus(Duration.ofHours(1)), HotRanking.POST);
+        ranking.add(2, HotRanking.COMMENT, NOW);
+
+        assertThat(ids(ranking.top("맛집/카페", 10, NOW))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void matchesScoringEveryPost() {
+        int k = 20;
+        HotRanking ranking = new HotRanking(HALF_LIFE, k);
+        Random random = new Random(11);
+        Map<Long, String> categories = new HashMap<>();
+        Map<Long, List<double[]>> reactions = new HashMap<>();
+        Instant now = NOW;
+        long nextId = 0;
+        for (int step = 0; step < 30_000; step++) {
+            now = now.plusSeconds(random.nextInt(60));
+            int op = random.nextInt(100);
+            if (op < 10 || categories.isEmpty()) {
+                long id = nextId++;
+                String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+                categories.put(id, category);
+                reactions.computeIfAbsent(id, x -> new ArrayList<>()).add(new double[] {1, now.toEpochMilli()});
+                ranking.put(id, category, now, HotRanking.POST);
+                continue;
+            }
+            long id = random.nextLong(nextId);
+            if (!categories.containsKey(id)) {
+                continue;
+            }
+            if (op < 13) {
+                categories.remove(id);
+                reactions.remove(id);
+                ranking.remove(id);
+            } else if (op < 16 && reactions.get(id).size() > 1) {
+                // 추천 취소: 마지막 반응을 되돌린다.
+                List<double[]> list = reactions.get(id);
+                double[] last = list.remove(list.size() - 1);
+                ranking.add(id, -last[0], Instant.ofEpochMilli((long) last[1]));
+            } else {
+                double weight = random.nextBoolean() ? HotRanking.VIEW : HotRanking.LIKE;
+                reactions.get(id).add(new double[] {weight, now.toEpochMilli()});
+                ranking.add(id, weight, now);
+            }
+
+            if (step % 500 == 0) {
+                for (String category : new String[] {null, CATEGORIES[0], CATEGORIES[1], CATEGORIES[2]}) {
+                    List<Long> expected = expectedTop(categories, reactions, category, k, now);
+                    assertThat(ids(ranking.top(category, 100, now))).isEqualTo(expected);
+                }
+            }
+        }
+    }
+
+    @Test
+    void refillsAfterTopPostsAreRemoved() {
+        HotRanking ranking = new HotRanking(HALF_LIFE, 3);
+        for (long id = 0; id < 50; id++) {
+            ranking.put(id, "맛집/카페", NOW, id + 1);
+        }
+        for (long id = 49; id >= 40; id--) {
+            ranking.remove(id);
+        }
+
+        assertThat(ids(ranking.top(null, 10, NOW))).containsExactly(39L, 38L, 37L);
+        assertThat(ids(ranking.top("주거/기숙사", 10, NOW))).isEmpty();
+    }
+
+    @Test
+    void movesPostWhenCategoryChanges() {
+        HotRanking ranking = new HotRanking(HALF_LIFE, 5);
+        ranking.put(1, "맛집/카페", NOW, 10);
+        ranking.put(2, "맛집/카페", NOW, 5);
+        ranking.put(1, "주거/기숙사", NOW, 999);
+
+        assertThat(ids(ranking.top("맛집/카페", 10, NOW))).containsExactly(2L);
+        assertThat(ranking.top("주거/기숙사", 10, NOW).get(0).score()).isBetween(9.999, 10.001);
+    }
+
+    private static List<Long> expectedTop(Map<Long, String> categories, Map<Long, List<double[]>> reactions,
+                                          String category, int k, Instant now) {
+        Map<Long, Double> scores = new HashMap<>();
+        categories.forEach((id, c) -> {
+            if (category == null || category.equals(c)) {
+                double score = 0;
+                for (double[] reaction : reactions.get(id)) {
+                    score += reaction[0] * Math.pow(0.5, (now.toEpochMilli() - reaction[1]) / HALF_LIFE.toMillis());
+                }
+                scores.put(id, score);
+            }
+        });
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.<Long, Double>comparingByKey(Comparator.reverseOrder())))
+                .limit(k)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private static List<Long> ids(List<RankedPost> posts) {
+        return posts.stream().map(RankedPost::id).toList();
+    }
+}
@@ -0,0 +1,123 @@
+package com.nexus.foreigner_community.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+class SearchIndexTest {
+
+    private static final String[] WORDS = {
+            "도서관", "기숙사", "학생식당", "셔틀버스", "비자", "외국인등록증", "아르바이트", "수강신청", "library",
+            "dorm", "visa", "bus", "중앙도서관에서", "기숙사비", "식당", "신청"
+    };
+
+    @Test
+    void tokenizesCjkAsBigramsAndOtherTextAsWords() {
+        assertThat(Tokenizer.tokens("도서관에서 Library 2층!"))
+                .containsExactly("도서", "서관", "관에", "에서", "library", "2", "층");
+        assertThat(Tokenizer.tokens("ＶＩＳＡ 연장, 꼭")).containsExactly("visa", "연장", "꼭");
+        assertThat(Tokenizer.tokens("  ... ")).isEmpty();
+    }
+
+    @Test
+    void encodesPostingsAcrossBlocks() {
+        PostingList.Writer writer = new PostingList.Writer();
+        List<Integer> ordinals = new ArrayList<>();
+        Random random = new Random(3);
+        int ordinal = 0;
+        for (int i = 0; i < 1000; i++) {
+            ordinal += 1 + random.nextInt(i % 3 == 0 ? 100_000 : 10);
+            ordinals.add(ordinal);
+            writer.add(ordinal, 1 + i % 7);
+        }
+        PostingList list = writer.build();
+
+        PostingList.Cursor cursor = list.cursor();
+        for (int i = 0; i < ordinals.size(); i++) {
+            assertThat(cursor.next()).isEqualTo(ordinals.get(i));
+            assertThat(cursor.frequency()).isEqualTo(1 + i % 7);
+        }
+        assertThat(cursor.next()).isEqualTo(PostingList.END);
+
+        for (int q = 0; q < 200; q++) {
+            int target = random.nextInt(ordinal + 10);
+            int expected = ordinals.stream().filter(o -> o >= target).findFirst().orElse(PostingList.END);
+            PostingList.Cursor skipping = list.cursor();
+            skipping.next();
+            assertThat(skipping.advance(target)).isEqualTo(Math.max(expected, ordinals.get(0)));
+        }
+    }
+
+    @Test
+    void findsTheSameDocumentsAsScanningEveryDocument() {
+        SearchIndex index = new SearchIndex();
+        Map<Long, String> texts = new HashMap<>();
+        Random random = new Random(5);
+        for (int step = 0; step < 6000; step++) {
+            long id = random.nextInt(1500);
+            if (random.nextInt(10) == 0) {
+                index.remove(id);
+                texts.remove(id);
+            } else {
+                String title = sentence(random, 2);
+                String content = sentence(random, 6);
+                List<String> comments = List.of(sentence(random, 3), sentence(random, 3));
+                index.put(id, title, content, "작성자" + id % 10, comments);
+                texts.put(id, title + " " + content + " 작성자" + id % 10 + " " + String.join(" ", comments));
+            }
+            if (step % 300 == 0) {
+                index.flush();
+            }
+            if (step % 250 == 0) {
+                for (String query : List.of("도서관", "기숙사 신청", "visa", "식당 bus", "작성자3", "없는말")) {
+                    Set<Long> expected = new TreeSet<>();
+                    List<String> terms = Tokenizer.tokens(query);
+                    texts.forEach((doc, text) -> {
+                        if (new HashSet<>(Tokenizer.tokens(text)).containsAll(terms)) {
+                            expected.add(doc);
+                        }
+                    });
+                    Set<Long> found = new TreeSet<>();
+                    index.search(query, 10_000).forEach(hit -> found.add(hit.id()));
+                    assertThat(found).isEqualTo(expected);
+                }
+            }
+        }
+        assertThat(index.size()).isEqualTo(texts.size());
+        assertThat(index.segmentCount()).isLessThan(12);
+    }
+
+    @Test
+    void ranksTitleMatchesFirstAndForgetsOldText() {
+        SearchIndex index = new SearchIndex();
+        index.put(1, "학생식당 메뉴", "오늘 점심", "kim", List.of());
+        index.put(2, "점심 추천", "학생식당 말고 다른 곳", "lee", List.of());
+        index.put(3, "기숙사 문의", "세탁실", "park", List.of("학생식당 몇 시까지 하나요"));
+        index.flush();
+
+        assertThat(index.search("학생식당", 10).get(0).id()).isEqualTo(1L);
+        assertThat(index.search("학생식당", 10)).hasSize(3);
+
+        index.put(1, "셔틀버스 시간표", "정문 출발", "kim", List.of());
+        index.remove(3);
+        assertThat(index.search("학생식당", 10).stream().map(SearchHit::id).toList()).containsExactly(2L);
+        assertThat(index.search("셔틀버스", 10).stream().map(SearchHit::id).toList()).containsExactly(1L);
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            sentence.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return sentence.toString();
+    }
+}
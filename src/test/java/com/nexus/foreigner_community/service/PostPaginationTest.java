@@ -0,0 +1,147 @@
+package com.nexus.foreigner_community.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.nexus.foreigner_community.controller.BoardController;
+import com.nexus.foreigner_community.dto.PostPage;
+import com.nexus.foreigner_community.dto.PostSummary;
+import com.nexus.foreigner_community.entity.Post;
+import com.nexus.foreigner_community.repository.PostRepository;
+
+// 컨텍스트를 다른 테스트와 같이 쓰므로 분류 이름을 매번 새로 만들어 이 테스트의 글만 본다.
+@SpringBootTest
+class PostPaginationTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private BoardController boardController;
+
+    private Post post(String category, LocalDateTime createdAt) {
+        Post post = new Post();
+        post.setCategory(category);
+        post.setTitle("페이지 테스트");
+        post.setContent("내용");
+        post.setCreatedAt(createdAt);
+        return postRepository.save(post);
+    }
+
+    private static String category() {
+        return "page-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    // nextCursor 가 없을 때까지 읽은 모든 글.
+    private List<PostSummary> readAll(String category, int size) {
+        List<PostSummary> all = new ArrayList<>();
+        String cursor = null;
+        do {
+            PostPage page = postService.list(category, cursor, size);
+            assertThat(page.posts()).hasSizeLessThanOrEqualTo(size);
+            all.addAll(page.posts());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return all;
+    }
+
+    @Test
+    void walksPagesWithoutGapsOrDuplicatesWhenCreationTimesTie() {
+        String category = category();
+        List<Long> expected = new ArrayList<>();
+        // 같은 시각의 글 7 개가 페이지 경계에 걸치도록 섞는다.
+        for (int i = 0; i < 4; i++) {
+            post(category, BASE.plusMinutes(i));
+        }
+        for (int i = 0; i < 7; i++) {
+            post(category, BASE.plusMinutes(2));
+        }
+        post(category, BASE.minusDays(1));
+        // 작성 시각이 없는 옛 글은 맨 끝에 id 역순으로 나온다.
+        for (int i = 0; i < 3; i++) {
+            post(category, null);
+        }
+        postRepository.findAll().stream().filter(p -> p.getCategory().equals(category))
+                .sorted(Comparator.comparing(Post::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                        .thenComparing(Post::getId, Comparator.reverseOrder()))
+                .forEach(p -> expected.add(p.getId()));
+
+        for (int size : new int[] {1, 3, 4, 12, 13, 50}) {
+            assertThat(readAll(category, size)).extracting(PostSummary::id).containsExactlyElementsOf(expected);
+        }
+        assertThat(postService.list(category, null, 15).nextCursor()).isNull();
+    }
+
+    @Test
+    void filtersByCategoryAndTheAllListContainsEveryCategory() {
+        String food = category();
+        String housing = category();
+        Set<Long> foodIds = new HashSet<>();
+        Set<Long> housingIds = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            foodIds.add(post(food, BASE.plusHours(i)).getId());
+            housingIds.add(post(housing, BASE.plusHours(i)).getId());
+        }
+
+        assertThat(readAll(food, 2)).extracting(PostSummary::id).containsExactlyInAnyOrderElementsOf(foodIds);
+        assertThat(readAll(housing, 2)).allSatisfy(summary -> assertThat(summary.category()).isEqualTo(housing));
+
+        List<PostSummary> all = readAll(null, 7);
+        assertThat(all).extracting(PostSummary::id).doesNotHaveDuplicates().containsAll(foodIds)
+                .containsAll(housingIds);
+        assertThat(all).isSortedAccordingTo(Comparator.comparing(PostSummary::createdAt,
+                Comparator.nullsLast(Comparator.reverseOrder())).thenComparing(PostSummary::id,
+                Comparator.reverseOrder()));
+    }
+
+    @Test
+    void rejectsCursorsFromAnotherCategoryAndSizesOutOfRange() {
+        String food = category();
+        String housing = category();
+        for (int i = 0; i < 3; i++) {
+            post(food, BASE.plusHours(i));
+        }
+        String foodCursor = postService.list(food, null, 1).nextCursor();
+        assertThat(foodCursor).isNotNull();
+
+        assertThatThrownBy(() -> postService.list(housing, foodCursor, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(status(() -> boardController.list(housing, foodCursor, 1))).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(status(() -> boardController.list(null, foodCursor, 1))).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(status(() -> boardController.list(food, "not a cursor", 1))).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(status(() -> boardController.list(food, null, 0))).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(status(() -> boardController.list(food, null, 51))).isEqualTo(HttpStatus.BAD_REQUEST);
+
+        assertThat(boardController.list(food, foodCursor, 50).posts()).hasSize(2);
+        // "전체" 는 분류 없음과 같다.
+        assertThat(boardController.list("전체", null, 50).posts()).extracting(PostSummary::category).contains(food);
+    }
+
+    private static HttpStatus status(Runnable call) {
+        try {
+            call.run();
+        } catch (ResponseStatusException e) {
+            return HttpStatus.valueOf(e.getStatusCode().value());
+        }
+        throw new AssertionError("expected ResponseStatusException");
+    }
+}
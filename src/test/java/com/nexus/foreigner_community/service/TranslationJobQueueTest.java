@@ -0,0 +1,143 @@
+package com.nexus.foreigner_community.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.nexus.foreigner_community.entity.ContentType;
+import com.nexus.foreigner_community.entity.TranslationJob;
+import com.nexus.foreigner_community.entity.TranslationJob.Status;
+import com.nexus.foreigner_community.repository.TranslationJobRepository;
+
+// 큐의 각 호출이 파이프라인에서처럼 자기 트랜잭션에서 커밋되도록 테스트 트랜잭션을 쓰지 않는다.
+@DataJpaTest
+@Import(TranslationJobQueue.class)
+@TestPropertySource(properties = {
+        "translate.pipeline.max-attempts=2",
+        "translate.pipeline.backoff-ms=60000"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TranslationJobQueueTest {
+
+    @Autowired
+    private TranslationJobQueue queue;
+
+    @Autowired
+    private TranslationJobRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void claimsDueJobsInInsertionOrder() {
+        queue.enqueue(ContentType.POST, 30L);
+        queue.enqueue(ContentType.COMMENT, 10L);
+        queue.enqueue(ContentType.POST, 20L);
+
+        List<TranslationJob> first = queue.claim(2);
+        assertThat(first).extracting(TranslationJob::getContentId).containsExactly(30L, 10L);
+        assertThat(first).allSatisfy(job -> {
+            assertThat(job.getStatus()).isEqualTo(Status.IN_PROGRESS);
+            assertThat(job.getAttempts()).isEqualTo(1);
+        });
+        assertThat(queue.claim(2)).extracting(TranslationJob::getContentId).containsExactly(20L);
+        assertThat(queue.claim(2)).isEmpty();
+        assertThat(queue.claim(0)).isEmpty();
+    }
+
+    @Test
+    void backsOffAfterFailureAndGivesUpAfterMaxAttempts() {
+        queue.enqueue(ContentType.POST, 1L);
+        TranslationJob job = queue.claim(1).get(0);
+        LocalDateTime beforeFail = LocalDateTime.now();
+        queue.fail(job, new IllegalStateException("provider down"));
+
+        TranslationJob retried = reload(job);
+        assertThat(retried.getStatus()).isEqualTo(Status.PENDING);
+        assertThat(retried.getLastError()).isEqualTo("provider down");
+        assertThat(retried.getNextAttemptAt()).isAfterOrEqualTo(beforeFail.plusSeconds(60));
+        assertThat(queue.claim(1)).isEmpty();
+
+        makeDue(retried);
+        TranslationJob second = queue.claim(1).get(0);
+        assertThat(second.getAttempts()).isEqualTo(2);
+        queue.fail(second, new IllegalStateException("still down"));
+
+        TranslationJob failed = reload(job);
+        assertThat(failed.getStatus()).isEqualTo(Status.FAILED);
+        assertThat(failed.getLastError()).isEqualTo("still down");
+        makeDue(failed);
+        assertThat(queue.claim(1)).isEmpty();
+    }
+
+    @Test
+    void requeuesInterruptedAndFailedJobs() {
+        queue.enqueue(ContentType.POST, 1L);
+        queue.enqueue(ContentType.POST, 2L);
+        queue.enqueue(ContentType.POST, 3L);
+        List<TranslationJob> claimed = queue.claim(3);
+        queue.complete(claimed.get(0));
+        TranslationJob failed = claimed.get(1);
+        failed.setAttempts(2);
+        queue.fail(failed, new IllegalStateException("gave up"));
+
+        // 1 은 완료, 2 는 포기, 3 은 처리 중에 멈춘 상태다.
+        assertThat(queue.requeueUnfinished()).isEqualTo(2);
+        assertThat(reload(claimed.get(0)).getStatus()).isEqualTo(Status.DONE);
+        List<TranslationJob> again = queue.claim(3);
+        assertThat(again).extracting(TranslationJob::getContentId).containsExactly(2L, 3L);
+        assertThat(again).allSatisfy(job -> assertThat(job.getAttempts()).isEqualTo(1));
+    }
+
+    @Test
+    void reEnqueueWhileProcessingIsNotOverwrittenByTheOldResult() {
+        queue.enqueue(ContentType.POST, 1L);
+        TranslationJob stale = queue.claim(1).get(0);
+
+        // 처리 중에 글이 수정되어 다시 들어온다.
+        queue.enqueue(ContentType.POST, 1L);
+        queue.complete(stale);
+        assertThat(reload(stale).getStatus()).isEqualTo(Status.PENDING);
+        queue.fail(stale, new IllegalStateException("late failure"));
+        assertThat(reload(stale).getStatus()).isEqualTo(Status.PENDING);
+        assertThat(reload(stale).getLastError()).isNull();
+
+        TranslationJob fresh = queue.claim(1).get(0);
+        assertThat(fresh.getId()).isEqualTo(stale.getId());
+        assertThat(fresh.getAttempts()).isEqualTo(1);
+        queue.complete(stale);
+        assertThat(reload(stale).getStatus()).isEqualTo(Status.IN_PROGRESS);
+        queue.complete(fresh);
+        assertThat(reload(stale).getStatus()).isEqualTo(Status.DONE);
+    }
+
+    @Test
+    void enqueueIfAbsentKeepsExistingJobs() {
+        queue.enqueue(ContentType.POST, 1L);
+        queue.complete(queue.claim(1).get(0));
+
+        assertThat(queue.enqueueIfAbsent(ContentType.POST, 1L)).isFalse();
+        assertThat(queue.enqueueIfAbsent(ContentType.POST, 2L)).isTrue();
+        assertThat(queue.claim(2)).extracting(TranslationJob::getContentId).containsExactly(2L);
+    }
+
+    private TranslationJob reload(TranslationJob job) {
+        return repository.findById(job.getId()).orElseThrow();
+    }
+
+    private void makeDue(TranslationJob job) {
+        job.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        repository.save(job);
+    }
+}
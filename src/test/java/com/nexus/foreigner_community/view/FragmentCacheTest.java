@@ -0,0 +1,81 @@
+package com.nexus.foreigner_community.view;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.thymeleaf.ITemplateEngine;
+
+@SpringBootTest(properties = {
+        "translate.provider=stub",
+        "translate.stub.embedded=true",
+        "translate.stub.port=18091",
+        "translate.stub.latency-ms=0"})
+class FragmentCacheTest {
+
+    private static final String TEMPLATE = "fragment-cache-test";
+
+    @Autowired
+    private ITemplateEngine templateEngine;
+
+    @Autowired
+    private HtmlTextTranslator htmlTextTranslator;
+
+    private FragmentCache cache;
+
+    // 통계를 이 테스트의 호출만으로 세도록 매번 새 캐시를 만든다.
+    @BeforeEach
+    void setUp() {
+        cache = new FragmentCache(templateEngine, htmlTextTranslator, "ko", true, 1_000_000);
+    }
+
+    private String render(String scope, Locale locale, String name) {
+        return cache.render(TEMPLATE, "greeting", scope, locale, Map.of("name", name));
+    }
+
+    @Test
+    void cachesEachLocaleSeparately() {
+        String korean = render(ContentChangedEvent.POSTS, Locale.KOREAN, "민수");
+        String english = render(ContentChangedEvent.POSTS, Locale.ENGLISH, "민수");
+
+        assertThat(korean).contains("<h2>게시판</h2>").contains("<p>민수</p>");
+        assertThat(english).contains("<h2>[en] 게시판</h2>").contains("<p>[en] 민수</p>");
+        assertThat(cache.stats().missCount()).isEqualTo(2);
+
+        assertThat(render(ContentChangedEvent.POSTS, Locale.KOREAN, "민수")).isEqualTo(korean);
+        assertThat(render(ContentChangedEvent.POSTS, Locale.ENGLISH, "민수")).isEqualTo(english);
+        assertThat(cache.stats().hitCount()).isEqualTo(2);
+        assertThat(cache.stats().missCount()).isEqualTo(2);
+    }
+
+    @Test
+    void keepsSeparateEntriesForDifferentVariables() {
+        String first = render(ContentChangedEvent.POSTS, Locale.ENGLISH, "민수");
+        String second = render(ContentChangedEvent.POSTS, Locale.ENGLISH, "지아");
+
+        assertThat(first).contains("[en] 민수").doesNotContain("지아");
+        assertThat(second).contains("[en] 지아").doesNotContain("민수");
+        assertThat(render(ContentChangedEvent.POSTS, Locale.ENGLISH, "민수")).isEqualTo(first);
+        assertThat(cache.stats().missCount()).isEqualTo(2);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void evictsOnlyTheChangedScope() {
+        render(ContentChangedEvent.POSTS, Locale.ENGLISH, "민수");
+        render(ContentChangedEvent.LAYOUT, Locale.ENGLISH, "민수");
+
+        cache.onContentChanged(new ContentChangedEvent(ContentChangedEvent.POSTS));
+
+        render(ContentChangedEvent.POSTS, Locale.ENGLISH, "민수");
+        assertThat(cache.stats().missCount()).isEqualTo(3);
+        render(ContentChangedEvent.LAYOUT, Locale.ENGLISH, "민수");
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(3);
+    }
+}
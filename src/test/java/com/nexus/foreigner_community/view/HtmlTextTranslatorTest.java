@@ -0,0 +1,42 @@
+package com.nexus.foreigner_community.view;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.nexus.foreigner_community.ai.TranslationRequester;
+
+// 스텁 번역 서버는 "[대상 언어] 원문" 을 돌려준다.
+@SpringBootTest(properties = {
+        "translate.provider=stub",
+        "translate.stub.embedded=true",
+        "translate.stub.port=18091",
+        "translate.stub.latency-ms=0"})
+class HtmlTextTranslatorTest {
+
+    @Autowired
+    private HtmlTextTranslator translator;
+
+    @Test
+    void translatesTextNodesAndKeepsTagsAttributesScriptsAndComments() {
+        String html = "<div class=\"notice\" title=\"도서관 공지\">\n  도서관 &amp; 카페 <a href=\"/map?q=도서관\">지도</a>"
+                + "<script>var name = \"도서관\";</script><style>.notice::after { content: \"공지\"; }</style>"
+                + "<!-- 도서관 --> <b>열람실</b>\n</div>";
+
+        String translated = translator.translate(html, "ko", "en", TranslationRequester.ANONYMOUS);
+
+        assertThat(translated).isEqualTo("<div class=\"notice\" title=\"도서관 공지\">\n  [en] 도서관 &amp; 카페 "
+                + "<a href=\"/map?q=도서관\">[en] 지도</a>"
+                + "<script>var name = \"도서관\";</script><style>.notice::after { content: \"공지\"; }</style>"
+                + "<!-- 도서관 --> <b>[en] 열람실</b>\n</div>");
+    }
+
+    @Test
+    void returnsHtmlWithoutTextUnchanged() {
+        String html = "<div><br/><img src=\"a.png\" alt=\"사진\"></div>";
+
+        assertThat(translator.translate(html, "ko", "en", TranslationRequester.ANONYMOUS)).isSameAs(html);
+    }
+}
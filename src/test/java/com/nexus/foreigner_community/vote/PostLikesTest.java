@@ -0,0 +1,94 @@
+package com.nexus.foreigner_community.vote;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.nexus.foreigner_community.DataNotFoundException;
+import com.nexus.foreigner_community.entity.Post;
+import com.nexus.foreigner_community.repository.PostRepository;
+import com.nexus.foreigner_community.service.PostService;
+
+@SpringBootTest
+class PostLikesTest {
+
+    @Autowired
+    private PostLikes postLikes;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Post post() {
+        Post post = new Post();
+        post.setCategory("free");
+        post.setTitle("추천 테스트");
+        post.setContent("내용");
+        post.setCreatedAt(LocalDateTime.now());
+        return postRepository.save(post);
+    }
+
+    private int rows(long postId) {
+        return jdbcTemplate.queryForObject("select count(*) from post_like where post_id = ?", Integer.class, postId);
+    }
+
+    @Test
+    void likingTwiceCountsOnce() {
+        long postId = post().getId();
+
+        assertThat(postLikes.like(postId, 1)).isTrue();
+        assertThat(postLikes.like(postId, 1)).isFalse();
+        assertThat(postLikes.like(postId, 2)).isTrue();
+
+        assertThat(postLikes.count(postId)).isEqualTo(2);
+        assertThat(rows(postId)).isEqualTo(2);
+        assertThat(postLikes.hasLiked(postId, 1)).isTrue();
+        assertThat(postLikes.hasLiked(postId, 3)).isFalse();
+    }
+
+    @Test
+    void unlikingWithoutALikeChangesNothing() {
+        long postId = post().getId();
+        postLikes.like(postId, 1);
+
+        assertThat(postLikes.unlike(postId, 2)).isFalse();
+        assertThat(postLikes.count(postId)).isEqualTo(1);
+
+        assertThat(postLikes.unlike(postId, 1)).isTrue();
+        assertThat(postLikes.unlike(postId, 1)).isFalse();
+        assertThat(postLikes.count(postId)).isZero();
+        assertThat(rows(postId)).isZero();
+    }
+
+    @Test
+    void likingAnUnknownPostLeavesNoRow() {
+        long missing = post().getId() + 1_000;
+
+        assertThatThrownBy(() -> postLikes.like(missing, 1)).isInstanceOf(DataNotFoundException.class);
+        assertThat(rows(missing)).isZero();
+        assertThatThrownBy(() -> postLikes.count(missing)).isInstanceOf(DataNotFoundException.class);
+    }
+
+    @Test
+    void deletingAPostDeletesItsLikes() {
+        Post post = post();
+        postLikes.like(post.getId(), 1);
+        postLikes.like(post.getId(), 2);
+
+        postService.delete(postService.getPost(post.getId()));
+
+        assertThat(rows(post.getId())).isZero();
+        assertThat(postRepository.findById(post.getId())).isEmpty();
+    }
+}
@@ -0,0 +1,51 @@
+package com.nexus.foreigner_community.vote;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class VoterBitmapTest {
+
+    @Test
+    void behavesLikeASetAcrossArrayAndBitmapChunks() {
+        VoterBitmap bitmap = new VoterBitmap();
+        Set<Long> expected = new HashSet<>();
+        Random random = new Random(1);
+        for (int i = 0; i < 200_000; i++) {
+            // 앞쪽 묶음은 빽빽해서 비트맵이 되고, 나머지는 듬성듬성해서 배열로 남는다.
+            long id = random.nextInt(4) == 0 ? random.nextInt(1 << 20) : random.nextInt(20_000);
+            if (random.nextInt(5) == 0) {
+                assertThat(bitmap.remove(id)).isEqualTo(expected.remove(id));
+            } else {
+                assertThat(bitmap.add(id)).isEqualTo(expected.add(id));
+            }
+        }
+
+        assertThat(bitmap.cardinality()).isEqualTo(expected.size());
+        int wrong = 0;
+        for (long id = 0; id < (1 << 20); id++) {
+            if (bitmap.contains(id) != expected.contains(id)) {
+                wrong++;
+            }
+        }
+        assertThat(wrong).isZero();
+    }
+
+    @Test
+    void denseVotersTakeABitPerId() {
+        VoterBitmap bitmap = new VoterBitmap();
+        for (long id = 1; id <= 1_000_000; id++) {
+            bitmap.add(id);
+        }
+
+        assertThat(bitmap.cardinality()).isEqualTo(1_000_000);
+        assertThat(bitmap.sizeInBytes()).isLessThan(200_000);
+        assertThat(bitmap.contains(0)).isFalse();
+        assertThat(bitmap.contains(999_999)).isTrue();
+        assertThat(bitmap.contains(-1)).isFalse();
+    }
+}